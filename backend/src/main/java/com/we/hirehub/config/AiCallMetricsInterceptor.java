@@ -0,0 +1,60 @@
+package com.we.hirehub.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FastAPI(AI 서버) 호출 지표
+ * - hirehub.ai.requests (endpoint=/ai/embed, /ai/match-one, /ai/summarize, /ai/moderate, /ai/chat, /interview/... ,
+ *   outcome=SUCCESS|CLIENT_ERROR|SERVER_ERROR|IO_ERROR) 히스토그램 타이머
+ * - 응답 본문을 읽는 시간은 호출한 쪽에서 측정되지 않으므로 "첫 응답까지" 시간
+ */
+public class AiCallMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final MeterRegistry registry;
+
+    public AiCallMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            outcome = status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS";
+            return response;
+        } finally {
+            Timer.builder("hirehub.ai.requests")
+                    .description("FastAPI AI server calls")
+                    .tags("endpoint", endpoint(request.getURI().getPath()), "outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** 앞 두 구간만 사용 (/ai/embed, /interview/feedback) → 태그 수 제한 */
+    static String endpoint(String path) {
+        if (path == null || path.isEmpty()) return "/";
+        String[] parts = path.split("/");
+        StringBuilder sb = new StringBuilder();
+        int used = 0;
+        for (String p : parts) {
+            if (p.isEmpty()) continue;
+            sb.append('/').append(p);
+            if (++used == 2) break;
+        }
+        return sb.length() == 0 ? "/" : sb.toString();
+    }
+}
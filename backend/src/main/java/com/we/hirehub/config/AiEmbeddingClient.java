@@ -17,7 +17,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AiEmbeddingClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @org.springframework.beans.factory.annotation.Value("${ai.server-url}")
@@ -32,7 +32,7 @@ public class AiEmbeddingClient {
 
             HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
 
-            Map res = restTemplate.postForObject(
+            Map res = aiRestTemplate.postForObject(
                     aiServerUrl + "/ai/embed",
                     entity,
                     Map.class
@@ -43,7 +43,7 @@ public class AiEmbeddingClient {
             return (List<Double>) res.get("vector");
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("⚠️ 임베딩 요청 실패: textLength={}", text != null ? text.length() : 0, e);
             return List.of();
         }
     }
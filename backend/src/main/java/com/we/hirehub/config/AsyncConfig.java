@@ -1,16 +1,30 @@
 package com.we.hirehub.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public AsyncConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -18,16 +32,29 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setMaxPoolSize(10);           // 최대 스레드 10개
         executor.setQueueCapacity(100);        // 대기 큐 100개
         executor.setThreadNamePrefix("Async-Moderator-");
+        // 호출한 요청의 requestId(MDC)를 비동기 작업 로그에도 이어서
+        executor.setTaskDecorator(LogContext.taskDecorator());
+
+        // 📊 포화 지표: executor.active / executor.queued / executor.pool.size ... (name=async) + 거절 건수
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Counter rejected = registry != null
+                ? Counter.builder("hirehub.async.rejected").description("Tasks rejected by the @Async executor").register(registry)
+                : null;
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (rejected != null) rejected.increment();
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+        });
+
         executor.initialize();
+        if (registry != null) {
+            new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "async", Tags.empty()).bindTo(registry);
+        }
         return executor;
     }
 
     // ⭐ 예외 처리 추가 (선택사항)
     @Override
     public org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
-        return (throwable, method, params) -> {
-            System.err.println("❌ 비동기 작업 예외 발생: " + method.getName());
-            throwable.printStackTrace();
-        };
+        return (throwable, method, params) -> log.error("❌ 비동기 작업 예외 발생: {}", method.getName(), throwable);
     }
 }
@@ -0,0 +1,109 @@
+package com.we.hirehub.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * 요청 단위 DB 계측 연결
+ * - "dataSource" 빈을 InstrumentedDataSource 로 감쌈 (라우팅 DataSource 를 쓰는 경우도 가장 바깥에서)
+ * - HTTP: 필터에서 요청 전체를 한 단위로 (endpoint = 매핑된 URI 패턴)
+ * - STOMP: @MessageMapping 처리 1번을 한 단위로 (endpoint = /app/목적지 첫 구간)
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class DbInstrumentationConfig {
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource ds && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(ds);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /** 보안 필터(JWT 사용자 조회 등)의 SQL 까지 포함되도록 앞쪽에 등록 (바로 앞은 requestId MDC 필터) */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> dbRequestMetricsFilter(ObjectProvider<DbRequestMetrics> metrics) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                DbQueryTracker.Context ctx = DbQueryTracker.begin();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    DbQueryTracker.end(ctx);
+                    if (ctx != null && ctx.statements() > 0) {
+                        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+                        metrics.ifAvailable(m -> m.record("http", endpoint, ctx));
+                    }
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    /** WebSocketConfig 의 inbound 채널에 등록 */
+    @Bean
+    public ExecutorChannelInterceptor dbStompMetricsInterceptor(ObjectProvider<DbRequestMetrics> metrics) {
+        ThreadLocal<DbQueryTracker.Context> current = new ThreadLocal<>();
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                if (handler instanceof SimpAnnotationMethodMessageHandler) {
+                    current.set(DbQueryTracker.begin());
+                }
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+                if (!(handler instanceof SimpAnnotationMethodMessageHandler)) return;
+                DbQueryTracker.Context ctx = current.get();
+                current.remove();
+                DbQueryTracker.end(ctx);
+                if (ctx != null && ctx.statements() > 0) {
+                    metrics.ifAvailable(m -> m.record("stomp", destination(message), ctx));
+                }
+            }
+        };
+    }
+
+    /** /app/support.send/{roomId} → /app/support.send/* (태그 수 제한) */
+    private static String destination(Message<?> message) {
+        String dest = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (dest == null) return "UNKNOWN";
+        int first = dest.indexOf('/', dest.startsWith("/") ? 1 : 0);
+        if (first < 0) return dest;
+        int second = dest.indexOf('/', first + 1);
+        return second < 0 ? dest : dest.substring(0, second) + "/*";
+    }
+}
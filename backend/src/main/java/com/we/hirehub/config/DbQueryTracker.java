@@ -0,0 +1,71 @@
+package com.we.hirehub.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청(HTTP / STOMP 메시지) 단위 SQL 실행 기록
+ * - InstrumentedDataSource 가 문장 실행마다 record() 호출, 요청 시작/끝은 DbRequestMetrics 가 begin()/end()
+ * - 같은 모양의 SQL(리터럴 = ?, IN 목록 1개로 축약)이 몇 번 반복됐는지 세서 N+1 후보를 찾음
+ * - 요청 밖(스케줄러, 백그라운드 스레드)의 SQL 은 기록하지 않음
+ */
+public final class DbQueryTracker {
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)in\\s*\\((\\s*\\?\\s*,)+\\s*\\?\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("(?i)(values\\s*\\([^)]*\\))(\\s*,\\s*\\([^)]*\\))+");
+    private static final int MAX_SQL_LENGTH = 300;
+
+    private DbQueryTracker() {}
+
+    /** 요청 하나에서 모은 값 */
+    public static final class Context {
+        int statements;
+        long nanos;
+        final Map<String, Integer> shapes = new HashMap<>();
+
+        public int statements() { return statements; }
+        public long nanos() { return nanos; }
+
+        /** 가장 많이 반복된 SQL 모양 */
+        public Map.Entry<String, Integer> mostRepeated() {
+            return shapes.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+        }
+
+        public Map<String, Integer> shapes() { return shapes; }
+    }
+
+    /** 요청 시작 (이미 진행 중이면 null → 바깥 요청에 합산) */
+    public static Context begin() {
+        if (CURRENT.get() != null) return null;
+        Context ctx = new Context();
+        CURRENT.set(ctx);
+        return ctx;
+    }
+
+    public static void end(Context ctx) {
+        if (ctx != null && CURRENT.get() == ctx) CURRENT.remove();
+    }
+
+    public static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql, long nanos) {
+        Context ctx = CURRENT.get();
+        if (ctx == null) return;
+        ctx.statements++;
+        ctx.nanos += nanos;
+        if (sql != null) ctx.shapes.merge(shape(sql), 1, Integer::sum);
+    }
+
+    static String shape(String sql) {
+        String s = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        s = IN_LIST.matcher(s).replaceAll("in (?)");
+        s = VALUES_LIST.matcher(s).replaceAll("$1");
+        return s.length() > MAX_SQL_LENGTH ? s.substring(0, MAX_SQL_LENGTH) + "…" : s;
+    }
+}
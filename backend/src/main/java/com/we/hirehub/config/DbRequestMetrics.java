@@ -0,0 +1,74 @@
+package com.we.hirehub.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 DB 지표 기록 (DbQueryTracker 결과 → Micrometer)
+ * - hirehub.db.statements   : 요청당 SQL 실행 수 (type=http|stomp, endpoint=URI 패턴 / STOMP 목적지)
+ * - hirehub.db.time         : 요청당 SQL 실행 시간 합
+ * - hirehub.db.max.repeat   : 요청 안에서 같은 모양 SQL 의 최대 반복 수
+ * - hirehub.db.n_plus_one   : 반복 수가 repeat-threshold 이상인 요청 수
+ * - warn-statements / repeat-threshold 를 넘으면 가장 많이 반복된 SQL 과 함께 WARN 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "db.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class DbRequestMetrics {
+
+    private final MeterRegistry registry;
+
+    @Value("${db.instrumentation.warn-statements:30}")
+    private int warnStatements;
+
+    @Value("${db.instrumentation.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    public void record(String type, String endpoint, DbQueryTracker.Context ctx) {
+        if (ctx == null) return;
+
+        DistributionSummary.builder("hirehub.db.statements")
+                .description("SQL statements per request")
+                .tags("type", type, "endpoint", endpoint)
+                .register(registry)
+                .record(ctx.statements());
+        Timer.builder("hirehub.db.time")
+                .description("Total SQL execution time per request")
+                .tags("type", type, "endpoint", endpoint)
+                .register(registry)
+                .record(ctx.nanos(), TimeUnit.NANOSECONDS);
+
+        Map.Entry<String, Integer> top = ctx.mostRepeated();
+        int repeat = top != null ? top.getValue() : 0;
+        DistributionSummary.builder("hirehub.db.max.repeat")
+                .description("Max executions of a single SQL shape per request")
+                .tags("type", type, "endpoint", endpoint)
+                .register(registry)
+                .record(repeat);
+
+        boolean nPlusOne = repeat >= repeatThreshold;
+        if (nPlusOne) {
+            Counter.builder("hirehub.db.n_plus_one")
+                    .description("Requests that repeated one SQL shape at least repeat-threshold times")
+                    .tags("type", type, "endpoint", endpoint)
+                    .register(registry)
+                    .increment();
+        }
+        if (nPlusOne || ctx.statements() >= warnStatements) {
+            log.warn("🐢 SQL 과다 요청: {} {} → {}문장 / {}ms, 최다 반복 {}회: {}",
+                    type, endpoint, ctx.statements(), TimeUnit.NANOSECONDS.toMillis(ctx.nanos()),
+                    repeat, top != null ? top.getKey() : "-");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.we.hirehub.config;
+
+/**
+ * 주소 → 위도/경도 변환 클라이언트
+ * - 운영: KakaoMapClient (카카오 로컬 API)
+ * - 로컬/테스트: StubGeocodingClient (kakaomap.stub=true)
+ */
+public interface GeocodingClient {
+
+    /** 검색 결과가 없으면 IllegalArgumentException */
+    KakaoMapClient.LatLngResponse getLatLng(String address);
+}
@@ -0,0 +1,226 @@
+package com.we.hirehub.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 공개 조회 API 응답 캐시 + 조건부 GET
+ * - 영역(region)별 버전: 관리자 쓰기 서비스가 invalidate(region) → 커밋 후 버전 증가 → 이전 항목은 다시 계산
+ * - 항목 키 = 영역 + 경로 + 정렬된 쿼리 파라미터, 값 = 직렬화한 JSON 바이트 + 내용 해시 ETag
+ *   (노드/재기동이 달라도 같은 내용이면 같은 ETag)
+ * - 적중하면 DB 조회/직렬화 없이 저장된 바이트, If-None-Match 가 맞으면 본문 없이 304
+ * - 갱신 시각이 있는 응답은 Last-Modified 도 붙이고 If-Modified-Since 로도 304 (If-None-Match 가 있으면 그쪽 우선)
+ * - 다른 노드의 쓰기는 여기서 알 수 없으므로 ttl-seconds 로 최대 지연을 제한
+ */
+@Slf4j
+@Component
+public class HttpResponseCache {
+
+    public static final String ADS = "ads";
+    public static final String FAQ = "faq";
+    public static final String COMPANY = "company";
+    public static final String COMPANY_STATS = "company-stats";
+    public static final String CALENDAR = "calendar";
+    public static final String REVIEWS = "reviews";
+
+    /** lastModified: epoch ms, 없으면 -1 */
+    private record Entry(long version, long expiresAt, String etag, long lastModified, byte[] body) {}
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final CacheControl cacheControl;
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public HttpResponseCache(ObjectMapper objectMapper,
+                             ObjectProvider<MeterRegistry> meterRegistry,
+                             @Value("${http-cache.enabled:true}") boolean enabled,
+                             @Value("${http-cache.max-entries:2000}") int maxEntries,
+                             @Value("${http-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${http-cache.max-age-seconds:30}") long maxAgeSeconds) {
+        this.objectMapper = objectMapper;
+        this.registry = meterRegistry.getIfAvailable();
+        this.enabled = enabled;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        // max-age 동안은 브라우저가 요청 자체를 보내지 않고, 지나면 ETag 로 재검증
+        this.cacheControl = maxAgeSeconds > 0
+                ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic()
+                : CacheControl.noCache();
+        // 접근 순서 LRU (가득 차면 가장 오래 안 쓴 항목 제거)
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, Entry>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 캐시된 JSON 응답 (loader 는 캐시에 없거나 무효화됐을 때만 호출)
+     */
+    public ResponseEntity<byte[]> respond(HttpServletRequest request, String region, Supplier<?> loader) {
+        return respond(request, region, loader, Function.identity(), value -> null);
+    }
+
+    /**
+     * 캐시된 JSON 응답 + Last-Modified
+     * @param body         loader 결과 중 본문으로 보낼 부분
+     * @param lastModified loader 결과의 갱신 시각 (null 이면 Last-Modified 없음)
+     */
+    public <T> ResponseEntity<byte[]> respond(HttpServletRequest request, String region, Supplier<T> loader,
+                                              Function<T, ?> body, Function<T, Instant> lastModified) {
+        String key = region + " " + request.getRequestURI() + "?" + sortedParams(request);
+        long version = versionOf(region).get();
+        long now = System.currentTimeMillis();
+
+        Entry entry = enabled ? entries.get(key) : null;
+        if (entry == null || entry.version() != version || entry.expiresAt() < now) {
+            T loaded = loader.get();
+            byte[] bytes = serialize(body.apply(loaded));
+            Instant modified = lastModified.apply(loaded);
+            entry = new Entry(version, now + ttlMillis, etagOf(region, bytes),
+                    modified != null ? modified.toEpochMilli() : -1, bytes);
+            // 계산 도중 무효화됐으면 저장하지 않음 (이전 데이터를 새 버전으로 남기지 않도록)
+            if (enabled && versionOf(region).get() == version) {
+                entries.put(key, entry);
+            }
+            count(region, "miss");
+        } else {
+            count(region, "hit");
+        }
+
+        if (notModified(request, entry)) {
+            count(region, "not_modified");
+            return headers(ResponseEntity.status(HttpStatus.NOT_MODIFIED), entry).build();
+        }
+        return headers(ResponseEntity.ok(), entry)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
+    }
+
+    /** 영역 무효화 - 트랜잭션 안이면 커밋 후 (롤백되면 그대로) */
+    public void invalidate(String region) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(region);
+                }
+            });
+        } else {
+            invalidateNow(region);
+        }
+    }
+
+    /**
+     * 영역 즉시 무효화 - 호출 측 afterCommit 콜백 안에서 사용
+     * (afterCommit 중에 invalidate() 로 등록한 동기화는 실행되지 않음 → 서비스 스냅샷 버전을 올린 뒤 이어서 호출)
+     */
+    public void invalidateNow(String region) {
+        versionOf(region).incrementAndGet();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", enabled);
+        m.put("entries", entries.size());
+        Map<String, Long> v = new TreeMap<>();
+        versions.forEach((region, n) -> v.put(region, n.get()));
+        m.put("versions", v);
+        return m;
+    }
+
+    private AtomicLong versionOf(String region) {
+        return versions.computeIfAbsent(region, r -> new AtomicLong());
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private ResponseEntity.BodyBuilder headers(ResponseEntity.BodyBuilder builder, Entry entry) {
+        builder.eTag(entry.etag()).cacheControl(cacheControl);
+        if (entry.lastModified() >= 0) builder.lastModified(entry.lastModified());
+        return builder;
+    }
+
+    /** If-None-Match 가 있으면 그것만, 없으면 If-Modified-Since (초 단위 비교) */
+    private static boolean notModified(HttpServletRequest request, Entry entry) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) return matches(ifNoneMatch, entry.etag());
+        if (entry.lastModified() < 0) return false;
+        long since;
+        try {
+            since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return since >= 0 && entry.lastModified() / 1000 <= since / 1000;
+    }
+
+    private static String etagOf(String region, byte[] body) {
+        return "\"" + region + "-" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+
+    /** If-None-Match: "a", W/"b" 또는 * */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(t -> t.startsWith("W/") ? t.substring(2) : t)
+                .anyMatch(t -> t.equals("*") || t.equals(etag));
+    }
+
+    private static String sortedParams(HttpServletRequest request) {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            for (String value : values) {
+                if (!sb.isEmpty()) sb.append('&');
+                sb.append(name).append('=').append(value);
+            }
+        });
+        return sb.toString();
+    }
+
+    private void count(String region, String result) {
+        if (registry == null) return;
+        counters.computeIfAbsent(region + ":" + result, k -> Counter.builder("hirehub.http.cache")
+                .description("Public read endpoint cache lookups")
+                .tags("region", region, "result", result)
+                .register(registry)).increment();
+    }
+}
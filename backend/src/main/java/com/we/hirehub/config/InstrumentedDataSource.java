@@ -0,0 +1,92 @@
+package com.we.hirehub.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 문장 실행 횟수/시간을 DbQueryTracker 에 남기는 DataSource 래퍼
+ * - Hibernate / JdbcTemplate 모두 이 DataSource 를 거치므로 둘 다 집계됨
+ * - execute* 1번 = 1 round trip (executeBatch 도 1번으로 셈)
+ * - unwrap/isWrapperFor 는 원본으로 위임 (Hikari 지표 등에서 풀을 찾을 수 있도록)
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public InstrumentedDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) return proxy == args[0];
+                    if ("hashCode".equals(method.getName())) return System.identityHashCode(proxy);
+                    Object result = invoke(target, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> statement((Statement) result, Statement.class, null);
+                        case "prepareStatement" -> statement((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> statement((Statement) result, CallableStatement.class, (String) args[0]);
+                        default -> result;
+                    };
+                });
+    }
+
+    private static Object statement(Statement target, Class<?> type, String preparedSql) {
+        InvocationHandler handler = new InvocationHandler() {
+            private String batchSql;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if ("equals".equals(name)) return proxy == args[0];
+                if ("hashCode".equals(name)) return System.identityHashCode(proxy);
+                if ("addBatch".equals(name) && args != null && args.length == 1 && batchSql == null) {
+                    batchSql = (String) args[0];
+                }
+                if (!EXECUTE.contains(name) || !DbQueryTracker.active()) {
+                    return InstrumentedDataSource.invoke(target, method, args);
+                }
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String s ? s : batchSql;
+                long start = System.nanoTime();
+                try {
+                    return InstrumentedDataSource.invoke(target, method, args);
+                } finally {
+                    DbQueryTracker.record(sql, System.nanoTime() - start);
+                }
+            }
+        };
+        return Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
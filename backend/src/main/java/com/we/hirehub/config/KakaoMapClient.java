@@ -2,6 +2,7 @@ package com.we.hirehub.config;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -12,7 +13,8 @@ import org.springframework.web.client.RestTemplate;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class KakaoMapClient {
+@ConditionalOnProperty(name = "kakaomap.stub", havingValue = "false", matchIfMissing = true)
+public class KakaoMapClient implements GeocodingClient {
 
     private final KakaoMapConfig config;
     private final RestTemplate restTemplate;
@@ -20,6 +22,7 @@ public class KakaoMapClient {
     private static final String KAKAO_LOCAL_SEARCH_URL =
             "https://dapi.kakao.com/v2/local/search/address.json?query={query}";
 
+    @Override
     public LatLngResponse getLatLng(String address) {
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "KakaoAK " + config.getKakaoRestApiKey());
@@ -2,10 +2,12 @@ package com.we.hirehub.config;
 
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 
 @Getter
 @Configuration
+@ConditionalOnProperty(name = "kakaomap.stub", havingValue = "false", matchIfMissing = true)
 public class KakaoMapConfig {
 
     @Value("${kakaomap.rest-api-key}")
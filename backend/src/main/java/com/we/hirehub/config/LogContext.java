@@ -0,0 +1,49 @@
+package com.we.hirehub.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 로그 상관관계 id (MDC)
+ * - requestId : HTTP 요청 / STOMP 메시지 1건 단위, JSON 로그에는 필드로, 텍스트 로그에는 [id] 로 찍힘
+ * - 들어온 X-Request-Id 는 형식이 맞을 때만 그대로 사용 (로그 위조 방지)
+ * - @Async 로 넘어가는 작업은 taskDecorator() 로 호출 스레드의 MDC 를 복사
+ */
+public final class LogContext {
+
+    public static final String REQUEST_ID = "requestId";
+    public static final String HEADER = "X-Request-Id";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private LogContext() {}
+
+    public static String newId() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+    }
+
+    /** 외부에서 받은 id 가 쓸 만하면 그대로, 아니면 새로 발급 */
+    public static String idOrNew(String candidate) {
+        return candidate != null && VALID_ID.matcher(candidate).matches() ? candidate : newId();
+    }
+
+    /** 제출 시점의 MDC 를 실행 스레드에 복사하고, 끝나면 원래대로 */
+    public static TaskDecorator taskDecorator() {
+        return task -> {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (context != null) MDC.setContextMap(context); else MDC.clear();
+                try {
+                    task.run();
+                } finally {
+                    if (previous != null) MDC.setContextMap(previous); else MDC.clear();
+                }
+            };
+        };
+    }
+}
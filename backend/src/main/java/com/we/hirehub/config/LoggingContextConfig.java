@@ -0,0 +1,70 @@
+package com.we.hirehub.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 MDC(requestId) 연결
+ * - HTTP: 모든 필터보다 앞에서 설정, 응답 헤더(X-Request-Id)로 돌려줌
+ * - STOMP: inbound 메시지 처리 1건마다 설정 (wsSession 도 함께)
+ */
+@Configuration
+public class LoggingContextConfig {
+
+    /** DB 계측 필터(HIGHEST_PRECEDENCE + 1)의 WARN 로그에도 id 가 찍히도록 가장 바깥 */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> requestIdFilter() {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                String requestId = LogContext.idOrNew(request.getHeader(LogContext.HEADER));
+                MDC.put(LogContext.REQUEST_ID, requestId);
+                response.setHeader(LogContext.HEADER, requestId);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    MDC.remove(LogContext.REQUEST_ID);
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /** WebSocketConfig 의 inbound 채널 맨 앞에 등록 (afterMessageHandled 는 역순이라 마지막에 정리) */
+    @Bean
+    public ExecutorChannelInterceptor mdcStompInterceptor() {
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+                MDC.put(LogContext.REQUEST_ID, LogContext.newId());
+                String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+                if (sessionId != null) MDC.put("wsSession", sessionId);
+                return message;
+            }
+
+            @Override
+            public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+                MDC.remove(LogContext.REQUEST_ID);
+                MDC.remove("wsSession");
+            }
+        };
+    }
+}
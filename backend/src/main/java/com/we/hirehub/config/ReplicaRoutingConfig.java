@@ -0,0 +1,113 @@
+package com.we.hirehub.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (datasource.replica.enabled=true 일 때만)
+ * - primary 풀은 기존 spring.datasource(.hikari) 설정 그대로
+ * - 복제본 풀은 datasource.replica.urls (쉼표 구분) 마다 하나씩, 크기는 datasource.replica.hikari.*
+ * - 켜면 open-in-view 는 꺼짐 (ReplicaRoutingEnvironmentPostProcessor)
+ * - 꺼져 있으면 Spring Boot 기본 DataSource 하나만 사용
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Value("${datasource.replica.urls:}")
+    private String urls;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String username;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String password;
+
+    @Value("${datasource.replica.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @Value("${datasource.replica.hikari.minimum-idle:2}")
+    private int minimumIdle;
+
+    @Value("${datasource.replica.hikari.connection-timeout-ms:1000}")
+    private long connectionTimeoutMs;
+
+    @Value("${datasource.replica.lag-check:replica-status}")
+    private String lagCheck;
+
+    @Value("${datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    private ReplicaRoutingDataSource routing;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<String> list = Arrays.stream(urls.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        for (int i = 0; i < list.size(); i++) {
+            HikariConfig c = new HikariConfig();
+            c.setPoolName("replica-" + (i + 1));
+            c.setJdbcUrl(list.get(i));
+            c.setUsername(username);
+            c.setPassword(password);
+            if (properties.getDriverClassName() != null) c.setDriverClassName(properties.getDriverClassName());
+            c.setMaximumPoolSize(maximumPoolSize);
+            c.setMinimumIdle(minimumIdle);
+            c.setConnectionTimeout(connectionTimeoutMs);
+            c.setReadOnly(true);
+            // 기동 시 복제본이 죽어 있어도 앱은 뜨고 primary 로 대체
+            c.setInitializationFailTimeout(-1);
+            // 복제본 풀은 빈이 아니라 Boot 자동 바인딩 대상이 아님 → hikaricp.* 지표 직접 연결 (pool 태그 = 풀 이름)
+            meterRegistry.ifAvailable(r -> c.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(r)));
+            replicas.add(new HikariDataSource(c));
+        }
+
+        ReplicaRoutingDataSource.LagCheck mode =
+                ReplicaRoutingDataSource.LagCheck.valueOf(lagCheck.trim().toUpperCase().replace('-', '_'));
+        routing = new ReplicaRoutingDataSource(primaryDataSource, replicas, mode, maxLagSeconds);
+        log.info("🔀 읽기 복제본 라우팅 사용: 복제본 {}개, lagCheck={}, maxLag={}s, 복제본 풀 크기={}",
+                replicas.size(), mode, maxLagSeconds, maximumPoolSize);
+        return routing;
+    }
+
+    /** JPA / JdbcTemplate 이 쓰는 DataSource (첫 SQL 시점까지 커넥션 획득 지연) */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-ms:5000}")
+    public void checkReplicas() {
+        if (routing != null) routing.checkReplicas();
+    }
+}
@@ -0,0 +1,204 @@
+package com.we.hirehub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 트랜잭션 → 복제본, 그 외 → primary 로 커넥션을 나누는 DataSource
+ * - 실제 커넥션은 LazyConnectionDataSourceProxy 를 거쳐 첫 SQL 시점에 얻으므로
+ *   그때는 @Transactional(readOnly = true) 여부가 이미 정해져 있음
+ * - 복제본 선택: 정상(healthy) 복제본 중 라운드로빈
+ * - 복제 지연이 max-lag 를 넘거나 연결 실패한 복제본은 제외, 남은 복제본이 없으면 primary 로 대체
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    public enum LagCheck { REPLICA_STATUS, NONE }
+
+    /** 복제본 1개 (상태는 checkReplicas 가 갱신) */
+    static final class Replica {
+        final HikariDataSource dataSource;
+        volatile boolean healthy = true;
+        volatile Long lagSeconds;
+        volatile String lastError;
+        final AtomicLong routed = new AtomicLong();
+
+        Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final LagCheck lagCheck;
+    private final long maxLagSeconds;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicLong primaryRouted = new AtomicLong();
+    private final AtomicLong readOnlyOnPrimary = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    LagCheck lagCheck, long maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.lagCheck = lagCheck;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(HikariDataSource::getConnection);
+    }
+
+    /** 계정 지정도 같은 기준으로 라우팅해 대상 풀에 그대로 위임 */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(ds -> ds.getConnection(username, password));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(HikariDataSource dataSource) throws SQLException;
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Replica replica = pick();
+            if (replica != null) {
+                try {
+                    Connection con = source.open(replica.dataSource);
+                    replica.routed.incrementAndGet();
+                    return con;
+                } catch (SQLFeatureNotSupportedException e) {
+                    throw e;   // 풀이 지원하지 않는 호출 → 복제본 장애가 아님
+                } catch (SQLException e) {
+                    markDown(replica, e.getMessage());
+                    fallbacks.incrementAndGet();
+                }
+            }
+            readOnlyOnPrimary.incrementAndGet();
+        }
+        primaryRouted.incrementAndGet();
+        return source.open(primary);
+    }
+
+    /** 정상 복제본 라운드로빈 (없으면 null) */
+    private Replica pick() {
+        int n = replicas.size();
+        if (n == 0) return null;
+        int start = Math.floorMod(cursor.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            Replica r = replicas.get((start + i) % n);
+            if (r.healthy) return r;
+        }
+        return null;
+    }
+
+    /**
+     * 복제본 상태 점검 (ReplicaRoutingConfig 의 스케줄러가 주기적으로 호출)
+     * - REPLICA_STATUS: SHOW REPLICA STATUS 의 Seconds_Behind_Source 로 지연 확인
+     *   (결과가 없으면 복제 설정이 없는 독립 인스턴스 → 지연 0, NULL 이면 복제 중단 → 제외)
+     * - NONE: 연결만 확인
+     */
+    public void checkReplicas() {
+        for (Replica r : replicas) {
+            try (Connection con = r.dataSource.getConnection();
+                 Statement st = con.createStatement()) {
+                Long lag = lagCheck == LagCheck.REPLICA_STATUS ? readLag(st) : Long.valueOf(0L);
+                r.lagSeconds = lag;
+                boolean ok = lag != null && lag <= maxLagSeconds;
+                if (ok) {
+                    if (!r.healthy) log.info("✅ 복제본 복구: pool={}, lag={}s", r.dataSource.getPoolName(), lag);
+                    r.healthy = true;
+                    r.lastError = null;
+                } else {
+                    markDown(r, lag == null ? "복제 중단" : "복제 지연 " + lag + "s");
+                }
+            } catch (SQLException e) {
+                markDown(r, e.getMessage());
+            }
+        }
+    }
+
+    private static Long readLag(Statement st) throws SQLException {
+        ResultSet rs;
+        String column;
+        try {
+            rs = st.executeQuery("SHOW REPLICA STATUS");
+            column = "Seconds_Behind_Source";
+        } catch (SQLException e) {
+            // MySQL 8.0.22 미만
+            rs = st.executeQuery("SHOW SLAVE STATUS");
+            column = "Seconds_Behind_Master";
+        }
+        try (ResultSet status = rs) {
+            if (!status.next()) return 0L;
+            long lag = status.getLong(column);
+            return status.wasNull() ? null : lag;
+        }
+    }
+
+    private void markDown(Replica r, String reason) {
+        if (r.healthy) log.warn("⚠️ 복제본 제외 → primary 로 대체: pool={}, 이유={}", r.dataSource.getPoolName(), reason);
+        r.healthy = false;
+        r.lastError = reason;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        Map<String, Object> p = pool(primary);
+        p.put("routed", primaryRouted.get());
+        m.put("primary", p);
+
+        List<Map<String, Object>> list = new ArrayList<>();
+        for (Replica r : replicas) {
+            Map<String, Object> s = pool(r.dataSource);
+            s.put("healthy", r.healthy);
+            s.put("lagSeconds", r.lagSeconds);
+            s.put("lastError", r.lastError);
+            s.put("routed", r.routed.get());
+            list.add(s);
+        }
+        m.put("replicas", list);
+        m.put("readOnlyOnPrimary", readOnlyOnPrimary.get());
+        m.put("fallbacks", fallbacks.get());
+        m.put("maxLagSeconds", maxLagSeconds);
+        m.put("lagCheck", lagCheck);
+        return m;
+    }
+
+    private static Map<String, Object> pool(HikariDataSource ds) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("pool", ds.getPoolName());
+        m.put("maxSize", ds.getMaximumPoolSize());
+        HikariPoolMXBean mx = ds.getHikariPoolMXBean();
+        if (mx != null) {
+            m.put("active", mx.getActiveConnections());
+            m.put("idle", mx.getIdleConnections());
+            m.put("waiting", mx.getThreadsAwaitingConnection());
+        }
+        return m;
+    }
+
+    @PreDestroy
+    void close() {
+        replicas.forEach(r -> r.dataSource.close());
+    }
+}
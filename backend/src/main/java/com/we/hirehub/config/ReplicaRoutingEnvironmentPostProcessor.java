@@ -0,0 +1,27 @@
+package com.we.hirehub.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * 읽기 복제본 라우팅을 켜면 spring.jpa.open-in-view 를 false 로 고정
+ * - OSIV 는 요청 내내 EntityManager(와 처음 얻은 커넥션)를 붙잡고 있음
+ *   → 요청 안에서 readOnly 트랜잭션으로 복제본 커넥션을 먼저 얻으면 뒤의 쓰기 트랜잭션도 그 커넥션으로 실행됨
+ * - 트랜잭션마다 커넥션을 새로 얻어야 readOnly 여부로 primary / 복제본이 나뉨
+ * - META-INF/spring.factories 로 등록
+ */
+public class ReplicaRoutingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String SOURCE_NAME = "replicaRouting";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("datasource.replica.enabled", Boolean.class, false)) return;
+        environment.getPropertySources().addFirst(
+                new MapPropertySource(SOURCE_NAME, Map.of("spring.jpa.open-in-view", "false")));
+    }
+}
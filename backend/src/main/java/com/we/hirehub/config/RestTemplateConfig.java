@@ -1,6 +1,9 @@
 package com.we.hirehub.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
@@ -8,6 +11,7 @@ import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 @Slf4j
 @Configuration
@@ -28,4 +32,23 @@ public class RestTemplateConfig {
 
         return rt;
     }
+
+    /**
+     * FastAPI(AI 서버) 전용 RestTemplate
+     * - RestTemplateBuilder 로 만들어 http.client.requests 관측 + hirehub.ai.requests 타이머
+     * - AI 호출은 오래 걸릴 수 있어 read timeout 을 따로 설정
+     */
+    @Bean
+    public RestTemplate aiRestTemplate(RestTemplateBuilder builder,
+                                       MeterRegistry registry,
+                                       @Value("${ai.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+                                       @Value("${ai.http.read-timeout-ms:120000}") long readTimeoutMs) {
+        RestTemplate rt = builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .additionalInterceptors(new AiCallMetricsInterceptor(registry))
+                .build();
+        rt.getMessageConverters().add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
+        return rt;
+    }
 }
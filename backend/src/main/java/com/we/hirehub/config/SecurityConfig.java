@@ -3,13 +3,16 @@ package com.we.hirehub.config;
 import com.we.hirehub.auth.CustomOAuth2UserService;
 import com.we.hirehub.auth.OAuth2LoginHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -25,7 +28,30 @@ public class SecurityConfig {
     private final JwtTokenProvider tokenProvider;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    /**
+     * /actuator/** 전용 체인 (메인 체인보다 먼저)
+     * - health 만 공개 (로드밸런서 헬스체크)
+     * - metrics/prometheus 등 나머지는 스크랩 계정만 (HTTP Basic, SecurityUsers.actuatorScrapeUser)
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Qualifier("actuatorScrapeUser") UserDetailsService actuatorScrapeUser) throws Exception {
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .userDetailsService(actuatorScrapeUser)
+                .httpBasic(basic -> {})
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasRole("ACTUATOR")
+                );
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
@@ -56,8 +82,8 @@ public class SecurityConfig {
                                 "/api/reviews/company/**",
                                 "/", "/error",
                                 "/favicon.ico", "/css/**", "/js/**", "/images/**",
+                                "/files/**",            // 로컬 저장소(storage.type=local) 업로드 파일
                                 "/swagger-ui/**", "/v3/api-docs/**",
-                                "/actuator/**",
                                 "/login/**", "/oauth2/**",
                                 "/google", "/kakao", "/naver",
                                 "/api/mypage/resumes/**",
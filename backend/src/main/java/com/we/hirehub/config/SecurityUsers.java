@@ -1,5 +1,6 @@
 package com.we.hirehub.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.core.userdetails.User;
@@ -18,4 +19,23 @@ public class SecurityUsers {
                         .build()
         );
     }
+
+    /**
+     * /actuator/** 스크랩 계정 (Prometheus basic_auth)
+     * - management.scrape.username / password (ACTUATOR_USERNAME / ACTUATOR_PASSWORD), 기본값 없음 → 없으면 기동 실패
+     */
+    @Bean(name = "actuatorScrapeUser")
+    public UserDetailsService actuatorScrapeUser(PasswordEncoder encoder,
+                                                 @Value("${management.scrape.username}") String username,
+                                                 @Value("${management.scrape.password}") String password) {
+        if (username.isBlank() || password.isBlank()) {
+            throw new IllegalStateException("management.scrape.username / password 가 비어 있습니다 (ACTUATOR_USERNAME / ACTUATOR_PASSWORD)");
+        }
+        return new InMemoryUserDetailsManager(
+                User.withUsername(username)
+                        .password(encoder.encode(password))
+                        .roles("ACTUATOR")
+                        .build()
+        );
+    }
 }
@@ -0,0 +1,29 @@
+package com.we.hirehub.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 API 없이 동작하는 오프라인 지오코더
+ * - 같은 주소는 항상 같은 좌표 (서울 시청 주변으로 해시 분산)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kakaomap.stub", havingValue = "true")
+public class StubGeocodingClient implements GeocodingClient {
+
+    private static final double BASE_LAT = 37.5665;
+    private static final double BASE_LNG = 126.9780;
+
+    @Override
+    public KakaoMapClient.LatLngResponse getLatLng(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("카카오 주소 검색 결과 없음: " + address);
+        }
+        int h = address.hashCode();
+        double dLat = ((h & 0xFFFF) / 65535.0 - 0.5) * 0.2;
+        double dLng = (((h >>> 16) & 0xFFFF) / 65535.0 - 0.5) * 0.2;
+        return new KakaoMapClient.LatLngResponse(BASE_LAT + dLat, BASE_LNG + dLng);
+    }
+}
@@ -1,7 +1,11 @@
 package com.we.hirehub.config;
 
 
+import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.ws.ChatUser;
+import com.we.hirehub.ws.WebSocketMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -13,6 +17,7 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +27,8 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import java.util.Map;
+
 @Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
@@ -30,11 +37,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService dbUserDetailsService;
+    private final UsersRepository usersRepository;
+    private final ObjectProvider<ExecutorChannelInterceptor> dbStompMetricsInterceptor;
+    private final WebSocketMetrics webSocketMetrics;
+    private final ExecutorChannelInterceptor mdcStompInterceptor;
 
     public WebSocketConfig(JwtTokenProvider jwtTokenProvider,
-                           @Qualifier("dbUserDetailsService") UserDetailsService dbUserDetailsService) {
+                           @Qualifier("dbUserDetailsService") UserDetailsService dbUserDetailsService,
+                           UsersRepository usersRepository,
+                           @Qualifier("dbStompMetricsInterceptor") ObjectProvider<ExecutorChannelInterceptor> dbStompMetricsInterceptor,
+                           WebSocketMetrics webSocketMetrics,
+                           @Qualifier("mdcStompInterceptor") ExecutorChannelInterceptor mdcStompInterceptor) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.dbUserDetailsService = dbUserDetailsService;
+        this.usersRepository = usersRepository;
+        this.dbStompMetricsInterceptor = dbStompMetricsInterceptor;
+        this.webSocketMetrics = webSocketMetrics;
+        this.mdcStompInterceptor = mdcStompInterceptor;
     }
 
     @Override
@@ -58,6 +77,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 로그 requestId (LoggingContextConfig) - 다른 인터셉터의 로그에도 찍히도록 맨 앞
+        registration.interceptors(mdcStompInterceptor);
         registration.interceptors(new ChannelInterceptor() {
             @Override
             public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -82,6 +103,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                                 SecurityContextHolder.getContext().setAuthentication(authentication);
                                 accessor.setUser(authentication);
 
+                                // 채팅 사용자 정보는 CONNECT 때 한 번만 조회해서 세션에 묶어둠
+                                Map<String, Object> attrs = accessor.getSessionAttributes();
+                                if (attrs != null) {
+                                    usersRepository.findByEmail(email)
+                                            .ifPresent(u -> attrs.put(ChatUser.SESSION_ATTR, ChatUser.of(u)));
+                                }
+
                                 log.info("WebSocket 인증 성공: {}", email);
                             }
                         } catch (Exception e) {
@@ -93,5 +121,14 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 return message;
             }
         });
+
+        // 메시지 처리 1건당 SQL 수/시간 (DbInstrumentationConfig)
+        dbStompMetricsInterceptor.ifAvailable(registration::interceptors);
+        registration.interceptors(webSocketMetrics.inbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketMetrics.outbound());
     }
 }
@@ -2,7 +2,10 @@
 package com.we.hirehub.controller.admin;
 
 import com.we.hirehub.dto.support.HelpDto;
+import com.we.hirehub.service.support.ChatJournal;
 import com.we.hirehub.service.support.HelpService;
+import com.we.hirehub.service.support.WriteBehindQueue;
+import com.we.hirehub.ws.SupportChatMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -11,10 +14,13 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -23,6 +29,8 @@ import java.util.List;
 public class AdminChatController {
 
     private final HelpService helpService;
+    private final ChatJournal chatJournal;
+    private final SupportChatMetrics chatMetrics;
 
     /**
      * ✅ 미처리 상담 요청 조회
@@ -52,4 +60,28 @@ public class AdminChatController {
         log.info("✅ 미처리 상담 요청 {}건 조회됨", pendingRequests.size());
         return ResponseEntity.ok(pendingRequests);
     }
+
+    /**
+     * ✅ 상담 채팅 지표 (수신 → 브로드캐스트 지연, 배치 저장 현황)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<?> getMetrics() {
+        return ResponseEntity.ok(Map.of(
+                "latency", chatMetrics.snapshot(),
+                "journal", chatJournal.stats()
+        ));
+    }
+
+    /**
+     * ✅ 채팅 저장 내구성 모드 전환 (sync: 요청 스레드에서 즉시 저장 / async: write-behind)
+     */
+    @PostMapping("/journal/mode")
+    public ResponseEntity<?> setJournalMode(@RequestParam String mode) {
+        try {
+            chatJournal.setMode(WriteBehindQueue.Mode.valueOf(mode.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("mode 는 sync 또는 async 입니다");
+        }
+        return ResponseEntity.ok(chatJournal.stats());
+    }
 }
@@ -1,6 +1,7 @@
 package com.we.hirehub.controller.admin;
 
 import com.we.hirehub.dto.support.PaymentDto;
+import com.we.hirehub.service.support.PaymentRollupService;
 import com.we.hirehub.service.support.PaymentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -8,31 +9,71 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/payments")
 @RequiredArgsConstructor
 public class AdminPaymentController {
 
+    /** 다음 페이지 커서 (없으면 마지막 페이지) - 본문은 기존처럼 결제 목록 배열 */
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final PaymentService paymentService;
+    private final PaymentRollupService paymentRollupService;
 
-    /** ✔ 전체 결제 조회 */
+    /** ✔ 전체 결제 조회 (최신순, keyset 페이지) */
     @GetMapping
-    public ResponseEntity<List<PaymentDto>> getAllPayments() {
-        return ResponseEntity.ok(paymentService.getAllPayments());
+    public ResponseEntity<List<PaymentDto>> getAllPayments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return page(paymentService.searchPayments(null, null, null, null, cursor, size));
     }
 
-    /** ✔ 이메일 / 닉네임 / 상태 검색 */
+    /** ✔ 이메일(일치/앞부분) / 상태 / 기간 검색 */
     @GetMapping("/search")
     public ResponseEntity<List<PaymentDto>> search(
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return page(paymentService.searchPayments(email, status, parse(dateFrom), parse(dateTo), cursor, size));
+    }
+
+    /** ✔ 매출 대시보드 (일별 / 패키지별 / 결제수단별, 기본 최근 30일) */
+    @GetMapping("/summary")
+    public ResponseEntity<PaymentRollupService.Summary> summary(
             @RequestParam(required = false) String dateFrom,
             @RequestParam(required = false) String dateTo
     ) {
-        LocalDate from = (dateFrom != null && !dateFrom.isBlank()) ? LocalDate.parse(dateFrom) : null;
-        LocalDate to = (dateTo != null && !dateTo.isBlank()) ? LocalDate.parse(dateTo) : null;
+        LocalDate to = dateTo != null && !dateTo.isBlank() ? LocalDate.parse(dateTo) : LocalDate.now();
+        LocalDate from = dateFrom != null && !dateFrom.isBlank() ? LocalDate.parse(dateFrom) : to.minusDays(29);
+        return ResponseEntity.ok(paymentRollupService.summary(from, to));
+    }
+
+    /** ✔ 기간 집계 재계산 (누락 보정 / 과거 데이터 이관) */
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRollups(
+            @RequestParam String dateFrom,
+            @RequestParam String dateTo
+    ) {
+        int rows = paymentRollupService.rebuild(LocalDate.parse(dateFrom), LocalDate.parse(dateTo));
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+
+    private static ResponseEntity<List<PaymentDto>> page(PaymentService.PaymentPage page) {
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            res.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return res.body(page.items());
+    }
 
-        return ResponseEntity.ok(paymentService.searchPayments(email, status, from, to));
+    private static LocalDate parse(String date) {
+        return (date != null && !date.isBlank()) ? LocalDate.parse(date) : null;
     }
 }
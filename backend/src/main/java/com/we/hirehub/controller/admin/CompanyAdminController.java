@@ -25,6 +25,12 @@ public class CompanyAdminController {
 
     // 변환기
     private Map<String, Object> toMap(Company c) {
+        List<String> benefits = companyService.getBenefitsByCompanyId(c.getId())
+                .stream().map(Benefits::getName).collect(Collectors.toList());
+        return toMap(c, benefits);
+    }
+
+    private Map<String, Object> toMap(Company c, List<String> benefits) {
         Map<String, Object> m = new HashMap<>();
         m.put("id", c.getId());
         m.put("name", c.getName());
@@ -39,9 +45,6 @@ public class CompanyAdminController {
         m.put("companyType", c.getCompanyType());
         m.put("lat", c.getLat());
         m.put("lng", c.getLng());
-
-        List<String> benefits = companyService.getBenefitsByCompanyId(c.getId())
-                .stream().map(Benefits::getName).collect(Collectors.toList());
         m.put("benefitsList", benefits);
 
         return m;
@@ -64,10 +67,16 @@ public class CompanyAdminController {
                         ? companyService.getAllCompanies(pageable)
                         : companyService.searchCompanies(keyword.trim(), pageable);
 
+        // 복리후생은 페이지 단위로 한 번에 조회
+        Map<Long, List<String>> benefits = companyService.getBenefitNames(
+                list.getContent().stream().map(Company::getId).toList());
+
         return ResponseEntity.ok(
                 Map.of(
                         "success", true,
-                        "data", list.getContent().stream().map(this::toMap).collect(Collectors.toList()),
+                        "data", list.getContent().stream()
+                                .map(c -> toMap(c, benefits.getOrDefault(c.getId(), List.of())))
+                                .collect(Collectors.toList()),
                         "totalElements", list.getTotalElements(),
                         "totalPages", list.getTotalPages(),
                         "currentPage", page
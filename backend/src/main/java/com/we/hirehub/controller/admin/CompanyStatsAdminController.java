@@ -0,0 +1,37 @@
+package com.we.hirehub.controller.admin;
+
+import com.we.hirehub.service.common.CompanyStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 회사 통계 미리 계산본 재생성 API
+ * - 연도별 매출/연봉/나이 데이터 반영 후 호출
+ */
+@RestController
+@RequestMapping("/api/admin/company-stats")
+@RequiredArgsConstructor
+public class CompanyStatsAdminController {
+
+    private final CompanyStatsService companyStatsService;
+
+    // 전체 회사 일괄 재계산
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildAll() {
+        int count = companyStatsService.rebuildAll();
+        return ResponseEntity.ok(Map.of("success", true, "rebuilt", count));
+    }
+
+    // 회사 1건 재계산
+    @PostMapping("/{companyId}/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild(@PathVariable Long companyId) {
+        companyStatsService.rebuild(companyId);
+        return ResponseEntity.ok(Map.of("success", true, "companyId", companyId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.we.hirehub.controller.admin;
+
+import com.we.hirehub.config.ReplicaRoutingDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * DB 커넥션 라우팅 상태 API
+ * - 풀별 active/idle/waiting, 복제본 정상 여부/지연, 라우팅 건수, primary 대체 건수
+ */
+@RestController
+@RequestMapping("/api/admin/datasource")
+@RequiredArgsConstructor
+public class DataSourceAdminController {
+
+    private final ObjectProvider<ReplicaRoutingDataSource> routingDataSource;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> stats() {
+        ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ResponseEntity.ok(Map.of("replica", "disabled"));
+        }
+        return ResponseEntity.ok(routing.stats());
+    }
+
+    /** 복제본 상태 즉시 재점검 */
+    @PostMapping("/check")
+    public ResponseEntity<Map<String, Object>> check() {
+        ReplicaRoutingDataSource routing = routingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ResponseEntity.ok(Map.of("replica", "disabled"));
+        }
+        routing.checkReplicas();
+        return ResponseEntity.ok(routing.stats());
+    }
+}
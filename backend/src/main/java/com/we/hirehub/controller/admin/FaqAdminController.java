@@ -0,0 +1,42 @@
+package com.we.hirehub.controller.admin;
+
+import com.we.hirehub.dto.support.ChatBotDto;
+import com.we.hirehub.dto.support.FaqUpdateRequest;
+import com.we.hirehub.service.support.ChatBotService;
+import com.we.hirehub.service.support.FaqCatalogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 챗봇 FAQ 관리 API
+ * - 수정하면 FAQ 카탈로그 스냅샷을 다시 구성 (etag 변경)
+ * - DB 에서 직접 고친 경우 /refresh 호출
+ */
+@RestController
+@RequestMapping("/api/admin/faq")
+@RequiredArgsConstructor
+public class FaqAdminController {
+
+    private final ChatBotService chatBotService;
+    private final FaqCatalogService faqCatalogService;
+
+    /** FAQ 항목/헤더 수정 */
+    @PutMapping("/{id}")
+    public ResponseEntity<ChatBotDto> update(@PathVariable Long id, @RequestBody FaqUpdateRequest req) {
+        try {
+            return ResponseEntity.ok(chatBotService.updateFaq(id, req));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /** 카탈로그 강제 재구성 */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh() {
+        faqCatalogService.refresh();
+        return ResponseEntity.ok(Map.of("success", true, "etag", faqCatalogService.get().etag()));
+    }
+}
@@ -0,0 +1,35 @@
+package com.we.hirehub.controller.admin;
+
+import com.we.hirehub.service.admin.GeocodeBackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 위경도 백필 API
+ */
+@RestController
+@RequestMapping("/api/admin/geocode")
+@RequiredArgsConstructor
+public class GeocodeBackfillController {
+
+    private final GeocodeBackfillService geocodeBackfillService;
+
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Object>> backfill() {
+        boolean started = geocodeBackfillService.start();
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT)
+                .body(geocodeBackfillService.getStatus());
+    }
+
+    @GetMapping("/backfill/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        return ResponseEntity.ok(geocodeBackfillService.getStatus());
+    }
+}
@@ -48,9 +48,7 @@ public class ResumeAdminController {
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
             Page<Resume> resumes = resumeService.getAllResumes(pageable);
 
-            List<ResumeDto> resumeDtos = resumes.getContent().stream()
-                    .map(resumeService::toDto)
-                    .collect(Collectors.toList());
+            List<ResumeDto> resumeDtos = resumeService.toDtos(resumes.getContent());
 
             log.info("📄 관리자 이력서 목록 조회 완료: {}개", resumes.getTotalElements());
 
@@ -11,13 +11,14 @@ import java.util.Map;
 
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/ai")
 public class AiChatBotController {
 
     @Value("${ai.server-url}")
     private String aiServerUrl; // application.yml 또는 .properties에 설정된 FastAPI 서버 주소
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
 
     @PostMapping("/chat")
     public ResponseEntity<?> chat(@RequestBody Map<String, String> req) {
@@ -51,7 +52,7 @@ public class AiChatBotController {
 
             log.debug("📤 FastAPI로 요청 전송 중...");
             ResponseEntity<Map> response =
-                    restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+                    aiRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
 
             log.info("✅ FastAPI 응답 수신 성공: {}", response.getStatusCode());
 
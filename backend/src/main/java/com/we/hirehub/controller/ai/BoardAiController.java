@@ -22,7 +22,7 @@ import java.util.List;
 public class BoardAiController {
 
     private final BoardService boardService;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
 
     @Value("${ai.server-url:http://localhost:8000}")
     private String aiServerUrl;
@@ -39,7 +39,7 @@ public class BoardAiController {
         HttpEntity<AiNewsDigestRequest> entity = new HttpEntity<>(req, headers);
 
         ResponseEntity<AiNewsDigestResponse> resp =
-                restTemplate.exchange(url, HttpMethod.POST, entity, AiNewsDigestResponse.class);
+                aiRestTemplate.exchange(url, HttpMethod.POST, entity, AiNewsDigestResponse.class);
 
         return ResponseEntity.ok(resp.getBody());
     }
@@ -54,7 +54,7 @@ public class BoardAiController {
             HttpEntity<AiNewsDigestRequest> entity = new HttpEntity<>(req, headers);
 
             ResponseEntity<AiNewsDigestResponse> resp =
-                    restTemplate.exchange(url, HttpMethod.POST, entity, AiNewsDigestResponse.class);
+                    aiRestTemplate.exchange(url, HttpMethod.POST, entity, AiNewsDigestResponse.class);
 
             AiNewsDigestResponse body = resp.getBody();
             if (body == null) {
@@ -2,6 +2,7 @@ package com.we.hirehub.controller.ai;
 
 import com.we.hirehub.dto.aiMapper.InterviewCoachingHistoryDto;
 import com.we.hirehub.dto.aiMapper.SaveInterviewCoachingRequest;
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.service.support.InterviewCoachingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -9,8 +10,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/interview-coaching")
 @RequiredArgsConstructor
@@ -30,11 +29,13 @@ public class InterviewCoachingController {
     }
 
     @GetMapping("/history")
-    public ResponseEntity<List<InterviewCoachingHistoryDto>> getHistoryList(
-            @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<PagedResponse<InterviewCoachingHistoryDto>> getHistoryList(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
 
         String email = userDetails.getUsername();
-        List<InterviewCoachingHistoryDto> histories = coachingService.getHistoryList(email);
+        PagedResponse<InterviewCoachingHistoryDto> histories = coachingService.getHistoryList(email, page, size);
         return ResponseEntity.ok(histories);
     }
 
@@ -18,7 +18,7 @@ public class InterviewProxyController {
     @Value("${ai.server-url}")
     private String aiServerUrl; // FastAPI 서버 주소
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate aiRestTemplate;
 
     /**
      * 면접 질문 생성 API 프록시
@@ -37,7 +37,7 @@ public class InterviewProxyController {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<Object> response = restTemplate.exchange(
+            ResponseEntity<Object> response = aiRestTemplate.exchange(
                 url,
                 HttpMethod.POST,
                 entity,
@@ -74,7 +74,7 @@ public class InterviewProxyController {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(request, headers);
 
-            ResponseEntity<Object> response = restTemplate.exchange(
+            ResponseEntity<Object> response = aiRestTemplate.exchange(
                 url,
                 HttpMethod.POST,
                 entity,
@@ -2,14 +2,13 @@ package com.we.hirehub.controller.ai;
 
 import com.we.hirehub.dto.aiMapper.JobMatchingHistoryDto;
 import com.we.hirehub.dto.aiMapper.SaveJobMatchingRequest;
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.service.ai.JobMatchingHistoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/job-matching/history")
 @RequiredArgsConstructor
@@ -25,8 +24,11 @@ public class JobMatchingHistoryController {
   }
 
   @GetMapping
-  public ResponseEntity<List<JobMatchingHistoryDto>> getHistoryList(Authentication auth) {
-    return ResponseEntity.ok(jobMatchingHistoryService.getHistoryList(auth.getName()));
+  public ResponseEntity<PagedResponse<JobMatchingHistoryDto>> getHistoryList(
+      Authentication auth,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(jobMatchingHistoryService.getHistoryList(auth.getName(), page, size));
   }
 
   @GetMapping("/{id}")
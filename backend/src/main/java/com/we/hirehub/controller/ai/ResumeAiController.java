@@ -14,13 +14,14 @@ import java.util.Map;
 
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/resume")
 public class ResumeAiController {
 
     @Value("${ai.server-url}")
     private String aiServerUrl; // 🔹 FastAPI 서버 주소 (ex: http://localhost:8000)
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
 
     @PostMapping("/ai-review")
     public Map<String, Object> aiReview(@RequestBody Map<String, String> payload) {
@@ -46,7 +47,7 @@ public class ResumeAiController {
 
             log.debug("📤 FastAPI로 요청 전송 중...");
             ResponseEntity<Map> response =
-                    restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+                    aiRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
 
             log.info("✅ FastAPI 응답 수신 성공: {}", response.getStatusCode());
 
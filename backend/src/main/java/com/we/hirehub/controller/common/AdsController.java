@@ -1,8 +1,10 @@
 package com.we.hirehub.controller.common;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.AdsResponseDto;
 import com.we.hirehub.entity.Ads;
 import com.we.hirehub.service.admin.AdsAdminService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -24,20 +26,23 @@ import java.util.Map;
 public class AdsController {
 
     private final AdsAdminService adsAdminService;
+    private final HttpResponseCache httpResponseCache;
 
     /** ✅ 광고 전체 조회 (인증 불필요) */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllAds() {
+    public ResponseEntity<?> getAllAds(HttpServletRequest request) {
         try {
-            List<AdsResponseDto> adsList = adsAdminService.getAllAds();
-            log.info("📋 일반 사용자 광고 {}개 조회됨", adsList.size());
+            // 광고 변경(AdsAdminService) 전까지는 캐시된 응답 / ETag 일치 시 304
+            return httpResponseCache.respond(request, HttpResponseCache.ADS, () -> {
+                List<AdsResponseDto> adsList = adsAdminService.getAllAds();
+                log.debug("📋 일반 사용자 광고 {}개 조회됨", adsList.size());
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "광고 목록 조회 성공");
-            response.put("data", adsList);
-
-            return ResponseEntity.ok(response);
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("message", "광고 목록 조회 성공");
+                response.put("data", adsList);
+                return response;
+            });
         } catch (Exception e) {
             log.error("❌ 광고 목록 조회 실패", e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -1,6 +1,7 @@
 package com.we.hirehub.controller.common;
 
 import com.we.hirehub.config.JwtUserPrincipal;
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.support.CommentsDto;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.CommentRepository;
@@ -13,7 +14,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -132,22 +132,37 @@ public class CommentRestController {
     @GetMapping("/board/{boardId}")
     public ResponseEntity<List<CommentsDto>> getCommentsByBoardId(@PathVariable Long boardId) {
         try {
-            List<CommentsDto> comments = commentRepository.findByBoardId(boardId)
-                    .stream()
-                    .map(comment -> CommentsDto.builder()
-                            .id(comment.getId())
-                            .content(comment.getContent())
-                            .usersId(comment.getUsers() != null ? comment.getUsers().getId() : null)
-                            .nickname(comment.getUsers() != null ? comment.getUsers().getNickname() : "익명")
-                            .boardId(comment.getBoard() != null ? comment.getBoard().getId() : null)
-                            .parentCommentId(comment.getParentComments() != null ? comment.getParentComments().getId() : null)
-                            .createAt(comment.getCreateAt())
-                            .build())
-                    .collect(Collectors.toList());
+            List<CommentsDto> comments = commentsService.getCommentsByBoardId(boardId);
             return ResponseEntity.ok(comments);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * ✅ 게시글 댓글 트리 조회 (최상위 스레드 페이징, 스레드당 답글 replyLimit 개)
+     */
+    @GetMapping("/board/{boardId}/tree")
+    public ResponseEntity<PagedResponse<CommentsDto.Node>> getCommentTree(
+            @PathVariable Long boardId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "50") int replyLimit
+    ) {
+        return ResponseEntity.ok(commentsService.getCommentTree(
+                boardId, Math.max(0, page), Math.max(1, size), Math.max(0, replyLimit)));
+    }
+
+    /**
+     * ✅ 스레드 전체 조회 (답글 더보기)
+     */
+    @GetMapping("/board/{boardId}/thread/{commentId}")
+    public ResponseEntity<?> getThread(@PathVariable Long boardId, @PathVariable Long commentId) {
+        try {
+            return ResponseEntity.ok(commentsService.getThread(boardId, commentId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
 }
@@ -1,8 +1,8 @@
 package com.we.hirehub.controller.common;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.CompanyDto;
 import com.we.hirehub.dto.common.PagedResponse;
-import com.we.hirehub.dto.common.CompanyStatsDto;
 import com.we.hirehub.dto.user.FavoriteDto;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.repository.BenefitsRepository;
@@ -10,6 +10,7 @@ import com.we.hirehub.repository.CompanyRepository;
 import com.we.hirehub.service.support.CompanyService;
 import com.we.hirehub.service.common.CompanyStatsService;
 import com.we.hirehub.service.user.MyPageFavoritesService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +20,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,6 +36,7 @@ public class CompanyRestController {
     private final CompanyRepository companyRepository;
     private final CompanyService companyService;
     private final CompanyStatsService companyStatsService;
+    private final HttpResponseCache httpResponseCache;
 
 
     // ... (기존 회사 상세/목록 등의 엔드포인트들)
@@ -95,28 +98,38 @@ public class CompanyRestController {
         );
     }
 
+    // ✅ 전체 회사 디렉터리 (복리후생 포함) - 회사 변경 전까지 캐시된 응답, 재방문 시 304
+    @GetMapping("/all")
+    public ResponseEntity<?> getCompanyDirectory(HttpServletRequest request) {
+        return httpResponseCache.respond(request, HttpResponseCache.COMPANY,
+                () -> companyService.getDirectory().companies());
+    }
+
     // ✅ 회사 이름으로 상세 조회
     @GetMapping("/{companyId}")
-    public ResponseEntity<CompanyDto> getCompanyById(@PathVariable Long companyId) {
+    public ResponseEntity<?> getCompanyById(@PathVariable Long companyId, HttpServletRequest request) {
         try {
-            Company company = companyService.getCompanyById(companyId); // 리스트 첫 번째 반환
-            List<String> benefits = benefitsRepository.findByCompanyId(companyId)
-                .stream()
-                .map(b -> b.getName())
-                .collect(Collectors.toList());
-            CompanyDto dto = CompanyDto.toDto(company, benefits); // DTO 변환
-            return ResponseEntity.ok(dto);
+            return httpResponseCache.respond(request, HttpResponseCache.COMPANY, () -> {
+                Company company = companyService.getCompanyById(companyId); // 리스트 첫 번째 반환
+                List<String> benefits = benefitsRepository.findByCompanyId(companyId)
+                    .stream()
+                    .map(b -> b.getName())
+                    .collect(Collectors.toList());
+                return companyService.toDto(company, benefits); // DTO 변환 (사진 srcset 포함)
+            });
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build(); // 없으면 404
         }
     }
 
-    // ✅ 회사 통계 조회 (차트 데이터)
+    // ✅ 회사 통계 조회 (차트 데이터) - 미리 계산본을 캐시된 응답으로, 재계산 전까지 304 (ETag / Last-Modified = 계산 시각)
     @GetMapping("/{companyId}/stats")
-    public ResponseEntity<CompanyStatsDto> getCompanyStats(@PathVariable Long companyId) {
+    public ResponseEntity<?> getCompanyStats(@PathVariable Long companyId, HttpServletRequest request) {
         try {
-            CompanyStatsDto stats = companyStatsService.getCompanyStats(companyId);
-            return ResponseEntity.ok(stats);
+            return httpResponseCache.respond(request, HttpResponseCache.COMPANY_STATS,
+                    () -> companyStatsService.getSnapshot(companyId),
+                    CompanyStatsService.Snapshot::stats,
+                    snap -> snap.updatedAt().atZone(ZoneId.systemDefault()).toInstant());
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -1,15 +1,15 @@
 package com.we.hirehub.controller.common;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.FaqCategoryDto;
 import com.we.hirehub.dto.support.FaqItemDto;
 import com.we.hirehub.service.support.FaqService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Slf4j
 @RestController
 @RequestMapping("/api/faq")
@@ -17,19 +17,19 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class FaqController {
     private final FaqService faqService;
+    private final HttpResponseCache httpResponseCache;
 
     /**
      * 전체 FAQ 카테고리 목록 조회 (계층형)
      * GET /api/faq
      */
     @GetMapping
-    public ResponseEntity<List<FaqCategoryDto>> getAllFaqCategories() {
-        log.info("=== FAQ 전체 카테고리 조회 요청 ===");
+    public ResponseEntity<?> getAllFaqCategories(HttpServletRequest request) {
+        log.debug("=== FAQ 전체 카테고리 조회 요청 ===");
 
         try {
-            List<FaqCategoryDto> categories = faqService.getFaqCategories();
-            log.info("FAQ 카테고리 조회 성공: {} 개", categories.size());
-            return ResponseEntity.ok(categories);
+            // 고정 데이터 → 직렬화한 응답을 캐시, 재방문 시 304
+            return httpResponseCache.respond(request, HttpResponseCache.FAQ, faqService::getFaqCategories);
         } catch (Exception e) {
             log.error("FAQ 조회 실패", e);
             return ResponseEntity.internalServerError().build();
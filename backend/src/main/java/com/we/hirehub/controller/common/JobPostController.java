@@ -1,5 +1,6 @@
 package com.we.hirehub.controller.common;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.config.JwtUserPrincipal;
 import com.we.hirehub.dto.user.CalendarDto;
 import com.we.hirehub.dto.common.PagedResponse;
@@ -8,6 +9,7 @@ import com.we.hirehub.dto.support.JobPostsDto;
 import com.we.hirehub.service.support.JobPostScrapService;
 import com.we.hirehub.service.support.JobPostService;
 import com.we.hirehub.service.support.JobPostsCalendarService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +30,7 @@ public class JobPostController {
   private final JobPostScrapService jobPostScrapService;
   private final JobPostsCalendarService jobPostsCalendarService;
   private final JobPostService jobPostService;
+  private final HttpResponseCache httpResponseCache;
 
   private Long userId(Authentication auth) {
     if (auth == null || auth.getPrincipal() == null) {
@@ -79,6 +82,20 @@ public class JobPostController {
     return result;
   }
 
+  /**
+   * 📍 반경 검색 (가까운 순)
+   */
+  @GetMapping("/nearby")
+  public PagedResponse<JobPostsDto> getNearbyJobPosts(
+          @RequestParam double lat,
+          @RequestParam double lng,
+          @RequestParam(defaultValue = "5") double radiusKm,
+          @RequestParam(defaultValue = "0") int page,
+          @RequestParam(defaultValue = "10") int size
+  ) {
+    return jobPostService.getNearbyJobPosts(lat, lng, radiusKm, page, size);
+  }
+
   @GetMapping("/search")
   public List<JobPostsDto> searchJobPosts(@RequestParam String keyword) {
     log.info("🌐 GET /api/jobposts/search?keyword={}", keyword);
@@ -117,12 +134,15 @@ public class JobPostController {
     return jobPostsCalendarService.getDayDeadlines(date, page, size);
   }
 
+  /** 날짜별 마감 공고 수 (응답 캐시 + ETag, 공고 등록/수정/삭제 시 무효화) */
   @GetMapping("/calendar/counts")
-  public List<CalendarDto.DayCount> getCalendarCounts(
+  public ResponseEntity<byte[]> getCalendarCounts(
           @RequestParam LocalDate from,
-          @RequestParam LocalDate to
+          @RequestParam LocalDate to,
+          HttpServletRequest request
   ) {
-    return jobPostsCalendarService.getCalendarCounts(from, to);
+    return httpResponseCache.respond(request, HttpResponseCache.CALENDAR,
+            () -> jobPostsCalendarService.getCalendarCounts(from, to));
   }
 
   @PostMapping("/{id}/views")
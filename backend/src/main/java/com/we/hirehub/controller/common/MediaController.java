@@ -0,0 +1,29 @@
+package com.we.hirehub.controller.common;
+
+import com.we.hirehub.service.common.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 업로드 이미지 변형 조회 (인증 불필요)
+ * - GET /api/public/media?url={원본 URL} → 상태 + 폭별 변형 URL
+ * - status=PENDING 이면 아직 생성 중이므로 원본 URL 사용
+ */
+@RestController
+@RequestMapping("/api/public/media")
+@RequiredArgsConstructor
+public class MediaController {
+
+    private final ImageVariantService imageVariantService;
+
+    @GetMapping
+    public ResponseEntity<ImageVariantService.MediaInfo> variants(@RequestParam String url) {
+        return imageVariantService.find(url)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,12 +1,15 @@
 package com.we.hirehub.controller.common;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import com.we.hirehub.exception.TooManyRequestsException;
 import com.we.hirehub.service.common.SmsCodeService;
+import com.we.hirehub.service.common.SmsCodeStore;
 import com.we.hirehub.service.common.SmsService;
 import java.util.Map;
 
@@ -19,15 +22,18 @@ public class SmsController {
     private final SmsCodeService smsCodeService;
 
     @PostMapping("/send")
-    public ResponseEntity<?> send(@RequestBody Map<String, String> req) {
+    public ResponseEntity<?> send(@RequestBody Map<String, String> req, HttpServletRequest request) {
         try {
             String phone = req.get("phone");
-            String code = String.valueOf((int) (Math.random() * 900000) + 100000);
+            String code = smsCodeService.issueCode(phone, request.getRemoteAddr());
 
-            smsCodeService.saveCode(phone, code);
             smsService.sendCode(phone, code);
 
             return ResponseEntity.ok(Map.of("message", "인증번호가 전송되었습니다."));
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(429).body(Map.of("message", e.getMessage()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.status(400).body(Map.of("message", e.getMessage()));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(500).body(Map.of("message", "문자 전송 실패: " + e.getMessage()));
@@ -39,9 +45,11 @@ public class SmsController {
         String phone = req.get("phone");
         String code = req.get("code");
 
-        if (smsCodeService.verify(phone, code)) {
-            return ResponseEntity.ok(Map.of("message", "인증 성공"));
-        }
-        return ResponseEntity.status(400).body(Map.of("message", "인증번호가 일치하지 않습니다."));
+        return switch (smsCodeService.verify(phone, code)) {
+            case OK -> ResponseEntity.ok(Map.of("message", "인증 성공"));
+            case EXPIRED -> ResponseEntity.status(400).body(Map.of("message", "인증번호가 만료되었습니다. 다시 요청해주세요."));
+            case TOO_MANY_ATTEMPTS -> ResponseEntity.status(429).body(Map.of("message", "인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요."));
+            case MISMATCH -> ResponseEntity.status(400).body(Map.of("message", "인증번호가 일치하지 않습니다."));
+        };
     }
 }
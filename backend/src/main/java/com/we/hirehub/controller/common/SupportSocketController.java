@@ -1,15 +1,17 @@
 package com.we.hirehub.controller.common;
 
 import com.we.hirehub.entity.Users;
-import com.we.hirehub.repository.SessionRepository;
+import com.we.hirehub.handoff.HandoffService;
 import com.we.hirehub.repository.UsersRepository;
 import com.we.hirehub.service.support.HelpService;
+import com.we.hirehub.ws.ChatUser;
+import com.we.hirehub.ws.SupportChatMetrics;
 import com.we.hirehub.ws.SupportQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.util.HashMap;
@@ -20,115 +22,102 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SupportSocketController {
 
-    private final SimpMessagingTemplate messagingTemplate;
     private final SupportQueue supportQueue;
     private final UsersRepository usersRepository;
     private final HelpService helpService;  // ✅ HelpService로 변경
-    private final SessionRepository sessionRepository;
+    private final SupportChatMetrics chatMetrics;
+    private final HandoffService handoffService;
 
-    // ✅ 유저/상담사가 채팅 보냄 (DB 저장 + WebSocket 브로드캐스트)
+    // ✅ 유저/상담사가 채팅 보냄 (브로드캐스트 먼저, DB 저장은 배치 비동기)
     @MessageMapping("support.send/{roomId}")
-    public void userSend(@DestinationVariable String roomId, Map<String, Object> payload, java.security.Principal principal) {
-        log.info("=== 메시지 수신 ===");
-        log.info("roomId: {}, payload: {}", roomId, payload);
-        log.info("인증 정보: {}", principal != null ? principal.getName() : "null");
+    public void userSend(@DestinationVariable String roomId, Map<String, Object> payload,
+                         SimpMessageHeaderAccessor accessor) {
+        long receivedAt = System.nanoTime();
 
         String type = (String) payload.getOrDefault("type", "TEXT");
         String text = (String) payload.getOrDefault("text", "");
         String role = (String) payload.getOrDefault("role", "USER");
 
         if (!"TEXT".equalsIgnoreCase(type) || text == null || text.isBlank()) {
-            log.warn("유효하지 않은 메시지 타입 또는 빈 텍스트");
+            log.debug("유효하지 않은 메시지 타입 또는 빈 텍스트: roomId={}", roomId);
             return;
         }
 
-        // ✅ 사용자 정보 추출
-        Users user = null;
+        ChatUser user = resolveSender(roomId, role, payload, accessor);
+        supportQueue.touch(roomId);
 
-        if ("ADMIN".equals(role)) {
-            // 관리자 메시지: Principal에서 이메일을 가져와 Users 조회
-            if (principal != null) {
-                String email = principal.getName();
-                log.info("🔍 ADMIN 역할 - Principal 이메일: {}", email);
-                user = usersRepository.findByEmail(email).orElse(null);
-
-                if (user != null) {
-                    log.info("✅ 관리자 조회 성공: ID={}, Email={}", user.getId(), user.getEmail());
-                } else {
-                    log.warn("⚠️ 이메일 {}에 해당하는 관리자를 찾을 수 없음", email);
-                }
-            } else {
-                log.warn("⚠️ ADMIN 역할이지만 Principal이 null입니다");
-            }
-        } else {
-            // 일반 유저 메시지: payload의 userId로 조회
-            try {
-                Object userIdObj = payload.get("userId");
-                log.info("📦 userId 추출 시도: {}", userIdObj);
-
-                if (userIdObj != null) {
-                    Long userId = null;
-                    if (userIdObj instanceof Number) {
-                        userId = ((Number) userIdObj).longValue();
-                    } else if (userIdObj instanceof String) {
-                        String userIdStr = (String) userIdObj;
-                        if (!userIdStr.equals("null") && !userIdStr.isEmpty()) {
-                            userId = Long.parseLong(userIdStr);
-                        }
-                    }
+        try {
+            helpService.send(roomId, text, role, user);
+            chatMetrics.recordSince(receivedAt);
+        } catch (Exception e) {
+            log.error("⚠ 메시지 브로드캐스트 실패: roomId={}", roomId, e);
+        }
 
-                    if (userId != null) {
-                        log.info("🔍 DB에서 userId={} 조회", userId);
-                        user = usersRepository.findById(userId).orElse(null);
+        log.debug("📨 support.send roomId={}, userId={}, role={}",
+                roomId, user != null ? user.userId() : null, role);
+    }
 
-                        if (user != null) {
-                            log.info("✅ 사용자 조회 성공: ID={}, Email={}, Nickname={}",
-                                    user.getId(), user.getEmail(), user.getNickname());
-                        } else {
-                            log.warn("⚠️ userId={}에 해당하는 사용자를 찾을 수 없음", userId);
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                log.error("⚠ 사용자 정보 추출 실패", e);
+    /**
+     * 보낸 사람 결정 (메시지마다 DB 조회하지 않음)
+     * 1) CONNECT 때 세션에 묶인 사용자
+     * 2) 관리자: Principal 이메일로 1회 조회 후 세션에 저장
+     * 3) 비로그인 연결 유저: 방에 기록된 사용자(공유 저장소) → 없으면 payload userId 로 1회 조회
+     */
+    private ChatUser resolveSender(String roomId, String role, Map<String, Object> payload,
+                                   SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attrs = accessor.getSessionAttributes();
+        ChatUser bound = attrs != null ? (ChatUser) attrs.get(ChatUser.SESSION_ATTR) : null;
+
+        if ("ADMIN".equals(role)) {
+            if (bound == null && accessor.getUser() != null) {
+                bound = usersRepository.findByEmail(accessor.getUser().getName()).map(ChatUser::of).orElse(null);
+                if (bound != null && attrs != null) attrs.put(ChatUser.SESSION_ATTR, bound);
             }
+            return bound;
         }
 
-        log.info("🔍 최종 저장 정보: userId={}, role={}, text={}",
-                user != null ? user.getId() : "null", role, text);
-
-        // ✅ HelpService를 통해 DB 저장 (자동으로 WebSocket 브로드캐스트도 수행)
-        try {
-            helpService.send(roomId, text, role, user);
-            log.info("✅ HelpService를 통한 메시지 저장 및 브로드캐스트 완료");
-        } catch (Exception e) {
-            log.error("⚠ 메시지 저장/브로드캐스트 실패", e);
+        ChatUser roomUser = supportQueue.user(roomId);
+        if (bound != null) {
+            if (roomUser == null) supportQueue.bindUser(roomId, bound);
+            return bound;
         }
+        if (roomUser == null) {
+            Long userId = parseUserId(payload.get("userId"));
+            if (userId != null) {
+                roomUser = usersRepository.findById(userId).map(ChatUser::of).orElse(null);
+                supportQueue.bindUser(roomId, roomUser);
+            }
+        }
+        return roomUser;
+    }
 
-        log.info("=== 메시지 처리 완료 ===");
+    private static Long parseUserId(Object userIdObj) {
+        if (userIdObj instanceof Number n) return n.longValue();
+        if (userIdObj != null) {
+            String str = userIdObj.toString();
+            if (!str.isEmpty() && !"null".equals(str)) {
+                try {
+                    return Long.valueOf(str);
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        return null;
     }
 
     // 유저가 핸드오프 요청
     @MessageMapping("support.handoff/{roomId}")
     public void handoffRequest(@DestinationVariable String roomId, Map<String, Object> payload, java.security.Principal principal) {
-        log.info("=== 핸드오프 요청 받음 ===");
-        log.info("roomId: {}", roomId);
-        log.info("payload: {}", payload);
-        log.info("인증 정보: {}", principal != null ? principal.getName() : "null");
-
-        var s = supportQueue.state(roomId);
-
-        // ✅ 재연결 요청 시 상태 초기화
-        s.handoffRequested = true;
-        s.handoffAccepted = false;
+        // payload 전체는 DEBUG 에서만
+        if (log.isDebugEnabled()) {
+            log.debug("핸드오프 요청: roomId={}, principal={}, payload={}",
+                    roomId, principal != null ? principal.getName() : null, payload);
+        }
 
         // ✅ userId로 DB에서 실제 유저 정보 조회
         Long userId = null;
         try {
             Object userIdObj = payload.get("userId");
-            log.info("userIdObj 타입: {}, 값: {}",
-                    userIdObj != null ? userIdObj.getClass().getName() : "null",
-                    userIdObj);
 
             if (userIdObj != null) {
                 if (userIdObj instanceof Number) {
@@ -139,82 +128,51 @@ public class SupportSocketController {
                         userId = Long.valueOf(userIdStr);
                     }
                 }
-                log.info("✅ userId 파싱 성공: {}", userId);
             }
         } catch (Exception e) {
             log.error("⚠ userId 파싱 실패", e);
         }
 
-        String userName = "user";
-        String userNickname = "user";
         Users user = null;
-
         if (userId != null) {
-            log.info("🔍 DB에서 userId={} 조회 시도", userId);
             user = usersRepository.findById(userId).orElse(null);
-            if (user != null) {
-                userName = user.getName() != null ? user.getName() : "user";
-                userNickname = user.getNickname() != null ? user.getNickname() : "user";
-                log.info("✅ 유저 정보 조회 성공: userId={}, name={}, nickname={}", userId, userName, userNickname);
-            } else {
+            if (user == null) {
                 log.warn("⚠️ 유저를 찾을 수 없음: userId={}", userId);
             }
         } else {
-            log.warn("⚠️ userId가 null입니다. payload 전체: {}", payload);
+            log.warn("⚠️ 핸드오프 요청에 userId 없음: roomId={}", roomId);
         }
 
-        // SupportQueue에 저장
-        s.userName = userName;
-        s.userNickname = userNickname;
-        log.info("📦 SupportQueue에 저장: userName={}, userNickname={}", userName, userNickname);
-
-        // ✅ Help 테이블에 상담 요청 기록
-        try {
-            helpService.createHelpRequest(roomId, user);
-            log.info("✅ Help 테이블에 상담 요청 기록 완료");
-        } catch (Exception e) {
-            log.error("⚠ Help 테이블 기록 실패", e);
-        }
+        // ✅ 대기열 등록(재연결 요청 시 상태 초기화) + Help 기록 + 대기열/방 알림
+        handoffService.request(roomId, user);
 
-        // 대기 큐에 브로드캐스트
-        Map<String, Object> notice = new HashMap<>();
-        notice.put("event", "HANDOFF_REQUESTED");
-        notice.put("roomId", roomId);
-        notice.put("userName", userName);
-        notice.put("userNickname", userNickname);
-        log.info("📤 큐에 브로드캐스트: {}", notice);
-        messagingTemplate.convertAndSend("/topic/support.queue", notice);
-
-        // 유저 방에 알림
-        Map<String, Object> ack = new HashMap<>();
-        ack.put("type", "HANDOFF_REQUESTED");
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, ack);
-
-        log.info("✅ 핸드오프 요청 처리 완료: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
+        log.info("✅ 핸드오프 요청: roomId={}, userId={}", roomId, userId);
     }
 
     // 상담사가 수락
     @MessageMapping("support.handoff.accept")
     public void handoffAccept(Map<String, Object> payload, java.security.Principal principal) {
-        log.info("=== 핸드오프 수락 ===");
-        log.info("인증 정보: {}", principal != null ? principal.getName() : "null");
-
         String roomId = (String) payload.get("roomId");
         if (roomId == null || roomId.isBlank()) return;
 
-        var s = supportQueue.state(roomId);
-        s.handoffAccepted = true;
+        // ✅ 원자적 배정: 대기 중이 아니거나 다른 상담사가 이미 수락한 방이면 무시
+        String agent = principal != null ? principal.getName() : "admin";
+        var claimed = supportQueue.claim(roomId, agent);
+        if (claimed.isEmpty()) {
+            log.warn("⚠️ 대기 중이 아니거나 이미 다른 상담사가 수락한 방: roomId={}, agent={}", roomId, agent);
+            return;
+        }
+        var s = claimed.get();
 
-        // SupportQueue에서 저장된 유저 정보 가져오기
-        String userName = s.userName != null ? s.userName : "user";
-        String userNickname = s.userNickname != null ? s.userNickname : "user";
+        // 공유 저장소에 기록된 유저 정보 사용
+        String userName = s.displayUserName();
+        String userNickname = s.displayUserNickname();
 
-        log.info("✅ 핸드오프 수락: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
+        log.info("✅ 핸드오프 수락: roomId={}, agent={}", roomId, agent);
 
         // ✅ Help 테이블에 상담 수락 기록
         try {
             helpService.acceptHelp(roomId);
-            log.info("✅ Help 테이블에 상담 수락 기록 완료");
         } catch (Exception e) {
             log.error("⚠ Help 테이블 기록 실패", e);
         }
@@ -226,32 +184,29 @@ public class SupportSocketController {
         msg.put("text", "상담사가 연결되었습니다. 지금부터 실시간 상담이 가능합니다.");
         msg.put("userName", userName);
         msg.put("userNickname", userNickname);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, msg);
+        supportQueue.broadcast("/topic/rooms/" + roomId, msg);
 
-        log.info("📤 HANDOFF_ACCEPTED 메시지 전송 완료: userName={}, userNickname={}", userName, userNickname);
+        // 다른 상담사 대시보드에서 대기 목록 제거용
+        Map<String, Object> queueNotice = new HashMap<>();
+        queueNotice.put("event", "HANDOFF_ACCEPTED");
+        queueNotice.put("roomId", roomId);
+        queueNotice.put("agent", agent);
+        supportQueue.broadcast("/topic/support.queue", queueNotice);
     }
 
     // ✅ 유저가 연결 해제
     @MessageMapping("support.disconnect/{roomId}")
     public void userDisconnect(@DestinationVariable String roomId, Map<String, Object> payload, java.security.Principal principal) {
-        log.info("=== 유저 연결 해제 ===");
-        log.info("인증 정보: {}", principal != null ? principal.getName() : "null");
-
-        var s = supportQueue.state(roomId);
+        // 상담 종료 처리 + 공유 저장소에 기록된 정보 사용
+        var s = supportQueue.release(roomId);
+        String userName = s.displayUserName();
+        String userNickname = s.displayUserNickname();
 
-        // SupportQueue에 저장된 정보 사용
-        String userName = s.userName != null ? s.userName : "user";
-        String userNickname = s.userNickname != null ? s.userNickname : "user";
-
-        s.handoffRequested = false;
-        s.handoffAccepted = false;
-
-        log.info("📌 유저 연결 해제: roomId={}, name={}, nickname={}", roomId, userName, userNickname);
+        log.info("📌 유저 연결 해제: roomId={}", roomId);
 
         // ✅ Help 테이블에 상담 종료 기록
         try {
             helpService.endHelp(roomId);
-            log.info("✅ Help 테이블에 상담 종료 기록 완료");
         } catch (Exception e) {
             log.error("⚠ Help 테이블 기록 실패", e);
         }
@@ -264,8 +219,7 @@ public class SupportSocketController {
         msg.put("userName", userName);
         msg.put("userNickname", userNickname);
         msg.put("roomId", roomId);
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, msg);
-        log.info("📤 방에 USER_DISCONNECTED 전송: /topic/rooms/{}", roomId);
+        supportQueue.broadcast("/topic/rooms/" + roomId, msg);
 
         // 큐에도 알림 (상담사 대시보드 업데이트용)
         Map<String, Object> queueNotice = new HashMap<>();
@@ -273,31 +227,22 @@ public class SupportSocketController {
         queueNotice.put("roomId", roomId);
         queueNotice.put("userName", userName);
         queueNotice.put("userNickname", userNickname);
-        messagingTemplate.convertAndSend("/topic/support.queue", queueNotice);
-        log.info("📤 큐에 USER_DISCONNECTED 전송: /topic/support.queue");
-
-        log.info("✅ 유저 연결 해제 알림 전송 완료");
+        supportQueue.broadcast("/topic/support.queue", queueNotice);
     }
 
     // ✅ 상담사가 연결 해제
     @MessageMapping("support.agent.disconnect")
     public void agentDisconnect(Map<String, Object> payload, java.security.Principal principal) {
-        log.info("=== 상담사 연결 해제 ===");
-        log.info("인증 정보: {}", principal != null ? principal.getName() : "null");
-
         String roomId = (String) payload.get("roomId");
         if (roomId == null || roomId.isBlank()) return;
 
-        var s = supportQueue.state(roomId);
-        s.handoffRequested = false;
-        s.handoffAccepted = false;
+        supportQueue.release(roomId);
 
         log.info("📌 상담사 연결 해제: roomId={}", roomId);
 
         // ✅ Help 테이블에 상담 종료 기록
         try {
             helpService.endHelp(roomId);
-            log.info("✅ Help 테이블에 상담 종료 기록 완료");
         } catch (Exception e) {
             log.error("⚠ Help 테이블 기록 실패", e);
         }
@@ -307,9 +252,6 @@ public class SupportSocketController {
         msg.put("type", "AGENT_DISCONNECTED");
         msg.put("role", "SYS");
         msg.put("text", "상담사가 연결을 해제했습니다.");
-        messagingTemplate.convertAndSend("/topic/rooms/" + roomId, msg);
-        log.info("📤 방에 AGENT_DISCONNECTED 전송: /topic/rooms/{}", roomId);
-
-        log.info("✅ 상담사 연결 해제 알림 전송 완료");
+        supportQueue.broadcast("/topic/rooms/" + roomId, msg);
     }
 }
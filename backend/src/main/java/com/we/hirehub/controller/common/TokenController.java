@@ -1,8 +1,7 @@
 package com.we.hirehub.controller.common;
 
 import com.we.hirehub.config.JwtUserPrincipal;
-import com.we.hirehub.entity.Users;
-import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.support.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -12,7 +11,7 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class TokenController {
 
-    private final UsersRepository usersRepository;
+    private final TokenService tokenService;
 
     /** 내 보유 토큰 조회 */
     @GetMapping("/my")
@@ -21,10 +20,8 @@ public class TokenController {
         JwtUserPrincipal user =
                 (JwtUserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 
-        Users u = usersRepository.findById(user.getUserId())
-                .orElseThrow(() -> new RuntimeException("유저 없음"));
-
-        return new TokenBalanceResponse(u.getTokenBalance());
+        // 엔티티 캐시가 아닌 DB 잔액 기준
+        return new TokenBalanceResponse(tokenService.getBalance(user.getUserId()));
     }
 
     public record TokenBalanceResponse(int balance) {}
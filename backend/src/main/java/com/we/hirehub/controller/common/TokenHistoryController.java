@@ -5,6 +5,7 @@ import com.we.hirehub.config.JwtUserPrincipal;
 import com.we.hirehub.entity.TokenHistory;
 import com.we.hirehub.repository.TokenHistoryRepository;
 import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.support.TokenHistoryWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,6 +22,7 @@ import java.util.List;
 public class TokenHistoryController {
 
     private final TokenHistoryRepository tokenHistoryRepository;
+    private final TokenHistoryWriter tokenHistoryWriter;
 
     /**
      * 내 토큰 사용 내역 조회
@@ -33,6 +35,9 @@ public class TokenHistoryController {
 
         Long userId = principal.getUserId();
 
+        // 아직 버퍼에 있는 내역까지 보이도록 먼저 저장
+        tokenHistoryWriter.flush();
+
         return tokenHistoryRepository.findAllByUserIdOrderByCreatedAtDesc(userId)
                 .stream()
                 .map(TokenUseResponse::from)
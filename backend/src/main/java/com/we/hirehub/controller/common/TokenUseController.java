@@ -14,17 +14,19 @@ public class TokenUseController {
 
     private final TokenService tokenService;
 
-    /** ✔ AI 기능 사용 시 토큰 차감 */
+    /** ✔ AI 기능 사용 시 토큰 차감 (Idempotency-Key 로 재시도 시 이중 차감 방지) */
     @PostMapping("/use")
-    public void useToken(
+    public TokenService.UseResult useToken(
             @AuthenticationPrincipal JwtUserPrincipal user,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody TokenUseRequest req
     ) {
-        tokenService.useTokens(
+        return tokenService.useTokens(
                 user.getUserId(),
                 req.getAmount(),
                 req.getFeature(),
-                req.getDescription()
+                req.getDescription(),
+                idempotencyKey != null ? idempotencyKey : req.getIdempotencyKey()
         );
     }
 }
@@ -31,14 +31,18 @@ public class ChatController {
 
     /**
      * 유저 간 채팅 히스토리 조회
+     * - beforeId 없으면 최신 limit 개, 있으면 그 id 이전 limit 개 (응답의 첫 id 를 다음 커서로 사용)
      */
     @GetMapping("/history/{sessionId}")
     public ResponseEntity<List<LiveChatDto>> getChatHistory(
             @PathVariable String sessionId,
-            @RequestParam(defaultValue = "30") int limit
+            @RequestParam(defaultValue = "30") int limit,
+            @RequestParam(required = false) Long beforeId
     ) {
-        log.info("채팅 히스토리 조회 - sessionId: {}, limit: {}", sessionId, limit);
-        List<LiveChatDto> messages = liveChatService.getRecentMessages(sessionId, limit);
+        log.info("채팅 히스토리 조회 - sessionId: {}, limit: {}, beforeId: {}", sessionId, limit, beforeId);
+        List<LiveChatDto> messages = beforeId == null
+                ? liveChatService.getRecentMessages(sessionId, limit)
+                : liveChatService.getMessagesBefore(sessionId, beforeId, limit);
         return ResponseEntity.ok(messages);
     }
 
@@ -68,14 +72,18 @@ public class ChatController {
 
     /**
      * 상담 채팅 히스토리 조회
+     * - beforeId 없으면 최신 limit 개, 있으면 그 id 이전 limit 개 (응답의 첫 id 를 다음 커서로 사용)
      */
     @GetMapping("/help/history/{sessionId}")
     public ResponseEntity<List<HelpDto>> getHelpHistory(
             @PathVariable String sessionId,
-            @RequestParam(defaultValue = "30") int limit
+            @RequestParam(defaultValue = "30") int limit,
+            @RequestParam(required = false) Long beforeId
     ) {
-        log.info("상담 채팅 히스토리 조회 - sessionId: {}, limit: {}", sessionId, limit);
-        List<HelpDto> messages = helpService.getRecentMessages(sessionId, limit);
+        log.info("상담 채팅 히스토리 조회 - sessionId: {}, limit: {}, beforeId: {}", sessionId, limit, beforeId);
+        List<HelpDto> messages = beforeId == null
+                ? helpService.getRecentMessages(sessionId, limit)
+                : helpService.getMessagesBefore(sessionId, beforeId, limit);
         return ResponseEntity.ok(messages);
     }
 
@@ -116,7 +124,7 @@ public class ChatController {
                 request.getSessionId(),
                 request.getContent(),
                 "BOT",     // 🔥 여기서 role 직접 지정
-                null       // BOT은 Users 엔티티와 연결되지 않음
+                (Users) null  // BOT은 Users 엔티티와 연결되지 않음
         );
 
         return ResponseEntity.ok().build();
@@ -1,5 +1,6 @@
 package com.we.hirehub.controller.user;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.config.JwtUserPrincipal;
 import com.we.hirehub.dto.support.ReviewDto;
 import com.we.hirehub.entity.Company;
@@ -8,6 +9,7 @@ import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.CompanyRepository;
 import com.we.hirehub.repository.UsersRepository;
 import com.we.hirehub.service.user.ReviewService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -23,6 +25,7 @@ public class ReviewRestController {
     private final ReviewService reviewService;
     private final CompanyRepository companyRepository;
     private final UsersRepository usersRepository;
+    private final HttpResponseCache httpResponseCache;
 
     /** ✅ 리뷰 등록 (로그인 사용자 자동 연결) */
     @PostMapping
@@ -62,23 +65,23 @@ public class ReviewRestController {
         return reviewService.getAllReviews();
     }
 
-    /** ✅ 특정 회사 리뷰 조회 */
+    /** ✅ 특정 회사 리뷰 조회 (응답 캐시 + ETag) */
     @GetMapping("/company/{companyId}")
-    public ResponseEntity<List<ReviewDto>> getReviewsByCompany(@PathVariable Long companyId) {
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new RuntimeException("해당 회사를 찾을 수 없습니다."));
-
-        List<ReviewDto> reviews = reviewService.getReviewsByCompany(company.getId());
-        return ResponseEntity.ok(reviews);
+    public ResponseEntity<byte[]> getReviewsByCompany(@PathVariable Long companyId, HttpServletRequest request) {
+        return httpResponseCache.respond(request, HttpResponseCache.REVIEWS, () -> {
+            Company company = companyRepository.findById(companyId)
+                    .orElseThrow(() -> new RuntimeException("해당 회사를 찾을 수 없습니다."));
+            return reviewService.getReviewsByCompany(company.getId());
+        });
     }
 
-    /** ✅ 특정 회사 평균 별점 조회 */
+    /** ✅ 특정 회사 평균 별점 조회 (응답 캐시 + ETag) */
     @GetMapping("/company/{companyId}/average")
-    public ResponseEntity<Double> getAverageScore(@PathVariable Long companyId) {
-        Company company = companyRepository.findById(companyId)
-                .orElseThrow(() -> new RuntimeException("해당 회사를 찾을 수 없습니다."));
-
-        Double avgScore = reviewService.getAverageScore(company.getId());
-        return ResponseEntity.ok(avgScore);
+    public ResponseEntity<byte[]> getAverageScore(@PathVariable Long companyId, HttpServletRequest request) {
+        return httpResponseCache.respond(request, HttpResponseCache.REVIEWS, () -> {
+            Company company = companyRepository.findById(companyId)
+                    .orElseThrow(() -> new RuntimeException("해당 회사를 찾을 수 없습니다."));
+            return reviewService.getAverageScore(company.getId());
+        });
     }
 }
\ No newline at end of file
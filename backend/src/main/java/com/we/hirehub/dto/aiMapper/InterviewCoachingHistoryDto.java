@@ -11,11 +11,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class InterviewCoachingHistoryDto {
-    private Long id;  // 첫 번째 세션의 ID를 대표값으로 사용
+    private Long id;  // 코칭 세션(coach_session) ID
     private Long resumeId;
     private String resumeTitle;
     private String jobPostLink;
     private String companyLink;
     private List<InterviewSessionDto> sessions;
-    private LocalDateTime createdAt;  // 첫 번째 세션의 생성시간
+    private LocalDateTime createdAt;  // 코칭 세션 생성시간
 }
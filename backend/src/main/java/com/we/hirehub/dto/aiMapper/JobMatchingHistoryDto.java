@@ -13,7 +13,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobMatchingHistoryDto {
-  private Long id;
+  private Long id;  // 매칭 실행(matching_run) ID
   private Long resumeId;
   private String resumeTitle;
   private List<SaveJobMatchingRequest.MatchResultDto> matchResults;
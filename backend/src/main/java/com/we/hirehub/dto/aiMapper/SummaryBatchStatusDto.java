@@ -0,0 +1,26 @@
+package com.we.hirehub.dto.aiMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryBatchStatusDto {
+  private Long runId;
+  private String status;          // RUNNING, COMPLETED, NONE
+  private long total;
+  private long ok;
+  private long failed;
+  private long pending;
+  private int workers;
+  private double throughputPerMinute;
+  private Long etaSeconds;        // 처리 속도를 알 수 없으면 null
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+}
@@ -8,4 +8,5 @@ import lombok.Getter;
 public class AdsResponseDto {
     private Long id;
     private String photo;
+    private String photoSrcset;   // 리사이즈 변형 (생성 전이면 null → photo 만 사용)
 }
@@ -4,6 +4,8 @@ import com.we.hirehub.entity.Comments;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Setter
@@ -66,4 +68,36 @@ public class CommentsDto {
         // Users, Board, ParentComments는 서비스 레이어에서 set 해주는 것을 권장
         return comment;
     }
-}
\ No newline at end of file
+
+    /** 🔹 댓글 트리 노드 (스레드 조회용) */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Node {
+        private Long id;
+        private String content;
+        private Long usersId;
+        private String nickname;
+        private Long parentCommentId;
+        private LocalDateTime createAt;
+        private LocalDateTime updateAt;
+        private int replyCount;           // 하위 댓글 전체 개수 (잘린 것 포함)
+        private boolean truncated;        // 응답에서 일부 답글이 생략되었는지
+        @Builder.Default
+        private List<Node> children = new ArrayList<>();
+
+        public static Node from(Comments c) {
+            return Node.builder()
+                    .id(c.getId())
+                    .content(c.getContent())
+                    .usersId(c.getUsers() != null ? c.getUsers().getId() : null)
+                    .nickname(c.getUsers() != null ? c.getUsers().getNickname() : "익명")
+                    .parentCommentId(c.getParentComments() != null ? c.getParentComments().getId() : null)
+                    .createAt(c.getCreateAt())
+                    .updateAt(c.getUpdateAt())
+                    .build();
+        }
+    }
+}
@@ -23,6 +23,7 @@ public class CompanyDto {
     private String industry;
     private String ceo;
     private String photo;
+    private String photoSrcset;     // 리사이즈 변형 (생성 전이면 null → photo 만 사용)
 
     private Double lat;
     private Double lng;
@@ -0,0 +1,16 @@
+package com.we.hirehub.dto.support;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/** 관리자 FAQ 수정 요청 (null 인 필드는 변경하지 않음) */
+@Getter
+@Setter
+public class FaqUpdateRequest {
+    private String content;     // 질문
+    private String botAnswer;   // 답변 (header 는 카테고리 설명)
+    private Boolean onoff;
+    private String type;        // header / item
+    private String category;
+    private Integer order;
+}
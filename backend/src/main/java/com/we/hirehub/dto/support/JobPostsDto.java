@@ -47,6 +47,9 @@ public class JobPostsDto {
   // 🔥 AI 추천 점수 (추천 공고 정렬용)
   private Double recommendScore;
 
+  // 📍 반경 검색 시 기준점까지 거리 (km)
+  private Double distanceKm;
+
   /** Mini DTO */
   @Getter
   @Setter
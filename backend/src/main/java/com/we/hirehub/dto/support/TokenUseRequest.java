@@ -8,4 +8,5 @@ public class TokenUseRequest {
     private int amount;         // 차감할 토큰 수
     private String feature;     // COVER_LETTER, MATCHING, COACHING 등
     private String description; // 프론트에서 보낼 상세 사용 이유
+    private String idempotencyKey; // (선택) 재시도 시 같은 값 → 한 번만 차감 (Idempotency-Key 헤더 우선)
 }
@@ -7,14 +7,13 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 /**
  * ResumeDto
  * - 이력서(Resume) DTO
  * - profile: 사용자 온보딩 프로필 (일반 사용자용)
  * - users: 작성자 정보 (관리자용)
- * - educationList, careerList, certificateList, skillList, languageList: htmlContent(JSON) 파싱 결과
+ * - educationList, careerList, certificateList, skillList, languageList: 섹션 테이블 조회 결과 (없으면 htmlContent(JSON) 파싱 결과)
  */
 @Getter
 @Setter
@@ -34,12 +33,12 @@ public class ResumeDto {
     private UsersDto.Profile profile;   // 온보딩 정보 (일반 사용자용)
     private UserInfo users;               // 작성자 정보 (관리자용)
 
-    // htmlContent 파싱 데이터
-    private List<Map<String, Object>> educationList;
-    private List<Map<String, Object>> careerList;
-    private List<Map<String, Object>> certificateList;
-    private List<Map<String, Object>> skillList;
-    private List<Map<String, Object>> languageList;
+    // 섹션 데이터 (ResumeSectionDto 참고)
+    private List<ResumeSectionDto.Education> educationList;
+    private List<ResumeSectionDto.Career> careerList;
+    private List<ResumeSectionDto.Named> certificateList;
+    private List<ResumeSectionDto.Named> skillList;
+    private List<ResumeSectionDto.Named> languageList;
 
     /**
      * 사용자 정보 (관리자용)
@@ -107,4 +106,25 @@ public class ResumeDto {
                 createAt, updateAt, profile, users,
                 null, null, null, null, null);
     }
+
+    /** 섹션 묶음 포함 생성자 */
+    public ResumeDto(
+            Long id,
+            String title,
+            String idPhoto,
+            String essayTitle,
+            String essayContent,
+            String htmlContent,
+            boolean locked,
+            LocalDate createAt,
+            LocalDate updateAt,
+            UsersDto.Profile profile,
+            UserInfo users,
+            ResumeSectionDto.Sections sections
+    ) {
+        this(id, title, idPhoto, essayTitle, essayContent, htmlContent, locked,
+                createAt, updateAt, profile, users,
+                sections.getEducation(), sections.getCareer(), sections.getCertificate(),
+                sections.getSkill(), sections.getLanguage());
+    }
 }
@@ -0,0 +1,108 @@
+package com.we.hirehub.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 이력서 섹션 DTO
+ * - ResumeDto의 educationList/careerList/... 항목 타입
+ * - JSON 키는 기존 Map 기반 응답과 동일하게 유지 (프론트 호환)
+ * - 날짜는 htmlContent fallback 값(문자열)도 그대로 담을 수 있도록 String(yyyy-MM-dd)으로 노출
+ */
+public class ResumeSectionDto {
+
+    /** 학력 */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Education {
+        private String name;
+        private String major;
+        private String status;
+        private String type;
+        private String startAt;
+        private String endAt;
+
+        /** Entity → DTO */
+        public static Education from(com.we.hirehub.entity.Education e) {
+            return Education.builder()
+                    .name(e.getName())
+                    .major(e.getMajor())
+                    .status(e.getStatus())
+                    .type(e.getType())
+                    .startAt(date(e.getStartAt()))
+                    .endAt(date(e.getEndAt()))
+                    .build();
+        }
+    }
+
+    /** 경력 */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Career {
+        private String companyName;
+        private String type;
+        private String position;
+        private String startAt;
+        private String endAt;
+        private String content;
+
+        /** Entity → DTO */
+        public static Career from(com.we.hirehub.entity.CareerLevel c) {
+            return Career.builder()
+                    .companyName(c.getCompanyName())
+                    .type(c.getType())
+                    .position(c.getPosition())
+                    .startAt(date(c.getStartAt()))
+                    .endAt(date(c.getEndAt()))
+                    .content(c.getContent())
+                    .build();
+        }
+    }
+
+    /** 자격증 / 스킬 / 언어 (이름만 가지는 섹션 공용) */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Named {
+        private String name;
+    }
+
+    /** 한 이력서의 섹션 묶음 */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sections {
+        @Builder.Default private List<Education> education = List.of();
+        @Builder.Default private List<Career> career = List.of();
+        @Builder.Default private List<Named> certificate = List.of();
+        @Builder.Default private List<Named> skill = List.of();
+        @Builder.Default private List<Named> language = List.of();
+
+        public static Sections empty() {
+            return Sections.builder().build();
+        }
+
+        /** 학력/경력/자격증/스킬이 모두 비었는지 (htmlContent fallback 판단용) */
+        public boolean isCoreEmpty() {
+            return education.isEmpty() && career.isEmpty() && certificate.isEmpty() && skill.isEmpty();
+        }
+    }
+
+    private static String date(LocalDate d) {
+        return d == null ? null : d.toString();
+    }
+}
@@ -9,10 +9,12 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "coach")
+@Table(name = "coach", indexes = @Index(name = "idx_coach_session", columnList = "coach_session_id, id"))
 public class Coach {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "coach_id")
+  @TableGenerator(name = "coach_id", table = "id_generator", pkColumnName = "seq_name",
+          valueColumnName = "next_val", pkColumnValue = "coach", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -23,6 +25,11 @@ public class Coach {
   @JoinColumn(name = "resume_id", nullable = false)
   private Resume resume;
 
+  // 같은 코칭 세션의 질문 묶음
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "coach_session_id")
+  private CoachSession coachSession;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "job_posts_id", nullable = true)
   private JobPosts jobPosts;
@@ -0,0 +1,39 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 면접 코칭 1회 세션 (coach 행들을 묶는 단위) */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "coach_session", indexes = @Index(name = "idx_coach_session_user", columnList = "user_id, id"))
+public class CoachSession {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private Users user;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "resume_id", nullable = false)
+  private Resume resume;
+
+  // 지원 공고 링크
+  @Column(name = "job_post_link", columnDefinition = "TEXT")
+  private String jobPostLink;
+
+  // 지원 기업 링크
+  @Column(name = "company_link", columnDefinition = "TEXT")
+  private String companyLink;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회사 통계 미리 계산본 (CompanyStatsDto JSON)
+ * - 연도별 통계 데이터 반영 시 재계산
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "company_stats_snapshot")
+public class CompanyStatsSnapshot {
+
+    @Id
+    @Column(name = "company_id")
+    private Long companyId;
+
+    @Column(columnDefinition = "JSON", nullable = false)
+    private String stats;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
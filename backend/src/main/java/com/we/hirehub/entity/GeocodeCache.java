@@ -0,0 +1,37 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정규화된 주소 → 좌표 캐시
+ * - lat/lng 가 null 이면 "검색 결과 없음" (일정 기간 재조회 안 함)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "geocode_cache")
+public class GeocodeCache {
+
+    // 정규화 주소의 SHA-256 (긴 주소도 PK 인덱스에 들어가도록)
+    @Id
+    @Column(name = "address_hash", length = 64)
+    private String addressHash;
+
+    @Column(name = "address", length = 500, nullable = false)
+    private String address;
+
+    @Column(name = "lat")
+    private Double lat;
+
+    @Column(name = "lng")
+    private Double lng;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
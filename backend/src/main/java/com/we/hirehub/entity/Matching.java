@@ -9,10 +9,12 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "matching")
+@Table(name = "matching", indexes = @Index(name = "idx_matching_run", columnList = "run_id, id"))
 public class Matching {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.TABLE, generator = "matching_id")
+  @TableGenerator(name = "matching_id", table = "id_generator", pkColumnName = "seq_name",
+          valueColumnName = "next_val", pkColumnValue = "matching", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -27,6 +29,11 @@ public class Matching {
   @JoinColumn(name = "resume_id", nullable = false)
   private Resume resume;
 
+  // 같은 매칭 실행에서 저장된 결과 묶음
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "run_id")
+  private MatchingRun run;
+
   // 매칭 점수
   @Column(nullable = false)
   private String ranking;
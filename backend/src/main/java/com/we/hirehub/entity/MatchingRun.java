@@ -0,0 +1,31 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 공고 매칭 1회 실행 (matching 행들을 묶는 단위) */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "matching_run", indexes = @Index(name = "idx_matching_run_user", columnList = "user_id, id"))
+public class MatchingRun {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", nullable = false)
+  private Users user;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "resume_id", nullable = false)
+  private Resume resume;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
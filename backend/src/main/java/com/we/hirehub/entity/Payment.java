@@ -11,7 +11,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "payment")
+@Table(name = "payment", indexes = {
+        @Index(name = "idx_payment_created", columnList = "create_at, id"),
+        @Index(name = "idx_payment_role_created", columnList = "role, create_at, id"),
+        @Index(name = "idx_payment_user_created", columnList = "user_id, create_at")
+})
 public class Payment {
 
     @Id
@@ -0,0 +1,51 @@
+package com.we.hirehub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공고별 요약 처리 상태 (pending / ok / failed + 시도 횟수)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "summary_batch_item",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "job_post_id"}),
+        indexes = @Index(name = "idx_summary_item_run_status", columnList = "run_id, status, job_post_id"))
+public class SummaryBatchItem {
+
+    public enum Status { PENDING, OK, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "summary_batch_item_id")
+    @TableGenerator(name = "summary_batch_item_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "summary_batch_item", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "run_id", nullable = false)
+    private SummaryBatchRun run;
+
+    // 청크를 id 범위로 나누기 위해 FK 대신 값으로 보관
+    @Column(name = "job_post_id", nullable = false)
+    private Long jobPostId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -14,7 +14,9 @@ import lombok.*;
 public class TechStack {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tech_stack_id")
+    @TableGenerator(name = "tech_stack_id", table = "id_generator", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "tech_stack", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -14,7 +14,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_email", columnList = "email"))
 public class Users {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -67,6 +67,8 @@ public class Users {
     @Column(nullable = false)
     private Role role = Role.USER;   // 기본 USER
 
+    // 잔액은 TokenService 의 조건부 UPDATE 로만 변경 (엔티티 저장 시 오래된 값으로 덮어쓰지 않도록)
     @Builder.Default
+    @Column(updatable = false)
     private Integer tokenBalance = 0;
 }
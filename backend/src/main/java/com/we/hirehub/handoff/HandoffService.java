@@ -1,35 +1,98 @@
 package com.we.hirehub.handoff;
 
 import com.we.hirehub.dto.support.HandoffDto;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.service.support.HelpService;
+import com.we.hirehub.ws.ChatUser;
+import com.we.hirehub.ws.SupportQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * 상담사 핸드오프 요청/조회 Service (메모리 스텁)
- * - 엔티티 변경 없이 동작 확인용
- * - 실제 저장소 연동 전까지는 in-memory / no-op
+ * 상담사 핸드오프 요청/조회 Service
+ * - 방 상태는 SupportQueue(공유 저장소) 기준
+ * - WebSocket(support.handoff) 과 REST(/api/handoff) 가 같은 요청 처리를 사용
  */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class HandoffService {
 
-    /** roomId로 PENDING 요청을 조회 (테스트용 빈 리스트 반환) */
+    private final SupportQueue supportQueue;
+    private final HelpService helpService;
+    private final UsersRepository usersRepository;
+
+    /** roomId 의 PENDING 요청 조회 */
     public List<HandoffDto> findPendingByRoomId(String roomId) {
-        return Collections.emptyList();
+        return supportQueue.find(roomId)
+                .filter(s -> s.status == SupportQueue.Status.PENDING)
+                .map(s -> List.of(toDto(s, null)))
+                .orElse(List.of());
     }
 
-    /** 핸드오프 요청 생성 (테스트용 DTO만 만들어 반환) */
+    /** 핸드오프 요청 생성 (REST) */
     public HandoffDto create(HandoffRequest req) {
+        Long userId = parseUserId(req.getUserId());
+        Users user = userId != null ? usersRepository.findById(userId).orElse(null) : null;
+        return toDto(request(req.getRoomId(), user), req.getMessage());
+    }
+
+    /**
+     * 상담 요청 처리
+     * - 대기열에 PENDING 으로 올리고 help 테이블에 요청 기록
+     * - 상담사 대기열 / 유저 방에 알림 (다른 노드에도 중계)
+     */
+    public SupportQueue.RoomState request(String roomId, Users user) {
+        SupportQueue.RoomState s = supportQueue.requestHandoff(roomId, user != null ? ChatUser.of(user) : null);
+        log.info("📦 상담 대기열 등록: roomId={}, name={}, nickname={}",
+                roomId, s.displayUserName(), s.displayUserNickname());
+
+        try {
+            helpService.createHelpRequest(roomId, user);
+        } catch (Exception e) {
+            log.error("⚠ Help 테이블 기록 실패", e);
+        }
+
+        Map<String, Object> notice = new HashMap<>();
+        notice.put("event", "HANDOFF_REQUESTED");
+        notice.put("roomId", roomId);
+        notice.put("userName", s.displayUserName());
+        notice.put("userNickname", s.displayUserNickname());
+        supportQueue.broadcast("/topic/support.queue", notice);
+
+        Map<String, Object> ack = new HashMap<>();
+        ack.put("type", "HANDOFF_REQUESTED");
+        supportQueue.broadcast("/topic/rooms/" + roomId, ack);
+        return s;
+    }
+
+    private static HandoffDto toDto(SupportQueue.RoomState s, String lastMessage) {
         return HandoffDto.builder()
-                .id(null)                  // 아직 DB 미연동
-                .roomId(req.getRoomId())
-                .userId(req.getUserId())   // 요청자가 보낸 userId 문자열
-                .status("PENDING")
-                .lastMessage(req.getMessage())
+                .id(s.roomId)
+                .roomId(s.roomId)
+                .userId(s.userId != null ? s.userId.toString() : null)
+                .status(s.status.name())
+                .lastMessage(lastMessage)
+                .userName(s.displayUserName())
+                .nickname(s.displayUserNickname())
                 .build();
     }
 
+    private static Long parseUserId(String userId) {
+        if (userId == null || userId.isBlank() || "null".equals(userId)) return null;
+        try {
+            return Long.valueOf(userId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     /** 컨트롤러에서 바인딩되는 요청 바디 */
     public static class HandoffRequest {
         private String roomId;
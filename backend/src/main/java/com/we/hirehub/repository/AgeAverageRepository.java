@@ -2,6 +2,8 @@ package com.we.hirehub.repository;
 
 import com.we.hirehub.entity.AgeAverage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,11 @@ import java.util.List;
 @Repository
 public interface AgeAverageRepository extends JpaRepository<AgeAverage, Long> {
     List<AgeAverage> findByCompanyId(Long companyId);
+
+    @Query("SELECT AVG(a.age) FROM AgeAverage a WHERE a.company.id = :companyId")
+    Double averageAgeByCompanyId(@Param("companyId") Long companyId);
+
+    // 전체 회사 평균 나이 (companyId, avg)
+    @Query("SELECT a.company.id, AVG(a.age) FROM AgeAverage a GROUP BY a.company.id")
+    List<Object[]> averageAgeGroupByCompany();
 }
@@ -2,11 +2,16 @@ package com.we.hirehub.repository;
 
 import com.we.hirehub.entity.AvgSalary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface AvgSalaryRepository extends JpaRepository<AvgSalary, Long> {
-    List<AvgSalary> findByCompanyIdOrderByYearAsc(Long companyId);
+    List<AvgSalary> findByCompanyIdOrderByYearAscIdAsc(Long companyId);
+
+    // 전체 회사 통계 일괄 재계산용 (companyId, year, salary) - 같은 연도 중복 행은 id 순으로 뒤의 값이 우선
+    @Query("SELECT a.company.id, a.year, a.salary FROM AvgSalary a ORDER BY a.company.id, a.year, a.id")
+    List<Object[]> findAllYearly();
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BenefitsRepository extends JpaRepository<Benefits, Long> {
@@ -14,4 +15,8 @@ public interface BenefitsRepository extends JpaRepository<Benefits, Long> {
     @Modifying
     @Query("DELETE FROM Benefits b WHERE b.company.id = :companyId")
     void deleteByCompanyId(@Param("companyId") Long companyId);
+
+    // 여러 회사의 복리후생을 한 번에 조회 (companyId, name)
+    @Query("SELECT b.company.id, b.name FROM Benefits b WHERE b.company.id IN :companyIds ORDER BY b.id")
+    List<Object[]> findNamesByCompanyIdIn(@Param("companyIds") Collection<Long> companyIds);
 }
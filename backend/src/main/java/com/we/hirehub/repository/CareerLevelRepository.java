@@ -4,9 +4,11 @@ import com.we.hirehub.entity.CareerLevel;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CareerLevelRepository extends JpaRepository<CareerLevel, Long> {
     List<CareerLevel> findByResumeId(Long resumeId);
+    List<CareerLevel> findByResumeIdInOrderByIdAsc(Collection<Long> resumeIds);
     void deleteByResumeId(Long resumeId);
 }
\ No newline at end of file
@@ -4,9 +4,11 @@ import com.we.hirehub.entity.Certificate;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CertificateRepository extends JpaRepository<Certificate, Long> {
     List<Certificate> findByResumeId(Long resumeId);
+    List<Certificate> findByResumeIdInOrderByIdAsc(Collection<Long> resumeIds);
     void deleteByResumeId(Long resumeId);
 }
\ No newline at end of file
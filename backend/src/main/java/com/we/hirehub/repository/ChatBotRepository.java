@@ -17,12 +17,12 @@ public interface ChatBotRepository extends JpaRepository<ChatBot, Long> {
     List<ChatBot> findByOnoffTrueOrderByIdAsc(Pageable pageable);
 
     /**
-     * ✨ type="item"인 FAQ만 조회 (Native Query)
+     * ✨ type="item"인 FAQ만 조회 (Native Query, meta_type 생성 컬럼 인덱스 사용)
      */
     @Query(value = """
         SELECT * FROM chat_bot 
         WHERE onoff = 1 
-        AND JSON_EXTRACT(meta, '$.type') = 'item'
+        AND meta_type = 'item'
         ORDER BY id ASC 
         LIMIT 4
         """, nativeQuery = true)
@@ -45,8 +45,8 @@ public interface ChatBotRepository extends JpaRepository<ChatBot, Long> {
     @Query(value = """
     SELECT * FROM chat_bot 
     WHERE onoff = 1 
-    AND JSON_EXTRACT(meta, '$.type') = 'item'
-    ORDER BY JSON_EXTRACT(meta, '$.order'), id ASC 
+    AND meta_type = 'item'
+    ORDER BY meta_order, id ASC 
     LIMIT 4
     """, nativeQuery = true)
     List<ChatBot> findTop4FaqItems();
@@ -3,12 +3,24 @@ package com.we.hirehub.repository;
 import com.we.hirehub.entity.Coach;
 import com.we.hirehub.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CoachRepository extends JpaRepository<Coach, Long> {
     List<Coach> findByUserOrderByIdDesc(Users user);
     List<Coach> findByUserOrderByIdAsc(Users user);
+
+    /** 여러 코칭 세션의 질문을 한 번에 (질문 순서 = id 오름차순, coach_session_id 인덱스) */
+    @Query("SELECT c FROM Coach c WHERE c.coachSession.id IN :sessionIds ORDER BY c.id")
+    List<Coach> findBySessionIds(@Param("sessionIds") Collection<Long> sessionIds);
+
+    @Modifying
+    @Query("DELETE FROM Coach c WHERE c.coachSession.id = :sessionId")
+    int deleteBySessionId(@Param("sessionId") Long sessionId);
 }
@@ -0,0 +1,23 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.CoachSession;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CoachSessionRepository extends JpaRepository<CoachSession, Long> {
+
+    /** 유저의 코칭 세션 목록 (최신순, 이력서 함께 조회) */
+    @Query(value = "SELECT s FROM CoachSession s JOIN FETCH s.resume WHERE s.user.id = :userId ORDER BY s.id DESC",
+            countQuery = "SELECT COUNT(s) FROM CoachSession s WHERE s.user.id = :userId")
+    Page<CoachSession> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT s FROM CoachSession s JOIN FETCH s.resume WHERE s.id = :id AND s.user.id = :userId")
+    Optional<CoachSession> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+}
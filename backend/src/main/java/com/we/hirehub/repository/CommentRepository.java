@@ -24,6 +24,11 @@ public interface CommentRepository extends JpaRepository<Comments, Long> {
     List<Comments> findRepliesByParentId(@Param("parentId") Long parentId);
 
     List<Comments> findByBoardId(Long boardId);
+
+    // 게시글 댓글 전체(대댓글 포함) + 작성자/상위댓글을 한 번에 로딩 → 트리 조립용
+    @Query("SELECT c FROM Comments c JOIN FETCH c.users LEFT JOIN FETCH c.parentComments " +
+            "WHERE c.board.id = :boardId ORDER BY c.createAt ASC, c.id ASC")
+    List<Comments> findAllByBoardIdWithUsers(@Param("boardId") Long boardId);
     void deleteByParentComments(Comments parentComments);
     List<Comments> findByParentComments_Id(Long parentId);
     List<Comments> findByBoardIdOrderByCreateAtAsc(Long boardId);
@@ -4,8 +4,10 @@ import com.we.hirehub.entity.Company;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +20,17 @@ public interface CompanyRepository extends JpaRepository<Company, Long> {
     Page<Company> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
     // 필요 시 id으로 조회할 때 사용
     Optional<Company> findById(Long id);
+
+    // 위경도 백필 대상 (id, address) - afterId 이후 id 순
+    @Query("SELECT c.id, c.address FROM Company c WHERE (c.lat IS NULL OR c.lng IS NULL) AND c.id > :afterId ORDER BY c.id")
+    List<Object[]> findMissingLatLng(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Company c SET c.lat = :lat, c.lng = :lng WHERE c.id = :id")
+    int updateLatLng(@Param("id") Long id, @Param("lat") Double lat, @Param("lng") Double lng);
+
+    // 통계 일괄 재계산용 (id, count)
+    @Query("SELECT c.id, c.count FROM Company c")
+    List<Object[]> findAllEmployeeCounts();
 }
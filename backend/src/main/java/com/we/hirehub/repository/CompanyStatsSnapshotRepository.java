@@ -0,0 +1,7 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.CompanyStatsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CompanyStatsSnapshotRepository extends JpaRepository<CompanyStatsSnapshot, Long> {
+}
@@ -4,9 +4,11 @@ import com.we.hirehub.entity.Education;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface EducationRepository extends JpaRepository<Education, Long> {
     List<Education>   findByResumeId(Long resumeId);
+    List<Education>   findByResumeIdInOrderByIdAsc(Collection<Long> resumeIds);
     void deleteByResumeId(Long resumeId);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, String> {
+}
@@ -26,6 +26,31 @@ public interface HelpRepository extends JpaRepository<Help, Long> {
             "ORDER BY h.createAt DESC")
     List<Help> findBySessionIdWithUser(@Param("sessionId") String sessionId, Pageable pageable);
 
+    /**
+     * ✅ 히스토리 최신 페이지 (id 역순)
+     * - session 은 id 만 필요하므로 fetch 하지 않음
+     */
+    @Query("SELECT h FROM Help h " +
+            "LEFT JOIN FETCH h.users " +
+            "WHERE h.session.id = :sessionId " +
+            "AND h.content IS NOT NULL " +
+            "ORDER BY h.id DESC")
+    List<Help> findLatestPage(@Param("sessionId") String sessionId, Pageable pageable);
+
+    /**
+     * ✅ 히스토리 keyset 페이지: beforeId 보다 오래된 메시지 (id 역순)
+     * - OFFSET 없이 PK 범위로 바로 찾아가므로 오래된 페이지도 비용이 같음
+     */
+    @Query("SELECT h FROM Help h " +
+            "LEFT JOIN FETCH h.users " +
+            "WHERE h.session.id = :sessionId " +
+            "AND h.content IS NOT NULL " +
+            "AND h.id < :beforeId " +
+            "ORDER BY h.id DESC")
+    List<Help> findPageBefore(@Param("sessionId") String sessionId,
+                             @Param("beforeId") Long beforeId,
+                             Pageable pageable);
+
     /**
      * ✅ 특정 세션의 가장 최근 Help 레코드 조회
      * 상담 상태 관리용 (requestAt, startAt, endAt)
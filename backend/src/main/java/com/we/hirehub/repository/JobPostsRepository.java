@@ -4,11 +4,15 @@ import com.we.hirehub.entity.JobPosts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,4 +72,33 @@ public interface JobPostsRepository extends JpaRepository<JobPosts, Long> {
 
     @EntityGraph(attributePaths = {"techStacks", "company"})
     List<JobPosts> findWithTechStacksByTitleContaining(String keyword);
+
+    // ✅ 요약 배치 대상 (요약이 없거나 짧은 공고) - 본문을 읽지 않고 id만 조회
+    @Query("SELECT j.id FROM JobPosts j WHERE j.summary IS NULL OR length(j.summary) <= 100 ORDER BY j.id")
+    List<Long> findIdsWithoutSummary();
+
+    @EntityGraph(attributePaths = {"company"})
+    Optional<JobPosts> findWithCompanyById(Long id);
+
+    // ✅ 요약만 갱신 (엔티티 전체 merge 없이)
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobPosts j SET j.summary = :summary WHERE j.id = :id")
+    int updateSummary(@Param("id") Long id, @Param("summary") String summary);
+
+    // ✅ 위경도 백필 대상 (id, location) - afterId 이후 id 순
+    @Query("SELECT j.id, j.location FROM JobPosts j WHERE (j.lat IS NULL OR j.lng IS NULL) AND j.id > :afterId ORDER BY j.id")
+    List<Object[]> findMissingLatLng(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobPosts j SET j.lat = :lat, j.lng = :lng WHERE j.id = :id")
+    int updateLatLng(@Param("id") Long id, @Param("lat") Double lat, @Param("lng") Double lng);
+
+    // ✅ 좌표 인덱스 구성용 (id, lat, lng)
+    @Query("SELECT j.id, j.lat, j.lng FROM JobPosts j WHERE j.lat IS NOT NULL AND j.lng IS NOT NULL")
+    List<Object[]> findAllCoordinates();
+
+    @EntityGraph(attributePaths = {"techStacks", "company"})
+    List<JobPosts> findWithTechStacksByIdIn(Collection<Long> ids);
 }
@@ -7,9 +7,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface LanguageRepository extends JpaRepository<Language, Long> {
     List<Language>    findByResumeId(Long resumeId);
+    List<Language>    findByResumeIdInOrderByIdAsc(Collection<Long> resumeIds);
     void deleteByResumeId(Long resumeId);
 }
\ No newline at end of file
@@ -31,4 +31,27 @@ public interface LiveChatRepository extends JpaRepository<LiveChat, Long> {
             "ORDER BY lc.createAt DESC")
     List<LiveChat> findBySessionIdWithUser(@Param("sessionId") String sessionId, Pageable pageable);
 
+    /**
+     * ✅ 히스토리 최신 페이지 (id 역순)
+     * - session 은 id 만 필요하므로 fetch 하지 않음
+     */
+    @Query("SELECT lc FROM LiveChat lc " +
+            "LEFT JOIN FETCH lc.user " +
+            "WHERE lc.session.id = :sessionId " +
+            "ORDER BY lc.id DESC")
+    List<LiveChat> findLatestPage(@Param("sessionId") String sessionId, Pageable pageable);
+
+    /**
+     * ✅ 히스토리 keyset 페이지: beforeId 보다 오래된 메시지 (id 역순)
+     * - OFFSET 없이 PK 범위로 바로 찾아가므로 오래된 페이지도 비용이 같음
+     */
+    @Query("SELECT lc FROM LiveChat lc " +
+            "LEFT JOIN FETCH lc.user " +
+            "WHERE lc.session.id = :sessionId " +
+            "AND lc.id < :beforeId " +
+            "ORDER BY lc.id DESC")
+    List<LiveChat> findPageBefore(@Param("sessionId") String sessionId,
+                                  @Param("beforeId") Long beforeId,
+                                  Pageable pageable);
+
 }
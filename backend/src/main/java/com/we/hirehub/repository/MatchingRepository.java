@@ -3,7 +3,11 @@ package com.we.hirehub.repository;
 import com.we.hirehub.entity.Matching;
 import com.we.hirehub.entity.Resume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MatchingRepository extends JpaRepository<Matching, Long> {
@@ -12,4 +16,13 @@ public interface MatchingRepository extends JpaRepository<Matching, Long> {
   List<Matching> findByResumeOrderByIdDesc(Resume resume);
 
   void deleteByJobPosts_Id(Long jobPostId);
+
+  /** 여러 매칭 실행의 결과를 한 번에 (공고/기업 함께 조회, run_id 인덱스) */
+  @Query("SELECT m FROM Matching m JOIN FETCH m.jobPosts JOIN FETCH m.company " +
+         "WHERE m.run.id IN :runIds ORDER BY m.id")
+  List<Matching> findByRunIds(@Param("runIds") Collection<Long> runIds);
+
+  @Modifying
+  @Query("DELETE FROM Matching m WHERE m.run.id = :runId")
+  int deleteByRunId(@Param("runId") Long runId);
 }
@@ -0,0 +1,21 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.MatchingRun;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MatchingRunRepository extends JpaRepository<MatchingRun, Long> {
+
+  /** 유저의 매칭 실행 목록 (최신순, 이력서 함께 조회) */
+  @Query(value = "SELECT r FROM MatchingRun r JOIN FETCH r.resume WHERE r.user.id = :userId ORDER BY r.id DESC",
+      countQuery = "SELECT COUNT(r) FROM MatchingRun r WHERE r.user.id = :userId")
+  Page<MatchingRun> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+  @Query("SELECT r FROM MatchingRun r JOIN FETCH r.resume WHERE r.id = :id AND r.user.id = :userId")
+  Optional<MatchingRun> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+}
@@ -2,11 +2,16 @@ package com.we.hirehub.repository;
 
 import com.we.hirehub.entity.NewSalary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface NewSalaryRepository extends JpaRepository<NewSalary, Long> {
-    List<NewSalary> findByCompanyIdOrderByYearAsc(Long companyId);
+    List<NewSalary> findByCompanyIdOrderByYearAscIdAsc(Long companyId);
+
+    // 전체 회사 통계 일괄 재계산용 (companyId, year, salary) - 같은 연도 중복 행은 id 순으로 뒤의 값이 우선
+    @Query("SELECT n.company.id, n.year, n.salary FROM NewSalary n ORDER BY n.company.id, n.year, n.id")
+    List<Object[]> findAllYearly();
 }
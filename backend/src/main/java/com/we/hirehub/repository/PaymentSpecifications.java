@@ -0,0 +1,66 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.Payment;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 결제 검색 조건 (설정된 조건만 AND 로 결합)
+ * - 정렬/커서는 (create_at DESC, id DESC) 기준 → idx_payment_role_created / idx_payment_created 사용
+ */
+public final class PaymentSpecifications {
+
+    private PaymentSpecifications() {
+    }
+
+    /** 목록 조회 시 user / tokenPackage 를 함께 가져옴 (DTO 변환 중 행마다 추가 SELECT 방지) */
+    public static Specification<Payment> fetchUserAndPackage() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("user", JoinType.LEFT);
+                root.fetch("tokenPackage", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 이메일: '@' 가 있으면 정확히 일치, 없으면 앞부분 일치
+     * - 중간 일치(%x%)는 users.email 인덱스를 못 타고 전체 조인을 훑으므로 지원하지 않음
+     */
+    public static Specification<Payment> emailMatches(String email) {
+        String value = email.trim();
+        return (root, query, cb) -> {
+            var path = root.join("user", JoinType.INNER).<String>get("email");
+            return value.contains("@")
+                    ? cb.equal(path, value)
+                    : cb.like(path, escapeLike(value) + "%", '\\');
+        };
+    }
+
+    /** 내부 처리 상태 (COMPLETED, FAILED ...) */
+    public static Specification<Payment> roleEquals(String role) {
+        return (root, query, cb) -> cb.equal(root.get("role"), role.trim());
+    }
+
+    public static Specification<Payment> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createAt"), from);
+    }
+
+    public static Specification<Payment> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createAt"), to);
+    }
+
+    /** keyset 커서: (createAt, id) 보다 뒤(더 오래된) 행 */
+    public static Specification<Payment> after(LocalDateTime createAt, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createAt"), createAt),
+                cb.and(cb.equal(root.get("createAt"), createAt), cb.lessThan(root.get("id"), id)));
+    }
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -4,13 +4,20 @@ import com.we.hirehub.entity.Resume;
 import com.we.hirehub.entity.Users;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
     Page<Resume> findByUsers_Id(Long userId, Pageable pageable);
+
+    // 관리자 목록: 작성자까지 한 번에 로딩 (행마다 users 프록시 초기화 방지)
+    @EntityGraph(attributePaths = "users")
+    @Query(value = "SELECT r FROM Resume r", countQuery = "SELECT COUNT(r) FROM Resume r")
+    Page<Resume> findAllWithUsers(Pageable pageable);
     Optional<Resume> findByIdAndUsers_Id(Long resumeId, Long userId);
 
     // ✅ 추가
@@ -4,9 +4,11 @@ import com.we.hirehub.entity.Skill;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill>       findByResumeId(Long resumeId);
+    List<Skill>       findByResumeIdInOrderByIdAsc(Collection<Long> resumeIds);
     void deleteByResumeId(Long resumeId);
 }
\ No newline at end of file
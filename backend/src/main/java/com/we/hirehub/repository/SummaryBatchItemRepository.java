@@ -0,0 +1,45 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.SummaryBatchItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SummaryBatchItemRepository extends JpaRepository<SummaryBatchItem, Long> {
+
+    /** ✅ 다음 청크: afterJobPostId 이후 id 범위의 PENDING 항목 */
+    @Query("SELECT i FROM SummaryBatchItem i " +
+            "WHERE i.run.id = :runId AND i.status = com.we.hirehub.entity.SummaryBatchItem.Status.PENDING " +
+            "AND i.jobPostId > :afterJobPostId ORDER BY i.jobPostId")
+    List<SummaryBatchItem> findPendingChunk(@Param("runId") Long runId,
+                                            @Param("afterJobPostId") Long afterJobPostId,
+                                            Pageable pageable);
+
+    /** ✅ 상태별 개수 (진행률 조회용) */
+    @Query("SELECT i.status, count(i) FROM SummaryBatchItem i WHERE i.run.id = :runId GROUP BY i.status")
+    List<Object[]> countByStatus(@Param("runId") Long runId);
+
+    /** ✅ 처리 결과 기록 (시도 횟수 증가) */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SummaryBatchItem i SET i.status = :status, i.attempts = i.attempts + 1, " +
+            "i.lastError = :error, i.updatedAt = :now WHERE i.id = :id")
+    int markResult(@Param("id") Long id,
+                   @Param("status") SummaryBatchItem.Status status,
+                   @Param("error") String error,
+                   @Param("now") LocalDateTime now);
+
+    /** ✅ 재시도 가능한 실패 항목을 다시 PENDING 으로 */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SummaryBatchItem i SET i.status = com.we.hirehub.entity.SummaryBatchItem.Status.PENDING " +
+            "WHERE i.run.id = :runId AND i.status = com.we.hirehub.entity.SummaryBatchItem.Status.FAILED " +
+            "AND i.attempts < :maxAttempts")
+    int requeueFailed(@Param("runId") Long runId, @Param("maxAttempts") int maxAttempts);
+}
@@ -0,0 +1,13 @@
+package com.we.hirehub.repository;
+
+import com.we.hirehub.entity.SummaryBatchRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SummaryBatchRunRepository extends JpaRepository<SummaryBatchRun, Long> {
+
+    Optional<SummaryBatchRun> findFirstByStatusOrderByIdDesc(SummaryBatchRun.Status status);
+
+    Optional<SummaryBatchRun> findFirstByOrderByIdDesc();
+}
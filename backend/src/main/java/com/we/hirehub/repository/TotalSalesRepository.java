@@ -2,11 +2,16 @@ package com.we.hirehub.repository;
 
 import com.we.hirehub.entity.TotalSales;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface TotalSalesRepository extends JpaRepository<TotalSales, Long> {
-    List<TotalSales> findByCompanyIdOrderByYearAsc(Long companyId);
+    List<TotalSales> findByCompanyIdOrderByYearAscIdAsc(Long companyId);
+
+    // 전체 회사 통계 일괄 재계산용 (companyId, year, sales) - 같은 연도 중복 행은 id 순으로 뒤의 값이 우선
+    @Query("SELECT t.company.id, t.year, t.sales FROM TotalSales t ORDER BY t.company.id, t.year, t.id")
+    List<Object[]> findAllYearly();
 }
@@ -1,13 +1,17 @@
 package com.we.hirehub.service.admin;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.AdsResponseDto;
 import com.we.hirehub.entity.Ads;
 import com.we.hirehub.repository.AdsRepository;
+import com.we.hirehub.service.common.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -15,13 +19,16 @@ import java.util.List;
 public class AdsAdminService {
 
     private final AdsRepository adsRepository;
+    private final HttpResponseCache httpResponseCache;
+    private final ImageVariantService imageVariantService;
 
     /** 광고 생성 */
     public AdsResponseDto createAd(String photoUrl) {
         Ads ad = Ads.create(photoUrl);
         Ads saved = adsRepository.save(ad);
+        httpResponseCache.invalidate(HttpResponseCache.ADS);
         log.info("🆕 새 광고 생성 완료 - id={}, photo={}", saved.getId(), saved.getPhoto());
-        return new AdsResponseDto(saved.getId(), saved.getPhoto());
+        return new AdsResponseDto(saved.getId(), saved.getPhoto(), imageVariantService.srcsetOf(saved.getPhoto()));
     }
 
     /** 광고 사진 업데이트 */
@@ -32,24 +39,33 @@ public class AdsAdminService {
         ad.updatePhoto(photoUrl);     // Setter 제거하고 엔티티 메서드 사용
 
         Ads updated = adsRepository.save(ad);
+        httpResponseCache.invalidate(HttpResponseCache.ADS);
         log.info("🔁 광고 사진 업데이트 완료 - id={}, photo={}", adId, photoUrl);
 
-        return new AdsResponseDto(updated.getId(), updated.getPhoto());
+        return new AdsResponseDto(updated.getId(), updated.getPhoto(), imageVariantService.srcsetOf(updated.getPhoto()));
     }
 
-    /** 광고 전체 조회 */
+    /** 광고 전체 조회 (리사이즈 변형 srcset 은 한 번에 조회) */
     public List<AdsResponseDto> getAllAds() {
-        return adsRepository.findAll()
-                .stream()
-                .map(ad -> new AdsResponseDto(ad.getId(), ad.getPhoto()))
+        List<Ads> ads = adsRepository.findAll();
+        Map<String, String> srcsets = imageVariantService.srcsets(ads.stream().map(Ads::getPhoto).toList());
+        return ads.stream()
+                .map(ad -> new AdsResponseDto(ad.getId(), ad.getPhoto(), srcsets.get(ad.getPhoto())))
                 .toList();
     }
 
+    /** 광고 이미지 변형이 다 만들어지면 캐시된 광고 응답을 비움 (srcset 반영) */
+    @EventListener
+    public void onVariantsReady(ImageVariantService.VariantsReady event) {
+        if (event.key().startsWith("ads/")) httpResponseCache.invalidate(HttpResponseCache.ADS);
+    }
+
     /** 광고 완전 삭제 */
     public void deleteAd(Long adId) {
         Ads ad = adsRepository.findById(adId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 광고를 찾을 수 없습니다. adId=" + adId));
         adsRepository.delete(ad);
+        httpResponseCache.invalidate(HttpResponseCache.ADS);
         log.info("🗑️ 광고 완전 삭제 완료 - id={}", adId);
     }
 }
@@ -4,6 +4,8 @@ import com.we.hirehub.entity.Benefits;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.repository.BenefitsRepository;
 import com.we.hirehub.repository.CompanyRepository;
+import com.we.hirehub.service.common.CompanyStatsService;
+import com.we.hirehub.service.support.CompanyService;
 import com.we.hirehub.service.support.KakaoMapService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +13,9 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -22,6 +26,8 @@ public class CompanyAdminService {
     private final CompanyRepository companyRepository;
     private final BenefitsRepository benefitsRepository;
     private final KakaoMapService kakaoMapService;
+    private final CompanyService companyService;
+    private final CompanyStatsService companyStatsService;
 
     // 주소 정리
     private String normalize(String raw) {
@@ -57,7 +63,9 @@ public class CompanyAdminService {
             }
         } catch (Exception ignored) {}
 
-        return companyRepository.save(c);
+        Company saved = companyRepository.save(c);
+        companyService.evictDirectory();
+        return saved;
     }
 
     @Transactional
@@ -106,6 +114,10 @@ public class CompanyAdminService {
             }
         }
 
+        companyService.evictDirectory();
+        if (update.getCount() != null) {
+            companyStatsService.evict(id); // 사원수가 통계에 포함됨
+        }
         return saved;
     }
 
@@ -113,6 +125,11 @@ public class CompanyAdminService {
         return benefitsRepository.findByCompanyId(id);
     }
 
+    /** 목록 화면용 - 페이지의 회사들 복리후생을 한 번에 */
+    public Map<Long, List<String>> getBenefitNames(Collection<Long> companyIds) {
+        return companyService.getBenefitNames(companyIds);
+    }
+
     @Transactional
     public void saveBenefits(List<String> list, Company c) {
         if (list == null) return;
@@ -121,18 +138,23 @@ public class CompanyAdminService {
             Benefits b = Benefits.builder().name(name).company(c).build();
             benefitsRepository.save(b);
         }
+        companyService.evictDirectory();
     }
 
     @Transactional
     public void deleteCompany(Long id) {
+        companyStatsService.evict(id);
         benefitsRepository.deleteByCompanyId(id);
         companyRepository.deleteById(id);
+        companyService.evictDirectory();
     }
 
     @Transactional
     public Company updateCompanyPhoto(Long id, String url) {
         Company c = getCompanyById(id);
         c.setPhoto(url);
-        return companyRepository.save(c);
+        Company saved = companyRepository.save(c);
+        companyService.evictDirectory();
+        return saved;
     }
 }
@@ -0,0 +1,136 @@
+package com.we.hirehub.service.admin;
+
+import com.we.hirehub.config.KakaoMapClient;
+import com.we.hirehub.repository.CompanyRepository;
+import com.we.hirehub.repository.JobPostsRepository;
+import com.we.hirehub.service.support.JobPostGeoIndex;
+import com.we.hirehub.service.support.KakaoMapService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * 위경도 누락 기업/공고 일괄 채우기
+ * - 지오코딩 캐시를 거치므로 같은 주소는 카카오 API를 한 번만 호출
+ * - 카카오 API 를 실제로 호출한 경우에만 delay-ms 만큼 대기 (rate limit)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeocodeBackfillService {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final CompanyRepository companyRepository;
+    private final JobPostsRepository jobPostsRepository;
+    private final KakaoMapService kakaoMapService;
+    private final JobPostGeoIndex jobPostGeoIndex;
+
+    @Value("${kakaomap.backfill.delay-ms:200}")
+    private long delayMs;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "geocode-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicInteger updated = new AtomicInteger();
+    private final AtomicInteger notFound = new AtomicInteger();
+    private final AtomicInteger apiCalls = new AtomicInteger();
+
+    /** @return false 이면 이미 실행 중 */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        updated.set(0);
+        notFound.set(0);
+        apiCalls.set(0);
+
+        worker.submit(() -> {
+            try {
+                backfill("company", companyRepository::findMissingLatLng, companyRepository::updateLatLng);
+                backfill("job_posts", jobPostsRepository::findMissingLatLng, (id, lat, lng) -> {
+                    int n = jobPostsRepository.updateLatLng(id, lat, lng);
+                    jobPostGeoIndex.put(id, lat, lng);
+                    return n;
+                });
+                log.info("📍 [GEOCODE_BACKFILL] 완료 - 갱신 {}, 결과없음 {}, API 호출 {}",
+                        updated.get(), notFound.get(), apiCalls.get());
+            } catch (Exception e) {
+                log.error("💥 [GEOCODE_BACKFILL] 중단", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("running", running.get());
+        m.put("updated", updated.get());
+        m.put("notFound", notFound.get());
+        m.put("apiCalls", apiCalls.get());
+        return m;
+    }
+
+    private void backfill(String table,
+                          BiFunction<Long, Pageable, List<Object[]>> finder,
+                          LatLngUpdater updater) throws InterruptedException {
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> rows = finder.apply(afterId, PageRequest.of(0, PAGE_SIZE));
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            for (Object[] row : rows) {
+                Long id = (Long) row[0];
+                String address = (String) row[1];
+                afterId = id;
+
+                boolean cached = kakaoMapService.isCached(address);
+                KakaoMapClient.LatLngResponse pos = kakaoMapService.getLatLngFromAddress(address);
+
+                if (pos != null) {
+                    updater.update(id, pos.getLat(), pos.getLng());
+                    updated.incrementAndGet();
+                } else {
+                    notFound.incrementAndGet();
+                    log.debug("[GEOCODE_BACKFILL] {} id={} 좌표 없음: {}", table, id, address);
+                }
+
+                if (!cached) {
+                    apiCalls.incrementAndGet();
+                    Thread.sleep(delayMs);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface LatLngUpdater {
+        int update(Long id, Double lat, Double lng);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
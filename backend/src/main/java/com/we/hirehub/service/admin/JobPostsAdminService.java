@@ -1,5 +1,6 @@
 package com.we.hirehub.service.admin;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.JobPostsDto;
 import com.we.hirehub.entity.JobPosts;
 import com.we.hirehub.entity.TechStack;
@@ -7,6 +8,7 @@ import com.we.hirehub.repository.JobPostsRepository;
 import com.we.hirehub.repository.MatchingRepository;
 import com.we.hirehub.repository.TechStackRepository;
 import com.we.hirehub.service.support.JobPostAiService;
+import com.we.hirehub.service.support.JobPostGeoIndex;
 import com.we.hirehub.service.support.KakaoMapService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +32,8 @@ public class JobPostsAdminService {
     private final com.we.hirehub.repository.ApplyRepository applyRepository;
     private final com.we.hirehub.repository.ScrapPostsRepository scrapPostsRepository;
     private final MatchingRepository matchingRepository;
+    private final JobPostGeoIndex jobPostGeoIndex;
+    private final HttpResponseCache httpResponseCache;
 
     /** 조회 */
     public Page<JobPostsDto> getAllJobPosts(Pageable pageable, String keyword) {
@@ -67,6 +71,8 @@ public class JobPostsAdminService {
         }
 
         JobPosts saved = jobPostsRepository.save(jobPost);
+        jobPostGeoIndex.put(saved.getId(), saved.getLat(), saved.getLng());
+        httpResponseCache.invalidate(HttpResponseCache.CALENDAR);
 
         // AI 처리
         processAI(saved, "등록");
@@ -103,6 +109,8 @@ public class JobPostsAdminService {
             validateJobPostDates(job.getEndAt());
 
         JobPosts updated = jobPostsRepository.save(job);
+        jobPostGeoIndex.put(updated.getId(), updated.getLat(), updated.getLng());
+        httpResponseCache.invalidate(HttpResponseCache.CALENDAR);
 
         updated.setSummary(null);
         updated.setEmbedding(null);
@@ -121,6 +129,8 @@ public class JobPostsAdminService {
         matchingRepository.deleteByJobPosts_Id(id);
         techStackRepository.deleteByJobPostId(id);
         jobPostsRepository.deleteById(id);
+        jobPostGeoIndex.remove(id);
+        httpResponseCache.invalidate(HttpResponseCache.CALENDAR);
     }
 
     public List<TechStack> getTechStacksByJobPostId(Long id) {
@@ -131,13 +141,13 @@ public class JobPostsAdminService {
     public void saveTechStacks(List<String> list, JobPosts job) {
         if (list == null) return;
 
-        for (String name : list) {
-            TechStack t = TechStack.builder()
-                    .name(name)
-                    .jobPost(job)
-                    .build();
-            techStackRepository.save(t);
-        }
+        // tech_stack 은 pooled id → flush 시 한 번에 배치 INSERT
+        techStackRepository.saveAll(list.stream()
+                .map(name -> TechStack.builder()
+                        .name(name)
+                        .jobPost(job)
+                        .build())
+                .toList());
     }
 
     @Transactional
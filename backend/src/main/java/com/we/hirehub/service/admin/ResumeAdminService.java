@@ -3,8 +3,12 @@ package com.we.hirehub.service.admin;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.we.hirehub.dto.user.ResumeDto;
+import com.we.hirehub.dto.user.ResumeSectionDto;
 import com.we.hirehub.entity.*;
 import com.we.hirehub.repository.*;
+import com.we.hirehub.service.support.ResumeEmbeddingService;
+import com.we.hirehub.service.user.ResumeSectionLoader;
+import com.we.hirehub.service.user.ResumeSectionSyncer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +35,9 @@ public class ResumeAdminService {
     private final CareerLevelRepository careerLevelRepository;
     private final CertificateRepository certificateRepository;
     private final SkillRepository skillRepository;
+    private final ResumeSectionLoader sectionLoader;
+    private final ResumeSectionSyncer sectionSyncer;
+    private final ResumeEmbeddingService resumeEmbeddingService;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -38,7 +45,7 @@ public class ResumeAdminService {
 
     public Page<Resume> getAllResumes(Pageable pageable) {
         log.debug("모든 이력서 조회");
-        return resumeRepository.findAll(pageable);
+        return resumeRepository.findAllWithUsers(pageable);
     }
 
     public Resume getResumeById(Long resumeId) {
@@ -54,7 +61,9 @@ public class ResumeAdminService {
         log.info("이력서 생성: {}", resume.getTitle());
         if (resume.getCreateAt() == null) resume.setCreateAt(LocalDate.now());
         if (resume.getUpdateAt() == null) resume.setUpdateAt(LocalDate.now());
-        return resumeRepository.save(resume);
+        Resume saved = resumeRepository.save(resume);
+        resumeEmbeddingService.refreshAsync(saved.getId());
+        return saved;
     }
 
     /* ========= 수정(업데이트 + 자식 upsert) ========= */
@@ -108,6 +117,7 @@ public class ResumeAdminService {
         }
 
         resume.setUpdateAt(LocalDate.now());
+        resumeEmbeddingService.refreshAsync(resumeId);
         return resumeRepository.save(resume);
     }
 
@@ -154,76 +164,27 @@ public class ResumeAdminService {
 
     @Transactional(readOnly = true)
     public ResumeDto toDto(Resume r) {
-        // 1) 자식 테이블에서 우선 조회
-        var edus   = educationRepository.findByResumeId(r.getId());
-        var cars   = careerLevelRepository.findByResumeId(r.getId());
-        var certs  = certificateRepository.findByResumeId(r.getId());
-        var skills = skillRepository.findByResumeId(r.getId());
-
-        List<Map<String, Object>> education = edus.stream().map(e -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("name", e.getName());
-            m.put("major", e.getMajor()); // null 허용
-            m.put("status", e.getStatus());
-            m.put("type", e.getType());
-            m.put("startAt", e.getStartAt());
-            m.put("endAt", e.getEndAt());
-            return m;
-        }).collect(Collectors.toList());
-
-// career
-        List<Map<String, Object>> career = cars.stream().map(c -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("companyName", c.getCompanyName());
-            m.put("type", c.getType());
-            m.put("position", c.getPosition());
-            m.put("startAt", c.getStartAt());
-            m.put("endAt", c.getEndAt());
-            m.put("content", c.getContent());
-            return m;
-        }).collect(Collectors.toList());
-
-// certificate
-        List<Map<String, Object>> certificate = certs.stream().map(c -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("name", c.getName());
-            return m;
-        }).collect(Collectors.toList());
-
-// skill
-        List<Map<String, Object>> skill = skills.stream().map(s -> {
-            Map<String, Object> m = new LinkedHashMap<>();
-            m.put("name", s.getName());
-            return m;
-        }).collect(Collectors.toList());
-
-        // 언어는 별도 엔티티가 없으므로 htmlContent에서만 추출
-        List<Map<String, Object>> language = Collections.emptyList();
-
-        // 2) 전부 비어있으면 htmlContent fallback 사용(기존 데이터 호환)
-        if (education.isEmpty() && career.isEmpty() && certificate.isEmpty() && skill.isEmpty()) {
-            try {
-                if (r.getHtmlContent() != null && !r.getHtmlContent().isBlank()) {
-                    JsonNode root = objectMapper.readTree(r.getHtmlContent());
-                    education   = extractList(root, "education");
-                    career      = extractList(root, "career");
-                    certificate = extractList(root, "certificate");
-                    skill       = extractList(root, "skill");
-                    language    = extractList(root, "language");
-                }
-            } catch (Exception e) {
-                log.warn("htmlContent 파싱 실패: {}", e.getMessage());
-            }
-        } else {
-            // 자식 테이블에 값이 있으면 언어만 htmlContent에서 추가로 시도
-            try {
-                if (r.getHtmlContent() != null && !r.getHtmlContent().isBlank()) {
-                    JsonNode root = objectMapper.readTree(r.getHtmlContent());
-                    language = extractList(root, "language");
-                }
-            } catch (Exception e) {
-                log.warn("language 파싱 실패: {}", e.getMessage());
-            }
+        return toDto(r, sectionLoader.load(r.getId()));
+    }
+
+    /** 목록용: 섹션 테이블을 페이지 단위로 한 번씩만 조회 */
+    @Transactional(readOnly = true)
+    public List<ResumeDto> toDtos(List<Resume> resumes) {
+        Map<Long, ResumeSectionDto.Sections> sections = sectionLoader.loadFor(resumes);
+        return resumes.stream()
+                .map(r -> toDto(r, sections.getOrDefault(r.getId(), ResumeSectionDto.Sections.empty())))
+                .collect(Collectors.toList());
+    }
+
+    private ResumeDto toDto(Resume r, ResumeSectionDto.Sections sections) {
+        // 1) 자식 테이블 우선, 전부 비어있으면 htmlContent fallback 사용(기존 데이터 호환)
+        if (sections.isCoreEmpty()) {
+            ResumeSectionDto.Sections html = sectionLoader.fromHtmlContent(r.getHtmlContent());
+            if (!sections.getLanguage().isEmpty()) html.setLanguage(sections.getLanguage());
+            sections = html;
+        } else if (sections.getLanguage().isEmpty()) {
+            // 자식 테이블에 언어가 없으면 htmlContent에서 추가로 시도
+            sections.setLanguage(sectionLoader.fromHtmlContent(r.getHtmlContent()).getLanguage());
         }
 
         // 사용자 정보(관리자용)
@@ -248,11 +209,7 @@ public class ResumeAdminService {
                 r.getUpdateAt(),
                 null,         // profile(온보딩) - 관리자 화면에선 보통 불필요
                 userInfo,
-                education,
-                career,
-                certificate,
-                skill,
-                language
+                sections
         );
     }
 
@@ -276,15 +233,8 @@ public class ResumeAdminService {
         List<Map<String, Object>> skills = extractArray(updateData, "skills", "skillJson");
         // 언어는 엔티티가 없으므로 저장 스킵
 
-        // 전체 갈아끼우기
-        educationRepository.deleteByResumeId(resumeId);
-        careerLevelRepository.deleteByResumeId(resumeId);
-        certificateRepository.deleteByResumeId(resumeId);
-        skillRepository.deleteByResumeId(resumeId);
-
-        Resume ref = Resume.builder().id(resumeId).build();
-
         // 교육
+        List<Education> eduList = new ArrayList<>();
         for (Map<String, Object> m : educations) {
             Education e = new Education();
             e.setName(str(m.get("name")));
@@ -293,11 +243,11 @@ public class ResumeAdminService {
             e.setType(str(m.get("type")));
             e.setStartAt(toLocalDate(m.get("startAt")));
             e.setEndAt(toLocalDate(m.get("endAt")));
-            e.setResume(ref);
-            educationRepository.save(e);
+            eduList.add(e);
         }
 
         // 경력
+        List<CareerLevel> careerList = new ArrayList<>();
         for (Map<String, Object> m : careers) {
             CareerLevel c = new CareerLevel();
             c.setCompanyName(str(m.get("companyName")));
@@ -306,33 +256,23 @@ public class ResumeAdminService {
             c.setStartAt(toLocalDate(m.get("startAt")));
             c.setEndAt(toLocalDate(m.get("endAt")));
             c.setContent(str(m.get("content")));
-            c.setResume(ref);
-            careerLevelRepository.save(c);
+            careerList.add(c);
         }
 
         // 자격증
+        List<Certificate> certList = new ArrayList<>();
         for (Map<String, Object> m : certifications) {
-            Certificate c = Certificate.builder()
-                    .name(str(m.get("name")))
-                    .resume(ref)
-                    .build();
-            certificateRepository.save(c);
+            certList.add(Certificate.builder().name(str(m.get("name"))).build());
         }
 
         // 스킬
         List<Skill> skillList = new ArrayList<>();
-
         for (Map<String, Object> m : skills) {
-            Skill s = Skill.builder()
-                    .name(str(m.get("name")))
-                    .resume(ref)
-                    .build();
-
-            skillList.add(s);
+            skillList.add(Skill.builder().name(str(m.get("name"))).build());
         }
 
-
-        skillRepository.saveAll(skillList);
+        // 전체 갈아끼우기 대신 변경분만 반영
+        sectionSyncer.sync(resumeId, eduList, careerList, certList, skillList, null);
     }
 
     private List<Map<String, Object>> extractArray(Map<String, Object> map, String arrayKey, String jsonKey) {
@@ -355,20 +295,6 @@ public class ResumeAdminService {
         return Collections.emptyList();
     }
 
-    private List<Map<String, Object>> extractList(JsonNode root, String field) {
-        if (!root.has(field) || !root.get(field).isArray()) return Collections.emptyList();
-        try {
-            List<Map<String, Object>> result = new ArrayList<>();
-            for (JsonNode node : root.get(field)) {
-                result.add(objectMapper.convertValue(node, Map.class));
-            }
-            return result;
-        } catch (Exception e) {
-            log.warn("필드 변환 실패 ({}): {}", field, e.getMessage());
-            return Collections.emptyList();
-        }
-    }
-
     private String str(Object o) { return o == null ? null : String.valueOf(o); }
 
     private LocalDate toLocalDate(Object o) {
@@ -1,5 +1,6 @@
 package com.we.hirehub.service.admin;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.ReviewDto;
 import com.we.hirehub.entity.Review;
 import com.we.hirehub.repository.ReviewRepository;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewAdminService {
 
     private final ReviewRepository reviewRepository;
+    private final HttpResponseCache httpResponseCache;
 
     // ============ 조회 ============
 
@@ -45,6 +47,7 @@ public class ReviewAdminService {
     public Review createReview(Review review) {
         log.info("리뷰 생성");
         validateReviewScore(review);
+        httpResponseCache.invalidate(HttpResponseCache.REVIEWS);
         return reviewRepository.save(review);
     }
 
@@ -68,6 +71,7 @@ public class ReviewAdminService {
         }
         if (updateData.getContent() != null) review.setContent(updateData.getContent());
 
+        httpResponseCache.invalidate(HttpResponseCache.REVIEWS);
         return reviewRepository.save(review);
     }
 
@@ -86,6 +90,7 @@ public class ReviewAdminService {
             throw new IllegalArgumentException("존재하지 않는 리뷰입니다");
         }
         reviewRepository.deleteById(reviewId);
+        httpResponseCache.invalidate(HttpResponseCache.REVIEWS);
     }
 
     // ============ 유효성 검사 ============
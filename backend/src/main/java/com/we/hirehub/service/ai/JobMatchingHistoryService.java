@@ -2,22 +2,26 @@ package com.we.hirehub.service.ai;
 
 import com.we.hirehub.dto.aiMapper.JobMatchingHistoryDto;
 import com.we.hirehub.dto.aiMapper.SaveJobMatchingRequest;
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.entity.JobPosts;
 import com.we.hirehub.entity.Matching;
+import com.we.hirehub.entity.MatchingRun;
 import com.we.hirehub.entity.Resume;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.JobPostsRepository;
 import com.we.hirehub.repository.MatchingRepository;
+import com.we.hirehub.repository.MatchingRunRepository;
 import com.we.hirehub.repository.ResumeRepository;
 import com.we.hirehub.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,7 +30,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JobMatchingHistoryService {
 
+  private static final int MAX_PAGE_SIZE = 50;
+
   private final MatchingRepository matchingRepository;
+  private final MatchingRunRepository matchingRunRepository;
   private final UsersRepository usersRepository;
   private final ResumeRepository resumeRepository;
   private final JobPostsRepository jobPostsRepository;
@@ -43,6 +50,13 @@ public class JobMatchingHistoryService {
       throw new RuntimeException("본인의 이력서만 사용할 수 있습니다.");
     }
 
+    // 이번 매칭 실행 (결과 행들은 run_id 로 묶음)
+    MatchingRun run = matchingRunRepository.save(MatchingRun.builder()
+        .user(user)
+        .resume(resume)
+        .createdAt(LocalDateTime.now())
+        .build());
+
     List<Matching> savedMatches = new ArrayList<>();
 
     for (SaveJobMatchingRequest.MatchResultDto result : request.getMatchResults()) {
@@ -61,6 +75,7 @@ public class JobMatchingHistoryService {
 
       Matching matching = Matching.builder()
           .resume(resume)
+          .run(run)
           .jobPosts(jobPost)
           .company(company)
           .ranking(result.getGrade() + " (" + result.getScore() + ")")
@@ -74,9 +89,6 @@ public class JobMatchingHistoryService {
       throw new RuntimeException("저장할 수 있는 유효한 매칭 결과가 없습니다.");
     }
 
-    // 첫 번째 매칭의 ID를 대표 ID로 사용
-    Long representativeId = savedMatches.get(0).getId();
-
     // 실제로 저장된 결과만 반환
     List<SaveJobMatchingRequest.MatchResultDto> savedResults = savedMatches.stream()
         .map(m -> {
@@ -108,94 +120,60 @@ public class JobMatchingHistoryService {
         .collect(Collectors.toList());
 
     return JobMatchingHistoryDto.builder()
-        .id(representativeId)
+        .id(run.getId())
         .resumeId(resume.getId())
         .resumeTitle(resume.getTitle())
         .matchResults(savedResults) // 실제로 저장된 결과만 반환
-        .createdAt(LocalDateTime.now())
+        .createdAt(run.getCreatedAt())
         .build();
   }
 
   @Transactional(readOnly = true)
-  public List<JobMatchingHistoryDto> getHistoryList(String email) {
+  public PagedResponse<JobMatchingHistoryDto> getHistoryList(String email, int page, int size) {
     Users user = usersRepository.findByEmail(email)
         .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-    // 사용자의 모든 이력서에 대한 매칭 기록 조회
-    // Matching 엔티티에는 User 필드가 없으므로, Resume를 통해 간접 조회해야 함
-    // 하지만 성능상 Resume를 먼저 다 찾고 Matching을 찾는 건 비효율적일 수 있음.
-    // 여기서는 간단히 구현: 사용자의 모든 Resume ID를 찾아서 Matching 조회
-    // 또는 MatchingRepository에 findByResumeIn(...) 추가 필요.
-    // 일단 간단하게: 사용자의 최근 이력서 5개에 대해서만 조회하거나...
-    // 아니면 MatchingRepository에 @Query로 조인해서 가져오는 게 좋음.
-    // 여기서는 MatchingRepository에 findByResume을 사용하여 반복 조회 (데이터가 많지 않다고 가정)
-
-    List<Resume> resumes = resumeRepository.findByUsers(user);
-    List<Matching> allMatches = new ArrayList<>();
-
-    for (Resume resume : resumes) {
-      allMatches.addAll(matchingRepository.findByResumeOrderByIdDesc(resume));
+    // 실행 목록 1페이지(+count) + 그 실행들의 결과를 IN 조회 1번 (이력서/실행 수와 무관)
+    Page<MatchingRun> runs = matchingRunRepository.findPageByUserId(
+        user.getId(), PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+    if (runs.isEmpty()) {
+      return new PagedResponse<>(List.of(), runs.getNumber(), runs.getSize(), runs.getTotalElements(), runs.getTotalPages());
     }
 
-    // ID 역순 정렬
-    allMatches.sort((a, b) -> Long.compare(b.getId(), a.getId()));
-
-    // 세션 그룹핑 (ID 차이 10 이내)
-    Map<Long, List<Matching>> groupedBySession = new LinkedHashMap<>();
-    Long currentSessionId = null;
+    Map<Long, List<Matching>> byRun = matchingRepository.findByRunIds(runs.stream().map(MatchingRun::getId).toList())
+        .stream()
+        .collect(Collectors.groupingBy(m -> m.getRun().getId()));
 
-    for (Matching match : allMatches) {
-      if (currentSessionId == null || Math.abs(match.getId() - currentSessionId) > 10) {
-        currentSessionId = match.getId();
-      }
-      groupedBySession.computeIfAbsent(currentSessionId, k -> new ArrayList<>()).add(match);
-    }
-
-    return groupedBySession.values().stream()
-        .map(this::convertToHistoryDto)
-        .collect(Collectors.toList());
+    return new PagedResponse<>(
+        runs.stream()
+            .filter(r -> byRun.containsKey(r.getId()))   // 공고 삭제로 결과가 모두 지워진 실행은 제외
+            .map(r -> convertToHistoryDto(r, byRun.get(r.getId())))
+            .collect(Collectors.toList()),
+        runs.getNumber(), runs.getSize(), runs.getTotalElements(), runs.getTotalPages());
   }
 
   @Transactional(readOnly = true)
-  public JobMatchingHistoryDto getHistoryDetail(String email, Long matchingId) {
-    Matching matching = matchingRepository.findById(matchingId)
-        .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다."));
-
-    // 권한 체크
-    if (!matching.getResume().getUsers().getEmail().equals(email)) {
-      throw new RuntimeException("접근 권한이 없습니다.");
-    }
-
-    // 같은 세션 찾기
-    List<Matching> sessionMatches = matchingRepository.findByResume(matching.getResume()).stream()
-        .filter(m -> Math.abs(m.getId() - matchingId) <= 10)
-        .collect(Collectors.toList());
-
-    return convertToHistoryDto(sessionMatches);
+  public JobMatchingHistoryDto getHistoryDetail(String email, Long runId) {
+    MatchingRun run = findOwnedRun(email, runId);
+    return convertToHistoryDto(run, matchingRepository.findByRunIds(List.of(run.getId())));
   }
 
   @Transactional
-  public void deleteHistory(String email, Long matchingId) {
-    Matching matching = matchingRepository.findById(matchingId)
-        .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다."));
-
-    if (!matching.getResume().getUsers().getEmail().equals(email)) {
-      throw new RuntimeException("접근 권한이 없습니다.");
-    }
-
-    List<Matching> sessionMatches = matchingRepository.findByResume(matching.getResume()).stream()
-        .filter(m -> Math.abs(m.getId() - matchingId) <= 10)
-        .collect(Collectors.toList());
-
-    matchingRepository.deleteAll(sessionMatches);
+  public void deleteHistory(String email, Long runId) {
+    MatchingRun run = findOwnedRun(email, runId);
+    matchingRepository.deleteByRunId(run.getId());
+    matchingRunRepository.delete(run);
   }
 
-  private JobMatchingHistoryDto convertToHistoryDto(List<Matching> matches) {
-    if (matches.isEmpty())
-      return null;
-
-    Matching first = matches.get(0);
+  /** 실행 id + 소유자로 바로 조회 (다른 유저의 실행이면 없는 것과 동일하게 처리) */
+  private MatchingRun findOwnedRun(String email, Long runId) {
+    Users user = usersRepository.findByEmail(email)
+        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    return matchingRunRepository.findByIdAndUserId(runId, user.getId())
+        .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다."));
+  }
 
+  private JobMatchingHistoryDto convertToHistoryDto(MatchingRun run, List<Matching> matches) {
     List<SaveJobMatchingRequest.MatchResultDto> results = matches.stream()
         .map(m -> {
           String ranking = m.getRanking(); // "S (95)"
@@ -227,11 +205,11 @@ public class JobMatchingHistoryService {
         .collect(Collectors.toList());
 
     return JobMatchingHistoryDto.builder()
-        .id(first.getId())
-        .resumeId(first.getResume().getId())
-        .resumeTitle(first.getResume().getTitle())
+        .id(run.getId())
+        .resumeId(run.getResume().getId())
+        .resumeTitle(run.getResume().getTitle())
         .matchResults(results)
-        .createdAt(LocalDateTime.now()) // 실제 생성일은 Entity에 없어서 현재 시간... (Entity 수정 불가 제약)
+        .createdAt(run.getCreatedAt())
         .build();
   }
 }
@@ -0,0 +1,296 @@
+package com.we.hirehub.service.ai;
+
+import com.we.hirehub.config.LogContext;
+import com.we.hirehub.dto.aiMapper.SummaryBatchStatusDto;
+import com.we.hirehub.entity.JobPosts;
+import com.we.hirehub.entity.SummaryBatchItem;
+import com.we.hirehub.entity.SummaryBatchRun;
+import com.we.hirehub.repository.JobPostsRepository;
+import com.we.hirehub.repository.SummaryBatchItemRepository;
+import com.we.hirehub.repository.SummaryBatchRunRepository;
+import com.we.hirehub.service.support.JobPostAiService;
+import com.we.hirehub.util.LogSampler;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 공고 요약 배치 작업
+ * - 공고 id 범위 청크 단위로 워커 풀에 분배 (워커 수 = AI 서버 동시 처리 용량)
+ * - 공고별 상태(PENDING/OK/FAILED/시도 횟수)를 DB에 저장 → 재시작 시 RUNNING 작업 이어서 처리
+ * - 진행률/처리량/ETA 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SummaryBatchService {
+
+    private final JobPostsRepository jobPostsRepository;
+    private final SummaryBatchRunRepository runRepository;
+    private final SummaryBatchItemRepository itemRepository;
+    private final JobPostAiService jobPostAiService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${ai.summary-batch.workers:2}")
+    private int workers;
+
+    @Value("${ai.summary-batch.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${ai.summary-batch.max-attempts:3}")
+    private int maxAttempts;
+
+    // 워커당 요청 간 대기 (AI 서버 rate limit 회피)
+    @Value("${ai.summary-batch.delay-ms:1000}")
+    private long delayMs;
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "summary-batch-dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 현재 프로세스에서 실행 중인 작업 (처리량 계산용)
+    private final AtomicReference<Long> activeRunId = new AtomicReference<>();
+    private final AtomicInteger processedSinceResume = new AtomicInteger();
+    // 공고별 실패 로그: AI 서버 장애 시 수천 줄이 되지 않도록 처음 20건 + 이후 100건마다 1건
+    private final LogSampler failureLog = new LogSampler(20, 100);
+    private volatile LocalDateTime resumedAt;
+
+    /** 서버 재시작 시 미완료 작업 이어서 처리 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        runRepository.findFirstByStatusOrderByIdDesc(SummaryBatchRun.Status.RUNNING)
+                .ifPresent(run -> {
+                    log.info("🔁 [SUMMARY_BATCH] 미완료 작업 재개 - runId={}", run.getId());
+                    launch(run.getId());
+                });
+    }
+
+    /**
+     * 요약 작업 시작 (이미 실행 중이면 해당 작업 상태 반환)
+     */
+    public synchronized SummaryBatchStatusDto start() {
+        SummaryBatchRun running = runRepository
+                .findFirstByStatusOrderByIdDesc(SummaryBatchRun.Status.RUNNING)
+                .orElse(null);
+
+        if (running == null) {
+            running = createRun();
+            log.info("📊 [SUMMARY_BATCH] 작업 생성 - runId={}, 대상 {}건", running.getId(), running.getTotal());
+        }
+
+        launch(running.getId());
+        return getStatus(running);
+    }
+
+    public SummaryBatchStatusDto getStatus() {
+        return runRepository.findFirstByOrderByIdDesc()
+                .map(this::getStatus)
+                .orElseGet(() -> SummaryBatchStatusDto.builder().status("NONE").workers(workers).build());
+    }
+
+    /** 실행 단위 + 대상 공고 항목을 한 트랜잭션으로 생성 */
+    private SummaryBatchRun createRun() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        return tx.execute(status -> {
+            List<Long> ids = jobPostsRepository.findIdsWithoutSummary();
+
+            SummaryBatchRun run = runRepository.save(SummaryBatchRun.builder()
+                    .status(SummaryBatchRun.Status.RUNNING)
+                    .total(ids.size())
+                    .startedAt(LocalDateTime.now())
+                    .build());
+
+            List<SummaryBatchItem> items = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                items.add(SummaryBatchItem.builder()
+                        .run(run)
+                        .jobPostId(id)
+                        .status(SummaryBatchItem.Status.PENDING)
+                        .build());
+            }
+            itemRepository.saveAll(items);
+            return run;
+        });
+    }
+
+    private void launch(Long runId) {
+        if (!activeRunId.compareAndSet(null, runId)) {
+            return; // 이미 이 서버에서 실행 중
+        }
+        processedSinceResume.set(0);
+        failureLog.reset();
+        resumedAt = LocalDateTime.now();
+        dispatcher.submit(() -> {
+            MDC.put("batchRunId", String.valueOf(runId));
+            try {
+                execute(runId);
+            } catch (Exception e) {
+                log.error("💥 [SUMMARY_BATCH] 작업 중단 - runId={}", runId, e);
+            } finally {
+                activeRunId.set(null);
+                MDC.remove("batchRunId");
+            }
+        });
+    }
+
+    /**
+     * 청크 단위 실행: PENDING 을 모두 처리한 뒤, 재시도 가능한 실패 항목을 다시 돌린다.
+     */
+    private void execute(Long runId) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "summary-batch-worker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            int pass = 0;
+            while (true) {
+                runPass(runId, pool);
+                if (Thread.currentThread().isInterrupted()) {
+                    return; // 종료 중 → RUNNING 유지, 재시작 시 이어서 처리
+                }
+                if (itemRepository.requeueFailed(runId, maxAttempts) == 0) {
+                    break;
+                }
+                // 재시도 전 대기 (exponential backoff)
+                Thread.sleep(2000L * (1L << Math.min(pass++, 4)));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        runRepository.findById(runId).ifPresent(run -> {
+            run.setStatus(SummaryBatchRun.Status.COMPLETED);
+            run.setFinishedAt(LocalDateTime.now());
+            runRepository.save(run);
+        });
+        log.info("📊 [SUMMARY_BATCH] 작업 완료 - runId={}, 실패(재시도 포함) {}건", runId, failureLog.count());
+    }
+
+    private void runPass(Long runId, ExecutorService pool) {
+        long afterId = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<SummaryBatchItem> chunk = itemRepository.findPendingChunk(
+                    runId, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>(chunk.size());
+            for (SummaryBatchItem item : chunk) {
+                // 워커 로그에도 batchRunId (MDC) 유지
+                futures.add(CompletableFuture.runAsync(LogContext.taskDecorator().decorate(() -> process(item)), pool));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            afterId = chunk.get(chunk.size() - 1).getJobPostId();
+            log.debug("[SUMMARY_BATCH] runId={} 청크 완료 (~{})", runId, afterId);
+        }
+    }
+
+    private void process(SummaryBatchItem item) {
+        SummaryBatchItem.Status result;
+        String error = null;
+
+        try {
+            JobPosts p = jobPostsRepository.findWithCompanyById(item.getJobPostId()).orElse(null);
+            String fullText = p == null ? "" : jobPostAiService.buildFullText(p);
+
+            if (fullText.isBlank()) {
+                result = SummaryBatchItem.Status.FAILED;
+                error = p == null ? "공고 없음" : "내용 없음";
+            } else {
+                String summary = jobPostAiService.summarize(fullText);
+                if (summary != null && summary.length() > 30) {
+                    jobPostsRepository.updateSummary(p.getId(), summary);
+                    result = SummaryBatchItem.Status.OK;
+                } else {
+                    result = SummaryBatchItem.Status.FAILED;
+                    error = "요약 결과 없음 또는 너무 짧음";
+                }
+                Thread.sleep(delayMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return; // PENDING 유지 → 재개 시 다시 처리
+        } catch (Exception e) {
+            result = SummaryBatchItem.Status.FAILED;
+            error = e.getMessage();
+        }
+
+        if (error != null && error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        itemRepository.markResult(item.getId(), result, error, LocalDateTime.now());
+        processedSinceResume.incrementAndGet();
+
+        if (result == SummaryBatchItem.Status.FAILED && failureLog.sample()) {
+            log.warn("⚠️ [SUMMARY_BATCH] 공고 ID {} 실패 (시도 {}, 실패 누적 {}건): {}",
+                    item.getJobPostId(), item.getAttempts() + 1, failureLog.count(), error);
+        }
+    }
+
+    private SummaryBatchStatusDto getStatus(SummaryBatchRun run) {
+        long ok = 0, failed = 0, pending = 0;
+        for (Object[] row : itemRepository.countByStatus(run.getId())) {
+            SummaryBatchItem.Status s = (SummaryBatchItem.Status) row[0];
+            long cnt = ((Number) row[1]).longValue();
+            switch (s) {
+                case OK -> ok = cnt;
+                case FAILED -> failed = cnt;
+                case PENDING -> pending = cnt;
+            }
+        }
+
+        double perMinute = 0;
+        Long eta = null;
+        if (run.getId().equals(activeRunId.get()) && resumedAt != null) {
+            long elapsedMs = Math.max(1, Duration.between(resumedAt, LocalDateTime.now()).toMillis());
+            int processed = processedSinceResume.get();
+            perMinute = processed * 60_000.0 / elapsedMs;
+            if (processed > 0) {
+                eta = (long) Math.ceil(pending * (elapsedMs / 1000.0) / processed);
+            }
+        }
+
+        return SummaryBatchStatusDto.builder()
+                .runId(run.getId())
+                .status(run.getStatus().name())
+                .total(run.getTotal())
+                .ok(ok)
+                .failed(failed)
+                .pending(pending)
+                .workers(workers)
+                .throughputPerMinute(Math.round(perMinute * 10) / 10.0)
+                .etaSeconds(eta)
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+}
@@ -65,7 +65,9 @@ public class AuthService {
                 .role(Role.USER)
                 .build();
 
-        return usersRepository.save(u);
+        Users saved = usersRepository.save(u);
+        smsCodeService.consumeVerified(req.getPhone());   // 같은 인증으로 재가입 방지
+        return saved;
     }
 
     // [EXISTING] ✅ 소셜 신규 유저 생성 (password NOT NULL 제약 충족용 더미 비번)
@@ -1,15 +1,38 @@
 package com.we.hirehub.service.common;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.common.CompanyStatsDto;
 import com.we.hirehub.entity.*;
 import com.we.hirehub.repository.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+/**
+ * 회사 통계 (차트 데이터)
+ * - company_stats_snapshot 테이블에 미리 계산해 두고 메모리 캐시에서 제공
+ * - 연도별 데이터 반영 후 rebuild / rebuildAll 호출
+ * - 메모리/응답 캐시 갱신은 커밋 후 (롤백된 값이 캐시에 남지 않도록)
+ * - 메모리 캐시는 이 노드의 쓰기만 알 수 있으므로 ttl-seconds 가 지나면 스냅샷 테이블에서 다시 읽음
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,77 +43,215 @@ public class CompanyStatsService {
     private final NewSalaryRepository newSalaryRepository;
     private final CompanyRepository companyRepository;
     private final AgeAverageRepository ageAverageRepository;
+    private final CompanyStatsSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final HttpResponseCache httpResponseCache;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${company.stats.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Map<Long, Cached> cache = new ConcurrentHashMap<>();
+
+    /** 통계 + 마지막 계산 시각 (ETag / Last-Modified 용) */
+    public record Snapshot(CompanyStatsDto stats, LocalDateTime updatedAt) {}
+
+    /** 메모리 캐시 항목 (expiresAt 이 지나면 스냅샷 테이블에서 다시 읽음) */
+    private record Cached(Snapshot snapshot, long expiresAt) {}
 
     public CompanyStatsDto getCompanyStats(Long companyId) {
-        // 1. 통계 데이터 조회
-        List<AvgSalary> avgSalaries = avgSalaryRepository.findByCompanyIdOrderByYearAsc(companyId);
-        List<TotalSales> totalSales = totalSalesRepository.findByCompanyIdOrderByYearAsc(companyId);
-        List<NewSalary> newSalaries = newSalaryRepository.findByCompanyIdOrderByYearAsc(companyId);
+        return getSnapshot(companyId).stats();
+    }
+
+    /**
+     * 메모리 캐시 → 스냅샷 테이블 → (없으면) 계산 후 저장
+     * - 조회는 읽기 전용, 스냅샷이 없을 때만 별도 쓰기 트랜잭션으로 계산/저장
+     */
+    public Snapshot getSnapshot(Long companyId) {
+        Cached cached = cache.get(companyId);
+        if (cached != null && System.currentTimeMillis() < cached.expiresAt()) {
+            return cached.snapshot();
+        }
+
+        Optional<Snapshot> stored = snapshotRepository.findById(companyId)
+                .map(row -> new Snapshot(fromJson(row.getStats()), row.getUpdatedAt()));
+        if (stored.isPresent()) {
+            cache.put(companyId, cached(stored.get()));
+            return stored.get();
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return tx.execute(status -> rebuild(companyId));
+    }
 
-        // 2. 회사 정보 조회 (사원수)
+    /** 회사 1건 재계산 */
+    @Transactional
+    public Snapshot rebuild(Long companyId) {
         Company company = companyRepository.findById(companyId)
                 .orElseThrow(() -> new RuntimeException("회사를 찾을 수 없습니다."));
 
-        Integer totalEmployees = parseInteger(company.getCount());
+        Map<String, String> sales = new HashMap<>();
+        totalSalesRepository.findByCompanyIdOrderByYearAscIdAsc(companyId)
+                .forEach(ts -> sales.put(ts.getYear(), ts.getSales()));
+        Map<String, String> avgSalaries = new HashMap<>();
+        avgSalaryRepository.findByCompanyIdOrderByYearAscIdAsc(companyId)
+                .forEach(as -> avgSalaries.put(as.getYear(), as.getSalary()));
+        Map<String, String> newSalaries = new HashMap<>();
+        newSalaryRepository.findByCompanyIdOrderByYearAscIdAsc(companyId)
+                .forEach(ns -> newSalaries.put(ns.getYear(), ns.getSalary()));
+        Double avgAge = ageAverageRepository.averageAgeByCompanyId(companyId);
 
-        // 3. 평균 나이 계산 (Apply에서 해당 회사에 지원한 유저들의 평균 나이)
-        Double currentAvgAge = calculateAverageAge(companyId);
+        CompanyStatsDto stats = assemble(sales, avgSalaries, newSalaries, company.getCount(), avgAge);
+        return store(companyId, stats, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+    }
 
-        // 4. 연도별 데이터 병합
-        Map<String, CompanyStatsDto.ChartData> dataMap = new HashMap<>();
+    /**
+     * 전체 회사 일괄 재계산 - 테이블별 1회씩만 조회해 메모리에서 회사별로 묶음
+     * @return 재계산한 회사 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        Map<Long, Map<String, String>> sales = groupYearly(totalSalesRepository.findAllYearly());
+        Map<Long, Map<String, String>> avgSalaries = groupYearly(avgSalaryRepository.findAllYearly());
+        Map<Long, Map<String, String>> newSalaries = groupYearly(newSalaryRepository.findAllYearly());
 
-        // 매출액
-        for (TotalSales ts : totalSales) {
-            dataMap.putIfAbsent(ts.getYear(), CompanyStatsDto.ChartData.builder()
-                    .year(ts.getYear())
-                    .build());
-            dataMap.get(ts.getYear()).setSales(parseInteger(ts.getSales()));
+        Map<Long, Double> avgAges = new HashMap<>();
+        for (Object[] row : ageAverageRepository.averageAgeGroupByCompany()) {
+            avgAges.put((Long) row[0], row[1] == null ? null : ((Number) row[1]).doubleValue());
         }
 
-        // 평균 연봉
-        for (AvgSalary as : avgSalaries) {
-            dataMap.putIfAbsent(as.getYear(), CompanyStatsDto.ChartData.builder()
-                    .year(as.getYear())
-                    .build());
-            dataMap.get(as.getYear()).setAvgSalary(parseInteger(as.getSalary()));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<Object[]> rows = new ArrayList<>();
+        Map<Long, Snapshot> rebuilt = new HashMap<>();
+
+        for (Object[] row : companyRepository.findAllEmployeeCounts()) {
+            Long companyId = (Long) row[0];
+            CompanyStatsDto stats = assemble(
+                    sales.getOrDefault(companyId, Map.of()),
+                    avgSalaries.getOrDefault(companyId, Map.of()),
+                    newSalaries.getOrDefault(companyId, Map.of()),
+                    (String) row[1],
+                    avgAges.get(companyId));
+
+            rows.add(new Object[]{companyId, toJson(stats), Timestamp.valueOf(now)});
+            rebuilt.put(companyId, new Snapshot(stats, now));
         }
 
-        // 신입 연봉
-        for (NewSalary ns : newSalaries) {
-            dataMap.putIfAbsent(ns.getYear(), CompanyStatsDto.ChartData.builder()
-                    .year(ns.getYear())
-                    .build());
-            dataMap.get(ns.getYear()).setNewSalary(parseInteger(ns.getSalary()));
+        // id 지정 엔티티 saveAll 은 행마다 SELECT 가 붙으므로 JDBC 배치 upsert
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO company_stats_snapshot (company_id, stats, updated_at) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE stats = VALUES(stats), updated_at = VALUES(updated_at)",
+                rows);
+        afterCommit(() -> {
+            cache.clear();
+            rebuilt.forEach((id, snap) -> cache.put(id, cached(snap)));
+            httpResponseCache.invalidateNow(HttpResponseCache.COMPANY_STATS);
+        });
+
+        log.info("📊 회사 통계 일괄 재계산 완료 - {}개 회사", rows.size());
+        return rows.size();
+    }
+
+    /** 회사 정보 변경/삭제 시 - 다음 조회 때 다시 계산 */
+    @Transactional
+    public void evict(Long companyId) {
+        snapshotRepository.deleteById(companyId);
+        afterCommit(() -> {
+            cache.remove(companyId);
+            httpResponseCache.invalidateNow(HttpResponseCache.COMPANY_STATS);
+        });
+    }
+
+    private Snapshot store(Long companyId, CompanyStatsDto stats, LocalDateTime now) {
+        snapshotRepository.save(CompanyStatsSnapshot.builder()
+                .companyId(companyId)
+                .stats(toJson(stats))
+                .updatedAt(now)
+                .build());
+        Snapshot snap = new Snapshot(stats, now);
+        afterCommit(() -> {
+            cache.put(companyId, cached(snap));
+            httpResponseCache.invalidateNow(HttpResponseCache.COMPANY_STATS);
+        });
+        return snap;
+    }
+
+    private Cached cached(Snapshot snap) {
+        return new Cached(snap, System.currentTimeMillis() + ttlSeconds * 1000);
+    }
+
+    /** 트랜잭션 안이면 커밋 후 실행 */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
         }
+    }
+
+    /** (companyId, year, value) 행을 회사별로 묶음 - 행은 (회사, 연도, id) 순이라 같은 연도 중복은 id 가 큰 값이 남음 */
+    private static Map<Long, Map<String, String>> groupYearly(List<Object[]> rows) {
+        Map<Long, Map<String, String>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            grouped.computeIfAbsent((Long) row[0], k -> new HashMap<>())
+                    .put((String) row[1], (String) row[2]);
+        }
+        return grouped;
+    }
+
+    /**
+     * 연도별 데이터 병합 (연도순 정렬)
+     */
+    private CompanyStatsDto assemble(Map<String, String> sales,
+                                     Map<String, String> avgSalaries,
+                                     Map<String, String> newSalaries,
+                                     String employeeCount,
+                                     Double avgAge) {
+        Map<String, CompanyStatsDto.ChartData> dataMap = new HashMap<>();
+
+        // 매출액
+        sales.forEach((year, v) -> chartData(dataMap, year).setSales(parseInteger(v)));
+        // 평균 연봉
+        avgSalaries.forEach((year, v) -> chartData(dataMap, year).setAvgSalary(parseInteger(v)));
+        // 신입 연봉
+        newSalaries.forEach((year, v) -> chartData(dataMap, year).setNewSalary(parseInteger(v)));
 
-        // 5. 연도순 정렬
         List<CompanyStatsDto.ChartData> chartData = dataMap.values().stream()
                 .sorted(Comparator.comparing(CompanyStatsDto.ChartData::getYear))
                 .collect(Collectors.toList());
 
         return CompanyStatsDto.builder()
                 .chartData(chartData)
-                .totalEmployees(totalEmployees)
-                .currentAvgAge(currentAvgAge)
+                .totalEmployees(parseInteger(employeeCount))
+                .currentAvgAge(avgAge != null ? avgAge : 0.0)
                 .build();
     }
 
-    /**
-     * age_average 테이블에서 해당 회사의 나이 데이터를 가져와 평균 계산
-     */
-    private Double calculateAverageAge(Long companyId) {
-        // age_average 테이블에서 해당 회사의 나이 데이터 조회
-        List<AgeAverage> ageAverages = ageAverageRepository.findByCompanyId(companyId);
+    private static CompanyStatsDto.ChartData chartData(Map<String, CompanyStatsDto.ChartData> dataMap, String year) {
+        return dataMap.computeIfAbsent(year, y -> CompanyStatsDto.ChartData.builder().year(y).build());
+    }
 
-        if (ageAverages.isEmpty()) {
-            return 0.0;
+    private String toJson(CompanyStatsDto stats) {
+        try {
+            return objectMapper.writeValueAsString(stats);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("회사 통계 직렬화 실패", e);
         }
+    }
 
-        // 평균 나이 계산
-        return ageAverages.stream()
-                .mapToLong(AgeAverage::getAge)
-                .average()
-                .orElse(0.0);
+    private CompanyStatsDto fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, CompanyStatsDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("회사 통계 역직렬화 실패", e);
+        }
     }
 
     /**
@@ -0,0 +1,418 @@
+package com.we.hirehub.service.common;
+
+import com.we.hirehub.config.LogContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 리사이즈 변형 생성
+ * - 원본 저장 후 register() → media_asset 행(PENDING) + 워커 풀에 작업 예약, 요청 스레드는 바로 반환
+ * - 워커: 디스크에 받아 둔 원본에서 폭 기준 축소본(w320, w960 …)을 만들어 저장소에 올리고 media_variant 에 URL 기록
+ * - 형식: 투명도 있으면 png, 없으면 jpeg (+ ImageIO WebP writer 가 등록돼 있으면 webp 도 함께)
+ * - gif(애니메이션), 원본보다 큰 폭은 만들지 않음 / 픽셀 수가 max-pixels 를 넘으면 디코딩하지 않음
+ * - 다 만들면 VariantsReady 이벤트 → 사진 URL 을 응답에 담는 쪽(광고/회사)이 캐시를 비우고 srcset 을 채움
+ * - 생성 중에 원본이 삭제되면 올린 변형을 지우고 중단 (deleteFor 는 행을 먼저 지우고 정해진 변형 key 를 모두 삭제)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    public enum Status { PENDING, READY, SKIPPED, FAILED }
+
+    /** 변형 1개 */
+    public record Variant(String label, String format, int width, int height, String url) {}
+
+    /** 원본 + 변형 목록 (status 가 PENDING 이면 아직 생성 중) */
+    public record MediaInfo(String url, Status status, Integer width, Integer height, List<Variant> variants) {}
+
+    /** 변형 생성 완료 (key: 원본 저장소 key) */
+    public record VariantsReady(String key, String url) {}
+
+    /** 생성 중에 원본이 삭제됨 */
+    private static class AssetDeletedException extends RuntimeException {
+        AssetDeletedException(long assetId) {
+            super("media_asset 삭제됨: id=" + assetId);
+        }
+    }
+
+    // srcset 조회 시 IN 절 한 번에 넘길 최대 URL 수
+    private static final int IN_CHUNK_SIZE = 500;
+    // 변형 형식 후보 (deleteFor 가 행 없이도 지울 수 있도록)
+    private static final List<String> FORMATS = List.of("jpeg", "png", "webp");
+
+    private final ObjectStorage storage;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ApplicationEventPublisher events;
+
+    @Value("${storage.image.variant-widths:320,960}")
+    private String variantWidths;
+
+    @Value("${storage.image.jpeg-quality:0.82}")
+    private float jpegQuality;
+
+    @Value("${storage.image.max-pixels:40000000}")
+    private long maxPixels;
+
+    @Value("${storage.image.workers:2}")
+    private int workers;
+
+    @Value("${storage.image.queue-capacity:200}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor pool;
+    private int[] widths;
+
+    @PostConstruct
+    void start() {
+        widths = Arrays.stream(variantWidths.split(","))
+                .map(String::trim).filter(s -> !s.isEmpty())
+                .mapToInt(Integer::parseInt).sorted().toArray();
+        pool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "image-variant");
+                    t.setDaemon(true);
+                    return t;
+                });
+        meterRegistry.ifAvailable(r -> new ExecutorServiceMetrics(pool, "image-variant", Tags.empty()).bindTo(r));
+        log.info("🖼️ 이미지 변형 생성기 시작: widths={}, workers={}, webp={}",
+                Arrays.toString(widths), workers, webpSupported());
+    }
+
+    @PreDestroy
+    void stop() {
+        // 남은 작업은 PENDING 으로 남음 (원본 URL 은 그대로 사용 가능)
+        pool.shutdownNow();
+    }
+
+    /**
+     * 원본 저장 직후 호출 - spool 파일의 소유권을 넘겨받아 작업이 끝나면 삭제
+     */
+    public void register(String key, String url, String contentType, long size, Path spool) {
+        long assetId;
+        try {
+            assetId = insertAsset(key, url, contentType, size);
+        } catch (RuntimeException e) {
+            deleteQuietly(spool);
+            throw e;
+        }
+
+        if (contentType != null && contentType.equalsIgnoreCase("image/gif")) {
+            updateStatus(assetId, Status.SKIPPED, null, null, null);
+            deleteQuietly(spool);
+            return;
+        }
+
+        try {
+            pool.execute(LogContext.taskDecorator().decorate(() -> process(assetId, key, spool)));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 이미지 변형 대기열 가득 참 → 원본만 사용: key={}", key);
+            updateStatus(assetId, Status.FAILED, null, null, "queue full");
+            deleteQuietly(spool);
+        }
+    }
+
+    /** 원본 URL 기준 변형 조회 */
+    public Optional<MediaInfo> find(String url) {
+        List<Object[]> assets = jdbcTemplate.query(
+                "SELECT id, status, width, height FROM media_asset WHERE url = ?",
+                (rs, i) -> new Object[]{rs.getLong("id"), rs.getString("status"),
+                        rs.getObject("width", Integer.class), rs.getObject("height", Integer.class)},
+                url);
+        if (assets.isEmpty()) return Optional.empty();
+
+        Object[] a = assets.get(0);
+        List<Variant> variants = jdbcTemplate.query(
+                "SELECT label, format, width, height, url FROM media_variant WHERE asset_id = ? ORDER BY width, format",
+                (rs, i) -> new Variant(rs.getString("label"), rs.getString("format"),
+                        rs.getInt("width"), rs.getInt("height"), rs.getString("url")),
+                a[0]);
+        return Optional.of(new MediaInfo(url, Status.valueOf((String) a[1]), (Integer) a[2], (Integer) a[3], variants));
+    }
+
+    /**
+     * 원본 URL → img srcset ("변형URL 320w, 변형URL 960w, 원본URL 1600w")
+     * - READY 인 것만, 폭마다 jpeg/png 하나 (webp 는 type 을 못 밝히므로 srcset 에 넣지 않음)
+     * - 변형이 없거나 아직 생성 중이면 결과에 없음 → 원본 URL 만 사용
+     */
+    public Map<String, String> srcsets(Collection<String> urls) {
+        List<String> distinct = urls.stream().filter(u -> u != null && !u.isBlank()).distinct().toList();
+        Map<String, StringBuilder> built = new HashMap<>();
+        Map<String, Integer> originalWidths = new HashMap<>();
+        for (int i = 0; i < distinct.size(); i += IN_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(i, Math.min(i + IN_CHUNK_SIZE, distinct.size()));
+            String in = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(
+                    "SELECT a.url AS original, a.width AS original_width, v.url, v.width FROM media_asset a " +
+                    "JOIN media_variant v ON v.asset_id = a.id " +
+                    "WHERE a.status = 'READY' AND v.format <> 'webp' AND a.url IN (" + in + ") " +
+                    "ORDER BY a.id, v.width",
+                    rs -> {
+                        String original = rs.getString("original");
+                        StringBuilder sb = built.computeIfAbsent(original, k -> new StringBuilder());
+                        if (!sb.isEmpty()) sb.append(", ");
+                        sb.append(rs.getString("url")).append(' ').append(rs.getInt("width")).append('w');
+                        originalWidths.put(original, rs.getObject("original_width", Integer.class));
+                    },
+                    chunk.toArray());
+        }
+        Map<String, String> result = new HashMap<>();
+        built.forEach((original, sb) -> {
+            Integer width = originalWidths.get(original);
+            if (width != null) sb.append(", ").append(original).append(' ').append(width).append('w');
+            result.put(original, sb.toString());
+        });
+        return result;
+    }
+
+    /** 원본 URL 하나의 srcset (없으면 null) */
+    public String srcsetOf(String url) {
+        if (url == null || url.isBlank()) return null;
+        return srcsets(List.of(url)).get(url);
+    }
+
+    /**
+     * 원본 삭제 시 변형 파일 + 행 삭제 (변형 삭제 실패는 로그만)
+     * - 행을 먼저 지움 → 이후 워커의 변형 기록은 FK 로 실패하고 워커가 올린 파일을 스스로 지움
+     * - 파일은 기록된 key + 설정 폭/형식으로 만들어질 수 있는 key 모두 (기록 전에 올라간 변형까지)
+     */
+    public void deleteFor(String url) {
+        List<Object[]> assets = jdbcTemplate.query(
+                "SELECT id, storage_key FROM media_asset WHERE url = ?",
+                (rs, i) -> new Object[]{rs.getLong("id"), rs.getString("storage_key")}, url);
+        if (assets.isEmpty()) return;
+        long assetId = (Long) assets.get(0)[0];
+        String originalKey = (String) assets.get(0)[1];
+
+        Set<String> keys = new LinkedHashSet<>(jdbcTemplate.queryForList(
+                "SELECT storage_key FROM media_variant WHERE asset_id = ?", String.class, assetId));
+        // media_variant 는 ON DELETE CASCADE
+        jdbcTemplate.update("DELETE FROM media_asset WHERE id = ?", assetId);
+
+        for (int width : widths) {
+            for (String format : FORMATS) keys.add(variantKey(originalKey, "w" + width, format));
+        }
+        for (String key : keys) {
+            try {
+                storage.delete(key);
+            } catch (Exception e) {
+                log.warn("⚠️ 변형 파일 삭제 실패: key={}", key, e);
+            }
+        }
+    }
+
+    /* ------- worker ------- */
+
+    private void process(long assetId, String key, Path spool) {
+        long startedAt = System.nanoTime();
+        try {
+            if (!assetExists(assetId)) throw new AssetDeletedException(assetId);
+            BufferedImage source = read(spool);
+            if (source == null) {
+                updateStatus(assetId, Status.SKIPPED, null, null, "지원하지 않는 이미지 형식");
+                return;
+            }
+
+            boolean alpha = source.getColorModel().hasAlpha();
+            List<String> formats = new ArrayList<>();
+            formats.add(alpha ? "png" : "jpeg");
+            if (webpSupported()) formats.add("webp");
+
+            int made = 0;
+            for (int width : widths) {
+                if (width >= source.getWidth()) break; // 확대는 하지 않음
+                int height = Math.max(1, Math.round(source.getHeight() * (width / (float) source.getWidth())));
+                BufferedImage scaled = scale(source, width, height, alpha);
+                for (String format : formats) {
+                    storeVariant(assetId, key, scaled, "w" + width, format);
+                    made++;
+                }
+            }
+
+            updateStatus(assetId, made > 0 ? Status.READY : Status.SKIPPED,
+                    source.getWidth(), source.getHeight(), null);
+            log.debug("🖼️ 이미지 변형 {}개 생성: key={}, {}ms", made, key, (System.nanoTime() - startedAt) / 1_000_000);
+            if (made > 0) events.publishEvent(new VariantsReady(key, storage.urlOf(key)));
+        } catch (AssetDeletedException e) {
+            log.debug("🗑️ 변형 생성 중 원본 삭제됨 → 중단: key={}", key);
+        } catch (Exception e) {
+            log.warn("⚠️ 이미지 변형 생성 실패: key={}", key, e);
+            updateStatus(assetId, Status.FAILED, null, null, e.getMessage());
+        } finally {
+            deleteQuietly(spool);
+        }
+    }
+
+    /** 헤더로 크기부터 확인하고 디코딩 (압축 폭탄 방지) */
+    private BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지가 너무 큼: " + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage out = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private void storeVariant(long assetId, String originalKey, BufferedImage image, String label, String format)
+            throws IOException {
+        Path tmp = Files.createTempFile("variant-", "." + format);
+        try {
+            write(image, format, tmp);
+            long size = Files.size(tmp);
+            String key = variantKey(originalKey, label, format);
+            // 변형마다 원본이 남아 있는지 확인 (삭제된 원본의 변형을 올리지 않음)
+            if (!assetExists(assetId)) throw new AssetDeletedException(assetId);
+            String url = storage.put(key, tmp, "image/" + format, size);
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO media_variant (asset_id, label, format, width, height, size_bytes, storage_key, url) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE width = VALUES(width), height = VALUES(height), " +
+                        "size_bytes = VALUES(size_bytes), storage_key = VALUES(storage_key), url = VALUES(url)",
+                        assetId, label, format, image.getWidth(), image.getHeight(), size, key, url);
+            } catch (DataIntegrityViolationException e) {
+                // 확인과 put 사이에 삭제됨 (FK) → 방금 올린 파일 정리
+                storage.delete(key);
+                throw new AssetDeletedException(assetId);
+            }
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format) && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /** resume/photos/1/abc.png → resume/photos/1/abc_w320.jpeg */
+    private static String variantKey(String originalKey, String label, String format) {
+        int dot = originalKey.lastIndexOf('.');
+        int slash = originalKey.lastIndexOf('/');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_" + label + "." + format;
+    }
+
+    private static boolean webpSupported() {
+        return ImageIO.getImageWritersByFormatName("webp").hasNext();
+    }
+
+    private long insertAsset(String key, String url, String contentType, long size) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                    "INSERT INTO media_asset (storage_key, url, content_type, size_bytes, status, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, key);
+            ps.setString(2, url);
+            ps.setString(3, contentType);
+            ps.setLong(4, size);
+            ps.setString(5, Status.PENDING.name());
+            ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private boolean assetExists(long assetId) {
+        Integer n = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM media_asset WHERE id = ?", Integer.class, assetId);
+        return n != null && n > 0;
+    }
+
+    private void updateStatus(long assetId, Status status, Integer width, Integer height, String error) {
+        if (error != null && error.length() > 500) error = error.substring(0, 500);
+        jdbcTemplate.update(
+                "UPDATE media_asset SET status = ?, width = COALESCE(?, width), height = COALESCE(?, height), " +
+                "error = ?, updated_at = ? WHERE id = ?",
+                status.name(), width, height, error, Timestamp.valueOf(LocalDateTime.now()), assetId);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ 임시 파일 삭제 실패: {}", file, e);
+        }
+    }
+}
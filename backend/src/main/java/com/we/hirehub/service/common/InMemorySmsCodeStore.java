@@ -0,0 +1,102 @@
+package com.we.hirehub.service.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메모리 인증번호 저장소 (sms.code.store=memory)
+ * - 단일 노드 / 로컬 개발용 대체 구현, 동작 규칙은 JDBC 저장소와 동일
+ * - 항목 수가 max-entries 에 닿으면 만료 항목을 먼저 정리하고, 그래도 가득 차면 새 요청 거절
+ */
+@Component
+@ConditionalOnProperty(name = "sms.code.store", havingValue = "memory")
+public class InMemorySmsCodeStore implements SmsCodeStore {
+
+    /** code == null 이면 이미 사용(인증 완료)된 번호 */
+    private record CodeEntry(String code, int attempts, LocalDateTime expiresAt, LocalDateTime verifiedUntil) {}
+
+    private record Counter(AtomicInteger count, LocalDateTime expiresAt) {}
+
+    private final ConcurrentHashMap<String, CodeEntry> codes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${sms.code.memory.max-entries:100000}")
+    private int maxEntries;
+
+    @Override
+    public void saveCode(String phone, String code, LocalDateTime expiresAt) {
+        ensureCapacity(codes, phone);
+        codes.put(phone, new CodeEntry(code, 0, expiresAt, null));
+    }
+
+    @Override
+    public VerifyResult verify(String phone, String code, LocalDateTime now, LocalDateTime verifiedUntil, int maxAttempts) {
+        VerifyResult[] result = {VerifyResult.EXPIRED};
+        codes.computeIfPresent(phone, (k, e) -> {
+            if (e.code() == null || !e.expiresAt().isAfter(now)) {
+                result[0] = VerifyResult.EXPIRED;
+                return e;
+            }
+            if (e.attempts() >= maxAttempts) {
+                result[0] = VerifyResult.TOO_MANY_ATTEMPTS;
+                return e;
+            }
+            if (e.code().equals(code)) {
+                result[0] = VerifyResult.OK;
+                return new CodeEntry(null, e.attempts(), e.expiresAt(), verifiedUntil);
+            }
+            result[0] = VerifyResult.MISMATCH;
+            return new CodeEntry(e.code(), e.attempts() + 1, e.expiresAt(), e.verifiedUntil());
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean isVerified(String phone, LocalDateTime now) {
+        CodeEntry e = codes.get(phone);
+        return e != null && e.verifiedUntil() != null && e.verifiedUntil().isAfter(now);
+    }
+
+    @Override
+    public void consumeVerified(String phone) {
+        codes.remove(phone);
+    }
+
+    @Override
+    public int increment(String key, LocalDateTime expiresAt) {
+        Counter c = counters.get(key);
+        if (c == null) {
+            ensureCapacity(counters, key);
+            c = counters.computeIfAbsent(key, k -> new Counter(new AtomicInteger(), expiresAt));
+        }
+        return c.count().incrementAndGet();
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        int before = codes.size() + counters.size();
+        codes.entrySet().removeIf(en -> isExpired(en.getValue(), now));
+        counters.entrySet().removeIf(en -> !en.getValue().expiresAt().isAfter(now));
+        return before - (codes.size() + counters.size());
+    }
+
+    private static boolean isExpired(CodeEntry e, LocalDateTime now) {
+        boolean codeAlive = e.code() != null && e.expiresAt().isAfter(now);
+        boolean verifiedAlive = e.verifiedUntil() != null && e.verifiedUntil().isAfter(now);
+        return !codeAlive && !verifiedAlive;
+    }
+
+    private void ensureCapacity(Map<String, ?> map, String key) {
+        if (map.size() < maxEntries || map.containsKey(key)) return;
+        purgeExpired(LocalDateTime.now());
+        if (map.size() >= maxEntries) {
+            throw new IllegalStateException("인증 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
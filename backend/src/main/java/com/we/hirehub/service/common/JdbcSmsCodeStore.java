@@ -0,0 +1,92 @@
+package com.we.hirehub.service.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 테이블 기반 인증번호 저장소 (sms.code.store=jdbc, 기본값)
+ * - sms_code / sms_rate 테이블 (db/migration/007_sms_code.sql)
+ * - 확인 / 시도 횟수 증가 / 카운터 증가는 모두 조건부 UPDATE 1문장 → 여러 노드에서 동시에 호출돼도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sms.code.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcSmsCodeStore implements SmsCodeStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveCode(String phone, String code, LocalDateTime expiresAt) {
+        jdbcTemplate.update("""
+                INSERT INTO sms_code (phone, code, attempts, expires_at, verified_until)
+                VALUES (?, ?, 0, ?, NULL)
+                ON DUPLICATE KEY UPDATE code = VALUES(code), attempts = 0,
+                                        expires_at = VALUES(expires_at), verified_until = NULL
+                """, phone, code, Timestamp.valueOf(expiresAt));
+    }
+
+    @Override
+    public VerifyResult verify(String phone, String code, LocalDateTime now, LocalDateTime verifiedUntil, int maxAttempts) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+
+        // 일치 → 인증 완료 + 번호 폐기
+        int ok = jdbcTemplate.update("""
+                UPDATE sms_code SET code = NULL, verified_until = ?
+                WHERE phone = ? AND code = ? AND expires_at > ? AND attempts < ?
+                """, Timestamp.valueOf(verifiedUntil), phone, code, nowTs, maxAttempts);
+        if (ok == 1) return VerifyResult.OK;
+
+        // 불일치 → 시도 횟수 +1 (유효한 번호가 있을 때만)
+        int missed = jdbcTemplate.update("""
+                UPDATE sms_code SET attempts = attempts + 1
+                WHERE phone = ? AND code IS NOT NULL AND expires_at > ? AND attempts < ?
+                """, phone, nowTs, maxAttempts);
+        if (missed == 1) return VerifyResult.MISMATCH;
+
+        List<Integer> attempts = jdbcTemplate.queryForList(
+                "SELECT attempts FROM sms_code WHERE phone = ? AND code IS NOT NULL AND expires_at > ?",
+                Integer.class, phone, nowTs);
+        return attempts.isEmpty() ? VerifyResult.EXPIRED : VerifyResult.TOO_MANY_ATTEMPTS;
+    }
+
+    @Override
+    public boolean isVerified(String phone, LocalDateTime now) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sms_code WHERE phone = ? AND verified_until > ?",
+                Integer.class, phone, Timestamp.valueOf(now));
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void consumeVerified(String phone) {
+        jdbcTemplate.update("DELETE FROM sms_code WHERE phone = ?", phone);
+    }
+
+    @Override
+    public int increment(String key, LocalDateTime expiresAt) {
+        jdbcTemplate.update("""
+                INSERT INTO sms_rate (rate_key, cnt, expires_at) VALUES (?, 1, ?)
+                ON DUPLICATE KEY UPDATE cnt = cnt + 1
+                """, key, Timestamp.valueOf(expiresAt));
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT cnt FROM sms_rate WHERE rate_key = ?", Integer.class, key);
+        return count != null ? count : 1;
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime now) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        int codes = jdbcTemplate.update("""
+                DELETE FROM sms_code
+                WHERE (code IS NULL OR expires_at <= ?) AND (verified_until IS NULL OR verified_until <= ?)
+                """, nowTs, nowTs);
+        int rates = jdbcTemplate.update("DELETE FROM sms_rate WHERE expires_at <= ?", nowTs);
+        return codes + rates;
+    }
+}
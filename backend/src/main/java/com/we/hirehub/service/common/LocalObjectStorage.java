@@ -0,0 +1,85 @@
+package com.we.hirehub.service.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디렉터리 저장소 (storage.type=local, S3 없이 개발/테스트)
+ * - storage.local.root 아래에 key 경로 그대로 저장
+ * - /files/** 로 정적 제공 → URL = storage.local.base-url + "/" + key
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage, WebMvcConfigurer {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.root:./uploads}") String root,
+                              @Value("${storage.local.base-url:http://localhost:8080/files}") String baseUrl) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        log.info("📁 로컬 파일 저장소 사용: {}", this.root);
+    }
+
+    @Override
+    public String put(String key, Path file, String contentType, long size) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return urlOf(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(baseUrl + "/")) {
+            throw new IllegalArgumentException("지원되지 않는 로컬 파일 URL 형식: " + url);
+        }
+        return url.substring(baseUrl.length() + 1);
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/files/**")
+                .addResourceLocations(root.toUri().toString());
+    }
+
+    /** root 밖으로 나가는 key(../ 등) 차단 */
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로: " + key);
+        }
+        return target;
+    }
+}
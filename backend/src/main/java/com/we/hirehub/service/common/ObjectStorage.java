@@ -0,0 +1,23 @@
+package com.we.hirehub.service.common;
+
+import java.nio.file.Path;
+
+/**
+ * 업로드 파일 저장소
+ * - s3(기본): S3 / MinIO (S3ObjectStorage)
+ * - local: 로컬 디렉터리 + /files/** 정적 제공 (LocalObjectStorage, 오프라인 개발용)
+ * - 업로드는 디스크에 받아 둔 파일에서 읽음 (요청 힙에 통째로 올리지 않음)
+ */
+public interface ObjectStorage {
+
+    /** 파일 저장 후 공개 URL 반환 */
+    String put(String key, Path file, String contentType, long size);
+
+    void delete(String key);
+
+    /** key 로 만들어지는 공개 URL */
+    String urlOf(String key);
+
+    /** 이 저장소가 만든 URL 에서 key 추출 (다른 형식이면 IllegalArgumentException) */
+    String keyOf(String url);
+}
@@ -0,0 +1,159 @@
+package com.we.hirehub.service.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3 / MinIO 저장소
+ * - multipart-threshold 이상은 멀티파트 업로드 (파트 단위로 읽어 전송, 실패 시 abort)
+ * - 그보다 작으면 파일에서 바로 PutObject
+ * - URL: public-base-url(CloudFront 등) > endpoint(MinIO, path-style) > S3 기본 도메인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024; // S3 최소 파트 크기
+
+    private final S3Client s3Client;
+
+    @Value("${aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.public-base-url:}")
+    private String publicBaseUrl;
+
+    @Value("${storage.s3.multipart-threshold-bytes:8388608}")
+    private long multipartThreshold;
+
+    @Value("${storage.s3.part-size-bytes:5242880}")
+    private long partSize;
+
+    @Override
+    public String put(String key, Path file, String contentType, long size) {
+        if (size >= multipartThreshold) {
+            putMultipart(key, file, contentType, size);
+        } else {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength(size)
+                            .build(),
+                    RequestBody.fromFile(file));
+        }
+        return urlOf(key);
+    }
+
+    private void putMultipart(String key, Path file, String contentType, long size) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        long part = Math.max(partSize, MIN_PART_SIZE);
+        List<CompletedPart> parts = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += part, partNumber++) {
+                // 파트 하나만 메모리에 (RequestBody 는 재시도를 위해 길이가 정해진 바이트가 필요)
+                byte[] chunk = in.readNBytes((int) Math.min(part, size - offset));
+                String etag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) chunk.length)
+                                .build(),
+                        RequestBody.fromBytes(chunk)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(etag).build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("S3 멀티파트 업로드 완료 - key: {}, parts: {}", key, parts.size());
+        } catch (IOException | RuntimeException e) {
+            // 미완료 업로드는 abort 하지 않으면 파트가 계속 과금됨
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucketName).key(key).uploadId(uploadId).build());
+            } catch (Exception abortError) {
+                log.warn("⚠️ 멀티파트 업로드 abort 실패 - key: {}, uploadId: {}", key, uploadId, abortError);
+            }
+            if (e instanceof IOException io) throw new UncheckedIOException(io);
+            throw (RuntimeException) e;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public String urlOf(String key) {
+        if (!publicBaseUrl.isBlank()) {
+            return trimSlash(publicBaseUrl) + "/" + key;
+        }
+        if (!endpoint.isBlank()) {
+            return trimSlash(endpoint) + "/" + bucketName + "/" + key;
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/%s",
+                bucketName, s3Client.serviceClientConfiguration().region().id(), key);
+    }
+
+    /** CloudFront, Amazon S3, 설정된 base-url / endpoint 모두 지원 */
+    @Override
+    public String keyOf(String fileUrl) {
+        if (!publicBaseUrl.isBlank() && fileUrl.startsWith(trimSlash(publicBaseUrl) + "/")) {
+            return fileUrl.substring(trimSlash(publicBaseUrl).length() + 1);
+        }
+        if (!endpoint.isBlank() && fileUrl.startsWith(trimSlash(endpoint) + "/" + bucketName + "/")) {
+            return fileUrl.substring((trimSlash(endpoint) + "/" + bucketName + "/").length());
+        }
+        if (fileUrl.contains(".amazonaws.com/")) {
+            return fileUrl.substring(fileUrl.indexOf(".amazonaws.com/") + 15);
+        } else if (fileUrl.contains("cloudfront.net/")) {
+            return fileUrl.substring(fileUrl.indexOf("cloudfront.net/") + 15);
+        }
+        throw new IllegalArgumentException("지원되지 않는 S3 URL 형식: " + fileUrl);
+    }
+
+    private static String trimSlash(String s) {
+        return s.endsWith("/") ? s.substring(0, s.length() - 1) : s;
+    }
+}
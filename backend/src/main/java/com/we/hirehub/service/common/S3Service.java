@@ -5,13 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -23,10 +22,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Client s3Client;
+    private final ObjectStorage objectStorage;
+    private final ImageVariantService imageVariantService;
 
-    @Value("${aws.s3.bucket}")
-    private String bucketName;
+    // 업로드 임시 파일 위치 (변형 생성이 끝나면 삭제)
+    @Value("${storage.spool-dir:${java.io.tmpdir}/hirehub-upload}")
+    private String spoolDir;
 
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS =
             Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
@@ -100,63 +101,61 @@ public class S3Service {
 
     /**
      * ✅ 공통 업로드 처리
-     * S3에 업로드 후 접근 가능한 URL 반환
+     * 1) 업로드 파트를 spool 디렉터리 파일로 옮김 (힙에 통째로 올리지 않음)
+     * 2) 파일에서 저장소로 업로드 (큰 파일은 멀티파트) 후 URL 반환
+     * 3) 이미지면 리사이즈 변형 생성을 백그라운드에 맡김 (spool 파일 소유권도 넘김)
      */
     public String uploadFile(MultipartFile file, String key) {
+        Path spool = null;
         try {
-            log.info("🔄 S3 업로드 시작 - bucket: {}, key: {}, size: {} bytes",
-                    bucketName, key, file.getSize());
-
-            // ACL 없이 업로드 (버킷 정책으로 퍼블릭 접근 제어)
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-
-            s3Client.putObject(
-                    putObjectRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-            );
-
-            String fileUrl = String.format(
-                    "https://%s.s3.%s.amazonaws.com/%s",
-                    bucketName,
-                    s3Client.serviceClientConfiguration().region().id(),
-                    key
-            );
+            log.info("🔄 파일 업로드 시작 - key: {}, size: {} bytes", key, file.getSize());
 
+            Path dir = Files.createDirectories(Paths.get(spoolDir));
+            spool = Files.createTempFile(dir, "upload-", ".tmp");
+            file.transferTo(spool);
+
+            String fileUrl = objectStorage.put(key, spool, file.getContentType(), file.getSize());
             log.info("✅ 파일 업로드 성공: {}", fileUrl);
+
+            String contentType = file.getContentType();
+            if (contentType != null && contentType.startsWith("image/")) {
+                Path owned = spool;
+                spool = null;
+                imageVariantService.register(key, fileUrl, contentType, file.getSize(), owned);
+            }
             return fileUrl;
 
         } catch (IOException e) {
             log.error("❌ 파일 업로드 실패 (IO) - key: {}", key, e);
             throw new RuntimeException("파일 읽기 중 오류가 발생했습니다: " + e.getMessage(), e);
         } catch (S3Exception e) {
-            log.error("❌ S3 업로드 실패 - bucket: {}, key: {}, error: {}",
-                    bucketName, key, e.awsErrorDetails().errorMessage(), e);
+            log.error("❌ S3 업로드 실패 - key: {}, error: {}",
+                    key, e.awsErrorDetails().errorMessage(), e);
             throw new RuntimeException("S3 업로드 중 오류가 발생했습니다: " + e.awsErrorDetails().errorMessage(), e);
         } catch (Exception e) {
             log.error("❌ 예상치 못한 업로드 실패 - key: {}", key, e);
             throw new RuntimeException("파일 업로드 중 예상치 못한 오류가 발생했습니다: " + e.getMessage(), e);
+        } finally {
+            if (spool != null) {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    log.warn("⚠️ 업로드 임시 파일 삭제 실패: {}", spool, e);
+                }
+            }
         }
     }
 
     /**
-     * ✅ 파일 삭제
+     * ✅ 파일 삭제 (리사이즈 변형 포함)
      */
     public void deleteFile(String fileUrl) {
         try {
-            String key = extractKeyFromUrl(fileUrl);
-            log.info("🗑️ S3 삭제 시작 - bucket: {}, key: {}", bucketName, key);
-
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
+            String key = objectStorage.keyOf(fileUrl);
+            log.info("🗑️ 파일 삭제 시작 - key: {}", key);
 
-            s3Client.deleteObject(deleteObjectRequest);
+            imageVariantService.deleteFor(fileUrl);
+            objectStorage.delete(key);
             log.info("✅ 파일 삭제 완료: {}", key);
 
         } catch (S3Exception e) {
@@ -169,20 +168,6 @@ public class S3Service {
         }
     }
 
-    /**
-     * ✅ URL에서 Key 추출
-     * (CloudFront, Amazon S3 모두 지원)
-     */
-    private String extractKeyFromUrl(String fileUrl) {
-        if (fileUrl.contains(".amazonaws.com/")) {
-            return fileUrl.substring(fileUrl.indexOf(".amazonaws.com/") + 15);
-        } else if (fileUrl.contains("cloudfront.net/")) {
-            return fileUrl.substring(fileUrl.indexOf("cloudfront.net/") + 14);
-        } else {
-            throw new IllegalArgumentException("지원되지 않는 S3 URL 형식: " + fileUrl);
-        }
-    }
-
     /**
      * ✅ 이미지 파일 검증
      */
@@ -1,30 +1,130 @@
 package com.we.hirehub.service.common;
 
+import com.we.hirehub.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
+/**
+ * SMS 인증번호 발급 / 확인
+ * - 인증번호와 인증 완료 상태는 SmsCodeStore 에 만료 시각과 함께 저장 (노드 간 공유)
+ * - 발송 횟수 제한: 번호별 재발송 간격 + 번호/IP 별 윈도당 최대 횟수
+ * - 번호당 확인 시도 횟수 제한, 만료 항목은 주기적으로 정리
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class SmsCodeService {
 
-    private final Map<String, String> codes = new HashMap<>();
-    private final Map<String, Boolean> verified = new HashMap<>();
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final SecureRandom RANDOM = new SecureRandom();
 
-    public void saveCode(String phone, String code) {
-        codes.put(phone, code);
+    private final SmsCodeStore store;
+
+    @Value("${sms.code.ttl-seconds:180}")
+    private long codeTtlSeconds;
+
+    @Value("${sms.code.verified-ttl-minutes:30}")
+    private long verifiedTtlMinutes;
+
+    @Value("${sms.code.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${sms.code.rate.resend-interval-seconds:60}")
+    private long resendIntervalSeconds;
+
+    @Value("${sms.code.rate.window-seconds:3600}")
+    private long windowSeconds;
+
+    @Value("${sms.code.rate.per-phone:5}")
+    private int perPhone;
+
+    @Value("${sms.code.rate.per-ip:20}")
+    private int perIp;
+
+    /**
+     * 인증번호 발급 (발송 횟수 제한 통과 시)
+     * @param clientIp request.getRemoteAddr() (프록시 뒤에서는 server.forward-headers-strategy 로 신뢰 프록시만 벗겨낸 값)
+     * @return 발송할 6자리 인증번호
+     */
+    public String issueCode(String phone, String clientIp) {
+        String key = normalize(phone);
+        LocalDateTime now = LocalDateTime.now();
+
+        // IP 제한을 먼저 → 한 IP 가 남의 번호로 요청을 반복해도 그 번호의 카운터는 소모되지 않음
+        if (clientIp != null && hit("ip:" + clientIp, windowSeconds, now) > perIp) {
+            log.warn("🚫 SMS 발송 제한 (IP): ip={}", clientIp);
+            throw new TooManyRequestsException("인증번호 요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (resendIntervalSeconds > 0 && hit("resend:" + key, resendIntervalSeconds, now) > 1) {
+            throw new TooManyRequestsException("잠시 후 다시 요청해주세요.");
+        }
+        if (hit("phone:" + key, windowSeconds, now) > perPhone) {
+            log.warn("🚫 SMS 발송 제한 (번호): phone={}", mask(key));
+            throw new TooManyRequestsException("인증번호 요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String code = String.valueOf(RANDOM.nextInt(900000) + 100000);
+        store.saveCode(key, code, now.plusSeconds(codeTtlSeconds));
+        return code;
     }
 
-    public boolean verify(String phone, String code) {
-        String saved = codes.get(phone);
-        if (saved != null && saved.equals(code)) {
-            verified.put(phone, true);
-            return true;
+    public SmsCodeStore.VerifyResult verify(String phone, String code) {
+        if (code == null || code.isBlank()) return SmsCodeStore.VerifyResult.MISMATCH;
+        LocalDateTime now = LocalDateTime.now();
+        SmsCodeStore.VerifyResult result =
+                store.verify(normalize(phone), code.trim(), now, now.plusMinutes(verifiedTtlMinutes), maxAttempts);
+        if (result == SmsCodeStore.VerifyResult.TOO_MANY_ATTEMPTS) {
+            log.warn("🚫 SMS 인증 시도 초과: phone={}", mask(normalize(phone)));
         }
-        return false;
+        return result;
     }
 
     public boolean isVerified(String phone) {
-        return verified.getOrDefault(phone, false);
+        if (phone == null) return false;
+        return store.isVerified(normalize(phone), LocalDateTime.now());
+    }
+
+    /** 가입 완료 후 인증 상태 폐기 (같은 인증으로 재가입 방지) */
+    public void consumeVerified(String phone) {
+        if (phone != null) store.consumeVerified(normalize(phone));
+    }
+
+    /** 만료된 인증번호 / 카운터 정리 */
+    @Scheduled(fixedDelayString = "${sms.code.cleanup-ms:60000}")
+    public void cleanup() {
+        try {
+            int purged = store.purgeExpired(LocalDateTime.now());
+            if (purged > 0) log.debug("🧹 SMS 인증 만료 항목 {}건 정리", purged);
+        } catch (Exception e) {
+            log.error("❌ SMS 인증 만료 항목 정리 실패", e);
+        }
+    }
+
+    /* ------- 내부 ------- */
+
+    /** 고정 윈도 카운터 +1 (윈도 번호를 키에 포함, 윈도가 끝나면 만료) */
+    private int hit(String key, long window, LocalDateTime now) {
+        long epoch = now.atZone(ZONE).toEpochSecond();
+        long index = epoch / window;
+        LocalDateTime windowEnd = now.plusSeconds((index + 1) * window - epoch);
+        return store.increment(key + ":" + index, windowEnd);
+    }
+
+    private static String normalize(String phone) {
+        if (phone == null) throw new IllegalArgumentException("휴대폰 번호가 필요합니다.");
+        String digits = phone.replaceAll("[^0-9]", "");
+        if (digits.length() < 9 || digits.length() > 15) throw new IllegalArgumentException("휴대폰 번호 형식이 올바르지 않습니다.");
+        return digits;
+    }
+
+    private static String mask(String phone) {
+        return phone.length() <= 4 ? "****" : phone.substring(0, phone.length() - 4) + "****";
     }
 }
@@ -0,0 +1,35 @@
+package com.we.hirehub.service.common;
+
+import java.time.LocalDateTime;
+
+/**
+ * SMS 인증번호 저장소 (노드 간 공유)
+ * - sms.code.store=jdbc   : sms_code / sms_rate 테이블 (여러 노드)
+ * - sms.code.store=memory : 프로세스 메모리 (단일 노드 / 로컬 개발용, 최대 개수 제한)
+ * - 모든 항목은 만료 시각을 가지며 purgeExpired 로 정리
+ */
+public interface SmsCodeStore {
+
+    enum VerifyResult { OK, MISMATCH, EXPIRED, TOO_MANY_ATTEMPTS }
+
+    /** 새 인증번호 저장 (이전 번호 / 시도 횟수 / 인증 상태 초기화) */
+    void saveCode(String phone, String code, LocalDateTime expiresAt);
+
+    /**
+     * 인증번호 확인 (원자적)
+     * - 일치하면 verifiedUntil 까지 인증 상태로 전환하고 번호는 폐기 (재사용 불가)
+     * - 틀리면 시도 횟수 +1, maxAttempts 에 도달하면 더 이상 확인 불가
+     */
+    VerifyResult verify(String phone, String code, LocalDateTime now, LocalDateTime verifiedUntil, int maxAttempts);
+
+    boolean isVerified(String phone, LocalDateTime now);
+
+    /** 인증 상태 사용 처리 (가입 완료 후 재사용 방지) */
+    void consumeVerified(String phone);
+
+    /** 고정 윈도 카운터 +1 → 증가 후 값 (key 에 윈도 번호 포함) */
+    int increment(String key, LocalDateTime expiresAt);
+
+    /** 만료된 인증번호 / 카운터 삭제 → 삭제 건수 */
+    int purgeExpired(LocalDateTime now);
+}
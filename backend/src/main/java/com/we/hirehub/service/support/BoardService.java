@@ -102,7 +102,7 @@ public class BoardService {
     // 🔥 비동기 재검열 (5초 후)
     asyncModerationService.moderateBoardAsync(boardId, 5);
 
-    List<Comments> comments = commentRepository.findByBoardId(boardId);
+    List<Comments> comments = commentRepository.findAllByBoardIdWithUsers(boardId);
     return BoardDto.toDto(board, comments);
   }
 
@@ -119,7 +119,7 @@ public class BoardService {
     applyModeration(board, mres);
     boardRepository.save(board);
 
-    List<Comments> comments = commentRepository.findByBoardId(boardId);
+    List<Comments> comments = commentRepository.findAllByBoardIdWithUsers(boardId);
     return BoardDto.toDto(board, comments);
   }
 
@@ -177,7 +177,7 @@ public class BoardService {
     board.setViews(board.getViews() == null ? 1 : board.getViews() + 1);
     boardRepository.save(board);
 
-    List<Comments> comments = commentRepository.findByBoardId(boardId);
+    List<Comments> comments = commentRepository.findAllByBoardIdWithUsers(boardId);
     return BoardDto.toDto(board, comments);
   }
 
@@ -191,7 +191,7 @@ public class BoardService {
     board.setViews(board.getViews() == null ? 1 : board.getViews() + 1);
     boardRepository.save(board);
 
-    List<Comments> comments = commentRepository.findByBoardId(boardId);
+    List<Comments> comments = commentRepository.findAllByBoardIdWithUsers(boardId);
     return BoardDto.toDto(board, comments);
   }
 
@@ -205,7 +205,7 @@ public class BoardService {
   // ========== 댓글 조회 ==========
   @Transactional(readOnly = true)
   public List<Comments> getCommentsByBoardId(Long boardId) {
-    return commentRepository.findByBoardId(boardId);
+    return commentRepository.findAllByBoardIdWithUsers(boardId);
   }
 
   // ========== 배치 재검열 (관리자 기능) ==========
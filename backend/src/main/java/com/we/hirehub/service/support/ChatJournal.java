@@ -0,0 +1,231 @@
+package com.we.hirehub.service.support;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 write-behind 저널 (live_chat / help 공용)
+ * - 전송 경로는 브로드캐스트 후 append 만 하고 반환, DB 저장은 WriteBehindQueue 의 writer 가 담당
+ *   (버퍼 / 순서 보장 / 배치별 트랜잭션 / 실패 재시도·백오프 / dropped 집계는 WriteBehindQueue 참고)
+ * - 배치마다 테이블별 multi-row INSERT 1문장
+ * - 같은 세션 메시지는 append 순서대로 저장 (한 건이 실패하면 그 세션의 뒤 메시지도 함께 재시도)
+ * - mode=sync 이면 append 가 호출 스레드에서 (쌓인 것까지 포함해) 바로 저장, 실패하면 예외
+ * - 버퍼가 가득 차면 offer-timeout-ms 만큼 기다린 뒤 동기 저장으로 전환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatJournal {
+
+    public enum Kind { LIVE, HELP }
+
+    /**
+     * 저장 대기 메시지 (role 은 HELP 만 사용)
+     * - onSaved: 저장 후 발급된 id 를 받을 콜백 (최근 메시지 캐시에 id 알리기용, null 가능)
+     */
+    public record Entry(Kind kind, String sessionId, Long userId, String content, String role,
+                        LocalDateTime createAt, LongConsumer onSaved) {
+
+        public static Entry live(String sessionId, Long userId, String content, LocalDateTime createAt,
+                                 LongConsumer onSaved) {
+            return new Entry(Kind.LIVE, sessionId, userId, content, null, createAt, onSaved);
+        }
+
+        public static Entry help(String sessionId, Long userId, String content, String role, LocalDateTime createAt,
+                                 LongConsumer onSaved) {
+            return new Entry(Kind.HELP, sessionId, userId, content, role, createAt, onSaved);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${support.chat.journal.mode:async}")
+    private String initialMode;
+
+    @Value("${support.chat.journal.batch-size:100}")
+    private int batchSize;
+
+    @Value("${support.chat.journal.flush-ms:200}")
+    private long flushMs;
+
+    @Value("${support.chat.journal.capacity:10000}")
+    private int capacity;
+
+    @Value("${support.chat.journal.offer-timeout-ms:500}")
+    private long offerTimeoutMs;
+
+    @Value("${support.chat.journal.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${support.chat.journal.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private WriteBehindQueue<Entry> journal;
+
+    /** session 행 존재가 확인된 세션 id (저장은 writer 락 안에서만 → 커밋 후 반영) */
+    private final Set<String> knownSessions = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > 10_000;
+        }
+    });
+
+    private final AtomicLong overflowSync = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        journal = new WriteBehindQueue<>("chat-journal",
+                new WriteBehindQueue.Settings(batchSize, flushMs, capacity, maxAttempts, retryBackoffMs),
+                WriteBehindQueue.Mode.valueOf(initialMode.trim().toUpperCase()),
+                transactionManager, this::write,
+                e -> "kind=" + e.kind() + ", sessionId=" + e.sessionId() + ", userId=" + e.userId(),
+                Entry::sessionId);
+        journal.start();
+        log.info("📒 채팅 저널 시작: mode={}, batchSize={}, flushMs={}, capacity={}",
+                journal.getMode(), batchSize, flushMs, capacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        journal.stop();
+        log.info("🛑 채팅 저널 종료: {}", journal.stats());
+    }
+
+    public void append(Entry entry) {
+        if (entry.kind() == Kind.HELP && entry.userId() == null) {
+            // help.users_id 는 NOT NULL
+            journal.reject(entry, "사용자 없는 상담 메시지");
+            return;
+        }
+        if (journal.getMode() == WriteBehindQueue.Mode.SYNC) {
+            // 저장 실패는 호출한 전송 경로로 예외 전달 (재시도 대기열에 넣고 성공처럼 반환하지 않음)
+            journal.writeNow(entry);
+            return;
+        }
+        if (journal.offer(entry, offerTimeoutMs)) return;
+
+        log.warn("⚠️ 채팅 저널 버퍼 가득 참 → 동기 저장 (capacity={})", capacity);
+        overflowSync.incrementAndGet();
+        journal.flushNow(entry);
+    }
+
+    /**
+     * 저장 + 브로드캐스트
+     * - async: 브로드캐스트 먼저, 저장은 write-behind
+     * - sync: 먼저 저장하고 성공했을 때만 브로드캐스트 (실패하면 예외, 아무에게도 전송되지 않음)
+     */
+    public void publish(Entry entry, Runnable broadcast) {
+        if (journal.getMode() == WriteBehindQueue.Mode.SYNC) {
+            append(entry);
+            broadcast.run();
+        } else {
+            broadcast.run();
+            append(entry);
+        }
+    }
+
+    /** 버퍼에 쌓인 메시지를 호출 스레드에서 바로 저장 */
+    public void flush() {
+        journal.flush();
+    }
+
+    public WriteBehindQueue.Mode getMode() {
+        return journal.getMode();
+    }
+
+    /** 내구성 모드 전환 (ASYNC → SYNC 전환 시 쌓인 것도 바로 저장) */
+    public void setMode(WriteBehindQueue.Mode mode) {
+        journal.setMode(mode);
+        log.info("📒 채팅 저널 모드 변경: {}", mode);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = journal.stats();
+        m.put("overflowSync", overflowSync.get());
+        return m;
+    }
+
+    /* ------- writer (WriteBehindQueue 가 트랜잭션 안에서 호출) ------- */
+
+    /** session 보장 + 테이블별 multi-row INSERT → 커밋 후 knownSessions / onSaved 반영 */
+    private Runnable write(List<Entry> batch) {
+        List<Entry> live = new ArrayList<>();
+        List<Entry> help = new ArrayList<>();
+        for (Entry e : batch) {
+            (e.kind() == Kind.LIVE ? live : help).add(e);
+        }
+
+        Runnable sessions = ensureSessions(batch);
+        Runnable liveIds = insert("INSERT INTO live_chat (session_id, user_id, content, create_at) VALUES ",
+                "(?, ?, ?, ?)", live,
+                e -> new Object[]{e.sessionId(), e.userId(), e.content(), Timestamp.valueOf(e.createAt())});
+        Runnable helpIds = insert("INSERT INTO help (session_id, users_id, content, create_at, role) VALUES ",
+                "(?, ?, ?, ?, ?)", help,
+                e -> new Object[]{e.sessionId(), e.userId(), e.content(), Timestamp.valueOf(e.createAt()), e.role()});
+        return () -> {
+            sessions.run();
+            liveIds.run();
+            helpIds.run();
+        };
+    }
+
+    /** multi-row INSERT 1문장 → 커밋 후 실행할 id 콜백 */
+    private Runnable insert(String head, String tuple, List<Entry> rows, Function<Entry, Object[]> args) {
+        if (rows.isEmpty()) return () -> {};
+        String sql = head + String.join(", ", Collections.nCopies(rows.size(), tuple));
+        Object[] params = rows.stream().flatMap(e -> Arrays.stream(args.apply(e))).toArray();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < params.length; i++) ps.setObject(i + 1, params[i]);
+            return ps;
+        }, keys);
+
+        // multi-row INSERT 는 행 순서대로 키가 돌아옴
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        return () -> {
+            if (keyList.size() != rows.size()) return;
+            for (int i = 0; i < rows.size(); i++) {
+                notifySaved(rows.get(i), keyList.get(i));
+            }
+        };
+    }
+
+    private static void notifySaved(Entry row, Map<String, Object> key) {
+        if (row.onSaved() == null || key.isEmpty()) return;
+        Object id = key.values().iterator().next();
+        if (id instanceof Number n) row.onSaved().accept(n.longValue());
+    }
+
+    /** 처음 보는 세션만 session 행 보장 → 커밋 후 knownSessions 에 반영 */
+    private Runnable ensureSessions(List<Entry> batch) {
+        Set<String> unseen = batch.stream()
+                .map(Entry::sessionId)
+                .filter(id -> !knownSessions.contains(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (unseen.isEmpty()) return () -> {};
+
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO session (id, ctx) VALUES (?, JSON_OBJECT())",
+                unseen.stream().map(id -> new Object[]{id}).toList());
+        return () -> knownSessions.addAll(unseen);
+    }
+}
@@ -1,5 +1,6 @@
 package com.we.hirehub.service.support;
 
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.support.CommentsDto;
 import com.we.hirehub.entity.Board;
 import com.we.hirehub.entity.Comments;
@@ -13,7 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -105,20 +106,118 @@ public class CommentsService {
     }
 
     /**
-     * 게시글 ID로 댓글 목록 조회 (대댓글 포함)
+     * 게시글 ID로 댓글 목록 조회 (대댓글 포함, 작성순 평면 목록)
+     * - 작성자까지 1쿼리로 로딩
      */
     @Transactional(readOnly = true)
     public List<CommentsDto> getCommentsByBoardId(Long boardId) {
-        // 모든 댓글을 조회 (부모 댓글 + 대댓글)
-        List<Comments> allComments = commentRepository.findByBoardId(boardId);
-
-        // 최상위 댓글만 필터링
-        return allComments.stream()
-                .filter(comment -> comment.getParentComments() == null) // 최상위 댓글만
+        return commentRepository.findAllByBoardIdWithUsers(boardId).stream()
                 .map(this::toDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 게시글 댓글 트리 조회 (최상위 스레드 페이징)
+     * - 댓글 전체를 1쿼리로 읽고 메모리에서 O(n) 트리 조립
+     * - 스레드마다 답글은 replyLimit 개까지만 담고, replyCount 로 전체 개수 제공
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<CommentsDto.Node> getCommentTree(Long boardId, int page, int size, int replyLimit) {
+        List<CommentsDto.Node> roots = buildTree(commentRepository.findAllByBoardIdWithUsers(boardId));
+
+        int from = Math.min(page * size, roots.size());
+        int to = Math.min(from + size, roots.size());
+        List<CommentsDto.Node> content = new ArrayList<>(roots.subList(from, to));
+        content.forEach(root -> limitReplies(root, replyLimit));
+
+        int totalPages = (int) Math.ceil(roots.size() / (double) size);
+        return new PagedResponse<>(content, page, size, roots.size(), totalPages);
+    }
+
+    /**
+     * 스레드 하나 전체 조회 (잘린 답글 더보기용)
+     */
+    @Transactional(readOnly = true)
+    public CommentsDto.Node getThread(Long boardId, Long commentId) {
+        Deque<CommentsDto.Node> stack = new ArrayDeque<>(buildTree(commentRepository.findAllByBoardIdWithUsers(boardId)));
+        while (!stack.isEmpty()) {
+            CommentsDto.Node node = stack.pop();
+            if (node.getId().equals(commentId)) return node;
+            node.getChildren().forEach(stack::push);
+        }
+        throw new RuntimeException("댓글을 찾을 수 없습니다.");
+    }
+
+    /**
+     * 작성순 댓글 목록 → 트리 (최상위 댓글 목록 반환)
+     * - 상위 댓글이 목록에 없으면 최상위로 취급
+     */
+    private List<CommentsDto.Node> buildTree(List<Comments> comments) {
+        Map<Long, CommentsDto.Node> byId = new LinkedHashMap<>();
+        for (Comments c : comments) {
+            byId.put(c.getId(), CommentsDto.Node.from(c));
+        }
+
+        List<CommentsDto.Node> roots = new ArrayList<>();
+        for (CommentsDto.Node node : byId.values()) {
+            CommentsDto.Node parent = node.getParentCommentId() != null ? byId.get(node.getParentCommentId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+
+        // 하위 댓글 수: 전위 순회 결과를 역순으로 돌면 자식이 항상 부모보다 먼저 계산됨
+        List<CommentsDto.Node> preorder = new ArrayList<>(byId.size());
+        Deque<CommentsDto.Node> stack = new ArrayDeque<>(roots);
+        while (!stack.isEmpty()) {
+            CommentsDto.Node node = stack.pop();
+            preorder.add(node);
+            node.getChildren().forEach(stack::push);
+        }
+        for (int i = preorder.size() - 1; i >= 0; i--) {
+            CommentsDto.Node node = preorder.get(i);
+            int count = 0;
+            for (CommentsDto.Node child : node.getChildren()) {
+                count += child.getReplyCount() + 1;
+            }
+            node.setReplyCount(count);
+        }
+        return roots;
+    }
+
+    /**
+     * 스레드 답글을 작성순(전위 순회)으로 limit 개까지만 남김
+     */
+    private void limitReplies(CommentsDto.Node root, int limit) {
+        if (root.getReplyCount() <= limit) return;
+
+        Set<CommentsDto.Node> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.add(root);
+        int budget = limit;
+        Deque<CommentsDto.Node> stack = new ArrayDeque<>();
+        pushChildren(stack, root);
+        while (!stack.isEmpty() && budget > 0) {
+            CommentsDto.Node node = stack.pop();
+            kept.add(node);
+            budget--;
+            pushChildren(stack, node);
+        }
+
+        for (CommentsDto.Node node : kept) {
+            node.getChildren().removeIf(child -> !kept.contains(child));
+        }
+        root.setTruncated(true);
+    }
+
+    private static void pushChildren(Deque<CommentsDto.Node> stack, CommentsDto.Node node) {
+        List<CommentsDto.Node> children = node.getChildren();
+        for (int i = children.size() - 1; i >= 0; i--) {
+            stack.push(children.get(i));
+        }
+    }
+
     /**
      * Comments → CommentDto 변환
      */
@@ -1,14 +1,26 @@
 package com.we.hirehub.service.support;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.CompanyDto;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.repository.BenefitsRepository;
 import com.we.hirehub.repository.CompanyRepository;
+import com.we.hirehub.service.common.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,18 +36,117 @@ public class CompanyService {
     @Autowired
     private KakaoMapService kakaoMapService;   // ⭐ 카카오 지도 API 호출 담당
 
+    @Autowired
+    private HttpResponseCache httpResponseCache;
+
+    @Autowired
+    private ImageVariantService imageVariantService;   // 회사 사진 리사이즈 변형 srcset
+
+    // IN 절 한 번에 넘길 최대 id 수
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    // 전체 목록 스냅샷 유지 시간 (다른 노드의 회사/복리후생 수정이 반영되기까지 최대 지연)
+    @Value("${company.directory.ttl-seconds:60}")
+    private long directoryTtlSeconds;
+
+    // 회사/복리후생 변경 시 증가 → 전체 목록 캐시 무효화
+    private final AtomicLong directoryVersion = new AtomicLong(System.currentTimeMillis());
+    private volatile DirectorySnapshot directory;
+    /** 현재 스냅샷 만료 시각 (directory 와 함께 synchronized 안에서 갱신) */
+    private volatile long directoryExpiresAt;
+
+    /** 전체 회사 목록 스냅샷 */
+    public record DirectorySnapshot(long version, List<CompanyDto> companies) {}
+
     // ===============================================================
-    // 기존 기능: 전체 조회
+    // 기존 기능: 전체 조회 (캐시된 스냅샷 반환)
     // ===============================================================
     public List<CompanyDto> getAllCompanies() {
-        return companyRepository.findAll().stream()
-                .map(company -> {
-                    List<String> benefits = benefitsRepository.findByCompanyId(company.getId())
-                            .stream()
-                            .map(b -> b.getName())
-                            .collect(Collectors.toList());
-
-                    return CompanyDto.toDto(company, benefits);
+        return getDirectory().companies();
+    }
+
+    /**
+     * 전체 회사 목록 - 버전이 바뀌었거나 ttl 이 지났을 때만 다시 구성
+     * (회사 1회 + 복리후생 IN 조회 1회/1000건)
+     * - 버전은 이 노드의 쓰기만 알 수 있으므로 ttl 로 다른 노드 수정 / DB 직접 수정 반영
+     */
+    public DirectorySnapshot getDirectory() {
+        long version = directoryVersion.get();
+        DirectorySnapshot snap = directory;
+        if (isStale(snap, version)) {
+            synchronized (this) {
+                snap = directory;
+                if (isStale(snap, version)) {
+                    List<Company> companies = companyRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+                    snap = new DirectorySnapshot(version, List.copyOf(toDtos(companies)));
+                    directory = snap;
+                    directoryExpiresAt = System.currentTimeMillis() + directoryTtlSeconds * 1000;
+                }
+            }
+        }
+        return snap;
+    }
+
+    private boolean isStale(DirectorySnapshot snap, long version) {
+        return snap == null || snap.version() != version || System.currentTimeMillis() >= directoryExpiresAt;
+    }
+
+    /** 회사 id 목록 → 복리후생 이름 목록 (IN 쿼리, 청크 단위) */
+    public Map<Long, List<String>> getBenefitNames(Collection<Long> companyIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        List<Long> ids = new ArrayList<>(companyIds);
+        for (int i = 0; i < ids.size(); i += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(i + IN_CHUNK_SIZE, ids.size()));
+            for (Object[] row : benefitsRepository.findNamesByCompanyIdIn(chunk)) {
+                result.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 회사/복리후생 변경 시 호출 - 트랜잭션 안이면 커밋 후 무효화 (공개 회사 응답 캐시 포함)
+     * - 목록 버전을 먼저 올리고 응답 캐시를 비움 (CompanyStatsService 와 같은 순서)
+     */
+    public void evictDirectory() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    directoryVersion.incrementAndGet();
+                    httpResponseCache.invalidateNow(HttpResponseCache.COMPANY);
+                }
+            });
+        } else {
+            directoryVersion.incrementAndGet();
+            httpResponseCache.invalidateNow(HttpResponseCache.COMPANY);
+        }
+    }
+
+    /** 회사 사진 변형이 다 만들어지면 목록/상세 캐시 무효화 (srcset 반영) */
+    @EventListener
+    public void onVariantsReady(ImageVariantService.VariantsReady event) {
+        if (event.key().startsWith("company/")) evictDirectory();
+    }
+
+    /** 상세 응답용 DTO (복리후생 + 사진 srcset) */
+    public CompanyDto toDto(Company company, List<String> benefits) {
+        CompanyDto dto = CompanyDto.toDto(company, benefits);
+        if (dto != null) dto.setPhotoSrcset(imageVariantService.srcsetOf(company.getPhoto()));
+        return dto;
+    }
+
+    private List<CompanyDto> toDtos(List<Company> companies) {
+        if (companies.isEmpty()) return List.of();
+        Map<Long, List<String>> benefits = getBenefitNames(
+                companies.stream().map(Company::getId).toList());
+        Map<String, String> srcsets = imageVariantService.srcsets(
+                companies.stream().map(Company::getPhoto).toList());
+        return companies.stream()
+                .map(c -> {
+                    CompanyDto dto = CompanyDto.toDto(c, benefits.getOrDefault(c.getId(), List.of()));
+                    dto.setPhotoSrcset(srcsets.get(c.getPhoto()));
+                    return dto;
                 })
                 .collect(Collectors.toList());
     }
@@ -46,6 +157,7 @@ public class CompanyService {
     public CompanyDto createCompany(CompanyDto companyDto) {
         Company company = CompanyDto.toEntity(companyDto);
         company = companyRepository.save(company);
+        evictDirectory();
 
         List<String> benefits = benefitsRepository.findByCompanyId(company.getId())
                 .stream()
@@ -60,6 +172,7 @@ public class CompanyService {
     // ===============================================================
     public void deleteCompany(Long id) {
         companyRepository.deleteById(id);
+        evictDirectory();
     }
 
     // ===============================================================
@@ -89,7 +202,9 @@ public class CompanyService {
     }
 
     public Company save(Company company) {
-        return companyRepository.save(company);
+        Company saved = companyRepository.save(company);
+        evictDirectory();
+        return saved;
     }
 
     // ===============================================================
@@ -143,6 +258,7 @@ public class CompanyService {
         // CompanyDto에는 description, industry, ceo, photo 등 없음 → 제외
 
         companyRepository.save(company);
+        evictDirectory();
 
         // ------------------------------------------------------------
         // 혜택 조회 후 DTO로 변환
@@ -0,0 +1,184 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.config.HttpResponseCache;
+import com.we.hirehub.dto.support.ChatBotDto;
+import com.we.hirehub.dto.support.FaqCategoryDto;
+import com.we.hirehub.dto.support.FaqItemDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 챗봇 FAQ 카탈로그
+ * - chat_bot 의 header/item 행을 생성 컬럼(meta_type/meta_category/meta_order) 인덱스로 한 번만 읽어
+ *   대표 목록 / 카테고리별 목록 / 계층형 목록을 미리 만든 불변 스냅샷으로 보관
+ * - 관리자 수정 시 refresh() → 다음 조회 때 다시 구성
+ * - refresh() 는 이 노드만 알 수 있으므로 ttl-seconds 가 지나면 다시 읽음 (다른 노드 수정 / DB 직접 수정 반영)
+ * - etag 는 내용 해시라 노드/재기동이 달라도 같은 내용이면 같은 값
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FaqCatalogService {
+
+    private static final int TOP_SIZE = 4;
+    private static final int DEFAULT_ORDER = 999;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HttpResponseCache httpResponseCache;
+
+    @Value("${support.faq.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+    /** 현재 스냅샷 만료 시각 (snapshot 과 함께 synchronized 안에서 갱신) */
+    private volatile long expiresAt;
+
+    /** FAQ 스냅샷 (etag = 조건부 요청용) */
+    public record Snapshot(long version,
+                           String etag,
+                           List<ChatBotDto> top,
+                           Map<String, List<ChatBotDto>> byCategory,
+                           List<FaqCategoryDto> categories) {
+
+        public List<ChatBotDto> category(String name) {
+            return byCategory.getOrDefault(name, List.of());
+        }
+    }
+
+    /** 한 행 (meta 는 생성 컬럼 값) */
+    private record Row(long id, String content, String botAnswer, String type, String category, Integer order) {}
+
+    /** 현재 스냅샷 - 버전이 바뀌었거나 ttl 이 지났을 때만 다시 구성 */
+    public Snapshot get() {
+        long v = version.get();
+        Snapshot snap = snapshot;
+        if (isStale(snap, v)) {
+            synchronized (this) {
+                snap = snapshot;
+                if (isStale(snap, v)) {
+                    snap = build(v);
+                    snapshot = snap;
+                    expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+                }
+            }
+        }
+        return snap;
+    }
+
+    private boolean isStale(Snapshot snap, long v) {
+        return snap == null || snap.version() != v || System.currentTimeMillis() >= expiresAt;
+    }
+
+    /**
+     * FAQ 변경 시 호출 - 트랜잭션 안이면 커밋 후 무효화 (공개 FAQ 응답 캐시 포함)
+     * - 스냅샷 버전을 먼저 올리고 응답 캐시를 비움 (반대 순서면 그 사이 요청이 이전 스냅샷을 새 응답 버전으로 저장)
+     */
+    public void refresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                    httpResponseCache.invalidateNow(HttpResponseCache.FAQ);
+                }
+            });
+        } else {
+            version.incrementAndGet();
+            httpResponseCache.invalidateNow(HttpResponseCache.FAQ);
+        }
+    }
+
+    private Snapshot build(long v) {
+        // (meta_type, onoff, ...) 인덱스 사용, AI 대화 행(meta_type NULL)은 읽지 않음
+        List<Row> rows = jdbcTemplate.query("""
+                SELECT id, content, bot_answer, meta_type, meta_category, meta_order
+                FROM chat_bot
+                WHERE meta_type IN ('header', 'item') AND onoff = 1
+                ORDER BY meta_order, id
+                """,
+                (rs, i) -> new Row(
+                        rs.getLong("id"),
+                        rs.getString("content"),
+                        rs.getString("bot_answer"),
+                        rs.getString("meta_type"),
+                        rs.getString("meta_category"),
+                        rs.getObject("meta_order", Integer.class)));
+
+        List<Row> items = rows.stream().filter(r -> "item".equals(r.type())).toList();
+
+        // 대표 목록 / 카테고리별 목록: 기존 SQL 과 같은 순서 (order 오름차순, NULL 먼저, id)
+        List<ChatBotDto> top = items.stream().limit(TOP_SIZE).map(FaqCatalogService::toDto).toList();
+        Map<String, List<ChatBotDto>> byCategory = items.stream()
+                .filter(r -> r.category() != null)
+                .collect(Collectors.groupingBy(Row::category, LinkedHashMap::new,
+                        Collectors.mapping(FaqCatalogService::toDto, Collectors.toUnmodifiableList())));
+
+        Snapshot snap = new Snapshot(v, etagOf(rows), top, Collections.unmodifiableMap(byCategory),
+                buildCategories(rows));
+        log.info("📚 FAQ 카탈로그 구성: 항목 {}개, 카테고리 {}개, etag={}", items.size(), snap.categories().size(), snap.etag());
+        return snap;
+    }
+
+    /** 계층형 목록: header 가 있는 카테고리만, order 없으면 999 */
+    private static List<FaqCategoryDto> buildCategories(List<Row> rows) {
+        Map<String, Row> headers = new LinkedHashMap<>();
+        Map<String, List<Row>> itemsByCategory = new HashMap<>();
+        for (Row r : rows) {
+            if (r.category() == null) continue;
+            if ("header".equals(r.type())) {
+                headers.put(r.category(), r);
+            } else {
+                itemsByCategory.computeIfAbsent(r.category(), k -> new ArrayList<>()).add(r);
+            }
+        }
+
+        return headers.values().stream()
+                .sorted(Comparator.comparingInt(FaqCatalogService::orderOf))
+                .filter(h -> itemsByCategory.containsKey(h.category()))
+                .map(h -> FaqCategoryDto.builder()
+                        .id((long) h.category().hashCode())
+                        .category(h.category())
+                        .description(h.botAnswer() != null ? h.botAnswer() : h.category())
+                        .items(itemsByCategory.get(h.category()).stream()
+                                .sorted(Comparator.comparingInt(FaqCatalogService::orderOf))
+                                .map(r -> FaqItemDto.builder()
+                                        .id(r.id())
+                                        .question(r.content())
+                                        .answer(r.botAnswer())
+                                        .category(r.category())
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    private static int orderOf(Row r) {
+        return r.order() != null ? r.order() : DEFAULT_ORDER;
+    }
+
+    private static ChatBotDto toDto(Row r) {
+        return ChatBotDto.builder()
+                .id(r.id())
+                .content(r.content())
+                .botAnswer(r.botAnswer())
+                .category(r.category() != null ? r.category() : "")
+                .build();
+    }
+
+    private static String etagOf(List<Row> rows) {
+        String joined = rows.stream().map(Row::toString).collect(Collectors.joining("\n"));
+        return "\"faq-" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
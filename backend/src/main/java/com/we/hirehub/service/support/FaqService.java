@@ -9,17 +9,32 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FaqService {
+    /** 더미 데이터는 바뀌지 않으므로 클래스 로딩 시 한 번만 구성 */
+    private static final List<FaqCategoryDto> CATEGORIES = buildCategories();
+
+    private static final Map<String, FaqCategoryDto> BY_CATEGORY = CATEGORIES.stream()
+            .collect(Collectors.toUnmodifiableMap(FaqCategoryDto::getCategory, Function.identity()));
+
+    private static final Map<Long, FaqItemDto> BY_ID = CATEGORIES.stream()
+            .flatMap(cat -> cat.getItems().stream())
+            .collect(Collectors.toUnmodifiableMap(FaqItemDto::getId, Function.identity()));
+
     /**
      * 더미 데이터 - 계층형 FAQ 목록 반환
      */
     public List<FaqCategoryDto> getFaqCategories() {
-        log.info("=== FAQ 카테고리 목록 조회 ===");
+        return CATEGORIES;
+    }
 
+    private static List<FaqCategoryDto> buildCategories() {
         List<FaqCategoryDto> categories = new ArrayList<>();
 
         // 1. 지원관리
@@ -110,32 +125,20 @@ public class FaqService {
                 .items(jobPostingItems)
                 .build());
 
-        log.info("총 {} 개 카테고리 조회 완료", categories.size());
-        return categories;
+        return List.copyOf(categories);
     }
 
     /**
      * 특정 카테고리의 FAQ 항목만 조회
      */
     public FaqCategoryDto getFaqByCategory(String categoryName) {
-        log.info("=== 카테고리별 FAQ 조회: {} ===", categoryName);
-
-        return getFaqCategories().stream()
-                .filter(cat -> cat.getCategory().equals(categoryName))
-                .findFirst()
-                .orElse(null);
+        return BY_CATEGORY.get(categoryName);
     }
 
     /**
      * 특정 FAQ 항목 상세 조회
      */
     public FaqItemDto getFaqById(Long id) {
-        log.info("=== FAQ 상세 조회: {} ===", id);
-
-        return getFaqCategories().stream()
-                .flatMap(cat -> cat.getItems().stream())
-                .filter(item -> item.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return id != null ? BY_ID.get(id) : null;
     }
 }
@@ -6,17 +6,22 @@ import com.we.hirehub.entity.Session;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.HelpRepository;
 import com.we.hirehub.repository.SessionRepository;
+import com.we.hirehub.ws.ChatUser;
+import com.we.hirehub.ws.SupportQueue;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,58 +32,102 @@ public class HelpService {
     private final HelpRepository helpRepository;
     private final SessionRepository sessionRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatJournal chatJournal;
+    private final SupportQueue supportQueue;
+
+    @Value("${support.chat.history.window:100}")
+    private int historyWindow;
+
+    @Value("${support.chat.history.max-rooms:1000}")
+    private int historyMaxRooms;
+
+    @Value("${support.chat.history.ttl-seconds:10}")
+    private long historyTtlSeconds;
+
+    /** 방별 최근 메시지 창 (재접속/상담사 입장 시 DB 조회 없이 응답) */
+    private RecentMessageCache<HelpDto> recentCache;
+
+    @PostConstruct
+    void initCache() {
+        recentCache = new RecentMessageCache<>(historyWindow, historyMaxRooms, historyTtlSeconds * 1000,
+                HelpDto::getId, (dto, id) -> dto.toBuilder().id(id).build());
+    }
 
     /**
-     * 최근 메시지 조회 - Fetch Join으로 N+1 문제 해결
+     * 최근 메시지 조회 (오래된 → 최신 순)
+     * - 최근 창 안이면 캐시에서, 창보다 많이 요청하면 DB 에서
+     * - 저장 대기 중인 메시지는 id 없이 내려갈 수 있음 (조회 경로에서는 저널을 flush 하지 않음)
      */
     @Transactional(readOnly = true)
     public List<HelpDto> getRecentMessages(String sessionId, int limit) {
-        PageRequest pageRequest = PageRequest.of(0, limit);
-        List<Help> helps = helpRepository.findBySessionIdWithUser(sessionId, pageRequest);
-
-        return helps.stream()
-                .sorted((a, b) -> a.getCreateAt().compareTo(b.getCreateAt()))
-                .map(HelpDto::from)
-                .collect(Collectors.toList());
+        List<HelpDto> messages = limit <= historyWindow
+                ? recentCache.latest(sessionId, limit, () -> loadLatest(sessionId, historyWindow))
+                : reverse(loadLatest(sessionId, limit));
+        return messages;
     }
 
     /**
-     * 상담 채팅 메시지 전송 (DB 저장 + WebSocket 브로드캐스트)
+     * beforeId 이전 메시지 조회 (keyset 페이지네이션, 오래된 → 최신 순)
+     * - 캐시 창 안에서 채울 수 있으면 캐시, 아니면 id < beforeId 범위 조회
      */
-    @Transactional
-    public void send(String sessionId, String content, String role, Users authenticatedUser) {
-        log.info("=== 상담 채팅 메시지 전송 시작 ===");
-        log.info("sessionId: {}, content: {}, role: {}", sessionId, content, role);
-        log.info("전달받은 authenticatedUser: {}", authenticatedUser != null ? authenticatedUser.getId() : "null");
+    @Transactional(readOnly = true)
+    public List<HelpDto> getMessagesBefore(String sessionId, long beforeId, int limit) {
+        List<HelpDto> cached = recentCache.before(sessionId, beforeId, limit);
+        if (cached != null) return cached;
 
-        // 1. Session 조회/생성
-        Session session = findOrCreateSession(sessionId);
+        List<HelpDto> newestFirst = helpRepository.findPageBefore(sessionId, beforeId, PageRequest.of(0, limit))
+                .stream()
+                .map(HelpDto::from)
+                .collect(Collectors.toList());
+        return reverse(newestFirst);
+    }
 
-        // 2. 사용자 및 닉네임 결정
-        String finalNickname = determineFinalNickname(authenticatedUser, role);
-        log.info("최종 닉네임: {}, User ID: {}, Role: {}",
-                finalNickname,
-                authenticatedUser != null ? authenticatedUser.getId() : "null",
-                role);
+    /** DB 에 저장된 최신순 조회 (저널에 남은 메시지는 캐시가 뒤에 붙임) */
+    private List<HelpDto> loadLatest(String sessionId, int size) {
+        return helpRepository.findLatestPage(sessionId, PageRequest.of(0, size))
+                .stream()
+                .map(HelpDto::from)
+                .collect(Collectors.toList());
+    }
 
-        // 3. 메시지 저장 (DB에 저장)
-        Help saved = saveMessage(session, content, role, authenticatedUser);
-        log.info("✅ 메시지 DB 저장 완료 - ID: {}, User ID: {}, Role: {}",
-                saved.getId(),
-                saved.getUsers() != null ? saved.getUsers().getId() : "null",
-                saved.getRole());
+    private static List<HelpDto> reverse(List<HelpDto> newestFirst) {
+        List<HelpDto> list = new ArrayList<>(newestFirst);
+        Collections.reverse(list);
+        return list;
+    }
 
-        // 4. DTO 생성
-        HelpDto dto = HelpDto.forSend(saved, finalNickname);
+    /**
+     * 상담 채팅 메시지 전송 (REST 경로 호환용)
+     */
+    public void send(String sessionId, String content, String role, Users authenticatedUser) {
+        send(sessionId, content, role, authenticatedUser != null ? ChatUser.of(authenticatedUser) : null);
+    }
 
-        log.info("📤 WebSocket으로 전송할 DTO: id={}, userId={}, nickname={}, role={}",
-                dto.getId(), dto.getUserId(), dto.getNickname(), dto.getRole());
-        log.info("전송 대상 토픽: /topic/rooms/{}", sessionId);
+    /**
+     * 상담 채팅 메시지 전송
+     * - 브로드캐스트를 먼저 하고 DB 저장은 ChatJournal 이 모아서 multi-row INSERT
+     * - 요청 스레드에서는 DB 조회/저장 없음 (journal mode=sync 이면 저장 후 브로드캐스트, 실패 시 예외)
+     */
+    public HelpDto send(String sessionId, String content, String role, ChatUser user) {
+        LocalDateTime now = LocalDateTime.now();
+        String nickname = "ADMIN".equals(role) ? "상담사" : (user != null ? user.displayName() : "익명");
 
-        // 5. WebSocket으로 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/rooms/" + sessionId, dto);
+        HelpDto dto = HelpDto.builder()
+                .content(content)
+                .createAt(now)
+                .sessionId(sessionId)
+                .userId(user != null ? user.userId() : null)
+                .nickname(nickname)
+                .role(role)
+                .build();
 
-        log.info("=== 상담 채팅 메시지 전송 완료 ===");
+        long ref = recentCache.reserve();
+        chatJournal.publish(ChatJournal.Entry.help(sessionId, dto.getUserId(), content, role, now,
+                        id -> recentCache.saved(sessionId, ref, id)),
+                () -> messagingTemplate.convertAndSend("/topic/rooms/" + sessionId, dto));
+        // 사용자 없는 메시지는 저널에서 저장하지 않으므로 캐시에도 넣지 않음
+        if (dto.getUserId() != null) recentCache.append(sessionId, ref, dto);
+        return dto;
     }
 
     /**
@@ -92,8 +141,9 @@ public class HelpService {
         // 1. Session 조회/생성
         Session session = findOrCreateSession(sessionId);
 
-        // 2. 메시지 저장
+        // 2. 메시지 저장 (캐시를 거치지 않으므로 해당 방 창은 비움)
         Help saved = saveMessage(session, content, role, authenticatedUser);
+        recentCache.evict(sessionId);
         log.info("✅ 메시지 DB 저장 완료 (브로드캐스트 제외) - ID: {}, User ID: {}, Role: {}",
                 saved.getId(),
                 saved.getUsers() != null ? saved.getUsers().getId() : "null",
@@ -118,7 +168,9 @@ public class HelpService {
                 .role("SYS")
                 .build();
 
-        return helpRepository.save(help);
+        Help saved = helpRepository.save(help);
+        recentCache.evict(sessionId);
+        return saved;
     }
 
     /**
@@ -154,29 +206,19 @@ public class HelpService {
     /**
      * ✅ 미처리 상담 요청 조회
      * 관리자가 로그인 시 이전에 요청된 미처리 상담들을 확인
+     * - help 테이블 GROUP BY 대신 상담 대기열(공유 저장소)의 PENDING 방 스냅샷 사용
      */
-    @Transactional(readOnly = true)
     public List<HelpDto> getPendingRequests() {
-        List<Help> pendingHelps = helpRepository.findPendingRequests();
-
-        return pendingHelps.stream()
-                .map(help -> {
-                    String nickname = "익명";
-                    if (help.getUsers() != null) {
-                        if (help.getUsers().getNickname() != null && !help.getUsers().getNickname().trim().isEmpty()) {
-                            nickname = help.getUsers().getNickname();
-                        } else if (help.getUsers().getName() != null && !help.getUsers().getName().trim().isEmpty()) {
-                            nickname = help.getUsers().getName();
-                        }
-                    }
+        return supportQueue.pending().stream()
+                .map(room -> {
+                    ChatUser user = room.chatUser();
                     return HelpDto.builder()
-                            .id(help.getId())
-                            .sessionId(help.getSession().getId())
-                            .userId(help.getUsers() != null ? help.getUsers().getId() : null)
-                            .nickname(nickname)
+                            .sessionId(room.roomId)
+                            .userId(room.userId)
+                            .nickname(user != null ? user.displayName() : "익명")
                             .content("상담 요청")
                             .role("SYS")
-                            .createAt(help.getRequestAt())
+                            .createAt(room.requestedAt)
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -212,29 +254,4 @@ public class HelpService {
 
         return helpRepository.save(help);
     }
-
-    /**
-     * 최종 닉네임 결정 로직
-     */
-    private String determineFinalNickname(Users user, String role) {
-        // ADMIN 역할이면 무조건 "상담사"
-        if ("ADMIN".equals(role)) {
-            return "상담사";
-        }
-
-        // USER 역할인 경우
-        if (user != null) {
-            log.info("✅ 인증된 사용자 - ID: {}, 닉네임: {}, 이름: {}",
-                    user.getId(), user.getNickname(), user.getName());
-
-            return Optional.ofNullable(user.getNickname())
-                    .filter(n -> !n.trim().isEmpty())
-                    .orElse(Optional.ofNullable(user.getName())
-                            .filter(n -> !n.trim().isEmpty())
-                            .orElse("익명"));
-        } else {
-            log.warn("⚠ 인증되지 않은 사용자");
-            return "익명";
-        }
-    }
 }
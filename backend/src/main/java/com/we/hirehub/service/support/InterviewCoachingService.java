@@ -3,19 +3,22 @@ package com.we.hirehub.service.support;
 import com.we.hirehub.dto.aiMapper.InterviewCoachingHistoryDto;
 import com.we.hirehub.dto.aiMapper.InterviewSessionDto;
 import com.we.hirehub.dto.aiMapper.SaveInterviewCoachingRequest;
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.entity.Coach;
+import com.we.hirehub.entity.CoachSession;
 import com.we.hirehub.entity.Resume;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.CoachRepository;
+import com.we.hirehub.repository.CoachSessionRepository;
 import com.we.hirehub.repository.ResumeRepository;
 import com.we.hirehub.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,7 +27,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class InterviewCoachingService {
 
+  private static final int MAX_PAGE_SIZE = 50;
+
   private final CoachRepository coachRepository;
+  private final CoachSessionRepository coachSessionRepository;
   private final UsersRepository usersRepository;
   private final ResumeRepository resumeRepository;
 
@@ -37,7 +43,18 @@ public class InterviewCoachingService {
     Resume resume = resumeRepository.findById(request.getResumeId())
         .orElseThrow(() -> new RuntimeException("이력서를 찾을 수 없습니다."));
 
-    List<Coach> savedCoaches = new ArrayList<>();
+    if (request.getSessions() == null || request.getSessions().isEmpty()) {
+      throw new RuntimeException("저장할 코칭 기록이 없습니다.");
+    }
+
+    // 이번 코칭 세션 (질문 행들은 coach_session_id 로 묶음)
+    CoachSession coachSession = coachSessionRepository.save(CoachSession.builder()
+        .user(user)
+        .resume(resume)
+        .jobPostLink(request.getJobPostLink())
+        .companyLink(request.getCompanyLink())
+        .createdAt(LocalDateTime.now())
+        .build());
 
     // 각 세션을 Coach로 저장
     for (InterviewSessionDto session : request.getSessions()) {
@@ -49,6 +66,7 @@ public class InterviewCoachingService {
       Coach coach = Coach.builder()
           .user(user)
           .resume(resume)
+          .coachSession(coachSession)
           .jobPosts(null)
           .company(null)
           .question(safeQuestion)
@@ -59,127 +77,76 @@ public class InterviewCoachingService {
           .companyLink(request.getCompanyLink())
           .build();
 
-      savedCoaches.add(coachRepository.save(coach));
+      coachRepository.save(coach);
     }
 
-    Coach firstCoach = savedCoaches.get(0);
-
     return InterviewCoachingHistoryDto.builder()
-        .id(firstCoach.getId())
+        .id(coachSession.getId())
         .resumeId(resume.getId())
         .resumeTitle(request.getResumeTitle())
         .jobPostLink(request.getJobPostLink())
         .companyLink(request.getCompanyLink())
         .sessions(request.getSessions())
-        .createdAt(LocalDateTime.now())
+        .createdAt(coachSession.getCreatedAt())
         .build();
   }
 
   @Transactional(readOnly = true)
-  public List<InterviewCoachingHistoryDto> getHistoryList(String email) {
+  public PagedResponse<InterviewCoachingHistoryDto> getHistoryList(String email, int page, int size) {
     Users user = usersRepository.findByEmail(email)
         .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-    // 🔥 최신순으로 정렬 (내림차순)
-    List<Coach> coaches = coachRepository.findByUserOrderByIdDesc(user);
-
-    // Resume ID와 ID 간격을 기준으로 그룹핑
-    Map<String, List<Coach>> groupedBySession = new LinkedHashMap<>();
-
-    Long currentSessionId = null;
-    Long currentResumeId = null;
-
-    // 🔥 내림차순으로 정렬된 데이터를 역순으로 처리
-    for (int i = coaches.size() - 1; i >= 0; i--) {
-      Coach coach = coaches.get(i);
-      Long coachResumeId = coach.getResume().getId();
-
-      // Resume ID가 다르거나, ID 간격이 10보다 크면 새로운 세션
-      if (currentSessionId == null ||
-          !coachResumeId.equals(currentResumeId) ||
-          Math.abs(currentSessionId - coach.getId()) > 10) {
-        currentSessionId = coach.getId();
-        currentResumeId = coachResumeId;
-      }
-
-      String sessionKey = currentResumeId + "_" + currentSessionId;
-      groupedBySession.computeIfAbsent(sessionKey, k -> new ArrayList<>()).add(coach);
+    // 세션 목록 1페이지 (최신순, +count) + 그 세션들의 질문을 IN 조회 1번
+    Page<CoachSession> coachSessions = coachSessionRepository.findPageByUserId(
+        user.getId(), PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+    if (coachSessions.isEmpty()) {
+      return new PagedResponse<>(List.of(), coachSessions.getNumber(), coachSessions.getSize(),
+          coachSessions.getTotalElements(), coachSessions.getTotalPages());
     }
 
-    // 🔥 각 세션 내의 coaches를 ID 오름차순으로 정렬 (시간순)
-    groupedBySession.values().forEach(sessionCoaches ->
-        sessionCoaches.sort((a, b) -> Long.compare(a.getId(), b.getId()))
-    );
-
-    // 🔥 최신 세션이 먼저 오도록 역순으로 변환
-    List<InterviewCoachingHistoryDto> result = new ArrayList<>();
-    List<List<Coach>> sessionList = new ArrayList<>(groupedBySession.values());
-    for (int i = sessionList.size() - 1; i >= 0; i--) {
-      result.add(convertToHistoryDto(sessionList.get(i)));
-    }
-
-    return result;
+    Map<Long, List<Coach>> bySession = coachRepository.findBySessionIds(
+            coachSessions.stream().map(CoachSession::getId).toList())
+        .stream()
+        .collect(Collectors.groupingBy(c -> c.getCoachSession().getId()));
+
+    return new PagedResponse<>(
+        coachSessions.stream()
+            .filter(cs -> bySession.containsKey(cs.getId()))
+            .map(cs -> convertToHistoryDto(cs, bySession.get(cs.getId())))
+            .collect(Collectors.toList()),
+        coachSessions.getNumber(), coachSessions.getSize(),
+        coachSessions.getTotalElements(), coachSessions.getTotalPages());
   }
 
   @Transactional(readOnly = true)
-  public InterviewCoachingHistoryDto getHistoryDetail(String email, Long coachId) {
-    Users user = usersRepository.findByEmail(email)
-        .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-    Coach coach = coachRepository.findById(coachId)
-        .orElseThrow(() -> new RuntimeException("이력을 찾을 수 없습니다."));
-
-    if (!coach.getUser().getId().equals(user.getId())) {
-      throw new RuntimeException("접근 권한이 없습니다.");
-    }
+  public InterviewCoachingHistoryDto getHistoryDetail(String email, Long sessionId) {
+    CoachSession coachSession = findOwnedSession(email, sessionId);
+    return convertToHistoryDto(coachSession, coachRepository.findBySessionIds(List.of(coachSession.getId())));
+  }
 
-    // 같은 세션의 Coach들 찾기 (ID 기준 ±10 이내)
-    List<Coach> allCoaches = coachRepository.findByUserOrderByIdDesc(coach.getUser());
-    List<Coach> sessionCoaches = allCoaches.stream()
-        .filter(c -> Math.abs(c.getId() - coach.getId()) <= 10)
-        .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
-        .collect(Collectors.toList());
+  @Transactional
+  public void deleteHistory(String email, Long sessionId) {
+    CoachSession coachSession = findOwnedSession(email, sessionId);
 
-    return convertToHistoryDto(sessionCoaches);
+    // 같은 세션의 Coach들 모두 삭제
+    coachRepository.deleteBySessionId(coachSession.getId());
+    coachSessionRepository.delete(coachSession);
   }
 
-  @Transactional
-  public void deleteHistory(String email, Long coachId) {
+  /** 세션 id + 소유자로 바로 조회 */
+  private CoachSession findOwnedSession(String email, Long sessionId) {
     Users user = usersRepository.findByEmail(email)
         .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
-    Coach coach = coachRepository.findById(coachId)
+    return coachSessionRepository.findByIdAndUserId(sessionId, user.getId())
         .orElseThrow(() -> new RuntimeException("이력을 찾을 수 없습니다."));
-
-    if (!coach.getUser().getId().equals(user.getId())) {
-      throw new RuntimeException("접근 권한이 없습니다.");
-    }
-
-    // 같은 세션의 Coach들 모두 삭제
-    List<Coach> allCoaches = coachRepository.findByUserOrderByIdDesc(coach.getUser());
-    List<Coach> sessionCoaches = allCoaches.stream()
-        .filter(c -> Math.abs(c.getId() - coach.getId()) <= 10)
-        .collect(Collectors.toList());
-
-    coachRepository.deleteAll(sessionCoaches);
   }
 
-  private InterviewCoachingHistoryDto convertToHistoryDto(List<Coach> coaches) {
+  /** coaches 는 id 오름차순 (질문 순서) */
+  private InterviewCoachingHistoryDto convertToHistoryDto(CoachSession coachSession, List<Coach> coaches) {
     if (coaches.isEmpty()) {
       throw new RuntimeException("코칭 기록이 없습니다.");
     }
 
-    // 🔥 ID 오름차순으로 정렬 (질문 순서 보장)
-    coaches.sort((a, b) -> Long.compare(a.getId(), b.getId()));
-
-    Coach firstCoach = coaches.get(0);
-
-    // 링크가 있는 coach 찾기
-    Coach coachWithLinks = coaches.stream()
-        .filter(c -> c.getJobPostLink() != null || c.getCompanyLink() != null)
-        .findFirst()
-        .orElse(firstCoach);
-
     List<InterviewSessionDto> sessions = coaches.stream()
         .map(coach -> InterviewSessionDto.builder()
             .question(coach.getQuestion())
@@ -190,13 +157,13 @@ public class InterviewCoachingService {
         .collect(Collectors.toList());
 
     return InterviewCoachingHistoryDto.builder()
-        .id(firstCoach.getId())
-        .resumeId(firstCoach.getResume().getId())
-        .resumeTitle(firstCoach.getResume().getTitle())
-        .jobPostLink(coachWithLinks.getJobPostLink())
-        .companyLink(coachWithLinks.getCompanyLink())
+        .id(coachSession.getId())
+        .resumeId(coachSession.getResume().getId())
+        .resumeTitle(coachSession.getResume().getTitle())
+        .jobPostLink(coachSession.getJobPostLink())
+        .companyLink(coachSession.getCompanyLink())
         .sessions(sessions)
-        .createdAt(LocalDateTime.now())
+        .createdAt(coachSession.getCreatedAt())
         .build();
   }
 
@@ -5,6 +5,7 @@ import com.we.hirehub.config.AiEmbeddingClient;
 import com.we.hirehub.entity.JobPosts;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -19,10 +20,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class JobPostAiService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
     private final AiEmbeddingClient aiEmbeddingClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Value("${ai.server-url:http://localhost:8000}")
+    private String aiServerUrl;
+
     /**
      * 공고의 Summary와 Embedding을 자동 생성
      * @param jobPost 공고 엔티티
@@ -80,7 +84,7 @@ public class JobPostAiService {
     /**
      * 공고의 전체 텍스트 조합
      */
-    private String buildFullText(JobPosts p) {
+    public String buildFullText(JobPosts p) {
         StringBuilder sb = new StringBuilder();
 
         // 제목
@@ -132,33 +136,40 @@ public class JobPostAiService {
      */
     private String generateSummary(String fullText) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            String jsonBody = "{\"text\": " + objectMapper.writeValueAsString(fullText) + "}";
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-
-            Map response = restTemplate.postForObject(
-                    "http://localhost:8000/ai/summarize",
-                    entity,
-                    Map.class
-            );
-
-            if (response != null) {
-                String summary = (String) response.get("summary");
-
-                // 유효성 검증
-                if (summary != null && !summary.contains("요약 부족으로 재생성 불가")
-                        && !summary.contains("모델 무응답")) {
-                    return summary;
-                }
-            }
-
-            return null;
-
+            return summarize(fullText);
         } catch (Exception e) {
             log.error("Summary 생성 API 호출 실패: {}", e.getMessage());
             return null;
         }
     }
+
+    /**
+     * FastAPI /ai/summarize 호출 - 통신 오류는 호출자에게 그대로 전달
+     * @return 유효한 요약, 모델이 거절한 경우 null
+     */
+    public String summarize(String fullText) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String jsonBody = "{\"text\": " + objectMapper.writeValueAsString(fullText) + "}";
+        HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
+
+        Map response = aiRestTemplate.postForObject(
+                aiServerUrl + "/ai/summarize",
+                entity,
+                Map.class
+        );
+
+        if (response != null) {
+            String summary = (String) response.get("summary");
+
+            // 유효성 검증
+            if (summary != null && !summary.contains("요약 부족으로 재생성 불가")
+                    && !summary.contains("모델 무응답")) {
+                return summary;
+            }
+        }
+
+        return null;
+    }
 }
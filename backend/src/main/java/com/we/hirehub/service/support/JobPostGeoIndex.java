@@ -0,0 +1,158 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.repository.JobPostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공고 좌표 메모리 공간 인덱스 (격자 버킷)
+ * - 위경도를 CELL_DEG 간격 격자로 나눠 버킷에 공고 id 보관
+ * - 반경 검색은 bounding box 에 걸치는 버킷만 확인 후 하버사인 거리로 필터
+ * - 공고 등록/수정/삭제 시 put/remove 로 갱신 (트랜잭션 안이면 커밋 후 반영 → 롤백된 변경은 남지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobPostGeoIndex {
+
+    // 약 5.5km (위도 기준)
+    private static final double CELL_DEG = 0.05;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final JobPostsRepository jobPostsRepository;
+
+    private final Map<Long, double[]> positions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+    public record Hit(Long jobPostId, double distanceKm) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        positions.clear();
+        buckets.clear();
+        for (Object[] row : jobPostsRepository.findAllCoordinates()) {
+            applyPut((Long) row[0], (Double) row[1], (Double) row[2]);
+        }
+        log.info("📍 공고 좌표 인덱스 구성 완료 - {}건", positions.size());
+    }
+
+    public void put(Long id, Double lat, Double lng) {
+        if (id == null) return;
+        afterCommit(() -> applyPut(id, lat, lng));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> applyRemove(id));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private void applyPut(Long id, Double lat, Double lng) {
+        if (lat == null || lng == null) {
+            applyRemove(id);
+            return;
+        }
+        double[] prev = positions.put(id, new double[]{lat, lng});
+        if (prev != null) {
+            long prevCell = cell(prev[0], prev[1]);
+            if (prevCell != cell(lat, lng)) {
+                removeFromBucket(prevCell, id);
+            }
+        }
+        buckets.computeIfAbsent(cell(lat, lng), k -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    private void applyRemove(Long id) {
+        double[] prev = positions.remove(id);
+        if (prev != null) {
+            removeFromBucket(cell(prev[0], prev[1]), id);
+        }
+    }
+
+    /** 반경 내 공고 (가까운 순) */
+    public List<Hit> within(double lat, double lng, double radiusKm) {
+        double dLat = Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double cos = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double dLng = dLat / cos;
+
+        long minLatCell = (long) Math.floor((lat - dLat) / CELL_DEG);
+        long maxLatCell = (long) Math.floor((lat + dLat) / CELL_DEG);
+        long minLngCell = (long) Math.floor((lng - dLng) / CELL_DEG);
+        long maxLngCell = (long) Math.floor((lng + dLng) / CELL_DEG);
+
+        List<Hit> hits = new ArrayList<>();
+        for (long a = minLatCell; a <= maxLatCell; a++) {
+            for (long b = minLngCell; b <= maxLngCell; b++) {
+                Set<Long> ids = buckets.get(key(a, b));
+                if (ids == null) continue;
+                for (Long id : ids) {
+                    double[] p = positions.get(id);
+                    if (p == null) continue;
+                    double d = haversineKm(lat, lng, p[0], p[1]);
+                    if (d <= radiusKm) {
+                        hits.add(new Hit(id, d));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits;
+    }
+
+    /** 공고까지 거리 (좌표 없으면 null) */
+    public Double distanceKm(Long jobPostId, double lat, double lng) {
+        double[] p = positions.get(jobPostId);
+        return p == null ? null : haversineKm(lat, lng, p[0], p[1]);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private void removeFromBucket(long cell, Long id) {
+        buckets.computeIfPresent(cell, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static long cell(double lat, double lng) {
+        return key((long) Math.floor(lat / CELL_DEG), (long) Math.floor(lng / CELL_DEG));
+    }
+
+    private static long key(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xFFFFFFFFL);
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
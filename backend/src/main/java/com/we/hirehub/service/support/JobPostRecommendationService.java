@@ -1,5 +1,6 @@
 package com.we.hirehub.service.support;
 
+import com.we.hirehub.config.KakaoMapClient;
 import com.we.hirehub.dto.support.JobPostsDto;
 import com.we.hirehub.entity.JobPosts;
 import com.we.hirehub.entity.Users;
@@ -25,6 +26,8 @@ public class JobPostRecommendationService {
 
   private final JobPostsRepository jobPostsRepository;
   private final UsersRepository usersRepository;
+  private final KakaoMapService kakaoMapService;
+  private final JobPostGeoIndex jobPostGeoIndex;
 
   @Transactional(readOnly = true)
   public List<JobPostsDto> getRecommendedJobs(Long userId) {
@@ -55,9 +58,14 @@ public class JobPostRecommendationService {
       return getPopularJobs();
     }
 
+    // 선호 지역 좌표 (지오코딩 캐시 사용) - 없으면 문자열 비교로 대체
+    KakaoMapClient.LatLngResponse userPos = isBlank(user.getLocation())
+            ? null
+            : kakaoMapService.getLatLngFromAddress(user.getLocation());
+
     List<JobPostsDto> recommended = allJobs.stream()
             .map(job -> {
-              double score = calculateMatchScore(user, job);
+              double score = calculateMatchScore(user, userPos, job);
               JobPostsDto dto = JobPostsDto.toDto(job);
               dto.setRecommendScore(score);
               return dto;
@@ -94,10 +102,10 @@ public class JobPostRecommendationService {
    * - 직무 유사도: 최대 35점 (유사도 기반)
    * - 학력 매칭: 최대 20점
    * - 경력 매칭: 최대 20점
-   * - 위치 매칭: 최대 15점
+   * - 위치 매칭: 최대 15점 (지역명 일치 또는 5km 이내 만점, 50km 까지 선형 감소)
    * - 조회수 보정점수: 최대 10점 (AI 추천은 AI추천 느낌 유지)
    */
-  private double calculateMatchScore(Users user, JobPosts job) {
+  private double calculateMatchScore(Users user, KakaoMapClient.LatLngResponse userPos, JobPosts job) {
     double score = 0;
 
     // 직무 유사도
@@ -113,10 +121,8 @@ public class JobPostRecommendationService {
       score += 20;
     }
 
-    // 위치 (부분 일치)
-    if (matchesField(user.getLocation(), job.getLocation())) {
-      score += 15;
-    }
+    // 위치
+    score += locationScore(user, userPos, job);
 
     // 조회수 가중치 (0~10점)
     if (job.getViews() != null) {
@@ -126,6 +132,22 @@ public class JobPostRecommendationService {
     return score;
   }
 
+  /**
+   * 위치 점수 - 문자열 부분일치와 좌표 거리 점수 중 큰 값
+   * - 선호 지역은 "서울" 같은 지역명이라 좌표가 그 중심점 → 거리만 쓰면 같은 지역 공고가 감점됨
+   */
+  private double locationScore(Users user, KakaoMapClient.LatLngResponse userPos, JobPosts job) {
+    double score = matchesField(user.getLocation(), job.getLocation()) ? 15 : 0;
+    if (score < 15 && userPos != null) {
+      Double d = jobPostGeoIndex.distanceKm(job.getId(), userPos.getLat(), userPos.getLng());
+      if (d != null) {
+        if (d <= 5) return 15;
+        if (d < 50) score = Math.max(score, 15 * (50 - d) / 45);
+      }
+    }
+    return score;
+  }
+
   /** 문자열 부분일치 */
   private boolean matchesField(String userValue, String jobValue) {
     if (isBlank(userValue) || isBlank(jobValue)) return false;
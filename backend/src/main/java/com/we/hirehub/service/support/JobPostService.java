@@ -1,5 +1,7 @@
 package com.we.hirehub.service.support;
 
+import com.we.hirehub.config.HttpResponseCache;
+import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.support.JobPostsDto;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.entity.JobPosts;
@@ -13,6 +15,7 @@ import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -20,10 +23,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class JobPostService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
     private final JobPostsRepository jobPostRepository;
     private final CompanyRepository companyRepository;
     private final JobPostRecommendationService jobPostRecommendationService;
+    private final JobPostGeoIndex jobPostGeoIndex;
+    private final HttpResponseCache httpResponseCache;
 
 
     /**
@@ -66,6 +71,41 @@ public class JobPostService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 📍 반경 검색 - (lat, lng) 기준 radiusKm 이내 공고, 가까운 순 페이징
+     * 좌표 인덱스에서 후보를 고르고, 현재 페이지 공고만 한 번에 조회
+     */
+    public PagedResponse<JobPostsDto> getNearbyJobPosts(double lat, double lng, double radiusKm, int page, int size) {
+        if (size <= 0 || page < 0) {
+            throw new IllegalArgumentException("page/size 값이 올바르지 않습니다.");
+        }
+        if (radiusKm <= 0 || radiusKm > 100) {
+            throw new IllegalArgumentException("radiusKm 는 0 초과 100 이하여야 합니다.");
+        }
+
+        List<JobPostGeoIndex.Hit> hits = jobPostGeoIndex.within(lat, lng, radiusKm);
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<JobPostGeoIndex.Hit> slice = hits.subList(from, to);
+
+        Map<Long, JobPosts> byId = jobPostRepository.findWithTechStacksByIdIn(
+                        slice.stream().map(JobPostGeoIndex.Hit::jobPostId).toList())
+                .stream()
+                .collect(Collectors.toMap(JobPosts::getId, Function.identity()));
+
+        List<JobPostsDto> items = slice.stream()
+                .filter(h -> byId.containsKey(h.jobPostId()))
+                .map(h -> {
+                    JobPostsDto dto = JobPostsDto.toDto(byId.get(h.jobPostId()));
+                    dto.setDistanceKm(Math.round(h.distanceKm() * 100) / 100.0);
+                    return dto;
+                })
+                .collect(Collectors.toList());
+
+        int totalPages = (int) Math.ceil(hits.size() / (double) size);
+        return new PagedResponse<>(items, page, size, hits.size(), totalPages);
+    }
+
     /**
      * ⚠️ 기존 기능 유지 (Admin에서 등록함)
      * 여기서는 DTO → Entity 변환만 수행
@@ -76,6 +116,8 @@ public class JobPostService {
 
         JobPosts job = JobPostsDto.toEntity(dto, company);
         JobPosts saved = jobPostRepository.save(job);
+        jobPostGeoIndex.put(saved.getId(), saved.getLat(), saved.getLng());
+        httpResponseCache.invalidate(HttpResponseCache.CALENDAR);
 
         return JobPostsDto.toDto(saved);  // ⭐ lat/lng 포함
     }
@@ -102,7 +144,7 @@ public class JobPostService {
         String full = buildFullText(post);
 
         Map<String, Object> body = Map.of("content", full);
-        var res = restTemplate.postForEntity(
+        var res = aiRestTemplate.postForEntity(
                 "http://fastapi:8000/internal/job/prepare",
                 body, Map.class);
 
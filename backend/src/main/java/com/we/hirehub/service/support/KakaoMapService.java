@@ -1,43 +1,186 @@
 package com.we.hirehub.service.support;
 
+import com.we.hirehub.config.GeocodingClient;
 import com.we.hirehub.config.KakaoMapClient;
+import com.we.hirehub.entity.GeocodeCache;
+import com.we.hirehub.repository.GeocodeCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KakaoMapService {
 
-    private final KakaoMapClient kakaoMapClient;
+    private final GeocodingClient geocodingClient;
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${kakaomap.geocode-cache.max-size:5000}")
+    private int maxCacheSize;
+
+    // "결과 없음" 캐시 유지 기간
+    @Value("${kakaomap.geocode-cache.negative-ttl-days:7}")
+    private int negativeTtlDays;
+
+    // 정규화 주소 → 좌표 (Optional.empty() = 결과 없음)
+    private final Map<String, Optional<KakaoMapClient.LatLngResponse>> lru =
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Optional<KakaoMapClient.LatLngResponse>> eldest) {
+                    return size() > maxCacheSize;
+                }
+            };
 
     /**
      * 주소 → 위도/경도 변환 (Geocoding)
      * 기존 Company 서비스, JobPost 서비스 모두 LatLngResponse 사용하므로
      * 절대 double[] 로 리턴하면 안 됨.
+     * 조회 순서: 메모리 LRU → geocode_cache 테이블 → 카카오 API
      */
     public KakaoMapClient.LatLngResponse getLatLngFromAddress(String address) {
 
         try {
-            if (address == null || address.isBlank()) {
+            String key = normalizeAddress(address);
+            if (key == null) {
                 log.warn("⚠️ 빈 주소로 요청됨. address={}", address);
                 return null;
             }
 
-            KakaoMapClient.LatLngResponse res = kakaoMapClient.getLatLng(address);
+            Optional<KakaoMapClient.LatLngResponse> cached;
+            synchronized (lru) {
+                cached = lru.get(key);
+            }
+            if (cached != null) {
+                return cached.orElse(null);
+            }
 
+            Optional<KakaoMapClient.LatLngResponse> res = loadFromTable(key);
             if (res == null) {
-                log.warn("⚠️ KakaoMapClient 반환값 null. address={}", address);
-                return null;
+                res = geocode(key);
+                storeToTable(key, res);
             }
 
-            log.info("📍 주소 '{}' → lat={}, lng={}", address, res.getLat(), res.getLng());
-            return res;
+            synchronized (lru) {
+                lru.put(key, res);
+            }
+            return res.orElse(null);
 
         } catch (Exception e) {
             log.error("❌ 카카오맵 Geocoding 실패 - address={}", address, e);
             return null;
         }
     }
+
+    /**
+     * 메모리 캐시 또는 geocode_cache 테이블에 있는지 (배치 throttle 판단용)
+     * - 테이블에서 찾으면 메모리 캐시에 올려 두므로 바로 이어지는 getLatLngFromAddress() 는 DB 를 다시 읽지 않음
+     */
+    public boolean isCached(String address) {
+        String key = normalizeAddress(address);
+        if (key == null) return true;
+        synchronized (lru) {
+            if (lru.containsKey(key)) return true;
+        }
+        Optional<KakaoMapClient.LatLngResponse> row = loadFromTable(key);
+        if (row == null) return false;
+        synchronized (lru) {
+            lru.put(key, row);
+        }
+        return true;
+    }
+
+    /**
+     * 주소 정규화 - 같은 건물의 다른 층/호실이 같은 캐시 키가 되도록
+     * 예) "[06234] 서울 강남구  테헤란로 123, 5층 (역삼동)" → "서울 강남구 테헤란로 123"
+     */
+    public static String normalizeAddress(String raw) {
+        if (raw == null) return null;
+        String s = raw
+                .replaceAll("\\[[0-9]{5}\\]", " ")               // 우편번호
+                .replaceAll("\\([^)]*\\)", " ")                  // (역삼동), (OO빌딩)
+                .replaceAll("[,]", " ")
+                .replaceAll("\\s(지하\\s?)?[0-9]+\\s?(층|호|F|f)(\\s|$).*$", " ") // 층/호 이하 상세주소
+                .replaceAll("\\s+", " ")
+                .trim();
+        return s.isEmpty() ? null : s;
+    }
+
+    /** @return null = 캐시 없음(또는 만료), Optional.empty() = 결과 없음 */
+    private Optional<KakaoMapClient.LatLngResponse> loadFromTable(String key) {
+        GeocodeCache row = geocodeCacheRepository.findById(hash(key)).orElse(null);
+        if (row == null) {
+            return null;
+        }
+        if (row.getLat() == null || row.getLng() == null) {
+            boolean expired = row.getUpdatedAt().isBefore(LocalDateTime.now().minusDays(negativeTtlDays));
+            return expired ? null : Optional.empty();
+        }
+        return Optional.of(new KakaoMapClient.LatLngResponse(row.getLat(), row.getLng()));
+    }
+
+    private Optional<KakaoMapClient.LatLngResponse> geocode(String key) {
+        try {
+            KakaoMapClient.LatLngResponse res = geocodingClient.getLatLng(key);
+            if (res == null) {
+                log.warn("⚠️ KakaoMapClient 반환값 null. address={}", key);
+                return Optional.empty();
+            }
+            log.info("📍 주소 '{}' → lat={}, lng={}", key, res.getLat(), res.getLng());
+            return Optional.of(res);
+        } catch (IllegalArgumentException e) {
+            // 검색 결과 없음 → 음성 캐시
+            log.warn("⚠️ {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시 행 UPSERT - 호출자 트랜잭션과 분리된 별도 쓰기 트랜잭션 (REQUIRES_NEW, readOnly 아님 → primary)
+     * - 같은 주소 동시 저장도 중복 키 오류 없이 마지막 값으로 덮어씀
+     * - 실패해도 호출자 트랜잭션은 rollback-only 가 되지 않음 (메모리 캐시로 충분)
+     */
+    private void storeToTable(String key, Optional<KakaoMapClient.LatLngResponse> res) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.setReadOnly(false);
+        try {
+            tx.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO geocode_cache (address_hash, address, lat, lng, updated_at) VALUES (?, ?, ?, ?, ?) " +
+                            "ON DUPLICATE KEY UPDATE address = VALUES(address), lat = VALUES(lat), lng = VALUES(lng), " +
+                            "updated_at = VALUES(updated_at)",
+                    hash(key),
+                    key.length() > 500 ? key.substring(0, 500) : key,
+                    res.map(KakaoMapClient.LatLngResponse::getLat).orElse(null),
+                    res.map(KakaoMapClient.LatLngResponse::getLng).orElse(null),
+                    Timestamp.valueOf(LocalDateTime.now())));
+        } catch (Exception e) {
+            log.debug("geocode_cache 저장 실패 - address={}: {}", key, e.getMessage());
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
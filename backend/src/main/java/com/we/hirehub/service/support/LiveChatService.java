@@ -6,14 +6,18 @@ import com.we.hirehub.entity.Session;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.LiveChatRepository;
 import com.we.hirehub.repository.SessionRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -27,55 +31,92 @@ public class LiveChatService {
     private final LiveChatRepository liveChatRepository;
     private final SessionRepository sessionRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatJournal chatJournal;
+
+    @Value("${support.chat.history.window:100}")
+    private int historyWindow;
+
+    @Value("${support.chat.history.max-rooms:1000}")
+    private int historyMaxRooms;
+
+    @Value("${support.chat.history.ttl-seconds:10}")
+    private long historyTtlSeconds;
+
+    /** 방별 최근 메시지 창 (재접속 시 DB 조회 없이 응답) */
+    private RecentMessageCache<LiveChatDto> recentCache;
+
+    @PostConstruct
+    void initCache() {
+        recentCache = new RecentMessageCache<>(historyWindow, historyMaxRooms, historyTtlSeconds * 1000,
+                LiveChatDto::getId, (dto, id) -> dto.toBuilder().id(id).build());
+    }
 
     /**
-     * 최근 메시지 조회 - Fetch Join으로 N+1 문제 해결
+     * 최근 메시지 조회 (오래된 → 최신 순)
+     * - 최근 창 안이면 캐시에서, 창보다 많이 요청하면 DB 에서
+     * - 저장 대기 중인 메시지는 id 없이 내려갈 수 있음 (조회 경로에서는 저널을 flush 하지 않음)
      */
     @Transactional(readOnly = true)
     public List<LiveChatDto> getRecentMessages(String sessionId, int limit) {
-        PageRequest pageRequest = PageRequest.of(0, limit);
-        // ✅ Fetch Join 사용하여 N+1 문제 해결 (Repository에 메서드 추가 필요)
-        List<LiveChat> chats = liveChatRepository.findBySessionIdWithUser(sessionId, pageRequest);
-
-        return chats.stream()
-                .sorted((a, b) -> a.getCreateAt().compareTo(b.getCreateAt()))
-                .map(LiveChatDto::from) // ✅ DTO의 static 메서드 사용
-                .collect(Collectors.toList());
+        List<LiveChatDto> messages = limit <= historyWindow
+                ? recentCache.latest(sessionId, limit, () -> loadLatest(sessionId, historyWindow))
+                : reverse(loadLatest(sessionId, limit));
+        return messages;
     }
 
     /**
-     * 채팅 메시지 전송 (DB 저장 + WebSocket 브로드캐스트)
+     * beforeId 이전 메시지 조회 (keyset 페이지네이션, 오래된 → 최신 순)
+     * - 캐시 창 안에서 채울 수 있으면 캐시, 아니면 id < beforeId 범위 조회
      */
-    @Transactional
-    public void send(String sessionId, String content, String requestNickname, Users authenticatedUser) {
-        log.info("=== 채팅 메시지 전송 시작 ===");
-        log.info("sessionId: {}, content: {}, requestNickname: {}", sessionId, content, requestNickname);
-        log.info("전달받은 authenticatedUser: {}", authenticatedUser != null ? authenticatedUser.getId() : "null");
+    @Transactional(readOnly = true)
+    public List<LiveChatDto> getMessagesBefore(String sessionId, long beforeId, int limit) {
+        List<LiveChatDto> cached = recentCache.before(sessionId, beforeId, limit);
+        if (cached != null) return cached;
 
-        // 1. Session 조회/생성
-        Session session = findOrCreateSession(sessionId);
+        List<LiveChatDto> newestFirst = liveChatRepository.findPageBefore(sessionId, beforeId, PageRequest.of(0, limit))
+                .stream()
+                .map(LiveChatDto::from)
+                .collect(Collectors.toList());
+        return reverse(newestFirst);
+    }
 
-        // 2. 사용자 및 닉네임 결정
-        String finalNickname = determineFinalNickname(authenticatedUser, requestNickname);
-        log.info("최종 닉네임: {}, User ID: {}", finalNickname, authenticatedUser != null ? authenticatedUser.getId() : "null");
+    /** DB 에 저장된 최신순 조회 (저널에 남은 메시지는 캐시가 뒤에 붙임) */
+    private List<LiveChatDto> loadLatest(String sessionId, int size) {
+        return liveChatRepository.findLatestPage(sessionId, PageRequest.of(0, size))
+                .stream()
+                .map(LiveChatDto::from)
+                .collect(Collectors.toList());
+    }
 
-        // 3. 메시지 저장 (DB에 저장)
-        LiveChat saved = saveMessage(session, content, authenticatedUser);
-        log.info("✅ 메시지 DB 저장 완료 - ID: {}, User ID: {}",
-                saved.getId(),
-                saved.getUser() != null ? saved.getUser().getId() : "null");
+    private static List<LiveChatDto> reverse(List<LiveChatDto> newestFirst) {
+        List<LiveChatDto> list = new ArrayList<>(newestFirst);
+        Collections.reverse(list);
+        return list;
+    }
 
-        // 4. DTO 생성 - DTO 클래스의 static 메서드 사용
-        LiveChatDto dto = LiveChatDto.forSend(saved, finalNickname);
+    /**
+     * 채팅 메시지 전송 (WebSocket 브로드캐스트 + ChatJournal write-behind 저장)
+     * - 요청 스레드에서는 session 조회/메시지 INSERT 를 하지 않음 (journal mode=sync 이면 저장 후 브로드캐스트)
+     */
+    public void send(String sessionId, String content, String requestNickname, Users authenticatedUser) {
+        LocalDateTime now = LocalDateTime.now();
+        String finalNickname = determineFinalNickname(authenticatedUser, requestNickname);
+        Long userId = authenticatedUser != null ? authenticatedUser.getId() : null;
 
-        log.info("📤 WebSocket으로 전송할 DTO: id={}, userId={}, nickname={}",
-                dto.getId(), dto.getUserId(), dto.getNickname());
-        log.info("전송 대상 토픽: /topic/rooms/{}", sessionId);
+        LiveChatDto dto = LiveChatDto.builder()
+                .content(content)
+                .createAt(now)
+                .sessionId(sessionId)
+                .userId(userId)
+                .nickname(finalNickname)
+                .build();
 
-        // 5. WebSocket으로 메시지 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/rooms/" + sessionId, dto);
+        long ref = recentCache.reserve();
+        chatJournal.publish(ChatJournal.Entry.live(sessionId, userId, content, now, id -> recentCache.saved(sessionId, ref, id)),
+                () -> messagingTemplate.convertAndSend("/topic/rooms/" + sessionId, dto));
+        recentCache.append(sessionId, ref, dto);
 
-        log.info("=== 채팅 메시지 전송 완료 ===");
+        log.debug("📨 채팅 전송 sessionId={}, userId={}", sessionId, userId);
     }
 
     /**
@@ -96,6 +137,7 @@ public class LiveChatService {
 
         // 3. 메시지 저장 (DB에 저장)
         LiveChat saved = saveMessage(session, content, authenticatedUser);
+        recentCache.evict(sessionId);  // 캐시를 거치지 않은 저장이므로 해당 방 창은 비움
         log.info("✅ 메시지 DB 저장 완료 (브로드캐스트 제외) - ID: {}, User ID: {}",
                 saved.getId(),
                 saved.getUser() != null ? saved.getUser().getId() : "null");
@@ -141,9 +183,6 @@ public class LiveChatService {
      */
     private String determineFinalNickname(Users user, String requestNickname) {
         if (user != null) {
-            log.info("✅ 인증된 사용자 - ID: {}, 닉네임: {}, 이름: {}",
-                    user.getId(), user.getNickname(), user.getName());
-
             // DB의 닉네임 우선 사용
             return Optional.ofNullable(user.getNickname())
                     .filter(n -> !n.trim().isEmpty())
@@ -151,10 +190,8 @@ public class LiveChatService {
                             .filter(n -> !n.trim().isEmpty())
                             .orElse("익명"));
         } else {
-            log.warn("❌ 인증되지 않은 사용자");
             // 요청에서 닉네임이 전달된 경우 사용
             if (requestNickname != null && !requestNickname.trim().isEmpty()) {
-                log.info("익명 사용자 - 요청 닉네임 사용: {}", requestNickname);
                 return requestNickname.trim();
             }
             return "익명";
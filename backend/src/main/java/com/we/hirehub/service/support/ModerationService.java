@@ -19,7 +19,7 @@ public class ModerationService {
     @Value("${ai.server-url:http://localhost:8000}")
     private String aiServerUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
 
     public record ModerationResult(boolean approved, String reason, Map<String, Object> raw) {}
 
@@ -53,7 +53,7 @@ public class ModerationService {
                     payloadContent.replace("\n", "\\n")
                             .substring(0, Math.min(120, payloadContent.length())));
 
-            ResponseEntity<Map> res = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<Map> res = aiRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
             Map<String, Object> body = res.getBody();
 
             if (body == null) {
@@ -0,0 +1,131 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.entity.Payment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 매출 / 토큰 판매 집계 (payment_daily_rollup, db/migration/011)
+ * - 키 = (날짜, 토큰 패키지, 결제수단), 결제 완료(verify) 때 그 키 한 행을 payment 에서 다시 계산
+ * - 관리자 대시보드는 결제 이력 대신 이 테이블만 조회
+ * - 누적이 빠졌거나 과거 데이터를 다시 맞출 때는 rebuild(from, to) 로 payment 에서 재계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentRollupService {
+
+    private static final String COMPLETED = "COMPLETED";
+
+    /** 완료 결제를 키별로 집계해 INSERT (뒤에 조건 추가 후 GROUP_AND_OVERWRITE) - 파라미터: role, 시작, 끝(미포함) */
+    private static final String UPSERT_FROM_PAYMENT =
+            "INSERT INTO payment_daily_rollup " +
+                    "(sale_date, token_package_id, pay_method, payment_count, revenue, tokens_sold, updated_at) " +
+                    "SELECT DATE(p.create_at), COALESCE(p.token_package_id, 0), COALESCE(p.pay_method, 'UNKNOWN'), " +
+                    "COUNT(*), COALESCE(SUM(p.total_price), 0), COALESCE(SUM(tp.token_amount), 0), NOW(6) " +
+                    "FROM payment p LEFT JOIN token_package tp ON tp.id = p.token_package_id " +
+                    "WHERE p.role = ? AND p.create_at >= ? AND p.create_at < ? ";
+
+    /** 이미 있는 키는 누적하지 않고 다시 계산한 값으로 덮어씀 */
+    private static final String GROUP_AND_OVERWRITE =
+            "GROUP BY DATE(p.create_at), COALESCE(p.token_package_id, 0), COALESCE(p.pay_method, 'UNKNOWN') " +
+                    "ON DUPLICATE KEY UPDATE payment_count = VALUES(payment_count), revenue = VALUES(revenue), " +
+                    "tokens_sold = VALUES(tokens_sold), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record DailyRevenue(LocalDate date, long count, long revenue, long tokens) {}
+
+    public record PackageSales(long packageId, String name, long count, long revenue, long tokens) {}
+
+    public record Summary(LocalDate from, LocalDate to,
+                          long count, long revenue, long tokens,
+                          List<DailyRevenue> daily,
+                          List<PackageSales> byPackage,
+                          Map<String, Long> revenueByMethod) {}
+
+    /**
+     * 완료된 결제 1건 반영 - 그 결제의 키(날짜, 패키지, 결제수단) 한 행을 payment 에서 다시 계산해 덮어씀
+     * - 더하기가 아니라 절대값이라 rebuild 와 겹치거나 같은 결제가 두 번 들어와도 중복 집계되지 않음
+     * - 실패해도 결제 자체는 유지 → 로그 남기고 rebuild 로 보정
+     */
+    public void record(Payment payment) {
+        if (!COMPLETED.equals(payment.getRole()) || payment.getCreateAt() == null) return;
+        LocalDate day = payment.getCreateAt().toLocalDate();
+        try {
+            jdbcTemplate.update(UPSERT_FROM_PAYMENT +
+                            "AND COALESCE(p.token_package_id, 0) = ? AND COALESCE(p.pay_method, 'UNKNOWN') = ? " +
+                            GROUP_AND_OVERWRITE,
+                    COMPLETED, day.atStartOfDay(), day.plusDays(1).atStartOfDay(),
+                    payment.getTokenPackage() != null ? payment.getTokenPackage().getId() : 0L,
+                    payment.getPayMethod() != null ? payment.getPayMethod() : "UNKNOWN");
+        } catch (Exception e) {
+            log.error("❌ 매출 집계 반영 실패 (rebuild 로 보정 필요): paymentId={}", payment.getId(), e);
+        }
+    }
+
+    /**
+     * [from, to] 기간을 payment 테이블에서 다시 계산
+     * - 키별 덮어쓰기 후, 결제가 하나도 남지 않은 키만 삭제 (전체 DELETE 후 INSERT 하던 방식은
+     *   그 사이에 들어온 record 와 겹쳐 중복 키 오류나 이중 집계가 났음)
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        int rows = jdbcTemplate.update(UPSERT_FROM_PAYMENT + GROUP_AND_OVERWRITE,
+                COMPLETED, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        int removed = jdbcTemplate.update(
+                "DELETE FROM payment_daily_rollup WHERE sale_date BETWEEN ? AND ? AND NOT EXISTS (" +
+                        "SELECT 1 FROM payment p WHERE p.role = ? AND p.create_at >= ? AND p.create_at < ? " +
+                        "AND DATE(p.create_at) = payment_daily_rollup.sale_date " +
+                        "AND COALESCE(p.token_package_id, 0) = payment_daily_rollup.token_package_id " +
+                        "AND COALESCE(p.pay_method, 'UNKNOWN') = payment_daily_rollup.pay_method)",
+                Date.valueOf(from), Date.valueOf(to), COMPLETED, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        log.info("📊 매출 집계 재계산: {} ~ {}, 갱신 {}행 / 삭제 {}행", from, to, rows, removed);
+        return rows;
+    }
+
+    /** 기간 요약 (일별 / 패키지별 / 결제수단별) */
+    @Transactional(readOnly = true)
+    public Summary summary(LocalDate from, LocalDate to) {
+        Date f = Date.valueOf(from);
+        Date t = Date.valueOf(to);
+
+        List<DailyRevenue> daily = jdbcTemplate.query(
+                "SELECT sale_date, SUM(payment_count), SUM(revenue), SUM(tokens_sold) " +
+                        "FROM payment_daily_rollup WHERE sale_date BETWEEN ? AND ? " +
+                        "GROUP BY sale_date ORDER BY sale_date",
+                (rs, i) -> new DailyRevenue(rs.getDate(1).toLocalDate(), rs.getLong(2), rs.getLong(3), rs.getLong(4)),
+                f, t);
+
+        List<PackageSales> byPackage = jdbcTemplate.query(
+                "SELECT r.token_package_id, MAX(tp.name), SUM(r.payment_count), SUM(r.revenue), SUM(r.tokens_sold) " +
+                        "FROM payment_daily_rollup r LEFT JOIN token_package tp ON tp.id = r.token_package_id " +
+                        "WHERE r.sale_date BETWEEN ? AND ? " +
+                        "GROUP BY r.token_package_id ORDER BY SUM(r.revenue) DESC",
+                (rs, i) -> new PackageSales(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)),
+                f, t);
+
+        Map<String, Long> byMethod = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT pay_method, SUM(revenue) FROM payment_daily_rollup WHERE sale_date BETWEEN ? AND ? " +
+                        "GROUP BY pay_method ORDER BY SUM(revenue) DESC",
+                rs -> {
+                    byMethod.put(rs.getString(1), rs.getLong(2));
+                },
+                f, t);
+
+        long count = daily.stream().mapToLong(DailyRevenue::count).sum();
+        long revenue = daily.stream().mapToLong(DailyRevenue::revenue).sum();
+        long tokens = daily.stream().mapToLong(DailyRevenue::tokens).sum();
+        return new Summary(from, to, count, revenue, tokens, daily, byPackage, byMethod);
+    }
+}
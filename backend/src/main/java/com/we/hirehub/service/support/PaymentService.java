@@ -9,15 +9,21 @@ import com.we.hirehub.entity.Payment;
 import com.we.hirehub.entity.TokenPackage;
 import com.we.hirehub.entity.Users;
 import com.we.hirehub.repository.PaymentRepository;
+import com.we.hirehub.repository.PaymentSpecifications;
 import com.we.hirehub.repository.TokenPackageRepository;
 import com.we.hirehub.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -31,6 +37,13 @@ public class PaymentService {
     private final TokenPackageRepository tokenPackageRepository;
 
     private final TokenService tokenService; // 🔥 추가 (토큰 적립 + 히스토리)
+    private final PaymentRollupService paymentRollupService;
+
+    @Value("${payment.admin.page-size:200}")
+    private int defaultPageSize;
+
+    @Value("${payment.admin.max-page-size:1000}")
+    private int maxPageSize;
 
     /**
      * ✔ PortOne 결제 검증 + DB 저장 + 토큰 지급
@@ -85,12 +98,14 @@ public class PaymentService {
                         .build()
         );
 
+        // 📊 일별 매출 / 토큰 판매 집계 반영 (관리자 대시보드용)
+        paymentRollupService.record(payment);
 
         /**
          * 🎉 수정된 부분 (핵심)
          * - TokenService 를 이용하여 토큰 적립 + 토큰 내역 저장
          */
-        tokenService.addTokens(
+        int balance = tokenService.addTokens(
                 user.getId(),
                 pkg.getTokenAmount(),
                 "PAYMENT",
@@ -98,7 +113,7 @@ public class PaymentService {
         );
 
         log.info("🎉 토큰 충전 완료: user={}, 충전량={}, 현재 토큰={}",
-                user.getEmail(), pkg.getTokenAmount(), user.getTokenBalance());
+                user.getEmail(), pkg.getTokenAmount(), balance);
         log.info("🔥 VERIFY 호출됨: impUid={}, packageId={}", req.getImpUid(), req.getPackageId());
 
         return PaymentDto.from(payment);
@@ -121,70 +136,49 @@ public class PaymentService {
     }
 
     // =============================
-    // ✔ 관리자 전체 결제 리스트
+    // ✔ 관리자 검색 (전체 조회 포함)
     // =============================
-    public List<PaymentDto> getAllPayments() {
-        return paymentRepository.findAllByOrderByCreateAtDesc()
-                .stream()
-                .map(PaymentDto::from)
-                .toList();
-    }
-
 
-    // =============================
-// ✔ 관리자 검색
-// =============================
-    public List<PaymentDto> searchPayments(String email, String status, LocalDate from, LocalDate to) {
-
-        LocalDateTime dtFrom = (from != null) ? from.atStartOfDay() : null;
-        LocalDateTime dtTo = (to != null) ? to.plusDays(1).atStartOfDay() : null;
-
-        boolean hasEmail = email != null && !email.isBlank();
-        boolean hasStatus = status != null && !status.isBlank();
-        boolean hasDate = dtFrom != null && dtTo != null;
-
-        List<Payment> list;
-
-        // ------------------------------------
-        // 🔍 3조건 검색
-        // ------------------------------------
-        if (hasEmail && hasStatus && hasDate) {
-            list = paymentRepository
-                    .findAllByUserEmailContainingAndRoleAndCreateAtBetween(
-                            email, status, dtFrom, dtTo);
-        }
-        // ------------------------------------
-        // 🔍 2조건 검색
-        // ------------------------------------
-        else if (hasEmail && hasStatus) {
-            list = paymentRepository
-                    .findAllByUserEmailContainingAndRole(email, status);
-        } else if (hasEmail && hasDate) {
-            list = paymentRepository
-                    .findAllByUserEmailContainingAndCreateAtBetween(email, dtFrom, dtTo);
-        } else if (hasStatus && hasDate) {
-            list = paymentRepository
-                    .findAllByRoleAndCreateAtBetween(status, dtFrom, dtTo);
-        }
-        // ------------------------------------
-        // 🔍 단일 조건 검색
-        // ------------------------------------
-        else if (hasEmail) {
-            list = paymentRepository.findAllByUserEmailContaining(email);
-        } else if (hasStatus) {
-            list = paymentRepository.findAllByRole(status);
-        } else if (hasDate) {
-            list = paymentRepository.findAllByCreateAtBetween(dtFrom, dtTo);
-        }
-        // ------------------------------------
-        // 🔍 전체 조회
-        // ------------------------------------
-        else {
-            list = paymentRepository.findAllByOrderByCreateAtDesc();
+    /**
+     * 설정된 조건만 조합한 단일 쿼리 + keyset 페이지 (최신순)
+     * - cursor 는 이전 페이지 응답의 nextCursor ("createAt_id"), 없으면 첫 페이지
+     * - nextCursor 가 null 이면 마지막 페이지
+     */
+    @Transactional(readOnly = true)
+    public PaymentPage searchPayments(String email, String status, LocalDate from, LocalDate to,
+                                      String cursor, Integer size) {
+        int limit = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+
+        List<Specification<Payment>> specs = new ArrayList<>();
+        specs.add(PaymentSpecifications.fetchUserAndPackage());
+        if (email != null && !email.isBlank()) specs.add(PaymentSpecifications.emailMatches(email));
+        if (status != null && !status.isBlank()) specs.add(PaymentSpecifications.roleEquals(status));
+        if (from != null) specs.add(PaymentSpecifications.createdFrom(from.atStartOfDay()));
+        if (to != null) specs.add(PaymentSpecifications.createdBefore(to.plusDays(1).atStartOfDay()));
+        if (cursor != null && !cursor.isBlank()) {
+            int sep = cursor.lastIndexOf('_');
+            try {
+                specs.add(PaymentSpecifications.after(
+                        LocalDateTime.parse(cursor.substring(0, sep)), Long.parseLong(cursor.substring(sep + 1))));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서: " + cursor);
+            }
         }
 
-        return list.stream()
-                .map(PaymentDto::from)
-                .toList();
+        // 한 건 더 읽어서 다음 페이지 유무 판단 (COUNT 쿼리 없음)
+        List<Payment> rows = paymentRepository.findBy(Specification.allOf(specs), q -> q
+                .sortBy(Sort.by(Sort.Order.desc("createAt"), Sort.Order.desc("id")))
+                .limit(limit + 1)
+                .all());
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            Payment last = rows.get(limit - 1);
+            next = last.getCreateAt() + "_" + last.getId();
+        }
+        return new PaymentPage(rows.stream().map(PaymentDto::from).toList(), next);
     }
+
+    public record PaymentPage(List<PaymentDto> items, String nextCursor) {}
 }
@@ -1,5 +1,9 @@
 package com.we.hirehub.service.support;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,7 +29,11 @@ public class QueuedModerationService {
     @Value("${ai.server-url:http://localhost:8000}")
     private String aiServerUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private Timer waitTimer;
+    private Counter rejectedCounter;
 
     // 요청 큐 (최대 1000개)
     private final BlockingQueue<ModerationRequest> queue = new LinkedBlockingQueue<>(1000);
@@ -33,13 +41,25 @@ public class QueuedModerationService {
     public record ModerationRequest(
             String title,
             String content,
-            CompletableFuture<ModerationResult> future
+            CompletableFuture<ModerationResult> future,
+            long enqueuedNanos
     ) {}
 
     public record ModerationResult(boolean approved, String reason, Map<String, Object> raw) {}
 
     @PostConstruct
     public void init() {
+        // 큐 길이 / 대기 시간 / 포화로 임시 승인된 건수
+        Gauge.builder("hirehub.moderation.queue.size", queue, BlockingQueue::size)
+                .description("Pending moderation requests")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("hirehub.moderation.queue.wait")
+                .description("Time a moderation request waited in the queue")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        rejectedCounter = Counter.builder("hirehub.moderation.queue.rejected")
+                .description("Requests auto-approved because the queue was full")
+                .register(meterRegistry);
         log.info("🚀 QueuedModerationService 초기화 완료");
     }
 
@@ -49,11 +69,12 @@ public class QueuedModerationService {
     public CompletableFuture<ModerationResult> moderateAsync(String title, String content) {
         CompletableFuture<ModerationResult> future = new CompletableFuture<>();
 
-        ModerationRequest request = new ModerationRequest(title, content, future);
+        ModerationRequest request = new ModerationRequest(title, content, future, System.nanoTime());
 
         boolean added = queue.offer(request);
 
         if (!added) {
+            rejectedCounter.increment();
             log.warn("⚠️ [QUEUE] 큐가 가득 참 - 즉시 승인 처리");
             future.complete(new ModerationResult(true, "큐 포화(임시 승인)", Map.of()));
         } else {
@@ -74,6 +95,7 @@ public class QueuedModerationService {
             return; // 큐가 비어있음
         }
 
+        waitTimer.record(System.nanoTime() - request.enqueuedNanos(), TimeUnit.NANOSECONDS);
         log.info("🔄 [QUEUE] 처리 시작 - 남은 대기: {}", queue.size());
 
         try {
@@ -104,7 +126,7 @@ public class QueuedModerationService {
 
             log.info("📡 [AI-REQ] url={}, size={}", url, payloadContent.length());
 
-            ResponseEntity<Map> res = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<Map> res = aiRestTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
             Map<String, Object> body = res.getBody();
 
             if (body == null) {
@@ -0,0 +1,200 @@
+package com.we.hirehub.service.support;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 방(세션)별 최근 메시지 캐시
+ * - 방마다 마지막 windowSize 개 메시지를 메모리에 유지 (LRU 로 maxRooms 개 방까지)
+ * - 처음 조회할 때 DB 에서 최근 windowSize 개로 채우고, 이후 이 노드의 전송은 append 로 반영
+ * - 다른 노드에서 보낸 메시지는 append 되지 않으므로 창은 ttl 이 지나면 DB 에서 다시 채움
+ *   (조회마다 DB 를 확인하지 않음 → 다른 노드 전송분은 최대 ttl 만큼 늦게 보일 수 있음)
+ * - 메시지 id 는 저장 후 채워지므로(write-behind) 전송 시 reserve() 로 받은 ref 로 찾아 saved() 로 채움
+ *   · 아직 저장되지 않은 메시지는 다시 채울 때도 창에 남겨 둠 (DB 에 없으므로)
+ * - 창에는 호출 측 객체가 아니라 복사본을 넣고, id 가 채워질 때도 새 복사본으로 교체 (저장된 객체는 수정하지 않음)
+ */
+public class RecentMessageCache<T> {
+
+    private final int windowSize;
+    private final long ttlMs;
+    private final Function<T, Long> idOf;
+    private final BiFunction<T, Long, T> withId;
+    private final LongSupplier clock;
+    private final AtomicLong refs = new AtomicLong();
+    private final Map<String, Window<T>> rooms;
+
+    /**
+     * @param withId 메시지 복사본을 만드는 함수 (id 를 바꿔서)
+     */
+    public RecentMessageCache(int windowSize, int maxRooms, long ttlMs,
+                              Function<T, Long> idOf, BiFunction<T, Long, T> withId) {
+        this(windowSize, maxRooms, ttlMs, idOf, withId, System::currentTimeMillis);
+    }
+
+    RecentMessageCache(int windowSize, int maxRooms, long ttlMs,
+                       Function<T, Long> idOf, BiFunction<T, Long, T> withId, LongSupplier clock) {
+        this.windowSize = windowSize;
+        this.ttlMs = ttlMs;
+        this.idOf = idOf;
+        this.withId = withId;
+        this.clock = clock;
+        this.rooms = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Window<T>> eldest) {
+                return size() > maxRooms;
+            }
+        });
+    }
+
+    /** 창 안의 메시지 하나 (ref: 이 노드에서 전송한 메시지면 reserve() 값, DB 에서 읽은 것은 0) */
+    private static final class Slot<T> {
+        final long ref;
+        final long appendedAt;
+        T message;
+
+        Slot(long ref, long appendedAt, T message) {
+            this.ref = ref;
+            this.appendedAt = appendedAt;
+            this.message = message;
+        }
+    }
+
+    /** 한 방의 메시지 창 (오래된 것 → 최신 순) */
+    private static class Window<T> {
+        final ArrayDeque<Slot<T>> slots = new ArrayDeque<>();
+        /** append 보다 먼저 저장이 끝난 메시지의 id (sync 저널: 저장 → 브로드캐스트 → append) */
+        final Map<Long, Long> savedEarly = new HashMap<>();
+        boolean loaded;       // DB 에서 채웠는지
+        long loadedAt;
+        boolean truncated;    // 창 밖(더 오래된) 메시지가 DB 에 있는지
+    }
+
+    /** 전송할 메시지의 ref 발급 (append / saved 를 잇는 키) */
+    public long reserve() {
+        return refs.incrementAndGet();
+    }
+
+    /** 전송 시 호출: 창에 복사본 append (아직 채우지 않은 방이면 다음 로딩 때 합쳐짐) */
+    public void append(String roomId, long ref, T message) {
+        Window<T> w = rooms.computeIfAbsent(roomId, k -> new Window<>());
+        synchronized (w) {
+            Long id = w.savedEarly.remove(ref);
+            if (id == null) id = idOf.apply(message);
+            if (id != null && indexOf(w, id) >= 0) return;   // 로딩 때 DB 에서 이미 읽힘
+            w.slots.addLast(new Slot<>(ref, clock.getAsLong(), withId.apply(message, id)));
+            trim(w);
+        }
+    }
+
+    /** 저널 저장 후 호출: ref 메시지의 id 채우기 (DB 에서 이미 읽힌 행이면 중복 제거) */
+    public void saved(String roomId, long ref, long id) {
+        Window<T> w = rooms.computeIfAbsent(roomId, k -> new Window<>());
+        synchronized (w) {
+            Slot<T> slot = null;
+            for (Slot<T> s : w.slots) {
+                if (s.ref == ref) { slot = s; break; }
+            }
+            if (slot == null) {
+                w.savedEarly.put(ref, id);
+                return;
+            }
+            if (indexOf(w, id) >= 0) {
+                w.slots.remove(slot);
+            } else {
+                slot.message = withId.apply(slot.message, id);
+            }
+        }
+    }
+
+    /**
+     * 최신 limit 개 (오래된 → 최신 순)
+     * @param loader 캐시 미스 / ttl 만료 시 DB 에서 최근 windowSize 개를 최신순(id DESC)으로 읽는 함수
+     */
+    public List<T> latest(String roomId, int limit, Supplier<List<T>> loader) {
+        Window<T> w = rooms.computeIfAbsent(roomId, k -> new Window<>());
+        synchronized (w) {
+            if (!isFresh(w)) load(w, loader.get());
+            return tail(messages(w), limit);
+        }
+    }
+
+    /**
+     * beforeId 보다 오래된 메시지 limit 개 (오래된 → 최신 순)
+     * - 캐시 창 안에서 다 채울 수 있거나, 창이 방 전체를 담고 있으면 캐시에서 응답
+     * - 아니면 null (호출 측에서 DB 조회)
+     */
+    public List<T> before(String roomId, long beforeId, int limit) {
+        Window<T> w = rooms.get(roomId);
+        if (w == null) return null;
+        synchronized (w) {
+            if (!isFresh(w)) return null;
+            List<T> older = new ArrayList<>();
+            for (Slot<T> s : w.slots) {
+                Long id = idOf.apply(s.message);
+                if (id != null && id < beforeId) older.add(s.message);
+            }
+            if (older.size() >= limit || !w.truncated) return tail(older, limit);
+            return null;
+        }
+    }
+
+    public void evict(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    private boolean isFresh(Window<T> w) {
+        return w.loaded && clock.getAsLong() - w.loadedAt < ttlMs;
+    }
+
+    /**
+     * DB 결과(id DESC)로 창 채우기
+     * - 아직 저장되지 않은 이 노드의 메시지는 뒤에 다시 붙임 (ttl 보다 오래된 것은 저널이 버린 것으로 보고 제외)
+     */
+    private void load(Window<T> w, List<T> newestFirst) {
+        long now = clock.getAsLong();
+        List<Slot<T>> pending = new ArrayList<>();
+        for (Slot<T> s : w.slots) {
+            if (idOf.apply(s.message) == null && now - s.appendedAt < ttlMs) pending.add(s);
+        }
+        w.slots.clear();
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            T m = newestFirst.get(i);
+            w.slots.addLast(new Slot<>(0, now, withId.apply(m, idOf.apply(m))));
+        }
+        w.slots.addAll(pending);
+        w.truncated = newestFirst.size() >= windowSize;
+        w.loaded = true;
+        w.loadedAt = now;
+        trim(w);
+    }
+
+    private void trim(Window<T> w) {
+        while (w.slots.size() > windowSize) {
+            w.slots.removeFirst();
+            w.truncated = true;
+        }
+    }
+
+    private int indexOf(Window<T> w, long id) {
+        int i = 0;
+        for (Slot<T> s : w.slots) {
+            if (Long.valueOf(id).equals(idOf.apply(s.message))) return i;
+            i++;
+        }
+        return -1;
+    }
+
+    private List<T> messages(Window<T> w) {
+        List<T> list = new ArrayList<>(w.slots.size());
+        for (Slot<T> s : w.slots) list.add(s.message);
+        return list;
+    }
+
+    private static <T> List<T> tail(List<T> list, int limit) {
+        return new ArrayList<>(list.subList(Math.max(0, list.size() - limit), list.size()));
+    }
+}
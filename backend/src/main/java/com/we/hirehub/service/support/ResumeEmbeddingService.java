@@ -0,0 +1,266 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.config.AiEmbeddingClient;
+import com.we.hirehub.config.LogContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이력서 임베딩 저장 / 재사용 (resume_embedding, db/migration/012)
+ * - 이력서 생성/수정 커밋 후 refreshAsync() → 워커 풀에서 /ai/embed 호출 후 저장 (요청 스레드는 기다리지 않음)
+ * - 저장 형식: float32 little-endian BLOB + 임베딩한 텍스트의 SHA-256 + 모델 버전(ai.resume-embedding.version)
+ * - 매칭/코칭 등은 vectorFor() 로 조회 → 해시/버전이 같으면 AI 호출 없이 저장된 벡터
+ * - 버전을 올렸거나, 비동기 처리가 빠졌거나, 저장된 해시가 지금 내용과 다른 이력서는 refreshStale() 배치가 채움
+ * - 작업 중에 이력서가 다시 수정되면: 작업 시작 때 대기 표시를 풀어 두므로 새 작업이 예약되고,
+ *   끝난 작업도 저장 후 내용이 바뀌었으면 한 번 더 예약
+ * - 이력서 삭제 시 행은 FK(ON DELETE CASCADE)로 함께 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeEmbeddingService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AiEmbeddingClient aiEmbeddingClient;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${ai.resume-embedding.version:v1}")
+    private String version;
+
+    @Value("${ai.resume-embedding.workers:1}")
+    private int workers;
+
+    @Value("${ai.resume-embedding.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${ai.resume-embedding.batch-enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${ai.resume-embedding.batch-size:100}")
+    private int batchSize;
+
+    private ThreadPoolExecutor pool;
+
+    /** refreshStale() 가 마지막으로 본 이력서 id */
+    private volatile long scanCursor;
+
+    /** 대기열에서 아직 시작하지 않은 이력서 (같은 이력서 중복 작업 방지, 시작하면 빠짐) */
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    /** 저장된 임베딩 1행 */
+    private record Stored(String contentHash, String version, byte[] vector) {}
+
+    @PostConstruct
+    void start() {
+        pool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "resume-embedding");
+                    t.setDaemon(true);
+                    return t;
+                });
+        meterRegistry.ifAvailable(r -> new ExecutorServiceMetrics(pool, "resume-embedding", Tags.empty()).bindTo(r));
+        log.info("🧮 이력서 임베딩 워커 시작: version={}, workers={}, batch={}", version, workers, batchEnabled);
+    }
+
+    @PreDestroy
+    void stop() {
+        // 남은 작업은 다음 기동 후 refreshStale() 또는 매칭 시점에 채워짐
+        pool.shutdownNow();
+    }
+
+    /** 임베딩할 텍스트: 자기소개서 내용이 있으면 그것, 없으면 본문(htmlContent) */
+    public static String textOf(String essayContent, String htmlContent) {
+        return (essayContent != null && !essayContent.isBlank()) ? essayContent : htmlContent;
+    }
+
+    /** 이력서 생성/수정 후 호출 - 트랜잭션 안이면 커밋 후 예약 */
+    public void refreshAsync(Long resumeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(resumeId);
+                }
+            });
+        } else {
+            submit(resumeId);
+        }
+    }
+
+    /**
+     * 이력서 벡터 (해시/버전이 같으면 저장본, 아니면 지금 임베딩해서 저장)
+     * - 임베딩 실패 시 빈 리스트
+     */
+    public List<Double> vectorFor(Long resumeId, String text) {
+        if (text == null || text.isBlank()) return List.of();
+        String hash = sha256(text);
+
+        Optional<Stored> stored = load(resumeId);
+        if (stored.isPresent() && hash.equals(stored.get().contentHash()) && version.equals(stored.get().version())) {
+            return decode(stored.get().vector());
+        }
+        return embedAndStore(resumeId, text, hash);
+    }
+
+    /** 저장된 벡터만 (없거나 버전이 다르면 empty) - 내용 변경 여부는 확인하지 않음 */
+    public Optional<List<Double>> findVector(Long resumeId) {
+        return load(resumeId)
+                .filter(s -> version.equals(s.version()))
+                .map(s -> decode(s.vector()));
+    }
+
+    /**
+     * 임베딩이 없거나 버전/내용 해시가 다른 이력서를 배치 단위로 대기열에 올림
+     * - 해시는 textOf() 와 같은 텍스트(자기소개서 → 없으면 본문)의 SHA-256 을 DB 에서 계산해 비교
+     * - id 커서로 이어서 훑고 끝에 닿으면 처음부터 (계속 실패하는 이력서가 앞을 막지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${ai.resume-embedding.batch-ms:300000}", initialDelay = 60000)
+    public void refreshStale() {
+        if (!batchEnabled) return;
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT r.id FROM resume r " +
+                        "LEFT JOIN resume_embedding e ON e.resume_id = r.id " +
+                        "WHERE r.id > ? AND (e.resume_id IS NULL OR e.model_version <> ? " +
+                        "  OR e.content_hash <> SHA2(COALESCE(NULLIF(TRIM(r.essay_content), ''), r.html_content), 256)) " +
+                        "AND ((r.essay_content IS NOT NULL AND r.essay_content <> '') " +
+                        "  OR (r.html_content IS NOT NULL AND r.html_content <> '')) " +
+                        "ORDER BY r.id LIMIT ?",
+                Long.class, scanCursor, version, batchSize);
+        scanCursor = ids.size() < batchSize ? 0L : ids.get(ids.size() - 1);
+        if (ids.isEmpty()) return;
+
+        int submitted = 0;
+        for (Long id : ids) {
+            if (submit(id)) submitted++;
+        }
+        log.info("🧮 이력서 임베딩 갱신 예약: 대상 {}개, 예약 {}개 (version={})", ids.size(), submitted, version);
+    }
+
+    private boolean submit(Long resumeId) {
+        if (!queued.add(resumeId)) return false;
+        try {
+            pool.execute(LogContext.taskDecorator().decorate(() -> {
+                // 시작하면서 풀어 둠 → 임베딩 중에 들어온 수정은 새 작업으로 예약됨
+                queued.remove(resumeId);
+                refresh(resumeId);
+            }));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(resumeId);
+            log.debug("이력서 임베딩 대기열 가득 참 → 다음 배치에서 처리: resumeId={}", resumeId);
+            return false;
+        }
+    }
+
+    /**
+     * 현재 내용 기준으로 해시/버전이 다를 때만 다시 임베딩
+     * - 저장 후 내용이 또 바뀌었으면 다시 예약 (워커가 여럿이면 늦게 끝난 이전 내용이 덮어쓸 수 있으므로)
+     */
+    private void refresh(Long resumeId) {
+        String text = currentText(resumeId);
+        if (text == null || text.isBlank()) return;
+
+        String hash = sha256(text);
+        Optional<Stored> stored = load(resumeId);
+        if (stored.isPresent() && hash.equals(stored.get().contentHash()) && version.equals(stored.get().version())) {
+            return;
+        }
+        if (embedAndStore(resumeId, text, hash).isEmpty()) return;
+
+        String now = currentText(resumeId);
+        if (now != null && !now.isBlank() && !hash.equals(sha256(now))) {
+            log.debug("이력서 임베딩 중 내용 변경 → 다시 예약: resumeId={}", resumeId);
+            submit(resumeId);
+        }
+    }
+
+    /** 임베딩할 현재 텍스트 (이력서가 없으면 null) */
+    private String currentText(Long resumeId) {
+        List<String> text = jdbcTemplate.query(
+                "SELECT essay_content, html_content FROM resume WHERE id = ?",
+                (rs, i) -> textOf(rs.getString(1), rs.getString(2)),
+                resumeId);
+        return text.isEmpty() ? null : text.get(0);
+    }
+
+    private List<Double> embedAndStore(Long resumeId, String text, String hash) {
+        List<Double> vector = aiEmbeddingClient.embed(text);
+        if (vector == null || vector.isEmpty()) {
+            log.warn("⚠️ 이력서 임베딩 실패: resumeId={}", resumeId);
+            return List.of();
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO resume_embedding (resume_id, content_hash, model_version, dims, vector, updated_at) " +
+                            "VALUES (?, ?, ?, ?, ?, NOW(6)) " +
+                            "ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash), model_version = VALUES(model_version), " +
+                            "dims = VALUES(dims), vector = VALUES(vector), updated_at = VALUES(updated_at)",
+                    resumeId, hash, version, vector.size(), encode(vector));
+        } catch (DataIntegrityViolationException e) {
+            // 임베딩하는 사이 이력서가 삭제됨 (FK) → 저장하지 않음
+            log.debug("이력서 임베딩 저장 생략 (삭제된 이력서): resumeId={}", resumeId);
+            return vector;
+        }
+        log.debug("이력서 임베딩 저장: resumeId={}, dims={}", resumeId, vector.size());
+        return vector;
+    }
+
+    private Optional<Stored> load(Long resumeId) {
+        return jdbcTemplate.query(
+                "SELECT content_hash, model_version, vector FROM resume_embedding WHERE resume_id = ?",
+                (rs, i) -> new Stored(rs.getString(1), rs.getString(2), rs.getBytes(3)),
+                resumeId).stream().findFirst();
+    }
+
+    /** float32 little-endian (double JSON 대비 약 1/5 크기) */
+    static byte[] encode(List<Double> vector) {
+        ByteBuffer buf = ByteBuffer.allocate(vector.size() * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (Double v : vector) buf.putFloat(v != null ? v.floatValue() : 0f);
+        return buf.array();
+    }
+
+    static List<Double> decode(byte[] bytes) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        List<Double> out = new ArrayList<>(bytes.length / Float.BYTES);
+        while (buf.remaining() >= Float.BYTES) out.add((double) buf.getFloat());
+        return out;
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.we.hirehub.service.support;
 
-import com.we.hirehub.config.AiEmbeddingClient;
 import com.we.hirehub.entity.JobPosts;
 import com.we.hirehub.repository.JobPostsRepository;
 import com.we.hirehub.util.VectorUtil;
@@ -23,9 +22,9 @@ import java.util.stream.Collectors;
 public class ResumeMatchService {
 
     private final JobPostsRepository jobPostsRepository;
-    private final AiEmbeddingClient aiEmbeddingClient;
+    private final ResumeEmbeddingService resumeEmbeddingService;
     private final VectorUtil vectorUtil;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate aiRestTemplate;
 
     @org.springframework.beans.factory.annotation.Value("${ai.server-url}")
     private String aiServerUrl;
@@ -42,65 +41,45 @@ public class ResumeMatchService {
 
     public List<MatchResult> match(Long resumeId, String resumeFullText, String resumeSummary) {
 
-        log.info("═══════════════════════════════════════════════════════");
-        log.info("🎯 매칭 프로세스 시작");
-        log.info("═══════════════════════════════════════════════════════");
-        log.info("📌 Resume ID: {}", resumeId);
+        long startedAt = System.nanoTime();
 
-        // 1) 이력서 임베딩 생성
-        String textToEmbed = (resumeSummary != null && !resumeSummary.isBlank())
-                ? resumeSummary
-                : resumeFullText;
+        // 1) 이력서 임베딩 (내용이 그대로면 저장된 벡터, 바뀌었으면 지금 임베딩 후 저장)
+        String textToEmbed = ResumeEmbeddingService.textOf(resumeSummary, resumeFullText);
+        if (textToEmbed == null || textToEmbed.isBlank()) {
+            log.warn("⚠️ 임베딩할 이력서 내용 없음: resumeId={}", resumeId);
+            return List.of();
+        }
 
-        log.info("📝 임베딩할 텍스트 길이: {}자", textToEmbed.length());
-        log.info("📝 텍스트 미리보기: {}...",
-                textToEmbed.length() > 100 ? textToEmbed.substring(0, 100) : textToEmbed);
+        // 본문 미리보기는 DEBUG 에서만 (이력서 내용이 운영 로그에 남지 않도록)
+        if (log.isDebugEnabled()) {
+            log.debug("📝 매칭 임베딩 텍스트: resumeId={}, {}자, 미리보기={}...", resumeId, textToEmbed.length(),
+                    textToEmbed.length() > 100 ? textToEmbed.substring(0, 100) : textToEmbed);
+        }
 
-        List<Double> resumeVec = aiEmbeddingClient.embed(textToEmbed);
+        List<Double> resumeVec = resumeEmbeddingService.vectorFor(resumeId, textToEmbed);
 
         if (resumeVec == null || resumeVec.isEmpty()) {
-            log.error("❌ 이력서 임베딩 생성 실패");
+            log.error("❌ 이력서 임베딩 생성 실패: resumeId={}", resumeId);
             return List.of();
         }
 
-        log.info("✅ 이력서 임베딩 생성 완료: {}차원 벡터", resumeVec.size());
-
         // 2) 모든 공고 불러오기
-        log.info("───────────────────────────────────────────────────────");
-        log.info("📊 데이터베이스 조회 중...");
-
         List<JobPosts> all = jobPostsRepository.findAll();
 
-        log.info("✅ 전체 공고 수: {}개", all.size());
-        log.info("───────────────────────────────────────────────────────");
-
-        // 임베딩 있는 공고 vs 없는 공고 분류
-        long withEmbedding = all.stream()
-                .filter(p -> p.getEmbedding() != null && !p.getEmbedding().isBlank())
-                .count();
-        long withoutEmbedding = all.size() - withEmbedding;
-
-        log.info("📈 임베딩 있는 공고: {}개", withEmbedding);
-        log.info("📉 임베딩 없는 공고: {}개 (매칭 불가)", withoutEmbedding);
-
-        // 3) 코사인 유사도 계산
-        log.info("───────────────────────────────────────────────────────");
-        log.info("🔍 코사인 유사도 계산 시작...");
-
+        // 3) 코사인 유사도 계산 (공고별 로그는 남기지 않고 건수만 집계)
         List<MatchResult> retrieved = new ArrayList<>();
-        int processedCount = 0;
+        int withoutEmbedding = 0;
+        int parseFailed = 0;
 
         for (JobPosts p : all) {
-            processedCount++;
-
             if (p.getEmbedding() == null || p.getEmbedding().isBlank()) {
-                log.debug("⏭️  [{}] ID {} - 임베딩 없음 (스킵)", processedCount, p.getId());
+                withoutEmbedding++;
                 continue;
             }
 
             List<Double> jobVec = parseEmbedding(p.getEmbedding());
             if (jobVec.isEmpty()) {
-                log.warn("⚠️  [{}] ID {} - 임베딩 파싱 실패", processedCount, p.getId());
+                parseFailed++;
                 continue;
             }
 
@@ -113,36 +92,28 @@ public class ResumeMatchService {
             r.companyName = p.getCompany().getName();
             r.retrievalScore = score;
             retrieved.add(r);
-
-            log.debug("✓ [{}] ID {} - 유사도: {:.4f} | {}",
-                    processedCount, p.getId(), score, p.getTitle());
         }
 
-        log.info("✅ 유사도 계산 완료: {}개 공고 처리됨", retrieved.size());
+        if (parseFailed > 0) {
+            log.warn("⚠️ 임베딩 파싱 실패 공고 {}개 (resumeId={})", parseFailed, resumeId);
+        }
 
         // Retrieval 점수로 정렬
         retrieved.sort((a, b) -> Double.compare(b.retrievalScore, a.retrievalScore));
 
-        log.info("───────────────────────────────────────────────────────");
-        log.info("🏆 상위 10개 공고 선정");
-        log.info("───────────────────────────────────────────────────────");
-
         // 상위 10개 추출
         List<MatchResult> top10 = retrieved.stream()
                 .limit(10)
                 .collect(Collectors.toList());
 
-        // 상위 10개 출력
-        for (int i = 0; i < top10.size(); i++) {
-            MatchResult r = top10.get(i);
-            log.info("{}위. [ID {}] {} - {} (유사도: {:.4f})",
-                    i + 1, r.jobId, r.companyName, r.jobTitle, r.retrievalScore);
+        if (log.isDebugEnabled()) {
+            for (int i = 0; i < top10.size(); i++) {
+                MatchResult r = top10.get(i);
+                log.debug("{}위. [ID {}] {} - {} (유사도: {})",
+                        i + 1, r.jobId, r.companyName, r.jobTitle, String.format("%.4f", r.retrievalScore));
+            }
         }
 
-        log.info("───────────────────────────────────────────────────────");
-        log.info("🤖 AI 정밀 매칭 시작 (상위 10개 대상)");
-        log.info("───────────────────────────────────────────────────────");
-
         // 4) FastAPI LLM 정밀 매칭
         int successCount = 0;
         int failCount = 0;
@@ -172,8 +143,6 @@ public class ResumeMatchService {
             }
 
             try {
-                log.info("🔄 [{}] ID {} - AI 매칭 요청 중...", i+1, item.jobId);
-
                 String resultJson = callMatch(resumeSummary, jp.getSummary());
                 Map<String, Object> parsed = parseJson(resultJson);
 
@@ -181,7 +150,7 @@ public class ResumeMatchService {
                 item.reason = String.valueOf(parsed.getOrDefault("reason", "분석 완료"));
 
                 if (item.aiScore > 0) {
-                    log.info("✅ [{}] ID {} - AI 점수: {}점 | {}",
+                    log.debug("✅ [{}] ID {} - AI 점수: {}점 | {}",
                             i+1, item.jobId, item.aiScore, item.reason);
                     successCount++;
                 } else {
@@ -204,10 +173,6 @@ public class ResumeMatchService {
             }
         }
 
-        log.info("───────────────────────────────────────────────────────");
-        log.info("📊 AI 매칭 결과: 성공 {}개, 실패 {}개", successCount, failCount);
-        log.info("───────────────────────────────────────────────────────");
-
         // 5) 최종 정렬
         List<MatchResult> finalResults = top10.stream()
                 .sorted((a, b) -> {
@@ -217,9 +182,10 @@ public class ResumeMatchService {
                 })
                 .toList();
 
-        log.info("═══════════════════════════════════════════════════════");
-        log.info("🎉 매칭 완료 - 최종 결과 {}개 반환", finalResults.size());
-        log.info("═══════════════════════════════════════════════════════");
+        // 요청당 INFO 1줄
+        log.info("🎯 매칭 완료: resumeId={}, 공고 {}개(임베딩 없음 {}), 후보 {}개, AI 성공 {} / 실패 {}, {}ms",
+                resumeId, all.size(), withoutEmbedding, top10.size(), successCount, failCount,
+                (System.nanoTime() - startedAt) / 1_000_000);
 
         return finalResults;
     }
@@ -246,7 +212,7 @@ public class ResumeMatchService {
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
         try {
-            var res = restTemplate.postForEntity(
+            var res = aiRestTemplate.postForEntity(
                     aiServerUrl + "/ai/match-one",
                     entity,
                     Map.class
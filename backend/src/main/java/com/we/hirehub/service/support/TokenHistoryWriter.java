@@ -0,0 +1,136 @@
+package com.we.hirehub.service.support;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * token_history append-only 기록기
+ * - async(기본): 잔액 트랜잭션이 커밋된 뒤에만 WriteBehindQueue 에 넣고, 백그라운드에서 배치 INSERT
+ *   (롤백된 차감은 내역에 남지 않음, 요청 스레드는 users 행 UPDATE 1번만)
+ *   저장 실패한 내역은 재시도 대기열로 → 다음 flush 에서 다시 저장 (WriteBehindQueue 참고)
+ * - sync: 호출한 트랜잭션 안에서 바로 INSERT (잔액과 내역이 함께 커밋)
+ * - 버퍼가 가득 차면 자리가 날 때까지 기다림, 종료 시 모두 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenHistoryWriter {
+
+    public record Entry(Long userId, int amount, String feature, String description, LocalDateTime createdAt) {}
+
+    private static final String INSERT_SQL =
+            "INSERT INTO token_history (user_id, amount, feature, description, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${token.ledger.history.mode:async}")
+    private String initialMode;
+
+    @Value("${token.ledger.history.batch-size:200}")
+    private int batchSize;
+
+    @Value("${token.ledger.history.flush-ms:500}")
+    private long flushMs;
+
+    @Value("${token.ledger.history.capacity:10000}")
+    private int capacity;
+
+    @Value("${token.ledger.history.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${token.ledger.history.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    private WriteBehindQueue<Entry> history;
+
+    /** sync 모드에서 차감 트랜잭션 안에서 바로 저장한 건수 */
+    private final AtomicLong syncWritten = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        history = new WriteBehindQueue<>("token-history",
+                new WriteBehindQueue.Settings(batchSize, flushMs, capacity, maxAttempts, retryBackoffMs),
+                WriteBehindQueue.Mode.valueOf(initialMode.trim().toUpperCase()),
+                transactionManager, this::write,
+                e -> "userId=" + e.userId() + ", amount=" + e.amount() + ", feature=" + e.feature()
+                        + ", createdAt=" + e.createdAt(),
+                Entry::userId);
+        history.start();
+        log.info("🪙 토큰 내역 기록기 시작: mode={}, batchSize={}, flushMs={}", history.getMode(), batchSize, flushMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        history.stop();
+        log.info("🛑 토큰 내역 기록기 종료: {}", stats());
+    }
+
+    /** 내역 1건 추가 (트랜잭션 안이면 커밋 후 버퍼에) */
+    public void append(Long userId, int amount, String feature, String description) {
+        Entry entry = new Entry(userId, amount, feature, description, LocalDateTime.now());
+
+        if (history.getMode() == WriteBehindQueue.Mode.SYNC) {
+            // 호출한 트랜잭션에 참여 (실패하면 차감도 롤백)
+            jdbcTemplate.update(INSERT_SQL, args(entry));
+            syncWritten.incrementAndGet();
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // afterCommit 에서는 DB 에 쓰지 않음 (끝난 트랜잭션 커넥션에 묶임) → 버퍼에만
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    history.put(entry);
+                }
+            });
+        } else {
+            history.put(entry);
+        }
+    }
+
+    /** 버퍼/재시도 대기열에 남은 내역을 호출 스레드에서 바로 저장 (내역 조회 직전용) */
+    public void flush() {
+        history.flush();
+    }
+
+    public WriteBehindQueue.Mode getMode() {
+        return history.getMode();
+    }
+
+    public void setMode(WriteBehindQueue.Mode mode) {
+        history.setMode(mode);
+        log.info("🪙 토큰 내역 기록 모드 변경: {}", mode);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = history.stats();
+        m.put("syncWritten", syncWritten.get());
+        return m;
+    }
+
+    /* ------- writer (WriteBehindQueue 가 트랜잭션 안에서 호출) ------- */
+
+    private Runnable write(List<Entry> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(TokenHistoryWriter::args).toList());
+        return null;
+    }
+
+    private static Object[] args(Entry e) {
+        return new Object[]{e.userId(), e.amount(), e.feature(), e.description(), Timestamp.valueOf(e.createdAt())};
+    }
+}
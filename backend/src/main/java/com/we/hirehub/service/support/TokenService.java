@@ -1,54 +1,128 @@
 package com.we.hirehub.service.support;
 
-import com.we.hirehub.entity.TokenHistory;
-import com.we.hirehub.entity.Users;
-import com.we.hirehub.repository.TokenHistoryRepository;
-import com.we.hirehub.repository.UsersRepository;
+import com.we.hirehub.exception.IdempotencyKeyConflictException;
 import com.we.hirehub.exception.InsufficientTokenException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 토큰 원장
+ * - 잔액 변경은 users 행 조건부 UPDATE 1문장 (읽고-비교하고-쓰기 X → 동시 요청에도 이중 차감 없음)
+ * - 사용 내역(token_history)은 TokenHistoryWriter 가 커밋 후 모아서 저장
+ * - 멱등성 키: 같은 (userId, key) 차감 요청은 한 번만 반영되고 이후에는 처음 결과를 반환
+ *   (같은 키를 다른 금액/기능으로 쓰면 409)
+ * - 잔액 조회는 영속성 컨텍스트가 아닌 DB 값 기준
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional  // ★ 추가!!
 
 public class TokenService {
 
-    private final UsersRepository usersRepository;
-    private final TokenHistoryRepository tokenHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenHistoryWriter historyWriter;
+
+    @Value("${token.ledger.idempotency-ttl-hours:48}")
+    private long idempotencyTtlHours;
+
+    /** 차감 결과 (replayed = 같은 멱등성 키로 이미 처리된 요청) */
+    public record UseResult(int balance, boolean replayed) {}
 
-    /** ✔ 토큰 지급 + 히스토리 기록 */
-    public void addTokens(Long userId, int amount, String feature, String desc) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저 없음"));
+    /** 멱등성 키로 처음 처리된 요청 */
+    private record Previous(int amount, String feature, Integer balanceAfter) {}
 
-        user.setTokenBalance(user.getTokenBalance() + amount);
+    /** ✔ 토큰 지급 + 히스토리 기록 → 지급 후 잔액 */
+    public int addTokens(Long userId, int amount, String feature, String desc) {
+        if (amount <= 0) throw new IllegalArgumentException("지급할 토큰 수가 올바르지 않습니다.");
+
+        int updated = jdbcTemplate.update(
+                "UPDATE users SET token_balance = token_balance + ? WHERE id = ?", amount, userId);
+        if (updated == 0) throw new RuntimeException("유저 없음");
+
+        historyWriter.append(userId, amount, feature, desc);
+        return getBalance(userId);
+    }
 
-        tokenHistoryRepository.save(TokenHistory.builder()
-                .user(user)
-                .amount(amount)
-                .feature(feature)
-                .description(desc)
-                .build());
+    /** ✔ 토큰 차감 + 히스토리 기록 → 차감 후 잔액 */
+    public int useTokens(Long userId, int amount, String feature, String desc) {
+        return useTokens(userId, amount, feature, desc, null).balance();
     }
 
-    /** ✔ 토큰 차감 + 히스토리 기록 */
-    public void useTokens(Long userId, int amount, String feature, String desc) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저 없음"));
+    /**
+     * ✔ 토큰 차감 (멱등성 키 지원)
+     * 1) 키가 있으면 먼저 키 행을 INSERT IGNORE
+     *    - 이미 있으면 차감하지 않고 기록된 결과 반환 (금액/기능이 다르면 IdempotencyKeyConflictException)
+     *    - 같은 키가 동시에 들어오면 뒤 요청은 앞 트랜잭션이 끝날 때까지 대기 후 판단
+     * 2) WHERE token_balance >= ? 조건부 UPDATE 로 차감 (0행이면 잔액 부족 → 롤백으로 키도 취소)
+     */
+    public UseResult useTokens(Long userId, int amount, String feature, String desc, String idempotencyKey) {
+        if (amount <= 0) throw new IllegalArgumentException("차감할 토큰 수가 올바르지 않습니다.");
+        boolean keyed = idempotencyKey != null && !idempotencyKey.isBlank();
+        if (keyed && idempotencyKey.length() > 100) throw new IllegalArgumentException("멱등성 키는 100자 이하여야 합니다.");
 
-        if (user.getTokenBalance() < amount) {
+        if (keyed) {
+            int claimed = jdbcTemplate.update(
+                    "INSERT IGNORE INTO token_idempotency (user_id, idem_key, amount, feature, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?)",
+                    userId, idempotencyKey, amount, feature, Timestamp.valueOf(LocalDateTime.now()));
+            if (claimed == 0) {
+                Previous previous = jdbcTemplate.query(
+                        "SELECT amount, feature, balance_after FROM token_idempotency WHERE user_id = ? AND idem_key = ?",
+                        (rs, i) -> new Previous(rs.getInt("amount"), rs.getString("feature"),
+                                rs.getObject("balance_after", Integer.class)),
+                        userId, idempotencyKey).stream().findFirst().orElse(null);
+                if (previous != null && (previous.amount() != amount || !Objects.equals(previous.feature(), feature))) {
+                    log.warn("⚠️ 멱등성 키 재사용 거부: userId={}, key={}, amount={}→{}, feature={}→{}",
+                            userId, idempotencyKey, previous.amount(), amount, previous.feature(), feature);
+                    throw new IdempotencyKeyConflictException("이미 다른 요청에 사용된 멱등성 키입니다.");
+                }
+                log.info("🔁 중복 토큰 차감 요청 무시: userId={}, key={}", userId, idempotencyKey);
+                Integer balance = previous != null ? previous.balanceAfter() : null;
+                return new UseResult(balance != null ? balance : getBalance(userId), true);
+            }
+        }
+
+        int updated = jdbcTemplate.update(
+                "UPDATE users SET token_balance = token_balance - ? WHERE id = ? AND token_balance >= ?",
+                amount, userId, amount);
+        if (updated == 0) {
+            getBalance(userId);   // 유저가 없으면 여기서 예외
             throw new InsufficientTokenException("토큰이 부족합니다.");
         }
 
-        user.setTokenBalance(user.getTokenBalance() - amount);
+        int balance = getBalance(userId);
+        if (keyed) {
+            jdbcTemplate.update("UPDATE token_idempotency SET balance_after = ? WHERE user_id = ? AND idem_key = ?",
+                    balance, userId, idempotencyKey);
+        }
+        historyWriter.append(userId, -amount, feature, desc);
+        return new UseResult(balance, false);
+    }
+
+    /** ✔ 현재 잔액 (DB 기준, 같은 트랜잭션 안에서는 방금 반영한 값 포함) */
+    public int getBalance(Long userId) {
+        List<Integer> rows = jdbcTemplate.queryForList(
+                "SELECT token_balance FROM users WHERE id = ?", Integer.class, userId);
+        if (rows.isEmpty()) throw new RuntimeException("유저 없음");
+        return rows.get(0) != null ? rows.get(0) : 0;
+    }
 
-        tokenHistoryRepository.save(TokenHistory.builder()
-                .user(user)
-                .amount(-amount)
-                .feature(feature)
-                .description(desc)
-                .build());
+    /** 오래된 멱등성 키 정리 (매일 새벽) */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void purgeIdempotencyKeys() {
+        int deleted = jdbcTemplate.update("DELETE FROM token_idempotency WHERE created_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(idempotencyTtlHours)));
+        if (deleted > 0) log.info("🧹 토큰 멱등성 키 {}건 정리", deleted);
     }
 }
@@ -0,0 +1,396 @@
+package com.we.hirehub.service.support;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * write-behind 공용 큐 (ChatJournal / TokenHistoryWriter)
+ * - 고정 크기 버퍼 + 백그라운드 writer 스레드 1개: flush-ms 마다 또는 batch-size 건이 모이면 저장
+ * - 순서 보장: 버퍼에서 꺼내기~저장까지를 하나의 락 안에서 수행 (writer / 호출 스레드 flush 공용)
+ *   같은 순서 키(채팅 세션 등)의 항목은 append 순서대로 저장 - 한 건이 실패하면 같은 키의 뒤 항목도 함께 보류
+ * - 저장은 배치마다 별도 트랜잭션 (REQUIRES_NEW) → 호출 스레드의 트랜잭션(읽기 전용 등)과 무관
+ * - 실패한 항목은 재시도 대기열에 두고 다음 flush 에서 버퍼보다 먼저 저장
+ *   · DB 장애(연결 실패 등): 건별 재시도 없이 retry-backoff-ms 부터 두 배씩(최대 30초) 쉼, 그동안 버퍼는 비우지 않음
+ *   · 그 외 오류: 한 건 때문에 배치 전체가 밀리지 않도록 건별로 다시 저장
+ * - writeNow(동기 저장)는 재시도 대기열에 넣지 않고 실패를 호출 스레드에 예외로 돌려줌
+ * - max-attempts 번 실패 / 재시도 대기열이 capacity 초과 / 종료 시 남은 항목은 dropped 로 집계하고 ERROR 로그
+ */
+@Slf4j
+public class WriteBehindQueue<E> {
+
+    public enum Mode { SYNC, ASYNC }
+
+    /** 배치 저장 - 트랜잭션 안에서 호출됨, 커밋 후 실행할 작업 반환 (없으면 null) */
+    @FunctionalInterface
+    public interface BatchWriter<E> {
+        Runnable write(List<E> batch);
+    }
+
+    public record Settings(int batchSize, long flushMs, int capacity, int maxAttempts, long retryBackoffMs) {}
+
+    /** 재시도 대기 항목 (attempts = 지금까지 실패 횟수) */
+    private record Pending<E>(E item, int attempts) {}
+
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final String name;
+    private final Settings settings;
+    private final BatchWriter<E> batchWriter;
+    private final Function<E, String> describe;
+    private final Function<E, ?> orderKey;
+    private final TransactionTemplate tx;
+
+    private final BlockingQueue<E> buffer;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object signal = new Object();
+    private volatile Mode mode;
+    private volatile boolean running;
+    private Thread writer;
+
+    /** 저장 실패 후 다시 시도할 항목 (writeLock 안에서만 접근) */
+    private final Deque<Pending<E>> retry = new ArrayDeque<>();
+    private volatile int retrying;
+    /** DB 장애 백오프: 이 시각 전에는 저장 시도 없음 (writeLock 안에서만 접근) */
+    private long retryAfter;
+    private int consecutiveFailures;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+
+    /**
+     * @param orderKey 저장 순서를 지켜야 하는 단위 (예: 채팅 세션 id) - 같은 키끼리만 순서 보장
+     */
+    public WriteBehindQueue(String name, Settings settings, Mode mode,
+                            PlatformTransactionManager transactionManager,
+                            BatchWriter<E> batchWriter, Function<E, String> describe, Function<E, ?> orderKey) {
+        this.name = name;
+        this.settings = settings;
+        this.mode = mode;
+        this.batchWriter = batchWriter;
+        this.describe = describe;
+        this.orderKey = orderKey;
+        this.buffer = new ArrayBlockingQueue<>(settings.capacity());
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tx.setReadOnly(false);
+    }
+
+    public void start() {
+        running = true;
+        writer = new Thread(this::loop, name);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** writer 정지 후 남은 항목 저장 (백오프 무시하고 한 번 더 시도) */
+    public void stop() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeLock.lock();
+        try {
+            // 실패한 키 뒤에 보류된 항목도 저장되도록 진전이 없을 때까지 반복
+            int before;
+            do {
+                before = retry.size() + buffer.size();
+                retryAfter = 0;
+                flushLocked(null);
+            } while (!retry.isEmpty() && retry.size() < before);
+            if (!retry.isEmpty()) {
+                dropped.addAndGet(retry.size());
+                retry.forEach(p -> log.error("❌ {} 종료 시 저장하지 못함: {}", name, describe.apply(p.item())));
+                retry.clear();
+                retrying = 0;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 버퍼에 추가 - 가득 차 있으면 timeoutMs 까지 기다리고 그래도 없으면 false */
+    public boolean offer(E item, long timeoutMs) {
+        try {
+            if (buffer.offer(item, timeoutMs, TimeUnit.MILLISECONDS)) {
+                appended.incrementAndGet();
+                if (buffer.size() >= settings.batchSize()) wakeUp();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /** 버퍼에 추가 - 자리가 날 때까지 기다림 (afterCommit 처럼 DB 에 쓰면 안 되는 곳에서 사용) */
+    public void put(E item) {
+        appended.incrementAndGet();
+        if (!buffer.offer(item)) {
+            blocked.incrementAndGet();
+            log.warn("⚠️ {} 버퍼 가득 참 → 자리가 날 때까지 대기 (capacity={})", name, settings.capacity());
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    buffer.put(item);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+        if (buffer.size() >= settings.batchSize()) wakeUp();
+    }
+
+    /** 저장하지 않고 버림 (저장할 수 없는 항목) */
+    public void reject(E item, String reason) {
+        appended.incrementAndGet();
+        dropped.incrementAndGet();
+        log.warn("⚠️ {} 저장하지 않음 ({}): {}", name, reason, describe.apply(item));
+    }
+
+    /**
+     * 재시도 대기열 + 버퍼를 호출 스레드에서 바로 저장 (조회 직전 id/내역 확정용)
+     * - writer 가 이미 꺼내 저장 중인 배치가 있으면 락을 기다려 그 커밋까지 확인
+     */
+    public void flush() {
+        if (!buffer.isEmpty() || retrying > 0 || writeLock.isLocked()) flushNow(null);
+    }
+
+    /**
+     * 재시도 대기열 + 버퍼 전체 + extra 를 호출 스레드에서 즉시 저장
+     * - writer 와 같은 락을 잡으므로 먼저 들어온 항목이 항상 먼저 저장됨
+     * - 백오프 중이면 시도하지 않고 extra 만 재시도 대기열로
+     */
+    public void flushNow(E extra) {
+        if (extra != null) appended.incrementAndGet();
+        writeLock.lock();
+        try {
+            flushLocked(extra);
+        } finally {
+            retrying = retry.size();
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 동기 저장 (mode=sync) - 쌓인 항목을 먼저 저장한 뒤 item 을 저장
+     * - item 이 저장되지 못하면 재시도 대기열에 넣지 않고 예외를 그대로 호출 스레드로
+     * - DB 장애 백오프 중이거나 같은 순서 키의 앞선 항목이 아직 재시도 대기 중이면 저장하지 않고 예외
+     */
+    public void writeNow(E item) {
+        appended.incrementAndGet();
+        writeLock.lock();
+        try {
+            flushLocked(null);
+            if (System.currentTimeMillis() < retryAfter) {
+                throw new TransientDataAccessResourceException(name + " DB 장애로 저장 보류 중");
+            }
+            Object key = orderKey.apply(item);
+            if (retry.stream().anyMatch(p -> Objects.equals(orderKey.apply(p.item()), key))) {
+                throw new TransientDataAccessResourceException(name + " 앞선 항목이 재시도 대기 중 (순서 유지를 위해 저장하지 않음)");
+            }
+            write(List.of(new Pending<>(item, 0)));
+        } finally {
+            retrying = retry.size();
+            writeLock.unlock();
+        }
+    }
+
+    /** writeLock 보유 상태에서 호출 */
+    private void flushLocked(E extra) {
+        if (System.currentTimeMillis() < retryAfter) {
+            if (extra != null) requeue(List.of(new Pending<>(extra, 0)));
+            return;
+        }
+
+        List<Pending<E>> batch = new ArrayList<>(retry);
+        retry.clear();
+        List<E> drained = new ArrayList<>();
+        buffer.drainTo(drained);
+        if (extra != null) drained.add(extra);
+        drained.forEach(item -> batch.add(new Pending<>(item, 0)));
+        if (batch.isEmpty()) return;
+
+        // 다시 대기열로 갈 항목 (원래 순서 유지), 실패한 순서 키
+        List<Pending<E>> later = new ArrayList<>();
+        Set<Object> blocked = new HashSet<>();
+        boolean unavailable = false;
+        for (int from = 0; from < batch.size(); from += settings.batchSize()) {
+            List<Pending<E>> chunk = batch.subList(from, Math.min(from + settings.batchSize(), batch.size()));
+            if (unavailable) {
+                later.addAll(chunk);
+                continue;
+            }
+            List<Pending<E>> ready = new ArrayList<>();
+            for (Pending<E> p : chunk) {
+                if (blocked.contains(orderKey.apply(p.item()))) later.add(p);   // 앞선 항목이 실패한 키 → 함께 보류
+                else ready.add(p);
+            }
+            if (ready.isEmpty()) continue;
+            try {
+                write(ready);
+            } catch (Exception e) {
+                if (isUnavailable(e)) {
+                    // DB 자체 장애 → 남은 청크도 시도하지 않음
+                    log.error("❌ {} 저장 실패 (DB 연결) → {}건 재시도 대기", name, batch.size() - from, e);
+                    unavailable = true;
+                    ready.forEach(p -> later.add(failed(p)));
+                } else {
+                    log.error("❌ {} 배치 저장 실패 ({}건) → 건별 재시도", name, ready.size(), e);
+                    writeEach(ready, blocked, later);
+                }
+            }
+        }
+
+        if (unavailable) {
+            consecutiveFailures++;
+            retryAfter = System.currentTimeMillis() + Math.min(
+                    settings.retryBackoffMs() << Math.min(consecutiveFailures - 1, 16), MAX_BACKOFF_MS);
+        } else {
+            consecutiveFailures = 0;
+            retryAfter = 0;
+        }
+        // later 는 앞에서부터 추가했으므로 같은 순서 키 안에서는 원래 순서 그대로
+        requeue(later);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /** 모드 전환 (ASYNC → SYNC 전환 시 쌓인 것도 바로 저장) */
+    public void setMode(Mode mode) {
+        this.mode = mode;
+        if (mode == Mode.SYNC) flushNow(null);
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("mode", mode);
+        m.put("buffered", buffer.size());
+        m.put("appended", appended.get());
+        m.put("written", written.get());
+        m.put("flushes", flushes.get());
+        m.put("retrying", retrying);
+        m.put("retried", retried.get());
+        m.put("dropped", dropped.get());
+        m.put("blocked", blocked.get());
+        return m;
+    }
+
+    /* ------- writer ------- */
+
+    private void wakeUp() {
+        synchronized (signal) {
+            signal.notify();
+        }
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                // flush-ms 마다, 또는 batch-size 만큼 쌓였다는 신호가 오면 깨어남
+                if (buffer.size() < settings.batchSize()) {
+                    synchronized (signal) {
+                        signal.wait(settings.flushMs());
+                    }
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            try {
+                flushNow(null);
+            } catch (Exception e) {
+                log.error("❌ {} writer 오류", name, e);
+            }
+        }
+    }
+
+    /** 한 배치를 별도 트랜잭션으로 저장, 커밋된 뒤에만 카운터/후속 작업 반영 */
+    private void write(List<Pending<E>> rows) {
+        List<E> items = rows.stream().map(Pending::item).toList();
+        Runnable afterCommit = tx.execute(status -> batchWriter.write(items));
+        if (afterCommit != null) afterCommit.run();
+        written.addAndGet(rows.size());
+        flushes.incrementAndGet();
+    }
+
+    /**
+     * 건별로 각자 트랜잭션에서 저장
+     * - 실패한 항목과, 같은 순서 키에서 그 뒤에 오는 항목은 저장하지 않고 later 로 (다음 flush 에서 함께 재시도)
+     */
+    private void writeEach(List<Pending<E>> rows, Set<Object> blocked, List<Pending<E>> later) {
+        for (Pending<E> row : rows) {
+            Object key = orderKey.apply(row.item());
+            if (blocked.contains(key)) {
+                later.add(row);
+                continue;
+            }
+            try {
+                write(List.of(row));
+            } catch (Exception e) {
+                blocked.add(key);
+                later.add(failed(row));
+                log.warn("⚠️ {} 저장 실패 → 재시도 대기 ({}회째): {}", name, row.attempts() + 1,
+                        describe.apply(row.item()), e);
+            }
+        }
+    }
+
+    private Pending<E> failed(Pending<E> row) {
+        retried.incrementAndGet();
+        return new Pending<>(row.item(), row.attempts() + 1);
+    }
+
+    /**
+     * 재시도 대기열 뒤에 순서대로 추가 (writeLock 보유 상태에서 호출)
+     * - 실패 횟수가 max-attempts 에 닿은 항목은 버림
+     * - 대기열이 capacity 를 넘으면 가장 오래된 것부터 버림
+     */
+    private void requeue(List<Pending<E>> rows) {
+        for (Pending<E> p : rows) {
+            if (p.attempts() >= settings.maxAttempts()) {
+                dropped.incrementAndGet();
+                log.error("❌ {} 저장 포기 ({}회 실패): {}", name, p.attempts(), describe.apply(p.item()));
+                continue;
+            }
+            retry.addLast(p);
+        }
+        while (retry.size() > settings.capacity()) {
+            Pending<E> oldest = retry.pollFirst();
+            dropped.incrementAndGet();
+            log.error("❌ {} 재시도 대기열 초과로 버림: {}", name, describe.apply(oldest.item()));
+        }
+    }
+
+    /** 연결 실패 / 일시 장애 → 건별 재시도 대신 백오프 */
+    private static boolean isUnavailable(Exception e) {
+        return e instanceof CannotCreateTransactionException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException;
+    }
+}
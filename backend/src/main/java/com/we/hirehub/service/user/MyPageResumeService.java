@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.we.hirehub.dto.common.PagedResponse;
 import com.we.hirehub.dto.user.ResumeDto;
+import com.we.hirehub.dto.user.ResumeSectionDto;
 import com.we.hirehub.dto.user.ResumeUpsertRequest;
 import com.we.hirehub.dto.user.UsersDto;
 import com.we.hirehub.entity.*;
 import com.we.hirehub.exception.ForbiddenEditException;
 import com.we.hirehub.exception.ResourceNotFoundException;
 import com.we.hirehub.repository.*;
+import com.we.hirehub.service.support.ResumeEmbeddingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -39,7 +41,10 @@ public class MyPageResumeService {
     private final CertificateRepository certRepo;
     private final SkillRepository skillRepo;
     private final LanguageRepository languageRepo;
+    private final ResumeSectionLoader sectionLoader;
+    private final ResumeSectionSyncer sectionSyncer;
     private final S3Client s3Client;
+    private final ResumeEmbeddingService resumeEmbeddingService;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -60,8 +65,13 @@ public class MyPageResumeService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "updateAt"));
         Page<Resume> p = resumeRepository.findByUsers_Id(userId, pageable);
 
+        // 섹션은 페이지 단위로 한 번에 로딩 (이력서마다 5쿼리 → 페이지당 5쿼리)
+        Map<Long, ResumeSectionDto.Sections> sections = sectionLoader.loadFor(p.getContent());
+
         return new PagedResponse<>(
-                p.getContent().stream().map(this::toDto).collect(Collectors.toList()),
+                p.getContent().stream()
+                        .map(r -> toDto(r, sections.getOrDefault(r.getId(), ResumeSectionDto.Sections.empty())))
+                        .collect(Collectors.toList()),
                 p.getNumber(), p.getSize(), p.getTotalElements(), p.getTotalPages()
         );
     }
@@ -101,11 +111,14 @@ public class MyPageResumeService {
         // JSON → 섹션 저장
         upsertSections(saved, req);
 
+        // 커밋 후 임베딩 (매칭 시 AI 호출 생략)
+        resumeEmbeddingService.refreshAsync(saved.getId());
+
         return toDto(saved);
     }
 
     /**
-     * 수정: 잠금 검사 + 섹션 전부 재저장
+     * 수정: 잠금 검사 + 섹션 변경분만 반영
      */
     @Transactional
     public ResumeDto update(Long userId, Long resumeId, ResumeUpsertRequest req) {
@@ -128,6 +141,9 @@ public class MyPageResumeService {
 
         upsertSections(resume, req);
 
+        // 내용이 바뀌었으면 커밋 후 다시 임베딩 (해시가 같으면 생략)
+        resumeEmbeddingService.refreshAsync(resume.getId());
+
         return toDto(resume);
     }
 
@@ -159,61 +175,16 @@ public class MyPageResumeService {
      * Resume → DTO (profile 포함)
      */
     private ResumeDto toDto(Resume resume) {
+        return toDto(resume, sectionLoader.load(resume.getId()));
+    }
+
+    private ResumeDto toDto(Resume resume, ResumeSectionDto.Sections sections) {
         Users user = resume.getUsers();
         UsersDto.Profile profile = null;
         if (user != null) {
             profile = UsersDto.toProfile(user);
         }
 
-        Long rid = resume.getId();
-
-        List<Map<String, Object>> eduList =
-                educationRepo.findByResumeId(rid).stream().map(e -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", e.getName());
-                    m.put("major", e.getMajor());
-                    m.put("status", e.getStatus());
-                    m.put("type", e.getType());
-                    m.put("startAt", e.getStartAt());
-                    m.put("endAt", e.getEndAt());
-                    return m;
-                }).toList();
-
-        List<Map<String, Object>> careerList =
-                careerRepo.findByResumeId(rid).stream().map(c -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("companyName", c.getCompanyName());
-                    m.put("type", c.getType());
-                    m.put("position", c.getPosition());
-                    m.put("startAt", c.getStartAt());
-                    m.put("endAt", c.getEndAt());
-                    m.put("content", c.getContent());
-                    return m;
-                }).toList();
-
-        List<Map<String, Object>> certList =
-                certRepo.findByResumeId(rid).stream().map(c -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", c.getName());
-                    return m;
-                }).toList();
-
-        List<Map<String, Object>> skillList =
-                skillRepo.findByResumeId(rid).stream().map(s -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", s.getName());
-                    return m;
-                }).toList();
-
-        // ★★ 2) 여기: 언어 리스트는 String만 들어가서 컴파일러가 List<Map<String,String>>로 추론함.
-        //          값을 Object로 명시해서 List<Map<String,Object>>가 되도록 만든다.
-        List<Map<String, Object>> langList =
-                languageRepo.findByResumeId(rid).stream().map(l -> {
-                    Map<String, Object> m = new HashMap<>();
-                    m.put("name", (Object) l.getName()); // ← Object로 명시
-                    return m;
-                }).toList();
-
         return new ResumeDto(
                 resume.getId(),
                 resume.getTitle(),
@@ -226,11 +197,7 @@ public class MyPageResumeService {
                 resume.getUpdateAt(),
                 profile,
                 null,            // users (관리자용이 아니니 null)
-                eduList,
-                careerList,
-                certList,
-                skillList,
-                langList
+                sections
         );
     }
 
@@ -240,17 +207,11 @@ public class MyPageResumeService {
      *                 [1-1] 섹션 업서트 로직
      * ========================================================== */
 
+    /**
+     * 섹션 동기화: 기존 행과 비교해서 바뀐 행만 INSERT/UPDATE/DELETE (ResumeSectionSyncer)
+     */
     @Transactional
-    protected void upsertSections(Resume resume, ResumeUpsertRequest req) {
-
-        Long rid = resume.getId();
-
-        // 기존 데이터 삭제
-        educationRepo.deleteByResumeId(rid);
-        careerRepo.deleteByResumeId(rid);
-        certRepo.deleteByResumeId(rid);
-        skillRepo.deleteByResumeId(rid);
-        languageRepo.deleteByResumeId(rid);
+    protected ResumeSectionSyncer.Report upsertSections(Resume resume, ResumeUpsertRequest req) {
 
         // JSON 읽기
         List<Map<String, Object>> educations = parseList(req.getEducationJson());
@@ -272,84 +233,51 @@ public class MyPageResumeService {
             }
         }
 
-        // Education 저장
-        if (!educations.isEmpty()) {
-            List<Education> list = new ArrayList<>();
-            for (Map<String, Object> m : educations) {
-                Education e = new Education();
-                e.setName(asString(m.get("name")));
-                e.setMajor(asString(m.get("major")));
-                e.setStatus(asString(m.get("status")));
-                e.setType(asString(m.get("type")));
-                e.setStartAt(parseLocalDate(m.get("startAt")));
-                e.setEndAt(parseLocalDate(m.get("endAt")));
-                e.setResume(resume);
-                list.add(e);
-            }
-            educationRepo.saveAll(list);
+        // Education
+        List<Education> eduList = new ArrayList<>();
+        for (Map<String, Object> m : educations) {
+            Education e = new Education();
+            e.setName(asString(m.get("name")));
+            e.setMajor(asString(m.get("major")));
+            e.setStatus(asString(m.get("status")));
+            e.setType(asString(m.get("type")));
+            e.setStartAt(parseLocalDate(m.get("startAt")));
+            e.setEndAt(parseLocalDate(m.get("endAt")));
+            eduList.add(e);
         }
 
-        // Career 저장
-        if (!careers.isEmpty()) {
-            List<CareerLevel> list = new ArrayList<>();
-            for (Map<String, Object> m : careers) {
-                CareerLevel c = new CareerLevel();
-                c.setCompanyName(asString(m.get("companyName")));
-                c.setType(asString(m.get("type")));
-                c.setPosition(asString(m.get("position")));
-                c.setStartAt(parseLocalDate(m.get("startAt")));
-                c.setEndAt(parseLocalDate(m.get("endAt")));
-                c.setContent(asString(m.get("content")));
-                c.setResume(resume);
-                list.add(c);
-            }
-            careerRepo.saveAll(list);
+        // Career
+        List<CareerLevel> careerList = new ArrayList<>();
+        for (Map<String, Object> m : careers) {
+            CareerLevel c = new CareerLevel();
+            c.setCompanyName(asString(m.get("companyName")));
+            c.setType(asString(m.get("type")));
+            c.setPosition(asString(m.get("position")));
+            c.setStartAt(parseLocalDate(m.get("startAt")));
+            c.setEndAt(parseLocalDate(m.get("endAt")));
+            c.setContent(asString(m.get("content")));
+            careerList.add(c);
         }
 
-        // Certificate 저장
-        if (!certs.isEmpty()) {
-            List<Certificate> list = new ArrayList<>();
-
-            for (Map<String, Object> m : certs) {
-                Certificate c = Certificate.builder()
-                        .name(asString(m.get("name")))
-                        .resume(resume)
-                        .build();
-                list.add(c);
-            }
-
-            certRepo.saveAll(list);
+        // Certificate
+        List<Certificate> certList = new ArrayList<>();
+        for (Map<String, Object> m : certs) {
+            certList.add(Certificate.builder().name(asString(m.get("name"))).build());
         }
 
         // Skill
-        if (!skills.isEmpty()) {
-            List<Skill> list = new ArrayList<>();
-
-            for (Map<String, Object> m : skills) {
-                Skill s = Skill.builder()
-                        .name(asString(m.get("name")))
-                        .resume(resume)
-                        .build();
-
-                list.add(s);
-            }
-
-            skillRepo.saveAll(list);
+        List<Skill> skillList = new ArrayList<>();
+        for (Map<String, Object> m : skills) {
+            skillList.add(Skill.builder().name(asString(m.get("name"))).build());
         }
 
         // Language
-        if (!languages.isEmpty()) {
-            List<Language> list = new ArrayList<>();
-            for (Map<String, Object> m : languages) {
-                Language l = Language.builder()
-                        .name(asString(m.get("name")))
-                        .resume(resume)
-                        .build();
-
-                list.add(l);
-            }
-            languageRepo.saveAll(list);
+        List<Language> langList = new ArrayList<>();
+        for (Map<String, Object> m : languages) {
+            langList.add(Language.builder().name(asString(m.get("name"))).build());
         }
+
+        return sectionSyncer.sync(resume.getId(), eduList, careerList, certList, skillList, langList);
     }
 
 
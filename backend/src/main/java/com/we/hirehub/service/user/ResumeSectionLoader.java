@@ -0,0 +1,135 @@
+package com.we.hirehub.service.user;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.dto.user.ResumeSectionDto;
+import com.we.hirehub.entity.Resume;
+import com.we.hirehub.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이력서 섹션 일괄 로더
+ * - 한 페이지의 이력서 id 목록에 대해 섹션 테이블마다 IN (:ids) 1회씩만 조회 (총 5쿼리)
+ * - 결과는 resumeId 기준으로 메모리에서 그룹핑
+ * - 행마다 findByResumeId 5번씩 돌던 N+1 대체
+ * - 섹션 안 항목 순서는 id 순 (ResumeSectionSyncer 가 입력 순서대로 id 를 맞춰 둠)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResumeSectionLoader {
+
+    private final EducationRepository educationRepo;
+    private final CareerLevelRepository careerRepo;
+    private final CertificateRepository certRepo;
+    private final SkillRepository skillRepo;
+    private final LanguageRepository languageRepo;
+
+    private final ObjectMapper om = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /** 단건 */
+    public ResumeSectionDto.Sections load(Long resumeId) {
+        return load(List.of(resumeId)).getOrDefault(resumeId, ResumeSectionDto.Sections.empty());
+    }
+
+    /** 여러 건: resumeId → 섹션 묶음 (섹션이 하나도 없는 이력서도 빈 묶음으로 포함) */
+    public Map<Long, ResumeSectionDto.Sections> load(Collection<Long> resumeIds) {
+        if (resumeIds == null || resumeIds.isEmpty()) return Map.of();
+        Set<Long> ids = new LinkedHashSet<>(resumeIds);
+
+        Map<Long, List<ResumeSectionDto.Education>> edu = group(educationRepo.findByResumeIdInOrderByIdAsc(ids),
+                e -> e.getResume().getId(), ResumeSectionDto.Education::from);
+        Map<Long, List<ResumeSectionDto.Career>> career = group(careerRepo.findByResumeIdInOrderByIdAsc(ids),
+                c -> c.getResume().getId(), ResumeSectionDto.Career::from);
+        Map<Long, List<ResumeSectionDto.Named>> cert = group(certRepo.findByResumeIdInOrderByIdAsc(ids),
+                c -> c.getResume().getId(), c -> new ResumeSectionDto.Named(c.getName()));
+        Map<Long, List<ResumeSectionDto.Named>> skill = group(skillRepo.findByResumeIdInOrderByIdAsc(ids),
+                s -> s.getResume().getId(), s -> new ResumeSectionDto.Named(s.getName()));
+        Map<Long, List<ResumeSectionDto.Named>> lang = group(languageRepo.findByResumeIdInOrderByIdAsc(ids),
+                l -> l.getResume().getId(), l -> new ResumeSectionDto.Named(l.getName()));
+
+        Map<Long, ResumeSectionDto.Sections> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            result.put(id, ResumeSectionDto.Sections.builder()
+                    .education(edu.getOrDefault(id, List.of()))
+                    .career(career.getOrDefault(id, List.of()))
+                    .certificate(cert.getOrDefault(id, List.of()))
+                    .skill(skill.getOrDefault(id, List.of()))
+                    .language(lang.getOrDefault(id, List.of()))
+                    .build());
+        }
+        return result;
+    }
+
+    /** 이력서 목록 기준 편의 메서드 */
+    public Map<Long, ResumeSectionDto.Sections> loadFor(List<Resume> resumes) {
+        return load(resumes.stream().map(Resume::getId).toList());
+    }
+
+    /**
+     * htmlContent(JSON)의 education/career/certificate/skill/language 배열 → 섹션 묶음
+     * - 섹션 테이블이 비어있는 예전 데이터 호환용
+     * - 파싱 실패 시 빈 묶음
+     */
+    public ResumeSectionDto.Sections fromHtmlContent(String htmlContent) {
+        if (htmlContent == null || htmlContent.isBlank()) return ResumeSectionDto.Sections.empty();
+        try {
+            JsonNode root = om.readTree(htmlContent);
+            return ResumeSectionDto.Sections.builder()
+                    .education(extract(root, "education", ResumeSectionDto.Education.class))
+                    .career(extract(root, "career", ResumeSectionDto.Career.class))
+                    .certificate(extractNamed(root, "certificate"))
+                    .skill(extractNamed(root, "skill"))
+                    .language(extractNamed(root, "language"))
+                    .build();
+        } catch (Exception e) {
+            log.warn("htmlContent 파싱 실패: {}", e.getMessage());
+            return ResumeSectionDto.Sections.empty();
+        }
+    }
+
+    /* ------- 내부 유틸 ------- */
+
+    private static <E, D> Map<Long, List<D>> group(List<E> rows, Function<E, Long> key, Function<E, D> mapper) {
+        return rows.stream().collect(Collectors.groupingBy(key,
+                Collectors.mapping(mapper, Collectors.toList())));
+    }
+
+    private <T> List<T> extract(JsonNode root, String field, Class<T> type) {
+        if (!root.has(field) || !root.get(field).isArray()) return List.of();
+        List<T> result = new ArrayList<>();
+        for (JsonNode node : root.get(field)) {
+            if (!node.isObject()) continue;
+            try {
+                result.add(om.convertValue(node, type));
+            } catch (Exception e) {
+                log.warn("필드 변환 실패 ({}): {}", field, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /** 이름 섹션은 ["a","b"] 와 [{"name":"a"}] 두 형태 모두 수용 */
+    private List<ResumeSectionDto.Named> extractNamed(JsonNode root, String field) {
+        if (!root.has(field) || !root.get(field).isArray()) return List.of();
+        List<ResumeSectionDto.Named> result = new ArrayList<>();
+        for (JsonNode node : root.get(field)) {
+            if (node.isTextual()) {
+                result.add(new ResumeSectionDto.Named(node.asText()));
+            } else if (node.isObject() && node.hasNonNull("name")) {
+                result.add(new ResumeSectionDto.Named(node.get("name").asText()));
+            }
+        }
+        return result;
+    }
+}
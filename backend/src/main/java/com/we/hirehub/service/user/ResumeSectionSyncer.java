@@ -0,0 +1,208 @@
+package com.we.hirehub.service.user;
+
+import com.we.hirehub.entity.*;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이력서 섹션 동기화 엔진
+ * - 기존: 저장할 때마다 섹션 전체 DELETE → INSERT (자동저장 시 행/인덱스 churn, auto-increment 소모)
+ * - 변경: 들어온 섹션과 기존 행을 비교해서 필요한 INSERT / UPDATE / DELETE 만 JDBC 배치로 실행
+ *
+ * 비교 방법 (섹션 순서 = id 순서 유지)
+ *  - 기존 행(id 순)과 들어온 항목을 위치별로 비교: 내용이 같으면 그대로, 다르면 UPDATE
+ *  - 들어온 항목이 더 많으면 뒤쪽을 INSERT (새 id 가 가장 크므로 순서 유지), 적으면 남은 기존 행 DELETE
+ *  - 자동저장(한 칸 수정 / 끝에 추가)은 1행만 바뀜, 순서 변경은 자리가 바뀐 행만 UPDATE
+ *
+ * JDBC 로 직접 쓰므로 같은 트랜잭션의 영속성 컨텍스트와 맞춤
+ *  - 쓰기 전에 flush (JPA 로 쌓인 변경이 먼저 반영되도록)
+ *  - 바꾸거나 지운 행의 엔티티는 detach (이후 조회가 예전 값을 돌려주지 않도록)
+ *
+ * 섹션 리스트에 null 을 넘기면 해당 섹션은 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumeSectionSyncer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /** 섹션별 엔티티/테이블/컬럼 정의 */
+    private static final Spec<Education> EDUCATION = new Spec<>(Education.class, "education",
+            List.of(col("name", String.class), col("major", String.class), col("status", String.class),
+                    col("type", String.class), col("start_at", LocalDate.class), col("end_at", LocalDate.class)),
+            e -> Arrays.asList(e.getName(), e.getMajor(), e.getStatus(), e.getType(), e.getStartAt(), e.getEndAt()));
+
+    private static final Spec<CareerLevel> CAREER = new Spec<>(CareerLevel.class, "career_level",
+            List.of(col("company_name", String.class), col("type", String.class), col("position", String.class),
+                    col("start_at", LocalDate.class), col("end_at", LocalDate.class), col("content", String.class)),
+            c -> Arrays.asList(c.getCompanyName(), c.getType(), c.getPosition(), c.getStartAt(), c.getEndAt(), c.getContent()));
+
+    private static final Spec<Certificate> CERTIFICATE = new Spec<>(Certificate.class, "certificate",
+            List.of(col("name", String.class)), c -> Arrays.asList(c.getName()));
+
+    private static final Spec<Skill> SKILL = new Spec<>(Skill.class, "skill",
+            List.of(col("name", String.class)), s -> Arrays.asList(s.getName()));
+
+    private static final Spec<Language> LANGUAGE = new Spec<>(Language.class, "language",
+            List.of(col("name", String.class)), l -> Arrays.asList(l.getName()));
+
+    /**
+     * 섹션 전체 동기화
+     * @return 섹션별 변경 건수
+     */
+    @Transactional
+    public Report sync(Long resumeId,
+                       List<Education> educations,
+                       List<CareerLevel> careers,
+                       List<Certificate> certificates,
+                       List<Skill> skills,
+                       List<Language> languages) {
+        entityManager.flush();
+
+        Map<String, Counts> sections = new LinkedHashMap<>();
+        if (educations != null)   sections.put("education", sync(resumeId, EDUCATION, educations));
+        if (careers != null)      sections.put("career", sync(resumeId, CAREER, careers));
+        if (certificates != null) sections.put("certificate", sync(resumeId, CERTIFICATE, certificates));
+        if (skills != null)       sections.put("skill", sync(resumeId, SKILL, skills));
+        if (languages != null)    sections.put("language", sync(resumeId, LANGUAGE, languages));
+
+        Report report = new Report(sections);
+        log.info("🧩 이력서 섹션 동기화 resumeId={} → {}", resumeId, report);
+        return report;
+    }
+
+    private <E> Counts sync(Long resumeId, Spec<E> spec, List<E> incomingEntities) {
+        List<ExistingRow> existing = loadExisting(resumeId, spec);
+        List<List<Object>> incoming = incomingEntities.stream().map(spec.values()).toList();
+
+        int unchanged = 0;
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> insertArgs = new ArrayList<>();
+        List<Long> touchedIds = new ArrayList<>();
+        for (int i = 0; i < incoming.size(); i++) {
+            List<Object> values = incoming.get(i);
+            if (i >= existing.size()) {
+                insertArgs.add(insertArgs(values, resumeId));
+            } else if (existing.get(i).values().equals(values)) {
+                unchanged++;
+            } else {
+                long id = existing.get(i).id();
+                updates.add(updateArgs(values, id, resumeId));
+                touchedIds.add(id);
+            }
+        }
+        List<Object[]> deleteArgs = new ArrayList<>();
+        for (ExistingRow row : existing.subList(Math.min(incoming.size(), existing.size()), existing.size())) {
+            deleteArgs.add(new Object[]{row.id(), resumeId});
+            touchedIds.add(row.id());
+        }
+
+        if (!deleteArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM `" + spec.table() + "` WHERE id = ? AND resume_id = ?", deleteArgs);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(spec.updateSql(), updates);
+        }
+        if (!insertArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(spec.insertSql(), insertArgs);
+        }
+        detach(spec.type(), touchedIds);
+        return new Counts(insertArgs.size(), updates.size(), deleteArgs.size(), unchanged);
+    }
+
+    /** 바꾸거나 지운 행이 영속성 컨텍스트에 있으면 떼어냄 (getReference 는 이미 있으면 그 인스턴스, 없으면 조회 없이 프록시) */
+    private void detach(Class<?> type, List<Long> ids) {
+        for (Long id : ids) {
+            entityManager.detach(entityManager.getReference(type, id));
+        }
+    }
+
+    private <E> List<ExistingRow> loadExisting(Long resumeId, Spec<E> spec) {
+        return jdbcTemplate.query(spec.selectSql(), (rs, i) -> {
+            List<Object> values = new ArrayList<>(spec.columns().size());
+            for (Column c : spec.columns()) {
+                values.add(rs.getObject(c.name(), c.type()));
+            }
+            return new ExistingRow(rs.getLong("id"), values);
+        }, resumeId);
+    }
+
+    private static Object[] insertArgs(List<Object> values, Long resumeId) {
+        List<Object> args = new ArrayList<>(values);
+        args.add(resumeId);
+        return args.toArray();
+    }
+
+    private static Object[] updateArgs(List<Object> values, Long id, Long resumeId) {
+        List<Object> args = new ArrayList<>(values);
+        args.add(id);
+        args.add(resumeId);
+        return args.toArray();
+    }
+
+    private static Column col(String name, Class<?> type) {
+        return new Column(name, type);
+    }
+
+    /* ------- 내부 타입 ------- */
+
+    private record Column(String name, Class<?> type) {}
+
+    private record ExistingRow(long id, List<Object> values) {}
+
+    private record Spec<E>(Class<E> type, String table, List<Column> columns, Function<E, List<Object>> values) {
+
+        String selectSql() {
+            return "SELECT id, " + names() + " FROM `" + table + "` WHERE resume_id = ? ORDER BY id";
+        }
+
+        String insertSql() {
+            String marks = columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+            return "INSERT INTO `" + table + "` (" + names() + ", resume_id) VALUES (" + marks + ", ?)";
+        }
+
+        String updateSql() {
+            String sets = columns.stream().map(c -> c.name() + " = ?").collect(Collectors.joining(", "));
+            return "UPDATE `" + table + "` SET " + sets + " WHERE id = ? AND resume_id = ?";
+        }
+
+        private String names() {
+            return columns.stream().map(Column::name).collect(Collectors.joining(", "));
+        }
+    }
+
+    /** 섹션 하나의 변경 건수 */
+    public record Counts(int inserted, int updated, int deleted, int unchanged) {
+        public int touched() {
+            return inserted + updated + deleted;
+        }
+
+        @Override
+        public String toString() {
+            return "+" + inserted + " ~" + updated + " -" + deleted + " =" + unchanged;
+        }
+    }
+
+    /** 저장 1회의 섹션별 변경 건수 */
+    public record Report(Map<String, Counts> sections) {
+        public int touched() {
+            return sections.values().stream().mapToInt(Counts::touched).sum();
+        }
+
+        @Override
+        public String toString() {
+            return sections + " (touched=" + touched() + ")";
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.we.hirehub.dto.user.ResumeDto;
 import com.we.hirehub.entity.*;
 import com.we.hirehub.repository.*;
+import com.we.hirehub.service.support.ResumeEmbeddingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,10 +20,9 @@ import java.util.Optional;
 public class ResumeService {
 
     private final ResumeRepository resumeRepository;
-    private final EducationRepository educationRepository;
-    private final CareerLevelRepository careerLevelRepository;
-    private final CertificateRepository certificateRepository;
-    private final SkillRepository skillRepository;
+    private final ResumeSectionLoader sectionLoader;
+    private final ResumeSectionSyncer sectionSyncer;
+    private final ResumeEmbeddingService resumeEmbeddingService;
 
     private final ObjectMapper om = new ObjectMapper(); // JSON 파싱
 
@@ -44,6 +44,7 @@ public class ResumeService {
 
         // ★ JSON → 하위 엔티티 동기화
         syncChildrenFromJson(saved);
+        resumeEmbeddingService.refreshAsync(saved.getId());
 
         return toDtoForAdmin(saved.getId());
     }
@@ -64,6 +65,7 @@ public class ResumeService {
 
         // ★ JSON → 하위 엔티티 재동기화
         syncChildrenFromJson(r);
+        resumeEmbeddingService.refreshAsync(resumeId);
 
         return toDtoForAdmin(resumeId);
     }
@@ -91,12 +93,6 @@ public class ResumeService {
         List<String> certs = listOfString(root.get("certs"));
         List<String> skills = listOfString(root.get("skills"));
 
-        Long rid = resume.getId();
-        educationRepository.deleteByResumeId(rid);
-        careerLevelRepository.deleteByResumeId(rid);
-        certificateRepository.deleteByResumeId(rid);
-        skillRepository.deleteByResumeId(rid);
-
         List<Education> eduEntities = educations.stream().map(m -> {
             String school = str(m.get("school"));
             String period = str(m.get("period"));
@@ -137,7 +133,7 @@ public class ResumeService {
             return c;
         }).toList();
 
-        // ★ Certificate 저장 (certs = List<String>)
+        // ★ Certificate (certs = List<String>)
         List<Certificate> certEntities = certs.stream()
                 .filter(c -> c != null && !c.isBlank())
                 .map(c -> Certificate.builder()
@@ -146,9 +142,7 @@ public class ResumeService {
                         .build()
                 ).toList();
 
-        certificateRepository.saveAll(certEntities);
-
-// ★ Skill 저장 (skills = List<String>)
+        // ★ Skill (skills = List<String>)
         List<Skill> skillEntities = skills.stream()
                 .filter(s -> s != null && !s.isBlank())
                 .map(s -> Skill.builder()
@@ -157,13 +151,8 @@ public class ResumeService {
                         .build())
                 .toList();
 
-        skillRepository.saveAll(skillEntities);
-
-// ★ 교육/경력 저장
-        educationRepository.saveAll(eduEntities);
-        careerLevelRepository.saveAll(careerEntities);
-        certificateRepository.saveAll(certEntities);
-        skillRepository.saveAll(skillEntities);
+        // ★ 변경분만 반영 (언어는 이 경로에서 관리하지 않음)
+        sectionSyncer.sync(resume.getId(), eduEntities, careerEntities, certEntities, skillEntities, null);
     }
 
     private static List<Map<String, Object>> listOfMap(Object o) {
@@ -215,36 +204,6 @@ public class ResumeService {
         Resume r = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new IllegalArgumentException("이력서를 찾을 수 없습니다."));
 
-        List<Map<String,Object>> eduList = educationRepository.findByResumeId(resumeId)
-                .stream()
-                .map(e -> Map.<String,Object>of(
-                        "school", e.getName(),
-                        "period", fmtPeriod(e.getStartAt(), e.getEndAt()),
-                        "status", e.getStatus(),
-                        "major",  e.getMajor()
-                ))
-                .toList();
-
-        List<Map<String,Object>> careerList = careerLevelRepository.findByResumeId(resumeId)
-                .stream()
-                .map(c -> Map.<String,Object>of(
-                        "company", c.getCompanyName(),
-                        "period",  fmtPeriod(c.getStartAt(), c.getEndAt()),
-                        "role",    c.getPosition(),
-                        "job",     c.getContent()
-                ))
-                .toList();
-
-        List<Map<String,Object>> certList = certificateRepository.findByResumeId(resumeId)
-                .stream()
-                .map(c -> Map.<String,Object>of("name", c.getName()))
-                .toList();
-
-        List<Map<String,Object>> skillList = skillRepository.findByResumeId(resumeId)
-                .stream()
-                .map(s -> Map.<String,Object>of("name", s.getName()))
-                .toList();
-
         ResumeDto.UserInfo users = new ResumeDto.UserInfo(
                 r.getUsers().getId(),
                 r.getUsers().getNickname(),
@@ -263,17 +222,7 @@ public class ResumeService {
                 r.getUpdateAt(),
                 null,
                 users,
-                eduList,
-                careerList,
-                certList,
-                skillList,
-                List.of()
+                sectionLoader.load(resumeId)
         );
     }
-
-    private static String fmtPeriod(LocalDate s, LocalDate e) {
-        String ss = s!=null? String.format("%04d.%02d", s.getYear(), s.getMonthValue()) : "";
-        String ee = e!=null? String.format("%04d.%02d", e.getYear(), e.getMonthValue()) : "";
-        return (ss + " - " + ee).trim();
-    }
 }
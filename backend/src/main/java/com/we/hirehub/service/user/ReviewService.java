@@ -1,5 +1,6 @@
 package com.we.hirehub.service.user;
 
+import com.we.hirehub.config.HttpResponseCache;
 import com.we.hirehub.dto.support.ReviewDto;
 import com.we.hirehub.entity.Company;
 import com.we.hirehub.entity.Review;
@@ -19,6 +20,7 @@ public class ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final CompanyRepository companyRepository;
+    private final HttpResponseCache httpResponseCache;
 
     /**
      * ✅ 리뷰 등록 (JWT 로그인 유저 기반)
@@ -38,7 +40,9 @@ public class ReviewService {
                 .company(company)
                 .build();
 
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        httpResponseCache.invalidate(HttpResponseCache.REVIEWS);
+        return saved;
     }
 
     /** 전체 리뷰 조회 */
@@ -0,0 +1,34 @@
+package com.we.hirehub.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반복 루프용 로그 샘플러
+ * - 처음 first 건은 모두, 이후에는 every 건마다 1건만 true
+ * - 남기지 않은 건수는 count() 로 요약 로그에 함께 찍음
+ */
+public class LogSampler {
+
+    private final int first;
+    private final int every;
+    private final AtomicLong count = new AtomicLong();
+
+    public LogSampler(int first, int every) {
+        this.first = Math.max(first, 0);
+        this.every = Math.max(every, 1);
+    }
+
+    /** 이번 건을 로그로 남길지 */
+    public boolean sample() {
+        long n = count.incrementAndGet();
+        return n <= first || n % every == 0;
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+}
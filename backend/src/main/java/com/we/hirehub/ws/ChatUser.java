@@ -0,0 +1,25 @@
+package com.we.hirehub.ws;
+
+import com.we.hirehub.entity.Users;
+
+/**
+ * STOMP 세션에 묶어두는 채팅 사용자 정보
+ * - CONNECT 시점에 한 번만 조회해서 세션 속성에 저장
+ * - 메시지마다 usersRepository 조회하지 않도록 필요한 값만 보관 (엔티티 X)
+ */
+public record ChatUser(Long userId, String email, String name, String nickname) {
+
+    /** STOMP 세션 속성 키 */
+    public static final String SESSION_ATTR = "chatUser";
+
+    public static ChatUser of(Users u) {
+        return new ChatUser(u.getId(), u.getEmail(), u.getName(), u.getNickname());
+    }
+
+    /** 채팅에 표시할 이름: 닉네임 → 이름 → 익명 */
+    public String displayName() {
+        if (nickname != null && !nickname.trim().isEmpty()) return nickname;
+        if (name != null && !name.trim().isEmpty()) return name;
+        return "익명";
+    }
+}
@@ -0,0 +1,147 @@
+package com.we.hirehub.ws;
+
+import com.we.hirehub.ws.SupportQueue.RoomState;
+import com.we.hirehub.ws.SupportQueue.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 상담 방 저장소 (support.queue.store=memory)
+ * - 단일 노드 / 로컬 개발용 대체 구현, 동작 규칙은 JDBC 저장소와 동일
+ * - 방 상태는 compute 안에서 복사본을 만들어 교체 → 저장된 객체는 수정되지 않음
+ * - 다른 노드가 없으므로 알림 중계는 하지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "support.queue.store", havingValue = "memory")
+public class InMemorySupportRoomStore implements SupportRoomStore {
+
+    private final ConcurrentHashMap<String, RoomState> rooms = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<RoomState> find(String roomId) {
+        return Optional.ofNullable(rooms.get(roomId)).map(RoomState::copy);
+    }
+
+    @Override
+    public void saveUser(String roomId, ChatUser user, LocalDateTime now) {
+        rooms.compute(roomId, (k, s) -> {
+            RoomState next = s != null ? s.copy() : RoomState.empty(k, now);
+            next.setUser(user);
+            next.updatedAt = now;
+            return next;
+        });
+    }
+
+    @Override
+    public RoomState request(String roomId, ChatUser user, LocalDateTime now) {
+        return rooms.compute(roomId, (k, s) -> {
+            RoomState next = s != null ? s.copy() : RoomState.empty(k, now);
+            next.status = Status.PENDING;
+            next.agent = null;
+            next.requestedAt = now;
+            next.updatedAt = now;
+            if (user != null) next.setUser(user);
+            return next;
+        }).copy();
+    }
+
+    @Override
+    public boolean claim(String roomId, String agent, LocalDateTime now) {
+        boolean[] won = {false};
+        rooms.computeIfPresent(roomId, (k, s) -> {
+            if (s.status != Status.PENDING && !agent.equals(s.agent)) return s;
+            RoomState next = s.copy();
+            next.status = Status.ACCEPTED;
+            next.agent = agent;
+            next.updatedAt = now;
+            won[0] = true;
+            return next;
+        });
+        return won[0];
+    }
+
+    @Override
+    public Optional<RoomState> release(String roomId, LocalDateTime now) {
+        return Optional.ofNullable(rooms.computeIfPresent(roomId, (k, s) -> {
+            RoomState next = s.copy();
+            next.status = Status.NONE;
+            next.agent = null;
+            next.updatedAt = now;
+            return next;
+        })).map(RoomState::copy);
+    }
+
+    @Override
+    public void insertIfAbsent(RoomState state) {
+        rooms.putIfAbsent(state.roomId, state.copy());
+    }
+
+    @Override
+    public List<RoomState> pending() {
+        return rooms.values().stream()
+                .filter(s -> s.status == Status.PENDING)
+                .sorted(Comparator.comparing((RoomState s) -> s.requestedAt,
+                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .map(RoomState::copy)
+                .toList();
+    }
+
+    @Override
+    public void touch(Collection<String> roomIds, LocalDateTime now) {
+        for (String roomId : roomIds) {
+            rooms.computeIfPresent(roomId, (k, s) -> {
+                RoomState next = s.copy();
+                next.updatedAt = now;
+                return next;
+            });
+        }
+    }
+
+    @Override
+    public List<String> expired(LocalDateTime before, int limit) {
+        return rooms.values().stream()
+                .filter(s -> s.updatedAt.isBefore(before))
+                .map(s -> s.roomId)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public boolean removeIfExpired(String roomId, LocalDateTime before) {
+        boolean[] removed = {false};
+        rooms.computeIfPresent(roomId, (k, s) -> {
+            if (!s.updatedAt.isBefore(before)) return s;
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    @Override
+    public void remove(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    @Override
+    public void publish(String nodeId, String destination, Map<String, Object> payload) {
+        // 단일 노드: 중계할 대상 없음
+    }
+
+    @Override
+    public List<RelayEvent> poll(long afterId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public long lastEventId() {
+        return 0;
+    }
+
+    @Override
+    public void purgeEvents(LocalDateTime before) {
+    }
+}
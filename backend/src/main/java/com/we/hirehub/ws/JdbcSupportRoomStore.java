@@ -0,0 +1,189 @@
+package com.we.hirehub.ws;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.we.hirehub.ws.SupportQueue.RoomState;
+import com.we.hirehub.ws.SupportQueue.Status;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * DB 상담 방 저장소 (support.queue.store=jdbc, 기본값)
+ * - support_room: 방 상태 1행, 배정은 조건부 UPDATE 로 원자적 처리
+ * - support_queue_event: 노드 간 알림 중계용 append-only 로그
+ * - 테이블은 db/migration/004_support_room.sql
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "support.queue.store", havingValue = "jdbc", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JdbcSupportRoomStore implements SupportRoomStore {
+
+    private static final String COLUMNS =
+            "room_id, status, user_id, user_email, user_name, user_nickname, agent, requested_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper om = new ObjectMapper();
+
+    private static final RowMapper<RoomState> ROOM_MAPPER = (rs, i) -> {
+        RoomState s = new RoomState();
+        s.roomId = rs.getString("room_id");
+        s.status = Status.valueOf(rs.getString("status"));
+        s.userId = rs.getObject("user_id", Long.class);
+        s.userEmail = rs.getString("user_email");
+        s.userName = rs.getString("user_name");
+        s.userNickname = rs.getString("user_nickname");
+        s.agent = rs.getString("agent");
+        s.requestedAt = toLocal(rs.getTimestamp("requested_at"));
+        s.updatedAt = toLocal(rs.getTimestamp("updated_at"));
+        return s;
+    };
+
+    @Override
+    public Optional<RoomState> find(String roomId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM support_room WHERE room_id = ?", ROOM_MAPPER, roomId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public void saveUser(String roomId, ChatUser user, LocalDateTime now) {
+        jdbcTemplate.update(
+                "INSERT INTO support_room (room_id, status, user_id, user_email, user_name, user_nickname, updated_at) " +
+                "VALUES (?, 'NONE', ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), user_email = VALUES(user_email), " +
+                "user_name = VALUES(user_name), user_nickname = VALUES(user_nickname), updated_at = VALUES(updated_at)",
+                roomId, user.userId(), user.email(), user.name(), user.nickname(), Timestamp.valueOf(now));
+    }
+
+    @Override
+    public RoomState request(String roomId, ChatUser user, LocalDateTime now) {
+        Timestamp ts = Timestamp.valueOf(now);
+        // 유저 정보가 없으면 기존 값 유지
+        jdbcTemplate.update(
+                "INSERT INTO support_room (" + COLUMNS + ") VALUES (?, 'PENDING', ?, ?, ?, ?, NULL, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE status = 'PENDING', agent = NULL, " +
+                "requested_at = VALUES(requested_at), updated_at = VALUES(updated_at), " +
+                "user_id = COALESCE(VALUES(user_id), user_id), user_email = COALESCE(VALUES(user_email), user_email), " +
+                "user_name = COALESCE(VALUES(user_name), user_name), " +
+                "user_nickname = COALESCE(VALUES(user_nickname), user_nickname)",
+                roomId,
+                user != null ? user.userId() : null,
+                user != null ? user.email() : null,
+                user != null ? user.name() : null,
+                user != null ? user.nickname() : null,
+                ts, ts);
+        return find(roomId).orElseGet(() -> RoomState.empty(roomId, now));
+    }
+
+    @Override
+    public boolean claim(String roomId, String agent, LocalDateTime now) {
+        // 행 잠금 안에서 조건 확인 → 동시에 수락해도 한 명만 1행 갱신 (요청 없는 방 / 종료된 방은 0행)
+        int updated = jdbcTemplate.update(
+                "UPDATE support_room SET status = 'ACCEPTED', agent = ?, updated_at = ? " +
+                "WHERE room_id = ? AND (status = 'PENDING' OR agent = ?)",
+                agent, Timestamp.valueOf(now), roomId, agent);
+        return updated == 1;
+    }
+
+    @Override
+    public Optional<RoomState> release(String roomId, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE support_room SET status = 'NONE', agent = NULL, updated_at = ? WHERE room_id = ?",
+                Timestamp.valueOf(now), roomId);
+        return find(roomId);
+    }
+
+    @Override
+    public void insertIfAbsent(RoomState s) {
+        jdbcTemplate.update("INSERT IGNORE INTO support_room (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                s.roomId, s.status.name(), s.userId, s.userEmail, s.userName, s.userNickname, s.agent,
+                s.requestedAt != null ? Timestamp.valueOf(s.requestedAt) : null, Timestamp.valueOf(s.updatedAt));
+    }
+
+    @Override
+    public List<RoomState> pending() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM support_room WHERE status = 'PENDING' " +
+                "ORDER BY requested_at DESC", ROOM_MAPPER);
+    }
+
+    @Override
+    public void touch(Collection<String> roomIds, LocalDateTime now) {
+        Timestamp ts = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate("UPDATE support_room SET updated_at = ? WHERE room_id = ?",
+                roomIds.stream().map(id -> new Object[]{ts, id}).toList());
+    }
+
+    @Override
+    public List<String> expired(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList("SELECT room_id FROM support_room WHERE updated_at < ? LIMIT ?",
+                String.class, Timestamp.valueOf(before), limit);
+    }
+
+    @Override
+    public boolean removeIfExpired(String roomId, LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM support_room WHERE room_id = ? AND updated_at < ?",
+                roomId, Timestamp.valueOf(before)) == 1;
+    }
+
+    @Override
+    public void remove(String roomId) {
+        jdbcTemplate.update("DELETE FROM support_room WHERE room_id = ?", roomId);
+    }
+
+    /* ------- 알림 중계 ------- */
+
+    @Override
+    public void publish(String nodeId, String destination, Map<String, Object> payload) {
+        try {
+            jdbcTemplate.update("INSERT INTO support_queue_event (node_id, destination, payload, created_at) " +
+                            "VALUES (?, ?, ?, ?)",
+                    nodeId, destination, om.writeValueAsString(payload), Timestamp.valueOf(LocalDateTime.now()));
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public List<RelayEvent> poll(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT id, node_id, destination, payload, created_at FROM support_queue_event " +
+                        "WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, i) -> new RelayEvent(
+                        rs.getLong("id"),
+                        rs.getString("node_id"),
+                        rs.getString("destination"),
+                        parse(rs.getString("payload")),
+                        toLocal(rs.getTimestamp("created_at"))),
+                afterId, limit);
+    }
+
+    @Override
+    public long lastEventId() {
+        Long id = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM support_queue_event", Long.class);
+        return id != null ? id : 0;
+    }
+
+    @Override
+    public void purgeEvents(LocalDateTime before) {
+        jdbcTemplate.update("DELETE FROM support_queue_event WHERE created_at < ?", Timestamp.valueOf(before));
+    }
+
+    private Map<String, Object> parse(String json) {
+        try {
+            return om.readValue(json, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            log.warn("⚠️ 중계 알림 파싱 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static LocalDateTime toLocal(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
+}
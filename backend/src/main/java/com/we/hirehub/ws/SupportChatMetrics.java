@@ -0,0 +1,61 @@
+package com.we.hirehub.ws;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상담 채팅 지연시간 지표 (수신 → 브로드캐스트 완료)
+ * - 누적 건수/평균/최대 + 최근 N건 샘플 기반 p50/p95/p99
+ * - 외부 지표 시스템 없이 관리자 API로 확인하는 용도
+ */
+@Component
+public class SupportChatMetrics {
+
+    private static final int WINDOW = 1024;
+
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final long[] window = new long[WINDOW];
+    private final AtomicLong cursor = new AtomicLong();
+
+    /** 수신 시각(System.nanoTime)부터 지금까지를 1건으로 기록 */
+    public void recordSince(long receivedNanos) {
+        long elapsed = System.nanoTime() - receivedNanos;
+        count.incrementAndGet();
+        totalNanos.addAndGet(elapsed);
+        maxNanos.accumulateAndGet(elapsed, Math::max);
+        window[(int) (cursor.getAndIncrement() % WINDOW)] = elapsed;
+    }
+
+    public Map<String, Object> snapshot() {
+        long n = count.get();
+        int filled = (int) Math.min(cursor.get(), WINDOW);
+        long[] samples = Arrays.copyOf(window, filled);
+        Arrays.sort(samples);
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", n);
+        m.put("avgMs", n == 0 ? 0.0 : millis(totalNanos.get() / n));
+        m.put("maxMs", millis(maxNanos.get()));
+        m.put("p50Ms", millis(percentile(samples, 0.50)));
+        m.put("p95Ms", millis(percentile(samples, 0.95)));
+        m.put("p99Ms", millis(percentile(samples, 0.99)));
+        m.put("window", filled);
+        return m;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
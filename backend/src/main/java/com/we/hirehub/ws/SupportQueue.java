@@ -1,26 +1,279 @@
 package com.we.hirehub.ws;
 
+import com.we.hirehub.entity.Help;
+import com.we.hirehub.repository.HelpRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import java.util.Map;
+
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 상담 대기열 / 방 상태
+ * - 상태는 SupportRoomStore 에 두고 여러 노드가 공유 (노드마다 따로 갈라지지 않음)
+ * - 상담사 수락은 저장소에서 원자적으로 배정 → 두 상담사가 동시에 눌러도 한 명만 성공
+ * - /topic 알림은 broadcast() 로 보내면 저장소를 통해 다른 노드의 브로커에도 중계
+ * - 활동 없는 방은 room-ttl-minutes 후 정리
+ */
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class SupportQueue {
 
+    public enum Status { NONE, PENDING, ACCEPTED }
+
     public static class RoomState {
-        public boolean handoffRequested = false;
-        public boolean handoffAccepted = false;
-        public String userName = "user";
-        public String userNickname = "user"; // ✅ 닉네임 필드 추가
+        public String roomId;
+        public Status status = Status.NONE;
+        public Long userId;
+        public String userEmail;
+        public String userName;
+        public String userNickname;
+        public String agent;                 // 수락한 상담사
+        public LocalDateTime requestedAt;
+        public LocalDateTime updatedAt;
+
+        public static RoomState empty(String roomId, LocalDateTime now) {
+            RoomState s = new RoomState();
+            s.roomId = roomId;
+            s.updatedAt = now;
+            return s;
+        }
+
+        public RoomState copy() {
+            RoomState s = new RoomState();
+            s.roomId = roomId;
+            s.status = status;
+            s.userId = userId;
+            s.userEmail = userEmail;
+            s.userName = userName;
+            s.userNickname = userNickname;
+            s.agent = agent;
+            s.requestedAt = requestedAt;
+            s.updatedAt = updatedAt;
+            return s;
+        }
+
+        public void setUser(ChatUser user) {
+            userId = user.userId();
+            userEmail = user.email();
+            userName = user.name();
+            userNickname = user.nickname();
+        }
+
+        /** 방 유저 (userId 가 없으면 null) */
+        public ChatUser chatUser() {
+            return userId != null ? new ChatUser(userId, userEmail, userName, userNickname) : null;
+        }
+
+        /** 알림용 이름 (없으면 "user") */
+        public String displayUserName() {
+            return userName != null ? userName : "user";
+        }
+
+        public String displayUserNickname() {
+            return userNickname != null ? userNickname : "user";
+        }
     }
 
-    private final ConcurrentHashMap<String, RoomState> rooms = new ConcurrentHashMap<>();
+    private static final String QUEUE_TOPIC = "/topic/support.queue";
+    private static final int MAX_CACHED_USERS = 10_000;
+
+    private final SupportRoomStore store;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final HelpRepository helpRepository;
+
+    @Value("${support.queue.room-ttl-minutes:60}")
+    private long roomTtlMinutes;
+
+    @Value("${support.queue.pending-cache-ms:5000}")
+    private long pendingCacheMs;
+
+    @Value("${support.queue.relay-gap-wait-ms:2000}")
+    private long relayGapWaitMs;
+
+    /** 이 노드 식별자 (자기가 보낸 중계 이벤트는 건너뜀) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 방 유저 로컬 캐시 (메시지마다 저장소 조회하지 않도록, 없음도 캐시) */
+    private final ConcurrentHashMap<String, Optional<ChatUser>> users = new ConcurrentHashMap<>();
+
+    /** 마지막 정리 이후 메시지가 오간 방 (정리 주기에 한 번에 touch) */
+    private final Set<String> touched = ConcurrentHashMap.newKeySet();
+
+    private volatile List<RoomState> pendingSnapshot;
+    private volatile long pendingLoadedAt;
+    private volatile long relayCursor = -1;
+
+    /**
+     * 기동 시
+     * - 중계 커서를 현재 마지막 이벤트로 맞춤 (지난 알림은 재전송하지 않음)
+     * - 저장소에 대기 방이 없으면 help 테이블의 미처리 요청을 한 번만 이관
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void init() {
+        relayCursor = store.lastEventId();
+        if (!store.pending().isEmpty()) return;
+
+        List<Help> legacy = helpRepository.findPendingRequests();
+        for (Help h : legacy) {
+            RoomState s = RoomState.empty(h.getSession().getId(), LocalDateTime.now());
+            s.status = Status.PENDING;
+            s.requestedAt = h.getRequestAt();
+            if (h.getUsers() != null) s.setUser(ChatUser.of(h.getUsers()));
+            store.insertIfAbsent(s);
+        }
+        if (!legacy.isEmpty()) log.info("📦 기존 미처리 상담 요청 {}건을 상담 대기열로 이관", legacy.size());
+    }
+
+    /** 방 유저 (로컬 캐시 → 저장소) */
+    public ChatUser user(String roomId) {
+        return users.computeIfAbsent(roomId, k -> store.find(k).map(RoomState::chatUser)).orElse(null);
+    }
+
+    /** 방 유저 기록 (바뀐 경우에만 저장소에 씀) */
+    public void bindUser(String roomId, ChatUser user) {
+        if (user == null) return;
+        Optional<ChatUser> prev = users.put(roomId, Optional.of(user));
+        if (prev == null || !prev.equals(Optional.of(user))) {
+            store.saveUser(roomId, user, LocalDateTime.now());
+        }
+    }
 
-    public RoomState state(String roomId) {
-        return rooms.computeIfAbsent(roomId, k -> new RoomState());
+    /** 상담 요청 → PENDING */
+    public RoomState requestHandoff(String roomId, ChatUser user) {
+        if (user != null) users.put(roomId, Optional.of(user));
+        RoomState s = store.request(roomId, user, LocalDateTime.now());
+        invalidatePending();
+        return s;
+    }
+
+    /**
+     * 상담사 배정 (원자적)
+     * @return 배정에 성공하면 방 상태, 다른 상담사가 이미 맡았으면 empty
+     */
+    public Optional<RoomState> claim(String roomId, String agent) {
+        boolean won = store.claim(roomId, agent, LocalDateTime.now());
+        invalidatePending();
+        return won ? store.find(roomId) : Optional.empty();
+    }
+
+    /** 상담 종료 → NONE (이름 등은 알림용으로 반환) */
+    public RoomState release(String roomId) {
+        LocalDateTime now = LocalDateTime.now();
+        RoomState s = store.release(roomId, now).orElseGet(() -> RoomState.empty(roomId, now));
+        invalidatePending();
+        return s;
+    }
+
+    public Optional<RoomState> find(String roomId) {
+        return store.find(roomId);
+    }
+
+    /**
+     * 대기 중인 방 (최근 요청 순)
+     * - pending-cache-ms 동안 스냅샷 재사용, 이 노드나 다른 노드에서 대기열이 바뀌면 즉시 무효화
+     */
+    public List<RoomState> pending() {
+        List<RoomState> snapshot = pendingSnapshot;
+        if (snapshot == null || System.currentTimeMillis() - pendingLoadedAt > pendingCacheMs) {
+            snapshot = List.copyOf(store.pending());
+            pendingSnapshot = snapshot;
+            pendingLoadedAt = System.currentTimeMillis();
+        }
+        return snapshot;
+    }
+
+    /** 메시지가 오간 방 표시 (DB 갱신은 정리 주기에 모아서) */
+    public void touch(String roomId) {
+        touched.add(roomId);
     }
 
     public void remove(String roomId) {
-        rooms.remove(roomId);
+        users.remove(roomId);
+        store.remove(roomId);
+        invalidatePending();
+    }
+
+    /** 이 노드 브로커로 보내고, 다른 노드에도 중계 */
+    public void broadcast(String destination, Map<String, Object> payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+        try {
+            store.publish(nodeId, destination, payload);
+        } catch (Exception e) {
+            log.warn("⚠️ 상담 알림 중계 기록 실패: destination={}", destination, e);
+        }
+    }
+
+    /* ------- 스케줄 작업 ------- */
+
+    /**
+     * 다른 노드가 보낸 알림을 이 노드 브로커로 재전송
+     * - AUTO_INCREMENT 는 커밋 순서와 다를 수 있으므로, 번호가 비면 relay-gap-wait-ms 동안 기다렸다가 넘어감
+     */
+    @Scheduled(fixedDelayString = "${support.queue.relay-ms:500}", initialDelay = 1000)
+    void relay() {
+        if (relayCursor < 0) return;
+        try {
+            long cursor = relayCursor;
+            LocalDateTime gapDeadline = LocalDateTime.now().minusNanos(relayGapWaitMs * 1_000_000);
+            for (SupportRoomStore.RelayEvent e : store.poll(cursor, 200)) {
+                if (e.id() != cursor + 1 && e.createdAt().isAfter(gapDeadline)) break;
+                cursor = e.id();
+                if (nodeId.equals(e.nodeId())) continue;
+
+                messagingTemplate.convertAndSend(e.destination(), e.payload());
+                if (QUEUE_TOPIC.equals(e.destination())) {
+                    invalidatePending();
+                    Object roomId = e.payload().get("roomId");
+                    if (roomId != null) users.remove(roomId.toString());
+                }
+            }
+            relayCursor = cursor;
+        } catch (Exception e) {
+            log.error("❌ 상담 알림 중계 실패", e);
+        }
+    }
+
+    /** 활동 기록 반영 + 오래된 방 / 중계 이벤트 정리 */
+    @Scheduled(fixedDelayString = "${support.queue.cleanup-ms:60000}", initialDelay = 60000)
+    void cleanup() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (!touched.isEmpty()) {
+                List<String> active = new ArrayList<>(touched);
+                touched.removeAll(active);
+                store.touch(active, now);
+            }
+
+            LocalDateTime cutoff = now.minusMinutes(roomTtlMinutes);
+            int removed = 0;
+            for (String roomId : store.expired(cutoff, 500)) {
+                if (!store.removeIfExpired(roomId, cutoff)) continue;  // 다른 노드가 먼저 정리
+                users.remove(roomId);
+                broadcast(QUEUE_TOPIC, Map.of("event", "ROOM_EXPIRED", "roomId", roomId));
+                removed++;
+            }
+            store.purgeEvents(now.minusMinutes(10));
+            if (users.size() > MAX_CACHED_USERS) users.clear();
+
+            if (removed > 0) {
+                invalidatePending();
+                log.info("🧹 비활성 상담 방 {}개 정리 (ttl={}분)", removed, roomTtlMinutes);
+            }
+        } catch (Exception e) {
+            log.error("❌ 상담 방 정리 실패", e);
+        }
+    }
+
+    private void invalidatePending() {
+        pendingSnapshot = null;
     }
 }
@@ -0,0 +1,65 @@
+package com.we.hirehub.ws;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상담 방 상태 저장소 (노드 간 공유)
+ * - support.queue.store=jdbc   : support_room / support_queue_event 테이블 (여러 노드)
+ * - support.queue.store=memory : 프로세스 메모리 (단일 노드 / 로컬 개발용)
+ * - 반환되는 RoomState 는 복사본이므로 수정해도 저장소에 반영되지 않음
+ */
+public interface SupportRoomStore {
+
+    Optional<SupportQueue.RoomState> find(String roomId);
+
+    /** 방 유저 정보 기록 (상태는 그대로) */
+    void saveUser(String roomId, ChatUser user, LocalDateTime now);
+
+    /** 상담 요청: PENDING 으로 전환 (이전 상담사 배정 해제) */
+    SupportQueue.RoomState request(String roomId, ChatUser user, LocalDateTime now);
+
+    /**
+     * 상담사 배정 (원자적)
+     * - 대기(PENDING) 중인 방이거나 같은 상담사가 다시 수락하는 경우에만 성공
+     * @return 이 호출이 배정에 성공했는지
+     */
+    boolean claim(String roomId, String agent, LocalDateTime now);
+
+    /** 상담 종료: NONE 으로 전환 */
+    Optional<SupportQueue.RoomState> release(String roomId, LocalDateTime now);
+
+    /** 없을 때만 추가 (기동 시 기존 대기 요청 이관용) */
+    void insertIfAbsent(SupportQueue.RoomState state);
+
+    /** 대기 중인 방 (최근 요청 순) */
+    List<SupportQueue.RoomState> pending();
+
+    /** 마지막 활동 시각 갱신 */
+    void touch(Collection<String> roomIds, LocalDateTime now);
+
+    /** before 이후로 활동이 없는 방 id */
+    List<String> expired(LocalDateTime before, int limit);
+
+    /** 여전히 만료 상태일 때만 삭제 (여러 노드가 동시에 정리해도 한 번만 true) */
+    boolean removeIfExpired(String roomId, LocalDateTime before);
+
+    void remove(String roomId);
+
+    /* ------- 노드 간 알림 중계 ------- */
+
+    void publish(String nodeId, String destination, Map<String, Object> payload);
+
+    /** afterId 이후 이벤트 (id 순) */
+    List<RelayEvent> poll(long afterId, int limit);
+
+    long lastEventId();
+
+    void purgeEvents(LocalDateTime before);
+
+    record RelayEvent(long id, String nodeId, String destination, Map<String, Object> payload,
+                      LocalDateTime createdAt) {}
+}
@@ -0,0 +1,74 @@
+package com.we.hirehub.ws;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket(STOMP) 지표
+ * - hirehub.ws.sessions : 현재 연결된 STOMP 세션 수 (이 노드)
+ * - hirehub.ws.messages : 메시지 수 (direction=inbound|outbound, type=CONNECT|SUBSCRIBE|MESSAGE|...)
+ * - 인터셉터는 WebSocketConfig 에서 채널에 등록
+ */
+@Component
+public class WebSocketMetrics {
+
+    private final MeterRegistry registry;
+    // 같은 세션의 disconnect 이벤트가 두 번 올 수 있어 id 집합으로 셈
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public WebSocketMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("hirehub.ws.sessions", sessions, Set::size)
+                .description("Connected STOMP sessions")
+                .register(registry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String id = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (id != null) sessions.add(id);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    public ChannelInterceptor inbound() {
+        return counting("inbound");
+    }
+
+    public ChannelInterceptor outbound() {
+        return counting("outbound");
+    }
+
+    private ChannelInterceptor counting(String direction) {
+        return new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                if (!sent) return;
+                SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+                String name = type != null ? type.name() : "OTHER";
+                counters.computeIfAbsent(direction + ":" + name, k -> Counter.builder("hirehub.ws.messages")
+                        .description("STOMP messages through the client channels")
+                        .tags("direction", direction, "type", name)
+                        .register(registry)).increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+-- 공고 요약 배치 작업 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+CREATE TABLE IF NOT EXISTS summary_batch_run (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    status      VARCHAR(20) NOT NULL,
+    total       INT         NOT NULL,
+    started_at  DATETIME(6) NOT NULL,
+    finished_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    KEY idx_summary_run_status (status)
+);
+
+CREATE TABLE IF NOT EXISTS summary_batch_item (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    run_id      BIGINT       NOT NULL,
+    job_post_id BIGINT       NOT NULL,
+    status      VARCHAR(20)  NOT NULL,
+    attempts    INT          NOT NULL DEFAULT 0,
+    last_error  VARCHAR(500) NULL,
+    updated_at  DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_summary_item_run_post (run_id, job_post_id),
+    KEY idx_summary_item_run_status (run_id, status, job_post_id),
+    CONSTRAINT fk_summary_item_run FOREIGN KEY (run_id) REFERENCES summary_batch_run (id)
+);
@@ -0,0 +1,9 @@
+-- 주소 → 좌표 캐시 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+CREATE TABLE IF NOT EXISTS geocode_cache (
+    address_hash VARCHAR(64)  NOT NULL,
+    address      VARCHAR(500) NOT NULL,
+    lat          DOUBLE       NULL,
+    lng          DOUBLE       NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (address_hash)
+);
@@ -0,0 +1,8 @@
+-- 회사 통계 미리 계산본 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- 적용 후 POST /api/admin/company-stats/rebuild 로 한 번 채움
+CREATE TABLE IF NOT EXISTS company_stats_snapshot (
+    company_id BIGINT      NOT NULL,
+    stats      JSON        NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (company_id)
+);
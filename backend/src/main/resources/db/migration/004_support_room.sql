@@ -0,0 +1,26 @@
+-- 상담 방 상태 공유 저장소 (support.queue.store=jdbc, aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+CREATE TABLE IF NOT EXISTS support_room (
+    room_id       VARCHAR(255) NOT NULL,
+    status        VARCHAR(16)  NOT NULL,          -- NONE / PENDING / ACCEPTED
+    user_id       BIGINT       NULL,
+    user_email    VARCHAR(255) NULL,
+    user_name     VARCHAR(255) NULL,
+    user_nickname VARCHAR(255) NULL,
+    agent         VARCHAR(255) NULL,              -- 수락한 상담사 (이메일)
+    requested_at  DATETIME(6)  NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (room_id),
+    KEY idx_support_room_status (status, requested_at),
+    KEY idx_support_room_updated (updated_at)
+);
+
+-- 노드 간 /topic 알림 중계 (각 노드가 id 순으로 폴링해서 자기 브로커로 재전송)
+CREATE TABLE IF NOT EXISTS support_queue_event (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    node_id     VARCHAR(64)  NOT NULL,
+    destination VARCHAR(255) NOT NULL,
+    payload     JSON         NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_support_queue_event_created (created_at)
+);
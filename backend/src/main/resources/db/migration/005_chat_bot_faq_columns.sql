@@ -0,0 +1,8 @@
+-- FAQ 메타 생성 컬럼 + 인덱스 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- meta JSON 은 그대로 두고 type/category/order 만 STORED 생성 컬럼으로 꺼내서 인덱스로 조회
+-- (JSON_EXTRACT 를 WHERE / ORDER BY 에 쓰면 AI 대화 행까지 전부 스캔)
+ALTER TABLE chat_bot
+    ADD COLUMN meta_type     VARCHAR(16)  GENERATED ALWAYS AS (JSON_UNQUOTE(JSON_EXTRACT(meta, '$.type'))) STORED,
+    ADD COLUMN meta_category VARCHAR(100) GENERATED ALWAYS AS (JSON_UNQUOTE(JSON_EXTRACT(meta, '$.category'))) STORED,
+    ADD COLUMN meta_order    INT          GENERATED ALWAYS AS (CAST(JSON_EXTRACT(meta, '$.order') AS SIGNED)) STORED,
+    ADD INDEX idx_chat_bot_faq (meta_type, onoff, meta_category, meta_order, id);
@@ -0,0 +1,13 @@
+-- 토큰 차감 멱등성 키 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- 같은 (user_id, idem_key) 로 다시 호출되면 차감 없이 처음 결과(balance_after)를 돌려줌
+CREATE TABLE IF NOT EXISTS token_idempotency (
+    user_id       BIGINT       NOT NULL,
+    idem_key      VARCHAR(100) NOT NULL,
+    amount        INT          NOT NULL,
+    feature       VARCHAR(255) NULL,
+    balance_after INT          NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id, idem_key),
+    KEY idx_token_idempotency_created (created_at)
+);
+
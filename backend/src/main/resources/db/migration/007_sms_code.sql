@@ -0,0 +1,18 @@
+-- SMS 인증번호 / 발송 횟수 제한 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- 여러 노드가 같은 인증 상태를 보도록 메모리 Map 대신 사용, 만료 행은 SmsCodeService 가 주기적으로 삭제
+CREATE TABLE IF NOT EXISTS sms_code (
+    phone          VARCHAR(32) NOT NULL PRIMARY KEY,
+    code           VARCHAR(10) NULL,           -- 인증 완료 후 NULL (재사용 불가)
+    attempts       INT         NOT NULL DEFAULT 0,
+    expires_at     DATETIME(6) NOT NULL,
+    verified_until DATETIME(6) NULL,
+    KEY idx_sms_code_expires (expires_at)
+);
+
+-- 고정 윈도 카운터 (rate_key = 종류:대상:윈도번호)
+CREATE TABLE IF NOT EXISTS sms_rate (
+    rate_key   VARCHAR(150) NOT NULL PRIMARY KEY,
+    cnt        INT          NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    KEY idx_sms_rate_expires (expires_at)
+);
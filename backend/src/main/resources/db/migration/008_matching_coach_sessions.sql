@@ -0,0 +1,85 @@
+-- 매칭 실행 / 코칭 세션 테이블 + 기존 행 이관 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- 기존에는 id 차이 10 이내를 같은 세션으로 추정했으므로, 이관도 같은 규칙으로 한 번만 묶음
+-- 이관된 실행/세션의 id 는 묶음의 첫 행 id 와 같게 만들어 기존 이력 링크(/history/{id})가 그대로 동작
+
+CREATE TABLE IF NOT EXISTS matching_run (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    resume_id  BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_matching_run_user (user_id, id)
+);
+
+CREATE TABLE IF NOT EXISTS coach_session (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT      NOT NULL,
+    resume_id     BIGINT      NOT NULL,
+    job_post_link TEXT        NULL,
+    company_link  TEXT        NULL,
+    created_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_coach_session_user (user_id, id)
+);
+
+ALTER TABLE matching
+    ADD COLUMN run_id BIGINT NULL,
+    ADD INDEX idx_matching_run (run_id, id);
+
+ALTER TABLE coach
+    ADD COLUMN coach_session_id BIGINT NULL,
+    ADD INDEX idx_coach_session (coach_session_id, id);
+
+-- 매칭: 이력서별로 이전 행과 id 차이가 10 을 넘으면 새 실행
+UPDATE matching m
+JOIN (
+    SELECT id, MIN(id) OVER (PARTITION BY resume_id, grp) AS first_id
+    FROM (
+        SELECT id, resume_id,
+               SUM(is_new) OVER (PARTITION BY resume_id ORDER BY id) AS grp
+        FROM (
+            SELECT id, resume_id,
+                   CASE WHEN id - LAG(id) OVER (PARTITION BY resume_id ORDER BY id) <= 10 THEN 0 ELSE 1 END AS is_new
+            FROM matching
+        ) s
+    ) g
+) t ON t.id = m.id
+SET m.run_id = t.first_id
+WHERE m.run_id IS NULL;
+
+INSERT INTO matching_run (id, user_id, resume_id, created_at)
+SELECT m.run_id, r.users_id, m.resume_id, NOW(6)
+FROM matching m
+JOIN resume r ON r.id = m.resume_id
+WHERE m.id = m.run_id
+  AND NOT EXISTS (SELECT 1 FROM matching_run x WHERE x.id = m.run_id);
+
+-- 코칭: 유저별로 이력서가 바뀌거나 이전 행과 id 차이가 10 을 넘으면 새 세션
+UPDATE coach c
+JOIN (
+    SELECT id, MIN(id) OVER (PARTITION BY user_id, grp) AS first_id
+    FROM (
+        SELECT id, user_id,
+               SUM(is_new) OVER (PARTITION BY user_id ORDER BY id) AS grp
+        FROM (
+            SELECT id, user_id,
+                   CASE WHEN resume_id = LAG(resume_id) OVER (PARTITION BY user_id ORDER BY id)
+                             AND id - LAG(id) OVER (PARTITION BY user_id ORDER BY id) <= 10 THEN 0 ELSE 1 END AS is_new
+            FROM coach
+        ) s
+    ) g
+) t ON t.id = c.id
+SET c.coach_session_id = t.first_id
+WHERE c.coach_session_id IS NULL;
+
+INSERT INTO coach_session (id, user_id, resume_id, job_post_link, company_link, created_at)
+SELECT c.coach_session_id, c.user_id, c.resume_id, c.job_post_link, c.company_link, NOW(6)
+FROM coach c
+WHERE c.id = c.coach_session_id
+  AND NOT EXISTS (SELECT 1 FROM coach_session x WHERE x.id = c.coach_session_id);
+
+ALTER TABLE matching
+    ADD CONSTRAINT fk_matching_run FOREIGN KEY (run_id) REFERENCES matching_run (id);
+
+ALTER TABLE coach
+    ADD CONSTRAINT fk_coach_session FOREIGN KEY (coach_session_id) REFERENCES coach_session (id);
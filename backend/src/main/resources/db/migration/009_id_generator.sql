@@ -0,0 +1,28 @@
+-- 대량 INSERT 테이블의 id 를 테이블 기반 pooled 생성기로 할당 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- IDENTITY 는 INSERT 1건마다 생성 키를 받아야 해서 Hibernate JDBC 배치가 꺼짐
+-- → matching / coach / tech_stack / summary_batch_item 은 id_generator 에서 50개씩 미리 받아 배치 INSERT
+-- 컬럼의 AUTO_INCREMENT 는 그대로 두고(명시 id 를 넣으면 카운터도 따라 올라감), 시작값은 기존 최대 id 이후로 설정
+-- (로컬 ddl-auto: update 는 빈 테이블에 0 부터 넣으므로, 기존 데이터가 있는 로컬 DB 도 이 스크립트를 한 번 실행)
+-- JDBC 로 직접 INSERT 하는 live_chat / help / token_history / 이력서 섹션 테이블은 AUTO_INCREMENT 를 계속 사용
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    seq_name VARCHAR(255) NOT NULL,
+    next_val BIGINT       NULL,
+    PRIMARY KEY (seq_name)
+);
+
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'matching', COALESCE(MAX(id), 0) + 100 FROM matching
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'coach', COALESCE(MAX(id), 0) + 100 FROM coach
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'tech_stack', COALESCE(MAX(id), 0) + 100 FROM tech_stack
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generator (seq_name, next_val)
+SELECT 'summary_batch_item', COALESCE(MAX(id), 0) + 100 FROM summary_batch_item
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
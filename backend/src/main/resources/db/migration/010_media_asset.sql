@@ -0,0 +1,31 @@
+-- 업로드 이미지 + 리사이즈 변형 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- 원본은 요청 스레드에서 저장, 변형(w320/w960 …)은 ImageVariantService 가 백그라운드에서 만들고 여기에 URL 기록
+CREATE TABLE IF NOT EXISTS media_asset (
+    id           BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    storage_key  VARCHAR(512)  NOT NULL,
+    url          VARCHAR(1024) NOT NULL,
+    content_type VARCHAR(100)  NULL,
+    size_bytes   BIGINT        NOT NULL,
+    width        INT           NULL,
+    height       INT           NULL,
+    status       VARCHAR(16)   NOT NULL,   -- PENDING / READY / SKIPPED / FAILED
+    error        VARCHAR(500)  NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6)   NULL,
+    UNIQUE KEY uk_media_asset_key (storage_key),
+    KEY idx_media_asset_url (url(255))
+);
+
+CREATE TABLE IF NOT EXISTS media_variant (
+    id          BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    asset_id    BIGINT        NOT NULL,
+    label       VARCHAR(32)   NOT NULL,   -- w320, w960 …
+    format      VARCHAR(16)   NOT NULL,   -- jpeg / png / webp
+    width       INT           NOT NULL,
+    height      INT           NOT NULL,
+    size_bytes  BIGINT        NOT NULL,
+    storage_key VARCHAR(512)  NOT NULL,
+    url         VARCHAR(1024) NOT NULL,
+    UNIQUE KEY uk_media_variant (asset_id, label, format),
+    CONSTRAINT fk_media_variant_asset FOREIGN KEY (asset_id) REFERENCES media_asset (id) ON DELETE CASCADE
+);
@@ -0,0 +1,32 @@
+-- 관리자 결제 검색 인덱스 + 일별 매출 집계 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- 검색/정렬은 (create_at DESC, id DESC) keyset, 이메일은 일치/앞부분 일치만 → users.email 인덱스 사용
+-- idx_users_email 은 이미 같은 컬럼 인덱스가 있으면 생략
+
+ALTER TABLE payment
+    ADD INDEX idx_payment_created (create_at, id),
+    ADD INDEX idx_payment_role_created (role, create_at, id),
+    ADD INDEX idx_payment_user_created (user_id, create_at);
+
+CREATE INDEX idx_users_email ON users (email);
+
+-- (날짜, 토큰 패키지, 결제수단) 별 누적 - PaymentRollupService 가 결제 완료 때 UPSERT
+CREATE TABLE IF NOT EXISTS payment_daily_rollup (
+    sale_date        DATE        NOT NULL,
+    token_package_id BIGINT      NOT NULL,  -- 패키지 없음 = 0
+    pay_method       VARCHAR(20) NOT NULL,
+    payment_count    INT         NOT NULL,
+    revenue          BIGINT      NOT NULL,
+    tokens_sold      BIGINT      NOT NULL,
+    updated_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (sale_date, token_package_id, pay_method)
+);
+
+-- 기존 결제 이력 이관 (이후 보정은 POST /api/admin/payments/rollups/rebuild)
+INSERT INTO payment_daily_rollup
+    (sale_date, token_package_id, pay_method, payment_count, revenue, tokens_sold, updated_at)
+SELECT DATE(p.create_at), COALESCE(p.token_package_id, 0), COALESCE(p.pay_method, 'UNKNOWN'),
+       COUNT(*), COALESCE(SUM(p.total_price), 0), COALESCE(SUM(tp.token_amount), 0), NOW(6)
+FROM payment p
+LEFT JOIN token_package tp ON tp.id = p.token_package_id
+WHERE p.role = 'COMPLETED' AND p.create_at IS NOT NULL
+GROUP BY DATE(p.create_at), COALESCE(p.token_package_id, 0), COALESCE(p.pay_method, 'UNKNOWN');
@@ -0,0 +1,15 @@
+-- 이력서 임베딩 저장 (aws 프로파일은 ddl-auto: validate 이므로 수동 적용)
+-- vector = float32 little-endian, content_hash = 임베딩한 텍스트의 SHA-256 (hex)
+-- model_version 이 ai.resume-embedding.version 과 다르거나 해시가 다르면 다시 임베딩
+-- 기존 이력서는 기동 후 ResumeEmbeddingService.refreshStale() 배치가 채움
+-- 이력서가 지워지면 FK 로 함께 삭제 (삭제 후 늦게 끝난 임베딩 작업은 FK 위반으로 저장되지 않음)
+CREATE TABLE IF NOT EXISTS resume_embedding (
+    resume_id     BIGINT      NOT NULL,
+    content_hash  CHAR(64)    NOT NULL,
+    model_version VARCHAR(40) NOT NULL,
+    dims          INT         NOT NULL,
+    vector        MEDIUMBLOB  NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (resume_id),
+    CONSTRAINT fk_resume_embedding_resume FOREIGN KEY (resume_id) REFERENCES resume (id) ON DELETE CASCADE
+);
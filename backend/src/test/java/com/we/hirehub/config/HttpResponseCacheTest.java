@@ -0,0 +1,122 @@
+package com.we.hirehub.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 조건부 GET - ETag(If-None-Match) / Last-Modified(If-Modified-Since)
+ * + 커밋 후 무효화 (서비스 afterCommit 콜백 안에서는 invalidateNow)
+ */
+class HttpResponseCacheTest {
+
+    private static final Instant UPDATED = Instant.parse("2026-10-01T09:30:15Z");
+
+    @SuppressWarnings("unchecked")
+    private final HttpResponseCache cache = new HttpResponseCache(
+            new ObjectMapper(), mock(ObjectProvider.class), true, 100, 300, 30);
+
+    private record Snapshot(Map<String, Integer> stats, Instant updatedAt) {}
+
+    private ResponseEntity<byte[]> stats(MockHttpServletRequest request) {
+        return cache.respond(request, HttpResponseCache.COMPANY_STATS,
+                () -> new Snapshot(Map.of("reviews", 3), UPDATED), Snapshot::stats, Snapshot::updatedAt);
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/companies/1/stats");
+    }
+
+    @Test
+    void sendsLastModifiedAndAnswers304ForIfModifiedSince() {
+        ResponseEntity<byte[]> first = stats(get());
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getHeaders().getLastModified()).isEqualTo(UPDATED.toEpochMilli() / 1000 * 1000);
+        assertThat(first.getHeaders().getETag()).isNotNull();
+
+        MockHttpServletRequest same = get();
+        same.addHeader(HttpHeaders.IF_MODIFIED_SINCE, UPDATED.toEpochMilli());
+        assertThat(stats(same).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        MockHttpServletRequest older = get();
+        older.addHeader(HttpHeaders.IF_MODIFIED_SINCE, UPDATED.minusSeconds(60).toEpochMilli());
+        assertThat(stats(older).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() {
+        String etag = stats(get()).getHeaders().getETag();
+
+        MockHttpServletRequest staleTag = get();
+        staleTag.addHeader(HttpHeaders.IF_NONE_MATCH, "\"company-stats-old\"");
+        staleTag.addHeader(HttpHeaders.IF_MODIFIED_SINCE, UPDATED.toEpochMilli());
+        assertThat(stats(staleTag).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        MockHttpServletRequest matching = get();
+        matching.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        assertThat(stats(matching).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void responsesWithoutTimestampHaveNoLastModified() {
+        ResponseEntity<byte[]> r = cache.respond(get(), HttpResponseCache.ADS, () -> Map.of("ads", 1));
+        assertThat(r.getHeaders().getLastModified()).isEqualTo(-1);
+
+        MockHttpServletRequest since = get();
+        since.addHeader(HttpHeaders.IF_MODIFIED_SINCE, Instant.now().toEpochMilli());
+        assertThat(cache.respond(since, HttpResponseCache.ADS, () -> Map.of("ads", 1), Function.identity(), v -> null)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void invalidateWaitsForCommitAndInvalidateNowWorksInsideAfterCommit() {
+        AtomicInteger loads = new AtomicInteger();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faq");
+        cache.respond(request, HttpResponseCache.FAQ, loads::incrementAndGet);
+
+        inTransaction(() -> {
+            cache.invalidate(HttpResponseCache.FAQ);
+            cache.respond(request, HttpResponseCache.FAQ, loads::incrementAndGet);
+            assertThat(loads).hasValue(1);   // 커밋 전에는 그대로
+        });
+        cache.respond(request, HttpResponseCache.FAQ, loads::incrementAndGet);
+        assertThat(loads).hasValue(2);
+
+        // FaqCatalogService.refresh 처럼 스냅샷 버전을 올리는 afterCommit 콜백 안에서 바로 무효화
+        inTransaction(() -> TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateNow(HttpResponseCache.FAQ);
+            }
+        }));
+        cache.respond(request, HttpResponseCache.FAQ, loads::incrementAndGet);
+        assertThat(loads).hasValue(3);
+    }
+
+    /** 트랜잭션 동기화 안에서 실행 후 커밋 콜백 실행 */
+    private static void inTransaction(Runnable body) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.we.hirehub.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 스레드가 로그 한 줄에 쓰는 시간: 로그 끔(레벨 미달) vs 동기 appender vs AsyncAppender (logback-spring.xml 과 같은 설정)
+ * - 스프링 없이 별도 LoggerContext 로 구성, 출력은 임시 파일 (실제 I/O)
+ * - ./gradlew benchmark 로 실행, 결과는 표준 출력
+ */
+@Tag("benchmark")
+class LoggingLatencyBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 20_000;
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void callerLatencyByAppender() throws Exception {
+        Result off = run("off", false, Level.WARN);
+        Result sync = run("sync", false, Level.INFO);
+        Result async = run("async", true, Level.INFO);
+
+        for (Result r : List.of(off, sync, async)) {
+            System.out.printf("[benchmark] logging %-5s: p50 %,d ns p99 %,d ns p99.9 %,d ns | %,.0f calls/s | written %,d / %,d%n",
+                    r.name(), r.p50(), r.p99(), r.p999(), r.throughput(), r.written(), THREADS * CALLS_PER_THREAD);
+        }
+
+        assertThat(off.written()).isZero();
+        assertThat(sync.written()).isEqualTo(THREADS * CALLS_PER_THREAD);
+        // 로그 끔 < 비동기 < 동기 (비동기는 큐에 넣기만 하므로 p99 가 동기보다 낮아야 함)
+        assertThat(off.p99()).isLessThan(sync.p99());
+        assertThat(async.p99()).isLessThan(sync.p99());
+    }
+
+    /** written: 파일에 실제로 남은 줄 수 (비동기는 큐가 차면 INFO 를 버림) */
+    private record Result(String name, long p50, long p99, long p999, double throughput, long written) {}
+
+    private Result run(String name, boolean async, Level level) throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());   // requestId 패턴용
+        Logger logger = context.getLogger("com.we.hirehub.bench");
+        logger.setAdditive(false);
+        logger.setLevel(level);
+        logger.addAppender(appender(context, name, async));
+
+        // 워밍업 (레벨과 상관없이 찍히도록 WARN)
+        for (int i = 0; i < 20_000; i++) logger.warn("warmup {}", i);
+
+        long[] nanos = new long[THREADS * CALLS_PER_THREAD];
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long t0;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * CALLS_PER_THREAD;
+                futures.add(pool.submit(() -> {
+                    MDC.put("requestId", "req-" + offset);
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        long s = System.nanoTime();
+                        logger.info("🔍 매칭 요청 처리: resumeId={}, candidates={}, elapsedMs={}", i, 120, 35);
+                        nanos[offset + i] = System.nanoTime() - s;
+                    }
+                    MDC.clear();
+                    return null;
+                }));
+            }
+            t0 = System.nanoTime();
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - t0) / 1e9;
+        context.stop();   // 비동기 큐 비우고 종료
+
+        long written;
+        try (var lines = Files.lines(dir.resolve(name + ".log"))) {
+            written = lines.filter(l -> !l.contains("warmup")).count();
+        }
+
+        Arrays.sort(nanos);
+        return new Result(name, percentile(nanos, 0.50), percentile(nanos, 0.99), percentile(nanos, 0.999),
+                nanos.length / seconds, written);
+    }
+
+    private Appender<ILoggingEvent> appender(LoggerContext context, String name, boolean async) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(dir.resolve(name + ".log").toString());
+        file.setEncoder(encoder);
+        file.start();
+        if (!async) return file;
+
+        // logback-spring.xml ASYNC_CONSOLE 과 같은 값 (app.logging.async.*)
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(context);
+        asyncAppender.setName("ASYNC");
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(1638);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.setIncludeCallerData(false);
+        asyncAppender.addAppender(file);
+        asyncAppender.start();
+        return asyncAppender;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,154 @@
+package com.we.hirehub.config;
+
+import com.we.hirehub.entity.TokenPackage;
+import com.we.hirehub.repository.TokenPackageRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 복제본 라우팅 - H2 인스턴스 2개 (primary / 복제본)
+ * - 한 요청 안에서 읽기 전용 조회 뒤 쓰기 → 쓰기는 primary 로
+ * - OSIV 처럼 EntityManager 를 요청 내내 붙잡으면 쓰기가 복제본 커넥션으로 감 → 복제본 라우팅 시 open-in-view 를 끔
+ * - 테스트 트랜잭션 없이 실행 (트랜잭션마다 커넥션을 새로 얻는지 봐야 하므로)
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaRoutingTest.Routing.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingTest {
+
+    private static final String H2 = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,VALUE,USER,MONTH,DAY";
+
+    @TestConfiguration
+    static class Routing {
+
+        @Bean
+        HikariDataSource primaryPool() {
+            return pool("primary", "jdbc:h2:mem:routing_primary" + H2);
+        }
+
+        @Bean
+        HikariDataSource replicaPool() {
+            return pool("replica-1", "jdbc:h2:mem:routing_replica" + H2);
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(@Qualifier("primaryPool") HikariDataSource primaryPool,
+                              @Qualifier("replicaPool") HikariDataSource replicaPool) {
+            return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                    primaryPool, List.of(replicaPool), ReplicaRoutingDataSource.LagCheck.NONE, 5));
+        }
+
+        private static HikariDataSource pool(String name, String url) {
+            HikariDataSource ds = new HikariDataSource();
+            ds.setPoolName(name);
+            ds.setJdbcUrl(url);
+            ds.setUsername("sa");
+            return ds;
+        }
+    }
+
+    @Autowired TokenPackageRepository tokenPackageRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired @Qualifier("primaryPool") HikariDataSource primaryPool;
+    @Autowired @Qualifier("replicaPool") HikariDataSource replicaPool;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryPool);
+        replica = new JdbcTemplate(replicaPool);
+        // 테이블은 Hibernate 가 primary 에만 만듦 → 복제본은 같은 모양으로 직접
+        replica.execute("CREATE TABLE IF NOT EXISTS token_package (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "name VARCHAR(50) NOT NULL, token_amount INT NOT NULL, price INT NOT NULL, active BOOLEAN NOT NULL)");
+        replica.update("INSERT INTO token_package (name, token_amount, price, active) VALUES ('from-replica', 10, 1000, TRUE)");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        primary.update("DELETE FROM token_package");
+        replica.update("DELETE FROM token_package");
+    }
+
+    @Test
+    void readThenWriteInOneRequestWritesToPrimary() {
+        readThenWrite();
+
+        assertThat(primary.queryForList("SELECT name FROM token_package", String.class)).containsExactly("written");
+        assertThat(replica.queryForList("SELECT name FROM token_package", String.class)).containsExactly("from-replica");
+    }
+
+    @Test
+    void entityManagerHeldAcrossTransactionsKeepsReplicaConnection() {
+        // OpenEntityManagerInViewInterceptor 와 같은 방식으로 요청 동안 EntityManager 를 묶어 둠
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+        try {
+            readThenWrite();
+        } finally {
+            ((EntityManagerHolder) TransactionSynchronizationManager.unbindResource(entityManagerFactory))
+                    .getEntityManager().close();
+        }
+
+        assertThat(primary.queryForList("SELECT name FROM token_package", String.class)).isEmpty();
+        assertThat(replica.queryForList("SELECT name FROM token_package", String.class))
+                .containsExactlyInAnyOrder("from-replica", "written");
+    }
+
+    @Test
+    void enablingReplicaRoutingTurnsOffOpenInView() {
+        ReplicaRoutingEnvironmentPostProcessor processor = new ReplicaRoutingEnvironmentPostProcessor();
+
+        MockEnvironment off = new MockEnvironment().withProperty("spring.jpa.open-in-view", "true");
+        processor.postProcessEnvironment(off, null);
+        assertThat(off.getProperty("spring.jpa.open-in-view")).isEqualTo("true");
+
+        MockEnvironment on = new MockEnvironment()
+                .withProperty("datasource.replica.enabled", "true")
+                .withProperty("spring.jpa.open-in-view", "true");
+        processor.postProcessEnvironment(on, null);
+        assertThat(on.getProperty("spring.jpa.open-in-view")).isEqualTo("false");
+    }
+
+    /** 읽기 전용 트랜잭션으로 조회 → 이어서 쓰기 트랜잭션 */
+    private void readThenWrite() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<TokenPackage> read = readOnly.execute(s -> tokenPackageRepository.findAll());
+        assertThat(read).extracting(TokenPackage::getName).containsExactly("from-replica");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(s -> tokenPackageRepository.save(
+                TokenPackage.builder().name("written").tokenAmount(20).price(2000).active(true).build()));
+    }
+}
@@ -0,0 +1,197 @@
+package com.we.hirehub.service.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import javax.sql.DataSource;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 이미지 변형 생성 - 로컬 저장소(LocalObjectStorage)로 오프라인 실행
+ * - 업로드 → READY → media_variant 행 / 파일 / srcset
+ * - 생성 중(PENDING)에 원본을 삭제하면 변형 파일이 남지 않음
+ * - 테스트 트랜잭션 없이 실행 (워커 스레드가 커밋된 행을 봐야 하므로)
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ImageVariantService.class, ImageVariantServiceTest.Storage.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImageVariantServiceTest {
+
+    private static final String KEY = "company/photos/1/logo.jpg";
+
+    /** 변형 put 을 멈춰 둘 수 있는 로컬 저장소 */
+    static class PausableStorage extends LocalObjectStorage {
+        final Path root;
+        volatile CountDownLatch putStarted;
+        volatile CountDownLatch resume;
+        final AtomicInteger putsDone = new AtomicInteger();
+
+        PausableStorage(Path root) {
+            super(root.toString(), "http://localhost/files");
+            this.root = root;
+        }
+
+        @Override
+        public String put(String key, Path file, String contentType, long size) {
+            CountDownLatch started = putStarted, gate = resume;
+            if (gate != null) {
+                started.countDown();
+                try {
+                    gate.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            try {
+                return super.put(key, file, contentType, size);
+            } finally {
+                putsDone.incrementAndGet();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Storage {
+        @Bean
+        PausableStorage objectStorage() throws Exception {
+            return new PausableStorage(Files.createTempDirectory("media-test"));
+        }
+    }
+
+    @Autowired ImageVariantService service;
+    @Autowired PausableStorage storage;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // JPA 엔티티가 아닌 테이블은 수동 마이그레이션 그대로 (H2 는 접두 인덱스 url(255) 를 모르므로 길이만 뺌)
+        String sql = new ClassPathResource("db/migration/010_media_asset.sql")
+                .getContentAsString(StandardCharsets.UTF_8).replace("(url(255))", "(url)");
+        new ResourceDatabasePopulator(new ByteArrayResource(sql.getBytes(StandardCharsets.UTF_8))).execute(dataSource);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        storage.resume = null;
+        jdbcTemplate.update("DELETE FROM media_variant");
+        jdbcTemplate.update("DELETE FROM media_asset");
+    }
+
+    @Test
+    void uploadBecomesReadyWithVariantRowsAndFiles() throws Exception {
+        String url = upload(1200, 800);
+
+        awaitStatus(url, ImageVariantService.Status.READY);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT label, format, width, height, storage_key FROM media_variant ORDER BY width, format");
+        assertThat(rows).extracting(r -> r.get("label")).contains("w320", "w960");
+        assertThat(rows).filteredOn(r -> "jpeg".equals(r.get("format")))
+                .extracting(r -> r.get("width"), r -> r.get("height"))
+                .containsExactly(tuple(320, 213), tuple(960, 640));
+        for (Map<String, Object> row : rows) {
+            assertThat(stored((String) row.get("storage_key"))).exists();
+        }
+
+        assertThat(service.srcsetOf(url)).isEqualTo(
+                "http://localhost/files/company/photos/1/logo_w320.jpeg 320w, " +
+                "http://localhost/files/company/photos/1/logo_w960.jpeg 960w, " + url + " 1200w");
+    }
+
+    @Test
+    void deletingPendingAssetLeavesNoVariantFiles() throws Exception {
+        storage.putStarted = new CountDownLatch(1);
+        storage.resume = new CountDownLatch(1);
+        String url = upload(1200, 800);
+
+        // 워커가 원본 확인을 마치고 첫 변형 put 에 들어간 상태에서 삭제
+        assertThat(storage.putStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        service.deleteFor(url);
+        storage.resume.countDown();
+
+        // 워커는 FK 실패로 방금 올린 변형을 지우고 중단 → FAILED 로 바뀌지 않고 끝남
+        waitUntil(() -> storage.putsDone.get() >= 1 && noVariantFiles());
+        Thread.sleep(200);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM media_asset", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM media_variant", Integer.class)).isZero();
+        assertThat(noVariantFiles()).isTrue();
+    }
+
+    /** 원본을 저장소에 올리고 register (S3Service.uploadFile 과 같은 순서) */
+    private String upload(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.ORANGE);
+        g.fillRect(0, 0, width / 2, height);
+        g.dispose();
+
+        Path spool = Files.createTempFile("upload-", ".tmp");
+        ImageIO.write(image, "jpeg", spool.toFile());
+        long size = Files.size(spool);
+        String url = storage.urlOf(KEY);
+        Files.createDirectories(stored(KEY).getParent());
+        Files.copy(spool, stored(KEY), StandardCopyOption.REPLACE_EXISTING);
+        service.register(KEY, url, "image/jpeg", size, spool);
+        return url;
+    }
+
+    /** LocalObjectStorage 는 root 아래에 key 경로 그대로 저장 */
+    private Path stored(String key) {
+        return storage.root.resolve(key);
+    }
+
+    private boolean noVariantFiles() {
+        try (Stream<Path> files = Files.list(stored(KEY).getParent())) {
+            return files.noneMatch(p -> p.getFileName().toString().startsWith("logo_w"));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void awaitStatus(String url, ImageVariantService.Status status) throws InterruptedException {
+        waitUntil(() -> service.find(url).map(m -> m.status() == status).orElse(false));
+        assertThat(service.find(url).orElseThrow().status()).isEqualTo(status);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
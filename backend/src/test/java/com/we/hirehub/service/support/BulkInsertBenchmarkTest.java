@@ -0,0 +1,135 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.config.DbInstrumentationConfig;
+import com.we.hirehub.config.DbQueryTracker;
+import com.we.hirehub.entity.Resume;
+import com.we.hirehub.entity.Role;
+import com.we.hirehub.entity.Skill;
+import com.we.hirehub.entity.TechStack;
+import com.we.hirehub.entity.Users;
+import com.we.hirehub.repository.SkillRepository;
+import com.we.hirehub.repository.TechStackRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 INSERT: IDENTITY(건별 INSERT) vs 테이블 id 풀 + JDBC 배치 (db/migration/009) DB 왕복 수 / 지연 비교
+ * - 왕복 수는 InstrumentedDataSource 기준 (executeBatch 1번 = 1왕복, id_generator 조회/갱신 포함)
+ * - IDENTITY 쪽은 같은 모양(name + FK)의 skill, 배치 쪽은 tech_stack
+ * - ./gradlew benchmark 로 실행, 결과는 표준 출력
+ * - H2 메모리 DB 라 왕복 지연이 없음 → 운영(MySQL)에서는 왕복 수 차이가 그대로 네트워크 지연 차이
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DbInstrumentationConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 50;   // application.yml hibernate.jdbc.batch_size / allocationSize
+    private static final int RUNS = 5;
+
+    @Autowired SkillRepository skillRepository;
+    @Autowired TechStackRepository techStackRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest(name = "{0} rows")
+    @ValueSource(ints = {100, 1_000})
+    void insertRoundTripsAndLatency(int rows) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Resume resume = tx.execute(status -> seedResume());
+
+        Result identity = measure(tx, run -> {
+            List<Skill> skills = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                skills.add(Skill.builder().name("skill-" + run + "-" + i)
+                        .resume(entityManager.getReference(Resume.class, resume.getId())).build());
+            }
+            skillRepository.saveAll(skills);
+        });
+
+        Result batched = measure(tx, run -> {
+            List<TechStack> stacks = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                stacks.add(TechStack.builder().name("stack-" + run + "-" + i).build());
+            }
+            techStackRepository.saveAll(stacks);
+        });
+
+        System.out.printf("[benchmark] bulk insert %,d rows: IDENTITY %,d round trips %.1f ms | pooled+batch %,d round trips %.1f ms%n",
+                rows, identity.roundTrips(), identity.millis(), batched.roundTrips(), batched.millis());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tech_stack", Long.class))
+                .isEqualTo((RUNS + 1L) * rows);
+        // IDENTITY: 행마다 INSERT 1왕복
+        assertThat(identity.roundTrips()).isEqualTo(rows);
+        // 배치: INSERT 배치 ceil(n/50)번 + id 풀 할당(50개마다 SELECT/UPDATE 한 쌍)
+        assertThat(batched.roundTrips()).isLessThanOrEqualTo(3L * ((rows + BATCH_SIZE - 1) / BATCH_SIZE) + 2);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tech_stack");
+        jdbcTemplate.update("DELETE FROM skill");
+        jdbcTemplate.update("DELETE FROM resume");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private record Result(long roundTrips, double millis) {}
+
+    /** 워밍업 1회 + RUNS 회 평균, 각 회차는 별도 트랜잭션 (커밋 시 flush) */
+    private Result measure(TransactionTemplate tx, IntConsumer insert) {
+        tx.executeWithoutResult(status -> insert.accept(-1));
+        long roundTrips = 0;
+        long nanos = 0;
+        for (int run = 0; run < RUNS; run++) {
+            int n = run;
+            DbQueryTracker.Context ctx = DbQueryTracker.begin();
+            long t0 = System.nanoTime();
+            try {
+                tx.executeWithoutResult(status -> insert.accept(n));
+            } finally {
+                nanos += System.nanoTime() - t0;
+                DbQueryTracker.end(ctx);
+            }
+            roundTrips = ctx.statements();
+        }
+        return new Result(roundTrips, nanos / 1e6 / RUNS);
+    }
+
+    private Resume seedResume() {
+        Users user = Users.builder()
+                .email("bulk@test.com").password("pw").name("tester")
+                .role(Role.USER).phoneVerified(false).tokenBalance(0)
+                .build();
+        entityManager.persist(user);
+        Resume resume = Resume.builder()
+                .title("resume").users(user).createAt(LocalDate.now()).updateAt(LocalDate.now())
+                .build();
+        entityManager.persist(resume);
+        return resume;
+    }
+}
@@ -0,0 +1,135 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.config.HttpResponseCache;
+import com.we.hirehub.dto.support.CompanyDto;
+import com.we.hirehub.entity.Company;
+import com.we.hirehub.repository.BenefitsRepository;
+import com.we.hirehub.repository.CompanyRepository;
+import com.we.hirehub.service.common.ImageVariantService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회사 전체 목록: 회사별 복리후생 조회(N+1) vs 배치 조회(getDirectory) 쿼리 수 / 지연 비교
+ * - ./gradlew benchmark 로 실행, 결과는 표준 출력
+ * - 테스트 트랜잭션 없이 실행 (evictDirectory 가 커밋 후 무효화하므로)
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CompanyService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CompanyDirectoryBenchmarkTest {
+
+    private static final int BENEFITS_PER_COMPANY = 3;
+    private static final int RUNS = 3;
+
+    @Autowired CompanyService companyService;
+    @Autowired CompanyRepository companyRepository;
+    @Autowired BenefitsRepository benefitsRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean KakaoMapService kakaoMapService;
+    @MockitoBean HttpResponseCache httpResponseCache;
+    @MockitoBean ImageVariantService imageVariantService;
+
+    @ParameterizedTest(name = "{0} companies")
+    @ValueSource(ints = {1_000, 10_000})
+    void directoryQueryCountAndLatency(int companies) {
+        seed(companies);
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Result before = measure(stats, () -> {
+            List<CompanyDto> out = new ArrayList<>();
+            for (Company c : companyRepository.findAll()) {
+                List<String> names = benefitsRepository.findByCompanyId(c.getId())
+                        .stream().map(b -> b.getName()).toList();
+                out.add(CompanyDto.toDto(c, names));
+            }
+            return out;
+        });
+
+        Result after = measure(stats, () -> {
+            companyService.evictDirectory();
+            return companyService.getDirectory().companies();
+        });
+
+        System.out.printf("[benchmark] company directory %,d companies: N+1 %,d queries %.1f ms | batched %,d queries %.1f ms%n",
+                companies, before.queries(), before.millis(), after.queries(), after.millis());
+
+        assertThat(after.rows()).isEqualTo(companies);
+        assertThat(before.queries()).isEqualTo(companies + 1L);
+        // 회사 1회 + 복리후생 IN 조회 (1000건 청크)
+        assertThat(after.queries()).isEqualTo(1L + (companies + 999) / 1000);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM benefits");
+        jdbcTemplate.update("DELETE FROM company");
+    }
+
+    private record Result(long queries, double millis, int rows) {}
+
+    private Result measure(Statistics stats, Supplier<List<CompanyDto>> run) {
+        entityManager.clear();
+        run.get(); // 워밍업
+        long queries = 0;
+        long nanos = 0;
+        int rows = 0;
+        for (int i = 0; i < RUNS; i++) {
+            entityManager.clear();
+            stats.clear();
+            long t0 = System.nanoTime();
+            rows = run.get().size();
+            nanos += System.nanoTime() - t0;
+            queries = stats.getPrepareStatementCount();
+        }
+        return new Result(queries, nanos / 1e6 / RUNS, rows);
+    }
+
+    private void seed(int companies) {
+        List<Object[]> companyRows = new ArrayList<>(companies);
+        for (int i = 0; i < companies; i++) {
+            companyRows.add(new Object[]{"company-" + i, "content", "서울 강남구 테헤란로 " + i, 2000,
+                    "https://example.com/" + i, "IT", "ceo"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO company (name, content, address, since, website, industry, ceo) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", companyRows);
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM company", Long.class);
+        List<Object[]> benefitRows = new ArrayList<>(ids.size() * BENEFITS_PER_COMPANY);
+        for (Long id : ids) {
+            for (int b = 0; b < BENEFITS_PER_COMPANY; b++) {
+                benefitRows.add(new Object[]{"benefit-" + b, id});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO benefits (name, company_id) VALUES (?, ?)", benefitRows);
+        // MySQL(InnoDB) 은 FK 컬럼에 인덱스를 자동 생성 → 같은 조건으로 비교
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_benefits_company ON benefits (company_id)");
+    }
+}
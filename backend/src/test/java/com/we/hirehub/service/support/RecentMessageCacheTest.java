@@ -0,0 +1,117 @@
+package com.we.hirehub.service.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 메시지 창 - 조회마다 DB 를 확인하지 않음 / ttl 후 다시 채움 / 저장 전 메시지 유지 / 복사본만 보관
+ */
+class RecentMessageCacheTest {
+
+    private static final long TTL = 10_000;
+
+    /** 테스트용 메시지 (id 는 바꿀 수 있음 → 캐시가 복사본을 쓰는지 확인) */
+    private static final class Msg {
+        Long id;
+        final String text;
+
+        Msg(Long id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+    }
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Msg> db = new ArrayList<>();   // id 오름차순
+
+    private final RecentMessageCache<Msg> cache = new RecentMessageCache<>(
+            3, 10, TTL, m -> m.id, (m, id) -> new Msg(id, m.text), now::get);
+
+    private List<Msg> loadNewestFirst() {
+        loads.incrementAndGet();
+        List<Msg> rows = new ArrayList<>();
+        for (int i = db.size() - 1; i >= 0 && rows.size() < 3; i--) rows.add(new Msg(db.get(i).id, db.get(i).text));
+        return rows;
+    }
+
+    private List<String> latest(int limit) {
+        return cache.latest("room", limit, this::loadNewestFirst).stream().map(m -> m.text).toList();
+    }
+
+    @Test
+    void localAppendsServeReadsWithoutReloadingUntilTtl() {
+        db.add(new Msg(1L, "a"));
+        assertThat(latest(10)).containsExactly("a");
+
+        long ref = cache.reserve();
+        cache.append("room", ref, new Msg(null, "b"));
+        db.add(new Msg(5L, "remote"));   // 다른 노드 전송분
+        assertThat(latest(10)).containsExactly("a", "b");
+        assertThat(loads).hasValue(1);
+
+        now.addAndGet(TTL);
+        cache.saved("room", ref, 7L);
+        db.add(new Msg(7L, "b"));
+        assertThat(latest(10)).containsExactly("a", "remote", "b");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void unsavedMessagesSurviveReloadAndSavedRowsAreNotDuplicated() {
+        cache.append("room", cache.reserve(), new Msg(null, "pending"));
+        long ref = cache.reserve();
+        cache.append("room", ref, new Msg(null, "saved-before-id"));
+
+        // 커밋은 됐지만 id 콜백이 아직 안 온 행
+        db.add(new Msg(4L, "saved-before-id"));
+        assertThat(latest(10)).containsExactly("saved-before-id", "pending", "saved-before-id");
+
+        cache.saved("room", ref, 4L);
+        assertThat(latest(10)).containsExactly("saved-before-id", "pending");
+    }
+
+    @Test
+    void idSavedBeforeAppendIsApplied() {
+        assertThat(latest(10)).isEmpty();
+        long ref = cache.reserve();
+
+        cache.saved("room", ref, 9L);   // sync 저널: 저장 → append
+        cache.append("room", ref, new Msg(null, "x"));
+
+        assertThat(cache.latest("room", 10, this::loadNewestFirst)).extracting(m -> m.id).containsExactly(9L);
+    }
+
+    @Test
+    void cachedMessagesAreCopies() {
+        assertThat(latest(10)).isEmpty();
+        Msg sent = new Msg(null, "x");
+        long ref = cache.reserve();
+        cache.append("room", ref, sent);
+
+        Msg before = cache.latest("room", 10, this::loadNewestFirst).get(0);
+        cache.saved("room", ref, 3L);
+
+        assertThat(sent.id).isNull();     // 보낸 쪽 객체는 건드리지 않음
+        assertThat(before.id).isNull();   // 이미 내준 객체도 그대로
+        assertThat(cache.latest("room", 10, this::loadNewestFirst).get(0).id).isEqualTo(3L);
+    }
+
+    @Test
+    void beforeUsesWindowOnlyWhileFresh() {
+        for (long id = 1; id <= 5; id++) db.add(new Msg(id, "m" + id));
+        assertThat(latest(3)).containsExactly("m3", "m4", "m5");
+
+        assertThat(cache.before("room", 5, 2)).extracting(m -> m.text).containsExactly("m3", "m4");
+        assertThat(cache.before("room", 4, 2)).isNull();   // 창 밖 → DB
+
+        now.addAndGet(TTL);
+        assertThat(cache.before("room", 5, 1)).isNull();
+    }
+}
@@ -0,0 +1,162 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.config.AiEmbeddingClient;
+import com.we.hirehub.entity.Resume;
+import com.we.hirehub.entity.Role;
+import com.we.hirehub.entity.Users;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이력서 임베딩 비동기 갱신
+ * - 임베딩 중에 이력서가 다시 수정되어도 마지막 내용으로 저장됨
+ * - refreshStale() 가 저장된 해시와 지금 내용이 다른 이력서를 찾음
+ * - 테스트 트랜잭션 없이 실행 (워커 스레드가 커밋된 행을 봐야 하므로)
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ResumeEmbeddingService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ResumeEmbeddingRefreshTest {
+
+    private static final List<Double> VECTOR = List.of(0.5, -1.25, 3.0, 0.0);
+
+    @Autowired ResumeEmbeddingService embeddingService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+    @Autowired DataSource dataSource;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @MockitoBean AiEmbeddingClient aiEmbeddingClient;
+
+    private Long resumeId;
+
+    /** H2 에는 MySQL 의 SHA2() 가 없으므로 같은 결과(hex 소문자)를 내는 함수로 등록 */
+    public static String sha2(String text, int bits) {
+        if (text == null) return null;
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-" + bits).digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // JPA 엔티티가 아닌 테이블은 수동 마이그레이션 그대로
+        // (다른 테스트 컨텍스트가 resume 을 다시 만들면 FK 가 빠지므로 매번 새로)
+        jdbcTemplate.execute("DROP TABLE IF EXISTS resume_embedding");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/012_resume_embedding.sql")).execute(dataSource);
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS SHA2 FOR \"" + getClass().getName() + ".sha2\"");
+
+        resumeId = new TransactionTemplate(transactionManager).execute(s -> {
+            Users user = Users.builder()
+                    .email("refresh@test.com").password("pw").name("tester")
+                    .role(Role.USER).phoneVerified(false).tokenBalance(0)
+                    .build();
+            entityManager.persist(user);
+            Resume resume = Resume.builder()
+                    .title("resume").users(user).createAt(LocalDate.now()).updateAt(LocalDate.now())
+                    .build();
+            entityManager.persist(resume);
+            return resume.getId();
+        });
+        when(aiEmbeddingClient.embed(anyString())).thenReturn(VECTOR);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM resume_embedding");
+        jdbcTemplate.update("DELETE FROM resume WHERE id = ?", resumeId);
+        jdbcTemplate.update("DELETE FROM users WHERE email = 'refresh@test.com'");
+    }
+
+    @Test
+    void updateDuringInFlightRefreshIsEmbeddedAfterwards() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(aiEmbeddingClient.embed("첫 번째")).thenAnswer(inv -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return VECTOR;
+        });
+
+        setEssay("첫 번째");
+        embeddingService.refreshAsync(resumeId);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 워커가 "첫 번째" 를 임베딩하는 동안 수정
+        setEssay("두 번째");
+        embeddingService.refreshAsync(resumeId);
+        release.countDown();
+
+        waitUntil(() -> sha2("두 번째", 256).equals(storedHash()));
+        assertThat(storedHash()).isEqualTo(sha2("두 번째", 256));
+        verify(aiEmbeddingClient, atLeastOnce()).embed(eq("두 번째"));
+    }
+
+    @Test
+    void refreshStaleFindsHashDrift() throws InterruptedException {
+        setEssay("처음 내용");
+        embeddingService.vectorFor(resumeId, "처음 내용");
+        assertThat(storedHash()).isEqualTo(sha2("처음 내용", 256));
+
+        // 비동기 갱신 없이 내용만 바뀜 (예약 누락 / DB 직접 수정)
+        setEssay("바뀐 내용");
+        embeddingService.refreshStale();
+
+        waitUntil(() -> sha2("바뀐 내용", 256).equals(storedHash()));
+        assertThat(storedHash()).isEqualTo(sha2("바뀐 내용", 256));
+    }
+
+    private void setEssay(String text) {
+        jdbcTemplate.update("UPDATE resume SET essay_content = ? WHERE id = ?", text, resumeId);
+    }
+
+    private String storedHash() {
+        return jdbcTemplate.query("SELECT content_hash FROM resume_embedding WHERE resume_id = ?",
+                (rs, i) -> rs.getString(1), resumeId).stream().findFirst().orElse(null);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.config.AiEmbeddingClient;
+import com.we.hirehub.entity.Resume;
+import com.we.hirehub.entity.Role;
+import com.we.hirehub.entity.Users;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이력서 임베딩 저장 형식(float32 LE) / 해시가 같으면 AI 호출 생략 / 이력서 삭제 시 FK 로 함께 삭제
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ResumeEmbeddingService.class)
+class ResumeEmbeddingServiceTest {
+
+    private static final List<Double> VECTOR = List.of(0.5, -1.25, 3.0, 0.0);
+
+    @Autowired ResumeEmbeddingService embeddingService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+    @Autowired DataSource dataSource;
+
+    @MockitoBean AiEmbeddingClient aiEmbeddingClient;
+
+    private Long resumeId;
+
+    @BeforeEach
+    void setUp() {
+        // JPA 엔티티가 아닌 테이블은 수동 마이그레이션 그대로
+        // (다른 테스트 컨텍스트가 resume 을 다시 만들면 FK 가 빠지므로 매번 새로)
+        jdbcTemplate.execute("DROP TABLE IF EXISTS resume_embedding");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/012_resume_embedding.sql")).execute(dataSource);
+
+        Users user = Users.builder()
+                .email("embed@test.com").password("pw").name("tester")
+                .role(Role.USER).phoneVerified(false).tokenBalance(0)
+                .build();
+        entityManager.persist(user);
+        Resume resume = Resume.builder()
+                .title("resume").users(user).createAt(LocalDate.now()).updateAt(LocalDate.now())
+                .build();
+        entityManager.persist(resume);
+        entityManager.flush();
+        resumeId = resume.getId();
+
+        when(aiEmbeddingClient.embed(anyString())).thenReturn(VECTOR);
+    }
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        byte[] bytes = ResumeEmbeddingService.encode(VECTOR);
+
+        assertThat(bytes).hasSize(VECTOR.size() * Float.BYTES);
+        assertThat(bytes[0]).isEqualTo((byte) 0x00);   // 0.5f = 0x3F000000, little-endian
+        assertThat(bytes[3]).isEqualTo((byte) 0x3F);
+        assertThat(ResumeEmbeddingService.decode(bytes)).isEqualTo(VECTOR);
+
+        // float32 로 줄어드는 값 / null 은 0
+        List<Double> lossy = ResumeEmbeddingService.decode(ResumeEmbeddingService.encode(Arrays.asList(0.1, null)));
+        assertThat(lossy.get(0)).isEqualTo((double) 0.1f);
+        assertThat(lossy.get(1)).isZero();
+    }
+
+    @Test
+    void sameTextReusesStoredVector() {
+        assertThat(embeddingService.vectorFor(resumeId, "자기소개")).isEqualTo(VECTOR);
+        assertThat(embeddingService.vectorFor(resumeId, "자기소개")).isEqualTo(VECTOR);
+        verify(aiEmbeddingClient, times(1)).embed(anyString());
+        assertThat(embeddingService.findVector(resumeId)).contains(VECTOR);
+
+        // 내용이 바뀌면 다시 임베딩
+        embeddingService.vectorFor(resumeId, "수정된 자기소개");
+        verify(aiEmbeddingClient, times(2)).embed(anyString());
+    }
+
+    @Test
+    void blankTextIsNotEmbedded() {
+        assertThat(embeddingService.vectorFor(resumeId, " ")).isEmpty();
+        verify(aiEmbeddingClient, never()).embed(anyString());
+    }
+
+    @Test
+    void deletingResumeRemovesEmbeddingAndLateWritesAreSkipped() {
+        embeddingService.vectorFor(resumeId, "자기소개");
+        assertThat(count()).isEqualTo(1);
+
+        jdbcTemplate.update("DELETE FROM resume WHERE id = ?", resumeId);
+        assertThat(count()).isZero();
+
+        // 삭제 뒤 늦게 끝난 임베딩: 벡터는 돌려주지만 저장하지 않음
+        assertThat(embeddingService.vectorFor(resumeId, "자기소개")).isEqualTo(VECTOR);
+        assertThat(count()).isZero();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM resume_embedding WHERE resume_id = ?", Integer.class, resumeId);
+    }
+}
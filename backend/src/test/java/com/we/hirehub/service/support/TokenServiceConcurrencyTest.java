@@ -0,0 +1,160 @@
+package com.we.hirehub.service.support;
+
+import com.we.hirehub.exception.IdempotencyKeyConflictException;
+import com.we.hirehub.exception.InsufficientTokenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 사용자에 대한 동시 차감
+ * - 잔액은 음수가 되지 않고, 성공한 차감만큼만 줄어듦
+ * - 같은 멱등성 키는 한 번만 반영 (나머지는 replayed), 다른 금액/기능으로 다시 쓰면 거부
+ * - 비동기 내역(token_history)은 성공한 차감 수와 같음
+ * - 테스트 트랜잭션 없이 실행 (각 차감이 실제로 커밋되어야 하므로)
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TokenService.class, TokenHistoryWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int DEBITS_PER_THREAD = 25;
+    private static final int INITIAL_BALANCE = 150;
+    private static final int AMOUNT = 1;
+
+    @Autowired TokenService tokenService;
+    @Autowired TokenHistoryWriter historyWriter;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired DataSource dataSource;
+
+    private long userId;
+
+    @BeforeEach
+    void setUp() {
+        // JPA 엔티티가 아닌 테이블은 수동 마이그레이션 그대로
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/006_token_ledger.sql")).execute(dataSource);
+        jdbcTemplate.update("INSERT INTO users (email, password, role, phone_verified, token_balance) " +
+                "VALUES ('ledger@test.com', 'pw', 'USER', FALSE, ?)", INITIAL_BALANCE);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'ledger@test.com'", Long.class);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        historyWriter.flush();
+        jdbcTemplate.update("DELETE FROM token_history");
+        jdbcTemplate.update("DELETE FROM token_idempotency");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void concurrentDebitsNeverOverdraw() throws Exception {
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Integer> observed = new CopyOnWriteArrayList<>();
+
+        runConcurrently(THREADS * DEBITS_PER_THREAD, i -> {
+            try {
+                observed.add(tokenService.useTokens(userId, AMOUNT, "stress", "debit " + i));
+                applied.incrementAndGet();
+            } catch (InsufficientTokenException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        int balance = tokenService.getBalance(userId);
+        assertThat(applied.get()).isEqualTo(INITIAL_BALANCE / AMOUNT);
+        assertThat(rejected.get()).isEqualTo(THREADS * DEBITS_PER_THREAD - applied.get());
+        assertThat(balance).isZero();
+        assertThat(observed).allMatch(b -> b >= 0);
+
+        historyWriter.flush();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM token_history WHERE user_id = ?", Integer.class, userId))
+                .isEqualTo(applied.get());
+    }
+
+    @Test
+    void duplicateIdempotencyKeysApplyOnce() throws Exception {
+        int keys = 20;
+        int duplicates = 8;
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger replayed = new AtomicInteger();
+
+        runConcurrently(keys * duplicates, i -> {
+            TokenService.UseResult r = tokenService.useTokens(userId, AMOUNT, "stress", "keyed", "key-" + (i % keys));
+            assertThat(r.balance()).isGreaterThanOrEqualTo(0);
+            (r.replayed() ? replayed : applied).incrementAndGet();
+        });
+
+        assertThat(applied.get()).isEqualTo(keys);
+        assertThat(replayed.get()).isEqualTo(keys * (duplicates - 1));
+        assertThat(tokenService.getBalance(userId)).isEqualTo(INITIAL_BALANCE - keys * AMOUNT);
+
+        historyWriter.flush();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM token_history WHERE user_id = ?", Integer.class, userId))
+                .isEqualTo(keys);
+    }
+
+    @Test
+    void reusedKeyWithDifferentRequestIsRejected() {
+        assertThat(tokenService.useTokens(userId, 10, "coaching", "first", "key-1").replayed()).isFalse();
+        assertThat(tokenService.useTokens(userId, 10, "coaching", "retry", "key-1").replayed()).isTrue();
+
+        assertThatThrownBy(() -> tokenService.useTokens(userId, 20, "coaching", "other amount", "key-1"))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThatThrownBy(() -> tokenService.useTokens(userId, 10, "matching", "other feature", "key-1"))
+                .isInstanceOf(IdempotencyKeyConflictException.class);
+        assertThat(tokenService.getBalance(userId)).isEqualTo(INITIAL_BALANCE - 10);
+    }
+
+    /** THREADS 개 스레드가 동시에 시작해 tasks 개 작업을 나눠 실행, 예상 밖 예외는 그대로 던짐 */
+    private void runConcurrently(int tasks, IntTask task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int n = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run(n);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntTask {
+        void run(int i) throws Exception;
+    }
+}
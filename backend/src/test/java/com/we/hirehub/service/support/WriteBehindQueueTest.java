@@ -0,0 +1,103 @@
+package com.we.hirehub.service.support;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * write-behind 큐 - 동기 저장 실패 전달 / 같은 순서 키의 뒤 항목 보류
+ * - 항목은 "세션:번호" 문자열, 순서 키는 세션
+ */
+class WriteBehindQueueTest {
+
+    private final List<String> written = new ArrayList<>();
+    /** 저장할 때마다 실패시킬 항목 */
+    private final Set<String> failing = new HashSet<>();
+    private RuntimeException failure = new IllegalStateException("constraint");
+
+    private WriteBehindQueue<String> queue(WriteBehindQueue.Mode mode) {
+        return new WriteBehindQueue<>("test-queue",
+                new WriteBehindQueue.Settings(10, 60_000, 100, 5, 1000), mode,
+                mock(PlatformTransactionManager.class),
+                batch -> {
+                    // 트랜잭션이 롤백되는 것처럼 배치에 실패 항목이 있으면 아무것도 남기지 않음
+                    for (String item : batch) {
+                        if (failing.contains(item)) throw failure;
+                    }
+                    written.addAll(batch);
+                    return null;
+                },
+                item -> item,
+                item -> item.substring(0, item.indexOf(':')));
+    }
+
+    @Test
+    void syncWriteFailureIsThrownAndNotRequeued() {
+        WriteBehindQueue<String> q = queue(WriteBehindQueue.Mode.SYNC);
+        failing.add("s1:1");
+
+        assertThatThrownBy(() -> q.writeNow("s1:1")).isInstanceOf(IllegalStateException.class);
+        assertThat(q.stats().get("retrying")).isEqualTo(0);
+
+        q.writeNow("s1:2");
+        assertThat(written).containsExactly("s1:2");
+    }
+
+    @Test
+    void syncWriteDuringBackoffIsThrown() {
+        WriteBehindQueue<String> q = queue(WriteBehindQueue.Mode.SYNC);
+        failure = new DataAccessResourceFailureException("db down");
+        failing.add("s1:1");
+        q.flushNow("s1:1");   // 버퍼가 가득 찼을 때처럼 대기열로 → DB 장애 백오프 시작
+
+        assertThatThrownBy(() -> q.writeNow("s2:1")).isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void syncWriteWaitsForEarlierRowsOfSameKey() {
+        WriteBehindQueue<String> q = queue(WriteBehindQueue.Mode.ASYNC);
+        failing.add("s1:1");
+        q.offer("s1:1", 0);
+        q.flush();   // s1:1 재시도 대기
+
+        assertThatThrownBy(() -> q.writeNow("s1:2")).isInstanceOf(TransientDataAccessResourceException.class);
+
+        q.writeNow("s2:1");   // 다른 세션은 영향 없음
+        assertThat(written).containsExactly("s2:1");
+
+        failing.clear();
+        q.writeNow("s1:2");   // 앞선 s1:1 을 먼저 저장한 뒤
+        assertThat(written).containsExactly("s2:1", "s1:1", "s1:2");
+    }
+
+    @Test
+    void failedRowHoldsLaterRowsOfSameKeyInOrder() {
+        WriteBehindQueue<String> q = queue(WriteBehindQueue.Mode.ASYNC);
+        failing.add("s1:1");
+        for (String item : List.of("s1:1", "s2:1", "s1:2", "s2:2", "s1:3")) {
+            q.offer(item, 0);
+        }
+
+        q.flush();
+        // s1:1 실패 → 같은 세션 뒤 메시지는 저장하지 않음, 다른 세션은 진행
+        assertThat(written).containsExactly("s2:1", "s2:2");
+        assertThat(q.stats().get("retrying")).isEqualTo(3);
+
+        failing.clear();
+        q.flush();
+        assertThat(written).containsExactly("s2:1", "s2:2", "s1:1", "s1:2", "s1:3");
+        assertThat(q.stats().get("retrying")).isEqualTo(0);
+        assertThat(q.stats().get("dropped")).isEqualTo(0L);
+    }
+}
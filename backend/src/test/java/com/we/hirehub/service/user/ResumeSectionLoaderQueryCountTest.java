@@ -0,0 +1,95 @@
+package com.we.hirehub.service.user;
+
+import com.we.hirehub.dto.user.ResumeSectionDto;
+import com.we.hirehub.entity.*;
+import com.we.hirehub.repository.ResumeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력서 목록 섹션 로딩 쿼리 수 - 페이지 크기와 상관없이 섹션 테이블당 1회 (총 5쿼리)
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ResumeSectionLoader.class)
+class ResumeSectionLoaderQueryCountTest {
+
+    private static final int SECTION_TABLES = 5;
+
+    @Autowired ResumeSectionLoader sectionLoader;
+    @Autowired ResumeRepository resumeRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest(name = "page size {0}")
+    @ValueSource(ints = {1, 10, 50})
+    void sectionQueriesDoNotGrowWithPageSize(int pageSize) {
+        Users user = seed(pageSize);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // MyPageResumeService.list 와 같은 흐름: 페이지 조회 후 같은 영속성 컨텍스트에서 섹션 일괄 로딩
+        Page<Resume> page = resumeRepository.findByUsers_Id(user.getId(),
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "updateAt")));
+        long afterPage = stats.getPrepareStatementCount();
+
+        Map<Long, ResumeSectionDto.Sections> sections = sectionLoader.loadFor(page.getContent());
+
+        assertThat(stats.getPrepareStatementCount() - afterPage).isEqualTo(SECTION_TABLES);
+        assertThat(sections).hasSize(pageSize);
+        sections.values().forEach(s -> {
+            assertThat(s.getEducation()).hasSize(1);
+            assertThat(s.getCareer()).hasSize(1);
+            assertThat(s.getCertificate()).hasSize(1);
+            assertThat(s.getSkill()).hasSize(2);
+            assertThat(s.getLanguage()).hasSize(1);
+        });
+    }
+
+    private Users seed(int resumes) {
+        Users user = Users.builder()
+                .email("loader@test.com").password("pw").name("tester")
+                .role(Role.USER).phoneVerified(false).tokenBalance(0)
+                .build();
+        entityManager.persist(user);
+
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < resumes; i++) {
+            Resume resume = Resume.builder()
+                    .title("resume-" + i).users(user).createAt(today).updateAt(today.minusDays(i))
+                    .build();
+            entityManager.persist(resume);
+            entityManager.persist(Education.builder()
+                    .name("university").status("졸업").type("대학교").startAt(today).resume(resume).build());
+            entityManager.persist(CareerLevel.builder()
+                    .companyName("company").type("정규직").position("backend").startAt(today)
+                    .content("content").resume(resume).build());
+            entityManager.persist(Certificate.builder().name("정보처리기사").resume(resume).build());
+            entityManager.persist(Skill.builder().name("java").resume(resume).build());
+            entityManager.persist(Skill.builder().name("spring").resume(resume).build());
+            entityManager.persist(Language.builder().name("english").resume(resume).build());
+        }
+        return user;
+    }
+}
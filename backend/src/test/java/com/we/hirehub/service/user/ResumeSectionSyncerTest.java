@@ -0,0 +1,147 @@
+package com.we.hirehub.service.user;
+
+import com.we.hirehub.entity.*;
+import com.we.hirehub.repository.SkillRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이력서 섹션 동기화 - 추가 / 수정 / 삭제 / 순서 변경이 필요한 행만 건드리는지, 같은 트랜잭션의 엔티티가 예전 값을 보지 않는지
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ResumeSectionSyncer.class)
+class ResumeSectionSyncerTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 3, 1);
+
+    @Autowired ResumeSectionSyncer syncer;
+    @Autowired SkillRepository skillRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() {
+        Users user = Users.builder()
+                .email("syncer@test.com").password("pw").name("tester")
+                .role(Role.USER).phoneVerified(false).tokenBalance(0)
+                .build();
+        entityManager.persist(user);
+        resume = Resume.builder()
+                .title("resume").users(user).createAt(LocalDate.now()).updateAt(LocalDate.now())
+                .build();
+        entityManager.persist(resume);
+        entityManager.flush();
+    }
+
+    @Test
+    void addEditRemove() {
+        assertThat(syncSkills("java", "spring")).isEqualTo(new ResumeSectionSyncer.Counts(2, 0, 0, 0));
+        List<Long> ids = skillIds();
+
+        // 끝에 추가 → INSERT 1건만
+        assertThat(syncSkills("java", "spring", "docker")).isEqualTo(new ResumeSectionSyncer.Counts(1, 0, 0, 2));
+        // 한 칸 수정 → UPDATE 1건, id 유지
+        assertThat(syncSkills("java", "spring boot", "docker")).isEqualTo(new ResumeSectionSyncer.Counts(0, 1, 0, 2));
+        assertThat(skillIds().subList(0, 2)).isEqualTo(ids);
+        // 가운데 삭제 → 뒤 항목이 한 칸 당겨지고 마지막 행 삭제
+        assertThat(syncSkills("java", "docker")).isEqualTo(new ResumeSectionSyncer.Counts(0, 1, 1, 1));
+        assertThat(skillNames()).containsExactly("java", "docker");
+        // 같은 내용 다시 저장 → 변경 없음
+        assertThat(syncSkills("java", "docker").touched()).isZero();
+        // 전부 삭제
+        assertThat(syncSkills()).isEqualTo(new ResumeSectionSyncer.Counts(0, 0, 2, 0));
+        assertThat(skillNames()).isEmpty();
+    }
+
+    @Test
+    void reorderKeepsNewOrder() {
+        syncSkills("a", "b", "c");
+
+        assertThat(syncSkills("a", "c", "b")).isEqualTo(new ResumeSectionSyncer.Counts(0, 2, 0, 1));
+        assertThat(skillNames()).containsExactly("a", "c", "b");
+
+        assertThat(syncSkills("b", "a", "c")).isEqualTo(new ResumeSectionSyncer.Counts(0, 3, 0, 0));
+        assertThat(skillNames()).containsExactly("b", "a", "c");
+    }
+
+    @Test
+    void editsMultiColumnRowsInPlace() {
+        CareerLevel first = career("company-a", "backend");
+        CareerLevel second = career("company-b", "frontend");
+        syncer.sync(resume.getId(), null, List.of(first, second), null, null, null);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM career_level WHERE resume_id = ? ORDER BY id", Long.class, resume.getId());
+
+        second.setContent("수정된 업무 내용");
+        ResumeSectionSyncer.Report report = syncer.sync(resume.getId(), null, List.of(first, second), null, null, null);
+
+        assertThat(report.sections().get("career")).isEqualTo(new ResumeSectionSyncer.Counts(0, 1, 0, 1));
+        assertThat(jdbcTemplate.queryForObject("SELECT content FROM career_level WHERE id = ?", String.class, ids.get(1)))
+                .isEqualTo("수정된 업무 내용");
+    }
+
+    @Test
+    void nullSectionsAreLeftAlone() {
+        syncSkills("java");
+        ResumeSectionSyncer.Report report = syncer.sync(resume.getId(), List.of(), null, null, null, null);
+
+        assertThat(report.sections()).containsOnlyKeys("education");
+        assertThat(skillNames()).containsExactly("java");
+    }
+
+    @Test
+    void managedEntitiesInSameTransactionDoNotSeeStaleRows() {
+        syncSkills("java", "spring", "docker");
+        List<Skill> loaded = skillRepository.findByResumeId(resume.getId());   // 영속성 컨텍스트에 올라감
+        assertThat(loaded).hasSize(3);
+
+        // JPA 로만 바꾼 값(flush 전)도 JDBC 쓰기보다 먼저 반영
+        resume.setTitle("changed");
+        syncSkills("java", "kotlin");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM resume WHERE id = ?", String.class, resume.getId()))
+                .isEqualTo("changed");
+        assertThat(entityManager.contains(loaded.get(0))).isTrue();    // 안 바뀐 행은 그대로
+        assertThat(entityManager.contains(loaded.get(1))).isFalse();   // 수정된 행
+        assertThat(entityManager.contains(loaded.get(2))).isFalse();   // 삭제된 행
+        assertThat(skillRepository.findByResumeIdInOrderByIdAsc(List.of(resume.getId())))
+                .extracting(Skill::getName)
+                .containsExactly("java", "kotlin");
+    }
+
+    private ResumeSectionSyncer.Counts syncSkills(String... names) {
+        List<Skill> skills = Arrays.stream(names).map(n -> Skill.builder().name(n).build()).toList();
+        return syncer.sync(resume.getId(), null, null, null, skills, null).sections().get("skill");
+    }
+
+    private List<String> skillNames() {
+        return jdbcTemplate.queryForList("SELECT name FROM skill WHERE resume_id = ? ORDER BY id", String.class, resume.getId());
+    }
+
+    private List<Long> skillIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM skill WHERE resume_id = ? ORDER BY id", Long.class, resume.getId());
+    }
+
+    private static CareerLevel career(String company, String position) {
+        return CareerLevel.builder()
+                .companyName(company).type("정규직").position(position).startAt(START).content("업무 내용")
+                .build();
+    }
+}
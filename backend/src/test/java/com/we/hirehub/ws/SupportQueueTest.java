@@ -0,0 +1,159 @@
+package com.we.hirehub.ws;
+
+import com.we.hirehub.repository.HelpRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 상담 대기열 공유 저장소 (JDBC)
+ * - 두 상담사가 동시에 수락해도 한 명만 배정, 대기 중이 아닌 방은 배정하지 않음
+ * - 한 노드의 알림이 다른 노드 브로커로 중계되고, 보낸 노드에는 다시 보내지 않음
+ * - 테스트 트랜잭션 없이 실행 (동시 수락이 실제로 커밋되어야 하므로)
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcSupportRoomStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SupportQueueTest {
+
+    private static final String ROOM = "room-1";
+    private static final ChatUser USER = new ChatUser(1L, "user@test.com", "유저", "닉네임");
+
+    @Autowired JdbcSupportRoomStore store;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // JPA 엔티티가 아닌 테이블은 수동 마이그레이션 그대로
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/004_support_room.sql")).execute(dataSource);
+        // H2 의 JSON 컬럼은 문자열 파라미터를 JSON 문자열 값으로 저장 → MySQL 처럼 본문 그대로 읽히도록 텍스트로
+        jdbcTemplate.execute("ALTER TABLE support_queue_event ALTER COLUMN payload VARCHAR(4000) NOT NULL");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM support_room");
+        jdbcTemplate.update("DELETE FROM support_queue_event");
+    }
+
+    @Test
+    void concurrentClaimsHaveOneWinner() throws Exception {
+        int agents = 8;
+        for (int round = 0; round < 20; round++) {
+            store.request(ROOM, USER, LocalDateTime.now());
+
+            ExecutorService pool = Executors.newFixedThreadPool(agents);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < agents; i++) {
+                String agent = "agent" + i + "@test.com";
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return store.claim(ROOM, agent, LocalDateTime.now());
+                }));
+            }
+            start.countDown();
+
+            List<String> winners = new ArrayList<>();
+            for (int i = 0; i < agents; i++) {
+                if (results.get(i).get(10, TimeUnit.SECONDS)) winners.add("agent" + i + "@test.com");
+            }
+            pool.shutdown();
+
+            assertThat(winners).hasSize(1);
+            assertThat(store.find(ROOM).orElseThrow().agent).isEqualTo(winners.get(0));
+            // 같은 상담사가 다시 수락하는 것은 허용
+            assertThat(store.claim(ROOM, winners.get(0), LocalDateTime.now())).isTrue();
+
+            store.release(ROOM, LocalDateTime.now());
+        }
+    }
+
+    @Test
+    void onlyPendingRoomsCanBeClaimed() {
+        assertThat(store.claim("unknown-room", "agent@test.com", LocalDateTime.now())).isFalse();
+        assertThat(store.find("unknown-room")).isEmpty();
+
+        store.saveUser(ROOM, USER, LocalDateTime.now());   // 요청 전 (NONE)
+        assertThat(store.claim(ROOM, "agent@test.com", LocalDateTime.now())).isFalse();
+
+        store.request(ROOM, USER, LocalDateTime.now());
+        assertThat(store.claim(ROOM, "agent@test.com", LocalDateTime.now())).isTrue();
+
+        store.release(ROOM, LocalDateTime.now());   // 종료 후 다시 수락 불가
+        assertThat(store.claim(ROOM, "agent@test.com", LocalDateTime.now())).isFalse();
+        assertThat(store.find(ROOM).orElseThrow().status).isEqualTo(SupportQueue.Status.NONE);
+    }
+
+    @Test
+    void inMemoryStoreClaimsTheSameWay() {
+        InMemorySupportRoomStore memory = new InMemorySupportRoomStore();
+        assertThat(memory.claim(ROOM, "a@test.com", LocalDateTime.now())).isFalse();
+
+        memory.request(ROOM, USER, LocalDateTime.now());
+        assertThat(memory.claim(ROOM, "a@test.com", LocalDateTime.now())).isTrue();
+        assertThat(memory.claim(ROOM, "b@test.com", LocalDateTime.now())).isFalse();
+        assertThat(memory.claim(ROOM, "a@test.com", LocalDateTime.now())).isTrue();
+    }
+
+    @Test
+    void broadcastIsRelayedToOtherNodes() {
+        SimpMessagingTemplate brokerA = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate brokerB = mock(SimpMessagingTemplate.class);
+        SupportQueue nodeA = node(brokerA);
+        SupportQueue nodeB = node(brokerB);
+
+        nodeB.requestHandoff(ROOM, USER);
+        assertThat(nodeB.pending()).hasSize(1);
+
+        // 노드 A 에서 수락 → 노드 B 대시보드에도 알림
+        assertThat(nodeA.claim(ROOM, "agent@test.com")).isPresent();
+        Map<String, Object> notice = Map.of("event", "HANDOFF_ACCEPTED", "roomId", ROOM);
+        nodeA.broadcast("/topic/support.queue", notice);
+        verify(brokerA, times(1)).convertAndSend(eq("/topic/support.queue"), eq((Object) notice));
+
+        nodeA.relay();
+        nodeB.relay();
+
+        verify(brokerA, times(1)).convertAndSend(eq("/topic/support.queue"), any(Object.class));   // 자기 알림은 건너뜀
+        verify(brokerB, times(1)).convertAndSend(eq("/topic/support.queue"), eq((Object) notice));
+        assertThat(nodeB.pending()).isEmpty();
+
+        // 이미 중계한 이벤트는 다시 보내지 않음
+        nodeB.relay();
+        verify(brokerB, times(1)).convertAndSend(eq("/topic/support.queue"), any(Object.class));
+    }
+
+    private SupportQueue node(SimpMessagingTemplate broker) {
+        HelpRepository helpRepository = mock(HelpRepository.class);
+        SupportQueue queue = new SupportQueue(store, broker, helpRepository);
+        queue.init();
+        return queue;
+    }
+}
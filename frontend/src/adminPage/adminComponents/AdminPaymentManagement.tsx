@@ -1,18 +1,28 @@
 import React, { useEffect, useState } from "react";
-import { payApi } from "../../api/payApi";
+import { payApi, type AdminPaymentPage, type AdminPaymentSearch } from "../../api/payApi";
 
 const AdminPaymentManagement: React.FC = () => {
   const [items, setItems] = useState<any[]>([]);
+  // 다음 페이지 커서 + 지금 목록을 만든 검색 조건 (더 보기는 같은 조건으로 이어서)
+  const [nextCursor, setNextCursor] = useState<string | undefined>();
+  const [applied, setApplied] = useState<AdminPaymentSearch | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const [email, setEmail] = useState("");
   const [status, setStatus] = useState("");
   const [dateFrom, setDateFrom] = useState("");
   const [dateTo, setDateTo] = useState("");
 
+  const showPage = (page: AdminPaymentPage, append: boolean) => {
+    setItems(prev => (append ? [...prev, ...page.items] : page.items));
+    setNextCursor(page.nextCursor);
+  };
+
   // 최초 전체 로딩
   const loadAll = () => {
+    setApplied(null);
     payApi.getAdminPayments()
-      .then(res => setItems(res.data))
+      .then(page => showPage(page, false))
       .catch(err => console.error(err));
   };
 
@@ -23,16 +33,33 @@ const AdminPaymentManagement: React.FC = () => {
   // 검색 실행
   const handleSearch = async () => {
     try {
-      const res = await payApi.searchAdminPayments({
+      const params: AdminPaymentSearch = {
         email: email.trim() || undefined,
         status: status.trim() || undefined,
         dateFrom: dateFrom || undefined,
         dateTo: dateTo || undefined,
-      });
+      };
+      const page = await payApi.searchAdminPayments(params);
+      setApplied(params);
+      showPage(page, false);
+    } catch (err) {
+      console.error(err);
+    }
+  };
 
-      setItems(res.data);
+  // 다음 페이지 (현재 목록과 같은 조건)
+  const loadMore = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const page = applied
+        ? await payApi.searchAdminPayments(applied, nextCursor)
+        : await payApi.getAdminPayments(nextCursor);
+      showPage(page, true);
     } catch (err) {
       console.error(err);
+    } finally {
+      setLoadingMore(false);
     }
   };
 
@@ -55,7 +82,8 @@ const AdminPaymentManagement: React.FC = () => {
           
           <input
             type="text"
-            placeholder="이메일 검색"
+            placeholder="이메일 (전체 또는 앞부분)"
+            title="'@' 가 있으면 정확히 일치, 없으면 앞부분 일치"
             value={email}
             onChange={(e) => setEmail(e.target.value)}
             className="border px-3 py-2 rounded"
@@ -95,6 +123,11 @@ const AdminPaymentManagement: React.FC = () => {
           </button>
         </div>
 
+        <p className="mt-2 text-xs text-gray-500">
+          이메일은 '@' 를 포함하면 정확히 일치하는 계정만, 없으면 앞부분이 같은 계정을 찾습니다.
+          (예: "kim" → kim123@naver.com, "gmail" 처럼 중간/도메인 글자로는 찾지 않습니다)
+        </p>
+
         <button
           onClick={clearSearch}
           className="mt-3 bg-gray-200 px-4 py-2 rounded hover:bg-gray-300"
@@ -119,6 +152,16 @@ const AdminPaymentManagement: React.FC = () => {
               <p>일시: {it.createdAt}</p>
             </div>
           ))}
+
+          {nextCursor && (
+            <button
+              onClick={loadMore}
+              disabled={loadingMore}
+              className="w-full bg-gray-100 px-4 py-2 rounded hover:bg-gray-200 disabled:opacity-50"
+            >
+              {loadingMore ? "불러오는 중..." : "더 보기"}
+            </button>
+          )}
         </div>
       )}
     </div>
@@ -1,4 +1,8 @@
 import api from './api';
+import type { HistoryPage, PagedResponse } from '../types/interface';
+
+// 서버 최대 페이지 크기 (InterviewCoachingService.MAX_PAGE_SIZE)
+const HISTORY_PAGE_SIZE = 50;
 
 export interface InterviewSession {
   question: string;
@@ -73,14 +77,21 @@ export const interviewCoachingApi = {
     }
   },
 
-  // 면접 연습 이력 목록 조회
-  async getHistoryList(): Promise<InterviewCoachingHistory[]> {
+  // 면접 연습 이력 한 페이지 (최신순)
+  async getHistoryPage(page: number, size: number = HISTORY_PAGE_SIZE): Promise<PagedResponse<InterviewCoachingHistory>> {
+    const response = await api.get('/api/interview-coaching/history', { params: { page, size } });
+    return response.data;
+  },
+
+  // 면접 연습 이력 목록 한 페이지 (다음 페이지는 "더 보기" 로)
+  async getHistoryList(page: number = 0): Promise<HistoryPage<InterviewCoachingHistory>> {
     try {
       // 백엔드 API 시도
-      console.log('🔄 백엔드 API 호출 시도: /api/interview-coaching/history');
-      const response = await api.get('/api/interview-coaching/history');
-      console.log('✅ 백엔드에서 데이터 가져오기 성공:', response.data);
-      return response.data;
+      console.log('🔄 백엔드 API 호출 시도: /api/interview-coaching/history', { page });
+      const data = await interviewCoachingApi.getHistoryPage(page);
+      const items = data.content ?? [];
+      console.log('✅ 백엔드에서 데이터 가져오기 성공:', items);
+      return { items, hasMore: page + 1 < (data.totalPages ?? 0) };
     } catch (error: any) {
       // 백엔드 실패 시 localStorage 사용
       console.error('❌ 백엔드 API 호출 실패:', error);
@@ -88,7 +99,7 @@ export const interviewCoachingApi = {
       console.error('에러 메시지:', error.response?.data);
       console.error('요청 URL:', error.config?.url);
       console.log('📦 localStorage에서 불러옵니다');
-      return getHistoryFromStorage();
+      return { items: page === 0 ? getHistoryFromStorage() : [], hasMore: false };
     }
   },
 
@@ -1,4 +1,8 @@
 import api from './api';
+import type { HistoryPage, PagedResponse } from '../types/interface';
+
+// 서버 최대 페이지 크기 (JobMatchingHistoryService.MAX_PAGE_SIZE)
+const HISTORY_PAGE_SIZE = 50;
 
 export interface MatchResult {
   jobId?: number;
@@ -30,12 +34,18 @@ export const jobMatchingApi = {
     return response.data;
   },
 
-  // 매칭 이력 목록 조회
-  async getHistoryList(): Promise<JobMatchingHistory[]> {
-    const response = await api.get('/api/job-matching/history');
+  // 매칭 이력 한 페이지 (최신순)
+  async getHistoryPage(page: number, size: number = HISTORY_PAGE_SIZE): Promise<PagedResponse<JobMatchingHistory>> {
+    const response = await api.get('/api/job-matching/history', { params: { page, size } });
     return response.data;
   },
 
+  // 매칭 이력 목록 한 페이지 (다음 페이지는 "더 보기" 로)
+  async getHistoryList(page: number = 0): Promise<HistoryPage<JobMatchingHistory>> {
+    const data = await jobMatchingApi.getHistoryPage(page);
+    return { items: data.content ?? [], hasMore: page + 1 < (data.totalPages ?? 0) };
+  },
+
   // 매칭 이력 상세 조회
   async getHistoryDetail(id: number): Promise<JobMatchingHistory> {
     const response = await api.get(`/api/job-matching/history/${id}`);
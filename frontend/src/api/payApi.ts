@@ -1,22 +1,43 @@
 import api from "./api";
 
+export interface AdminPaymentSearch {
+  email?: string;
+  status?: string;
+  dateFrom?: string;
+  dateTo?: string;
+}
+
+/** 결제 목록 한 페이지 - nextCursor 가 없으면 마지막 페이지 */
+export interface AdminPaymentPage {
+  items: any[];
+  nextCursor?: string;
+}
+
+// 다음 페이지 커서는 응답 헤더 X-Next-Cursor (CorsConfig 에서 노출)
+const toPage = (res: { data: any[]; headers: Record<string, any> }): AdminPaymentPage => ({
+  items: res.data,
+  nextCursor: res.headers["x-next-cursor"] || undefined,
+});
+
 export const payApi = {
   /** 결제 검증 */
   verify: (data: { impUid: string }) =>
     api.post("/api/pay/verify", data),
 
-  /** 관리자 전체 결제 조회 */
-  getAdminPayments: () =>
-    api.get("/api/admin/payments"),
-
-  /** ⭐ 관리자 결제 검색 (email, status, dateFrom, dateTo 지원) */
-  searchAdminPayments: (params: {
-    email?: string;
-    status?: string;
-    dateFrom?: string;
-    dateTo?: string;
-  }) =>
-    api.get("/api/admin/payments/search", { params }),
+  /** 관리자 전체 결제 조회 (최신순 한 페이지, cursor 가 있으면 그 다음부터) */
+  getAdminPayments: async (cursor?: string): Promise<AdminPaymentPage> => {
+    const res = await api.get("/api/admin/payments", { params: { cursor } });
+    return toPage(res);
+  },
+
+  /**
+   * ⭐ 관리자 결제 검색 (email, status, dateFrom, dateTo 지원)
+   * - email: '@' 가 있으면 정확히 일치, 없으면 앞부분 일치 (중간 글자로는 검색 안 됨)
+   */
+  searchAdminPayments: async (params: AdminPaymentSearch, cursor?: string): Promise<AdminPaymentPage> => {
+    const res = await api.get("/api/admin/payments/search", { params: { ...params, cursor } });
+    return toPage(res);
+  },
 
   /** 🔥 마이페이지: 내 결제내역 */
   myPayments: () =>
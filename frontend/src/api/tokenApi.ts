@@ -1,26 +1,52 @@
 import api from "./api";
 
+/** 🔁 네트워크 오류 / 5xx 시 재시도 횟수 (같은 Idempotency-Key 로 → 서버에서 한 번만 차감) */
+const USE_RETRIES = 2;
+
+/** 기능 호출 1번 = 멱등성 키 1개 */
+const newIdempotencyKey = () =>
+  typeof crypto !== "undefined" && typeof crypto.randomUUID === "function"
+    ? crypto.randomUUID()
+    : `${Date.now()}-${Math.random().toString(36).slice(2)}`;
+
+const isRetryable = (err: any) =>
+  !err.response || err.response.status >= 500;
+
 export const tokenApi = {
-  /** 🔥 토큰 사용 */
+  /**
+   * 🔥 토큰 사용
+   * - 호출마다 Idempotency-Key 를 새로 만들고, 재시도할 때는 같은 키를 다시 보냄
+   * - 같은 키를 다른 금액/기능으로 보내면 서버가 409 로 거부
+   */
   use: async (amount: number, feature: string, description: string) => {
-    try {
-      const res = await api.post("/api/token/use", {
-        amount,
-        feature,
-        description,
-      });
-      return res.data;
-    } catch (err: any) {
-      // 🔥 토큰 부족 시 (백엔드: 400 + "NOT_ENOUGH_TOKENS")
-      if (
-        err.response?.status === 400 &&
-        err.response?.data?.message === "토큰이 부족합니다 토큰을 충전해주세요"
-      ) {
-        return "토큰이 부족합니다 토큰을 충전해주세요";
-      }
+    const idempotencyKey = newIdempotencyKey();
 
-      // 다른 에러는 그대로 던져서 기존 로직 유지
-      throw err;
+    for (let attempt = 0; ; attempt++) {
+      try {
+        const res = await api.post(
+          "/api/token/use",
+          { amount, feature, description },
+          { headers: { "Idempotency-Key": idempotencyKey } }
+        );
+        return res.data;
+      } catch (err: any) {
+        // 🔥 토큰 부족 시 (백엔드: 400 + "NOT_ENOUGH_TOKENS")
+        if (
+          err.response?.status === 400 &&
+          err.response?.data?.message === "토큰이 부족합니다 토큰을 충전해주세요"
+        ) {
+          return "토큰이 부족합니다 토큰을 충전해주세요";
+        }
+
+        // 응답을 못 받았거나 서버 오류면 같은 키로 재시도 (이미 차감됐으면 서버가 처음 결과를 돌려줌)
+        if (attempt < USE_RETRIES && isRetryable(err)) {
+          await new Promise((resolve) => setTimeout(resolve, 300 * (attempt + 1)));
+          continue;
+        }
+
+        // 다른 에러는 그대로 던져서 기존 로직 유지
+        throw err;
+      }
     }
   },
 
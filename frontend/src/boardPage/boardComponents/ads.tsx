@@ -1,8 +1,9 @@
 import React, { useState, useEffect } from 'react';
 import { boardApi } from '../../api/boardApi';
+import { Ad } from '../../types/interface';
 
 const Ads: React.FC = () => {
-  const [ads, setAds] = useState<string[]>([]);
+  const [ads, setAds] = useState<Ad[]>([]);
   const [currentAdIndex, setCurrentAdIndex] = useState(0);
 
   useEffect(() => {
@@ -10,12 +11,8 @@ const Ads: React.FC = () => {
       try {
         const adsData = await boardApi.getAds();
 
-        // ✅ photo 컬럼만 뽑아서 state에 넣음
-        const imageUrls = adsData
-          .map((ad) => ad.photo)
-          .filter((photo) => photo); // 빈 photo 제외
-
-        setAds(imageUrls);
+        // ✅ photo 가 있는 광고만 (srcset 은 리사이즈 변형이 있을 때만 옴)
+        setAds(adsData.filter((ad) => ad.photo)); // 빈 photo 제외
       } catch (error) {
         console.error("광고 이미지 불러오기 실패:", error);
       }
@@ -47,7 +44,9 @@ const Ads: React.FC = () => {
   return (
     <div className="rounded-lg p-4 text-center text-sm text-gray-600 mt-0 h-[425px] flex items-center justify-center">
       <img
-        src={ads[currentAdIndex]}
+        src={ads[currentAdIndex].photo}
+        srcSet={ads[currentAdIndex].photoSrcset ?? undefined}
+        sizes="(max-width: 768px) 100vw, 400px"
         alt={`광고 배너 ${currentAdIndex + 1}`}
         className="h-full w-auto max-w-full object-contain mx-auto transition-all duration-500"
       />
@@ -13,6 +13,7 @@ import {
 import { interviewCoachingApi, type InterviewCoachingHistory, type InterviewSession } from '../api/interviewCoachingApi';
 import { myPageApi } from '../api/myPageApi';
 import type { ResumeDto } from '../types/interface';
+import { usePagedHistory } from '../utils/usePagedHistory';
 
 export default function InterviewCoachingHistoryPage() {
   const navigate = useNavigate();
@@ -20,9 +21,16 @@ export default function InterviewCoachingHistoryPage() {
   const resumeId = location.state?.resumeId;
 
   const [resumes, setResumes] = useState<ResumeDto[]>([]);
-  const [historyList, setHistoryList] = useState<InterviewCoachingHistory[]>([]);
+  const {
+    items: historyList,
+    setItems: setHistoryList,
+    hasMore,
+    loading,
+    loadingMore,
+    reload,
+    loadMore,
+  } = usePagedHistory<InterviewCoachingHistory>(interviewCoachingApi.getHistoryList);
   const [filteredHistoryList, setFilteredHistoryList] = useState<InterviewCoachingHistory[]>([]);
-  const [loading, setLoading] = useState(true);
   const [selectedHistory, setSelectedHistory] = useState<InterviewCoachingHistory | null>(null);
   const [selectedSession, setSelectedSession] = useState<InterviewSession | null>(null);
   const [selectedSessionIndex, setSelectedSessionIndex] = useState<number>(0);
@@ -89,15 +97,21 @@ export default function InterviewCoachingHistoryPage() {
   };
 
   const fetchHistory = async () => {
-    setLoading(true);
     try {
-      const data = await interviewCoachingApi.getHistoryList();
-      setHistoryList(data);
+      await reload();
     } catch (error) {
       console.error('면접 연습 이력 불러오기 실패:', error);
       alert('면접 연습 이력을 불러오는데 실패했습니다.');
-    } finally {
-      setLoading(false);
+    }
+  };
+
+  // 이전 이력 한 페이지 더 (질문 목록은 오래된 순이라 위쪽에 붙음)
+  const handleLoadMore = async () => {
+    try {
+      await loadMore();
+    } catch (error) {
+      console.error('면접 연습 이력 더 불러오기 실패:', error);
+      alert('면접 연습 이력을 불러오는데 실패했습니다.');
     }
   };
 
@@ -235,6 +249,16 @@ export default function InterviewCoachingHistoryPage() {
     <h2 className="text-sm xl:text-[16px] font-semibold text-black mb-3">면접 질문</h2>
   </div>
 
+  {!loading && hasMore && (
+    <button
+      onClick={handleLoadMore}
+      disabled={loadingMore}
+      className="w-full bg-gray-100 px-4 py-2 mb-3 rounded hover:bg-gray-200 disabled:opacity-50 text-sm"
+    >
+      {loadingMore ? '불러오는 중...' : '더 보기'}
+    </button>
+  )}
+
   {loading ? (
     <div className="flex justify-center py-12">
       <div className="animate-spin rounded-full h-8 w-8 border-b-2 border-blue-600"></div>
@@ -20,6 +20,7 @@ import api from '../api/api';
 import axios from "axios";
 
 import { useHireTokens } from "../utils/useHireTokens";
+import { usePagedHistory } from "../utils/usePagedHistory";
 import TokenModal from "../popUp/TokenModal";
 import { notifyHire } from "../utils/notifyHire";
 
@@ -38,8 +39,13 @@ const InterviewCoachingPage: React.FC = () => {
   // 데이터 관련
   const [resumes, setResumes] = useState<ResumeDto[]>([]);
   const [selectedResume, setSelectedResume] = useState<ResumeDto | null>(null);
-  const [historyList, setHistoryList] = useState<InterviewCoachingHistory[]>([]);
-  const [historyLoading, setHistoryLoading] = useState(true);
+  const {
+    items: historyList,
+    hasMore: historyHasMore,
+    loadingMore: historyLoadingMore,
+    reload: reloadHistory,
+    loadMore: loadMoreHistory,
+  } = usePagedHistory<InterviewCoachingHistory>(interviewCoachingApi.getHistoryList);
 
   const [jobPostLink, setJobPostLink] = useState('');
   const [companyLink, setCompanyLink] = useState('');
@@ -109,37 +115,21 @@ const InterviewCoachingPage: React.FC = () => {
     loadResumes();
   }, []);
 
-  // 면접 연습 이력 가져오기
+  // 면접 연습 이력 가져오기 (첫 페이지, 나머지는 "더 보기")
   useEffect(() => {
-    const loadHistory = async () => {
-      setHistoryLoading(true);
-      try {
-        const data = await interviewCoachingApi.getHistoryList();
-
-        // 배열이 아닌 경우 처리
-        if (Array.isArray(data)) {
-          setHistoryList(data);
-        } else if (data && typeof data === 'object') {
-          // 객체인 경우 (예: { content: [...], totalElements: ... })
-          const list = (data as any).content || (data as any).data || [];
-          console.log("📝 추출된 리스트:", list);
-          setHistoryList(list);
-        } else {
-          console.warn("예상치 못한 데이터 형식:", data);
-          setHistoryList([]);
-        }
-      } catch (err) {
-        console.error("❌ 면접 연습 이력 로딩 실패:", err);
-        console.error("에러 상세:", err);
-        setHistoryList([]);
-      } finally {
-        setHistoryLoading(false);
-      }
-    };
-
-    loadHistory();
+    reloadHistory().catch((err) => {
+      console.error("❌ 면접 연습 이력 로딩 실패:", err);
+    });
   }, []);
 
+  const handleLoadMoreHistory = async () => {
+    try {
+      await loadMoreHistory();
+    } catch (err) {
+      console.error("❌ 면접 연습 이력 더 불러오기 실패:", err);
+    }
+  };
+
   // 모바일 메뉴 닫기 (페이지 이동 시)
   useEffect(() => {
     setIsMobileSidebarOpen(false);
@@ -231,14 +221,11 @@ const InterviewCoachingPage: React.FC = () => {
     setStep("interview");
 
     try {
-      // 이전 질문 목록 가져오기
-      let previousQuestions: string[] = [];
-      try {
-        const historyList = await interviewCoachingApi.getHistoryList();
-        historyList.forEach(h =>
-          h.sessions.forEach(s => s.question && previousQuestions.push(s.question))
-        );
-      } catch { }
+      // 이전 질문 목록 (이미 불러온 이력 페이지 기준, 전체 페이지를 다시 받지 않음)
+      const previousQuestions: string[] = [];
+      historyList.forEach(h =>
+        h.sessions.forEach(s => s.question && previousQuestions.push(s.question))
+      );
 
       // 공고/기업 ID 추출
       let extractedJobPostId: number | undefined = undefined;
@@ -403,20 +390,15 @@ const handleNextQuestion = async () => {
   // 1) 현재 세션의 질문들 추가
   previousQuestions = interviewSessions.map(s => s.question);
 
-  // 2) 저장된 모든 히스토리에서 질문 추가
-  try {
-    const historyList = await interviewCoachingApi.getHistoryList();
-    historyList.forEach(h =>
-      h.sessions.forEach(s => {
-        if (s.question && !previousQuestions.includes(s.question)) {
-          previousQuestions.push(s.question);
-        }
-      })
-    );
-    console.log(`📋 총 ${previousQuestions.length}개의 이전 질문 제외`);
-  } catch (err) {
-    console.error("히스토리 로드 실패:", err);
-  }
+  // 2) 불러온 히스토리 페이지에서 질문 추가
+  historyList.forEach(h =>
+    h.sessions.forEach(s => {
+      if (s.question && !previousQuestions.includes(s.question)) {
+        previousQuestions.push(s.question);
+      }
+    })
+  );
+  console.log(`📋 총 ${previousQuestions.length}개의 이전 질문 제외`);
 
   // 링크에서 아이디 추출
   let extractedJobPostId: number | undefined = undefined;
@@ -563,6 +545,15 @@ const handleNextQuestion = async () => {
               );
             });
           })()}
+          {historyHasMore && (
+            <button
+              onClick={handleLoadMoreHistory}
+              disabled={historyLoadingMore}
+              className="w-full bg-gray-100 px-4 py-2 rounded hover:bg-gray-200 disabled:opacity-50 text-sm"
+            >
+              {historyLoadingMore ? '불러오는 중...' : '더 보기'}
+            </button>
+          )}
         </div>
       </div>
     </nav>
@@ -10,11 +10,19 @@ import {
   CheckCircleIcon
 } from '@heroicons/react/24/outline';
 import { jobMatchingApi, type JobMatchingHistory } from '../api/jobMatchingApi';
+import { usePagedHistory } from '../utils/usePagedHistory';
 
 export default function JobMatchingHistoryPage() {
   const navigate = useNavigate();
-  const [historyList, setHistoryList] = useState<JobMatchingHistory[]>([]);
-  const [loading, setLoading] = useState(true);
+  const {
+    items: historyList,
+    setItems: setHistoryList,
+    hasMore,
+    loading,
+    loadingMore,
+    reload,
+    loadMore,
+  } = usePagedHistory<JobMatchingHistory>(jobMatchingApi.getHistoryList);
   const [selectedHistory, setSelectedHistory] = useState<JobMatchingHistory | null>(null);
 
   useEffect(() => {
@@ -22,15 +30,20 @@ export default function JobMatchingHistoryPage() {
   }, []);
 
   const fetchHistory = async () => {
-    setLoading(true);
     try {
-      const data = await jobMatchingApi.getHistoryList();
-      setHistoryList(data);
+      await reload();
     } catch (error) {
       console.error('매칭 이력 불러오기 실패:', error);
       alert('매칭 이력을 불러오는데 실패했습니다.');
-    } finally {
-      setLoading(false);
+    }
+  };
+
+  const handleLoadMore = async () => {
+    try {
+      await loadMore();
+    } catch (error) {
+      console.error('매칭 이력 더 불러오기 실패:', error);
+      alert('매칭 이력을 불러오는데 실패했습니다.');
     }
   };
 
@@ -98,7 +111,7 @@ export default function JobMatchingHistoryPage() {
             {/* 왼쪽: 이력 목록 */}
             <div className="space-y-4">
               <h2 className="text-xl font-semibold text-gray-900 mb-4">
-                전체 이력 ({historyList.length})
+                전체 이력 ({historyList.length}{hasMore ? '+' : ''})
               </h2>
               <div className="space-y-3">
                 {historyList.map((history) => (
@@ -147,6 +160,15 @@ export default function JobMatchingHistoryPage() {
                   </div>
                 ))}
               </div>
+              {hasMore && (
+                <button
+                  onClick={handleLoadMore}
+                  disabled={loadingMore}
+                  className="w-full bg-gray-100 px-4 py-2 rounded hover:bg-gray-200 disabled:opacity-50"
+                >
+                  {loadingMore ? '불러오는 중...' : '더 보기'}
+                </button>
+              )}
             </div>
 
             {/* 오른쪽: 상세 내용 */}
@@ -19,6 +19,7 @@ import { StarIcon as StarSolidIcon, BookmarkIcon as BookmarkSolidIcon } from '@h
 import { myPageApi } from '../api/myPageApi';
 import api from '../api/api';
 import { jobMatchingApi } from '../api/jobMatchingApi';
+import { usePagedHistory } from '../utils/usePagedHistory';
 import { jobPostApi } from '../api/jobPostApi';
 import type { ResumeItem, ResumeDto } from '../types/interface';
 
@@ -78,8 +79,14 @@ export default function JobMatchingPage() {
   const [scrappedJobs, setScrappedJobs] = useState<Set<number>>(new Set());
 
   // 매칭 이력 상태
-  const [historyList, setHistoryList] = useState<any[]>([]);
-  const [historyLoading, setHistoryLoading] = useState(true);
+  const {
+    items: historyList,
+    hasMore: historyHasMore,
+    loading: historyLoading,
+    loadingMore: historyLoadingMore,
+    reload: reloadHistory,
+    loadMore: loadMoreHistory,
+  } = usePagedHistory<any>(jobMatchingApi.getHistoryList);
   const [selectedHistory, setSelectedHistory] = useState<any | null>(null);
 
   useEffect(() => {
@@ -101,29 +108,20 @@ export default function JobMatchingPage() {
     }
   };
 
-  // 매칭 이력 가져오기
+  // 매칭 이력 가져오기 (첫 페이지, 나머지는 "더 보기")
   const fetchHistory = async () => {
-    setHistoryLoading(true);
     try {
-      const data = await jobMatchingApi.getHistoryList();
-      console.log('📋 매칭 이력 데이터:', data);
-
-      // 배열이 아닌 경우 처리
-      if (Array.isArray(data)) {
-        setHistoryList(data);
-      } else if (data && typeof data === 'object') {
-        // 객체인 경우 (예: { content: [...], totalElements: ... })
-        const list = (data as any).content || (data as any).data || [];
-        setHistoryList(list);
-      } else {
-        console.warn('예상치 못한 데이터 형식:', data);
-        setHistoryList([]);
-      }
+      await reloadHistory();
     } catch (err) {
       console.error('❌ 매칭 이력 로딩 실패:', err);
-      setHistoryList([]);
-    } finally {
-      setHistoryLoading(false);
+    }
+  };
+
+  const handleLoadMoreHistory = async () => {
+    try {
+      await loadMoreHistory();
+    } catch (err) {
+      console.error('❌ 매칭 이력 더 불러오기 실패:', err);
     }
   };
 
@@ -481,7 +479,7 @@ export default function JobMatchingPage() {
                   }
 
                   // 각 매칭 이력을 개별적으로 표시 (최신순 = ID 내림차순)
-                  return historyList
+                  return [...historyList]
                     .sort((a, b) => (b.id || 0) - (a.id || 0))
                     .map((history) => {
                       const matchCount = history.matchResults?.length || 0;
@@ -513,6 +511,15 @@ export default function JobMatchingPage() {
                       );
                     });
                 })()}
+                {historyHasMore && (
+                  <button
+                    onClick={handleLoadMoreHistory}
+                    disabled={historyLoadingMore}
+                    className="w-full bg-gray-100 px-4 py-2 rounded hover:bg-gray-200 disabled:opacity-50 text-sm"
+                  >
+                    {historyLoadingMore ? '불러오는 중...' : '더 보기'}
+                  </button>
+                )}
               </div>
             </div>
           </nav>
@@ -44,6 +44,7 @@ const JobPostings: React.FC = () => {
 
   // 회사 이미지 상태 (모바일 전용)
   const [companyPhotos, setCompanyPhotos] = useState<Record<number, string>>({});
+  const [companySrcsets, setCompanySrcsets] = useState<Record<number, string>>({}); // 리사이즈 변형
 
   // 무한 스크롤을 위한 state (모바일 전용)
   const [displayedCount, setDisplayedCount] = useState(10);
@@ -118,12 +119,14 @@ const JobPostings: React.FC = () => {
     if (newCompanyIds.length === 0) return; // 새로 로드할 회사가 없으면 종료
 
     const photos: Record<number, string> = {};
+    const srcsets: Record<number, string> = {};
     await Promise.all(
       newCompanyIds.map(async (companyId) => {
         try {
           const company = await jobPostApi.getCompanyById(companyId);
           if (company.photo) {
             photos[companyId] = company.photo;
+            if (company.photoSrcset) srcsets[companyId] = company.photoSrcset;
           }
         } catch (e) {
           console.error(`Failed to fetch photo for company ${companyId}`, e);
@@ -131,6 +134,7 @@ const JobPostings: React.FC = () => {
       })
     );
     setCompanyPhotos((prev) => ({ ...prev, ...photos }));
+    setCompanySrcsets((prev) => ({ ...prev, ...srcsets }));
   };
 
   useEffect(() => {
@@ -890,6 +894,8 @@ const JobPostings: React.FC = () => {
                       {companyPhotos[job.companyId] ? (
                         <img
                           src={companyPhotos[job.companyId]}
+                          srcSet={companySrcsets[job.companyId]}
+                          sizes="253px"
                           alt={job.companyName}
                           className="max-w-[95%] md:max-w-[95%] max-h-[95%] md:max-h-[95%] object-contain rounded-lg"
                           onError={(e) => {
@@ -251,6 +251,8 @@
                     {company.photo ? (
                       <img
                         src={company.photo.startsWith('http') ? company.photo : `${API_BASE_URL}${company.photo}`}
+                        srcSet={company.photoSrcset ?? undefined}
+                        sizes="150px"
                         alt={company.name}
                         className="w-full sm:w-auto h-auto object-cover rounded-lg mb-2 max-w-[120px] sm:max-w-[150px]"
                       />
@@ -11,6 +11,7 @@ const AttentionSection: React.FC = () => {
   const [currentPage, setCurrentPage] = useState(0);
   const [scrappedJobs, setScrappedJobs] = useState<Set<number>>(new Set());
   const [companyPhotos, setCompanyPhotos] = useState<Record<number, string>>({});
+  const [companySrcsets, setCompanySrcsets] = useState<Record<number, string>>({}); // 리사이즈 변형
   const [touchStart, setTouchStart] = useState(0);
   const [touchEnd, setTouchEnd] = useState(0);
   const [isLoggedIn, setIsLoggedIn] = useState(false);
@@ -63,6 +64,7 @@ useEffect(() => {
 
   const fetchCompanyPhotos = async (jobs: JobPostResponse[]) => {
     const photos: Record<number, string> = {};
+    const srcsets: Record<number, string> = {};
     await Promise.all(
       jobs.map(async (job) => {
         if (job.companyId && !photos[job.companyId]) {
@@ -70,6 +72,7 @@ useEffect(() => {
             const company = await jobPostApi.getCompanyById(job.companyId);
             if (company.photo) {
               photos[job.companyId] = company.photo;
+              if (company.photoSrcset) srcsets[job.companyId] = company.photoSrcset;
             }
           } catch (e) {
             console.error(`Failed to fetch photo for company ${job.companyId}`, e);
@@ -78,6 +81,7 @@ useEffect(() => {
       })
     );
     setCompanyPhotos((prev) => ({ ...prev, ...photos }));
+    setCompanySrcsets((prev) => ({ ...prev, ...srcsets }));
   };
 
   // 🔥 공고 불러오기 (로그인 시 AI 추천, 비로그인 시 조회수 기준)
@@ -280,6 +284,8 @@ useEffect(() => {
                 {companyPhotos[job.companyId] ? (
                   <img
                     src={companyPhotos[job.companyId]}
+                    srcSet={companySrcsets[job.companyId]}
+                    sizes="253px"
                     alt={job.companyName}
                     className="max-w-[95%] max-h-[95%] object-contain rounded-lg"
                     onError={(e) => {
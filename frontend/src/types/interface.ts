@@ -398,6 +398,7 @@ export interface CreateCommentRequest {
 export interface Ad {
   id: number;
   photo: string;
+  photoSrcset?: string | null; // 리사이즈 변형 (생성 전이면 없음)
   // Add other fields if necessary based on API response
 }
 
@@ -439,6 +440,7 @@ export interface CompanyResponse {
   benefits: string;
   ceo: string;
   photo?: string;
+  photoSrcset?: string | null; // 리사이즈 변형 (생성 전이면 없음)
   count?: string;        // 사원수
   companyType?: string;  // 기업구분
   benefitsList?: string[]; // 복리후생 리스트
@@ -500,6 +502,12 @@ export interface PagedResponse<T> {
   totalPages?: number;
 }
 
+/** 이력 목록 한 페이지 ("더 보기" 용) */
+export interface HistoryPage<T> {
+  items: T[];
+  hasMore: boolean;
+}
+
 export interface ChatMessage {
   id?: number;
   content: string;
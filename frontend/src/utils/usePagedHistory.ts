@@ -0,0 +1,45 @@
+import { useState } from "react";
+import type { HistoryPage } from "../types/interface";
+
+/**
+ * 이력 목록 페이지 단위 로딩
+ * - reload(): 첫 페이지만 받아서 목록 교체
+ * - loadMore(): "더 보기" → 다음 페이지를 뒤에 이어 붙임 (이미 있는 id 는 건너뜀)
+ */
+export function usePagedHistory<T extends { id: number }>(
+  fetchPage: (page: number) => Promise<HistoryPage<T>>
+) {
+  const [items, setItems] = useState<T[]>([]);
+  const [nextPage, setNextPage] = useState<number | null>(null);
+  const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
+
+  const reload = async () => {
+    setLoading(true);
+    try {
+      const page = await fetchPage(0);
+      setItems(page.items);
+      setNextPage(page.hasMore ? 1 : null);
+    } catch (err) {
+      setItems([]);
+      setNextPage(null);
+      throw err;
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const loadMore = async () => {
+    if (nextPage === null || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(nextPage);
+      setItems(prev => [...prev, ...page.items.filter(item => !prev.some(p => p.id === item.id))]);
+      setNextPage(page.hasMore ? nextPage + 1 : null);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+  return { items, setItems, hasMore: nextPage !== null, loading, loadingMore, reload, loadMore };
+}